@@ -0,0 +1,80 @@
+package com.gestion.almacenes.commons.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Ejecuta nuevamente una operacion cuando falla por concurrencia (version del stock modificada,
+ * bloqueo o deadlock). Cada intento debe abrir su propia transaccion para que el reintento lea
+ * los datos actualizados; si la operacion se ejecuta dentro de una transaccion ya abierta no se
+ * reintenta, el conflicto lo reintenta quien abrio la transaccion.
+ */
+@Component
+public class RetryOnConflictExecutor {
+
+  public static final String METRIC_CONFLICTS = "stock.execution.conflicts";
+  public static final String METRIC_RETRIES = "stock.execution.retries";
+  public static final String METRIC_EXHAUSTED = "stock.execution.retries.exhausted";
+
+  private final MeterRegistry meterRegistry;
+  private final int maxAttempts;
+  private final long initialBackoff;
+  private final long maxBackoff;
+
+  public RetryOnConflictExecutor(MeterRegistry meterRegistry,
+      @Value("${stock.retry.max-attempts:3}") int maxAttempts,
+      @Value("${stock.retry.initial-backoff-ms:50}") long initialBackoff,
+      @Value("${stock.retry.max-backoff-ms:500}") long maxBackoff) {
+    this.meterRegistry = meterRegistry;
+    this.maxAttempts = Math.max(1, maxAttempts);
+    this.initialBackoff = initialBackoff;
+    this.maxBackoff = maxBackoff;
+  }
+
+  /**
+   * @param operation Nombre de la operacion, se usa como etiqueta de las metricas
+   * @param action    Operacion transaccional a ejecutar
+   * @return Resultado de la operacion
+   */
+  public <T> T execute(String operation, Supplier<T> action) {
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      return action.get();
+    }
+    long backoff = initialBackoff;
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return action.get();
+      } catch (ConcurrencyFailureException exception) {
+        this.counter(METRIC_CONFLICTS, operation).increment();
+        if (attempt >= maxAttempts) {
+          this.counter(METRIC_EXHAUSTED, operation).increment();
+          throw exception;
+        }
+        this.counter(METRIC_RETRIES, operation).increment();
+        this.sleep(backoff);
+        backoff = Math.min(backoff * 2, maxBackoff);
+      }
+    }
+  }
+
+  private Counter counter(String name, String operation) {
+    return Counter.builder(name).tag("operation", operation).register(meterRegistry);
+  }
+
+  private void sleep(long backoff) {
+    try {
+      // Se agrega una variacion aleatoria para que los reintentos no choquen de nuevo
+      Thread.sleep(backoff + ThreadLocalRandom.current().nextLong(backoff + 1));
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Reintento interrumpido", exception);
+    }
+  }
+
+}
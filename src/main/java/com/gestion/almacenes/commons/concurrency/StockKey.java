@@ -0,0 +1,8 @@
+package com.gestion.almacenes.commons.concurrency;
+
+/**
+ * Identifica un stock por almacen y producto
+ */
+public record StockKey(Integer storehouseId, Integer productId) {
+
+}
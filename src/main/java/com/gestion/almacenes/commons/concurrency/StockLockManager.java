@@ -0,0 +1,115 @@
+package com.gestion.almacenes.commons.concurrency;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bloqueos en memoria por (almacen, producto) repartidos en un numero fijo de franjas. Las franjas
+ * siempre se toman en orden ascendente, asi dos ordenes que comparten stocks se ejecutan una detras
+ * de otra sin deadlocks y las que no comparten se ejecutan en paralelo.
+ */
+@Component
+public class StockLockManager {
+
+  private final ReentrantLock[] stripes;
+  private final long timeout;
+
+  public StockLockManager(@Value("${stock.lock.stripes:256}") int stripes,
+      @Value("${stock.lock.timeout-ms:10000}") long timeout) {
+    this.stripes = new ReentrantLock[Math.max(1, stripes)];
+    for (int i = 0; i < this.stripes.length; i++) {
+      this.stripes[i] = new ReentrantLock();
+    }
+    this.timeout = timeout;
+  }
+
+  /**
+   * Toma los bloqueos de todos los stocks indicados
+   *
+   * @param stockKeys Stocks que se van a modificar
+   * @return Bloqueos tomados, se liberan al cerrarlos
+   */
+  public StockLocks lock(Collection<StockKey> stockKeys) {
+    int[] indexes = stockKeys.stream().mapToInt(this::stripeIndex).distinct().sorted().toArray();
+    StockLocks stockLocks = new StockLocks(indexes.length);
+    try {
+      for (int index : indexes) {
+        ReentrantLock lock = stripes[index];
+        if (!lock.tryLock(timeout, TimeUnit.MILLISECONDS)) {
+          throw new CannotAcquireLockException(
+              "No se pudo bloquear el stock, existen otras ordenes en ejecución.");
+        }
+        stockLocks.add(lock);
+      }
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      stockLocks.close();
+      throw new CannotAcquireLockException("Bloqueo del stock interrumpido", exception);
+    } catch (RuntimeException exception) {
+      stockLocks.close();
+      throw exception;
+    }
+    return stockLocks;
+  }
+
+  /**
+   * Toma los bloqueos de los stocks que devuelve la consulta y la repite con los bloqueos tomados,
+   * por si mientras tanto se agregaron detalles con otros stocks. Si aparecen stocks nuevos se
+   * sueltan los bloqueos y se toman de nuevo con todos. Un detalle agregado despues de la segunda
+   * lectura queda fuera del bloqueo, pero su stock se sigue validando en la actualizacion
+   * condicionada de la ejecucion, que reintenta si la cantidad de filas no coincide.
+   *
+   * @param stockKeys Consulta de los stocks que se van a modificar
+   * @return Bloqueos tomados, se liberan al cerrarlos
+   */
+  public StockLocks lock(Supplier<? extends Collection<StockKey>> stockKeys) {
+    Set<StockKey> locked = new HashSet<>(stockKeys.get());
+    while (true) {
+      StockLocks stockLocks = this.lock(locked);
+      Collection<StockKey> current = stockKeys.get();
+      if (locked.containsAll(current)) {
+        return stockLocks;
+      }
+      stockLocks.close();
+      locked.addAll(current);
+    }
+  }
+
+  private int stripeIndex(StockKey stockKey) {
+    int hash = 31 * stockKey.storehouseId().hashCode() + stockKey.productId().hashCode();
+    hash ^= (hash >>> 16);
+    return Math.floorMod(hash, stripes.length);
+  }
+
+  /**
+   * Bloqueos tomados por una ejecucion
+   */
+  public static class StockLocks implements AutoCloseable {
+
+    private final ReentrantLock[] locks;
+    private int size;
+
+    private StockLocks(int capacity) {
+      this.locks = new ReentrantLock[capacity];
+    }
+
+    private void add(ReentrantLock lock) {
+      locks[size++] = lock;
+    }
+
+    @Override
+    public void close() {
+      while (size > 0) {
+        locks[--size].unlock();
+      }
+    }
+  }
+
+}
@@ -0,0 +1,141 @@
+package com.gestion.almacenes.commons.concurrency;
+
+import com.gestion.almacenes.commons.enums.OrderProductTypeActionEnum;
+import com.gestion.almacenes.commons.enums.StatusFlowEnum;
+import com.gestion.almacenes.entities.OrderProduct;
+import com.gestion.almacenes.entities.OrderProductDetail;
+import com.gestion.almacenes.entities.Stock;
+import com.gestion.almacenes.repositories.OrderProductDetailRepository;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Reservas en memoria de las cantidades comprometidas por las ordenes de salida en borrador. El
+ * disponible para comprometer de un (almacen, producto) es la cantidad en stock menos lo reservado.
+ * Las reservas se toman de inmediato y se deshacen si la transaccion falla; las liberaciones se
+ * aplican recien cuando la transaccion se confirma.
+ */
+@Component
+public class StockReservationManager {
+
+  private final Map<StockKey, Double> reservations = new ConcurrentHashMap<>();
+  private final OrderProductDetailRepository orderProductDetailRepository;
+
+  public StockReservationManager(OrderProductDetailRepository orderProductDetailRepository) {
+    this.orderProductDetailRepository = orderProductDetailRepository;
+  }
+
+  /**
+   * Carga las reservas de las ordenes de salida en borrador al iniciar la aplicacion
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    reservations.clear();
+    orderProductDetailRepository.sumAmountByStockAndOrderProductStatusAndAction(
+        StatusFlowEnum.BORRADOR.name(), OrderProductTypeActionEnum.DISPATCH.name()
+    ).forEach(reserved -> reservations.put(
+        new StockKey(reserved.getStorehouseId(), reserved.getProductId()), reserved.getAmount()));
+  }
+
+  /**
+   * Indica si la orden compromete stock: solo las ordenes de salida en borrador
+   */
+  public boolean isReserving(OrderProduct orderProduct) {
+    return Objects.equals(orderProduct.getStatus(), StatusFlowEnum.BORRADOR.name())
+        && Objects.equals(orderProduct.getOrderProductType().getAction(),
+        OrderProductTypeActionEnum.DISPATCH.name());
+  }
+
+  public double getReserved(Stock stock) {
+    return reservations.getOrDefault(toKey(stock), 0D);
+  }
+
+  public double getAvailableToPromise(Stock stock) {
+    return stock.getAmountInStock() - this.getReserved(stock);
+  }
+
+  /**
+   * Reserva la cantidad si alcanza el disponible para comprometer del stock
+   *
+   * @param stock  Stock a reservar
+   * @param amount Cantidad a reservar
+   * @return false si el disponible no alcanza, en ese caso no se reserva nada
+   */
+  public boolean tryReserve(Stock stock, Double amount) {
+    StockKey stockKey = toKey(stock);
+    boolean[] reserved = {false};
+    reservations.compute(stockKey, (key, current) -> {
+      double amountReserved = current == null ? 0D : current;
+      if (stock.getAmountInStock() - amountReserved < amount) {
+        return current;
+      }
+      reserved[0] = true;
+      return amountReserved + amount;
+    });
+    if (reserved[0]) {
+      afterRollback(() -> this.subtract(stockKey, amount));
+    }
+    return reserved[0];
+  }
+
+  /**
+   * Libera la cantidad reservada cuando se confirme la transaccion actual
+   */
+  public void release(Stock stock, Double amount) {
+    StockKey stockKey = toKey(stock);
+    afterCommit(() -> this.subtract(stockKey, amount));
+  }
+
+  /**
+   * Libera lo reservado por los detalles cuando se confirme la transaccion actual
+   */
+  public void release(Collection<OrderProductDetail> orderProductDetails) {
+    orderProductDetails.forEach(detail -> this.release(detail.getStock(), detail.getAmount()));
+  }
+
+  private void subtract(StockKey stockKey, Double amount) {
+    reservations.computeIfPresent(stockKey, (key, current) -> {
+      double amountReserved = current - amount;
+      return amountReserved > 0 ? amountReserved : null;
+    });
+  }
+
+  private static StockKey toKey(Stock stock) {
+    return new StockKey(stock.getStorehouse().getId(), stock.getProduct().getId());
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  private static void afterRollback(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if (status != STATUS_COMMITTED) {
+          action.run();
+        }
+      }
+    });
+  }
+
+}
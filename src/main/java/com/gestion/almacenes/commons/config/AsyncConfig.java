@@ -0,0 +1,31 @@
+package com.gestion.almacenes.commons.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+  public static final String ORDER_EXECUTION_EXECUTOR = "orderExecutionExecutor";
+
+  @Value("${order.execution.pool-size:4}")
+  private int orderExecutionPoolSize;
+
+  /**
+   * Hilos que procesan la cola de ejecucion de ordenes
+   */
+  @Bean(name = ORDER_EXECUTION_EXECUTOR)
+  public ThreadPoolTaskExecutor orderExecutionExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(orderExecutionPoolSize);
+    executor.setMaxPoolSize(orderExecutionPoolSize);
+    executor.setThreadNamePrefix("order-execution-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(60);
+    executor.initialize();
+    return executor;
+  }
+
+}
@@ -22,13 +22,43 @@ public class CacheConfig {
   @Value("${cache.users.info.max-size:3}")
   private long cacheUsersInfoMaxSize;
 
+  @Value("${cache.execution-job.ttl:2}")
+  private long cacheExecutionJobTtl;
+
+  @Value("${cache.execution-job.max-size:10000}")
+  private long cacheExecutionJobMaxSize;
+
+  @Value("${cache.idempotent-request.ttl:24}")
+  private long cacheIdempotentRequestTtl;
+
+  @Value("${cache.idempotent-request.max-size:10000}")
+  private long cacheIdempotentRequestMaxSize;
+
+  @Value("${cache.collection-version.ttl:10}")
+  private long cacheCollectionVersionTtl;
+
+  @Value("${cache.collection-version.max-size:100}")
+  private long cacheCollectionVersionMaxSize;
+
   public static final String USER_INFO_CACHE = "USER_INFO_CACHE";
+  public static final String EXECUTION_JOB_CACHE = "EXECUTION_JOB_CACHE";
+  public static final String IDEMPOTENT_REQUEST_CACHE = "IDEMPOTENT_REQUEST_CACHE";
+  public static final String COLLECTION_VERSION_CACHE = "COLLECTION_VERSION_CACHE";
 
   @Bean
   public CacheManager cacheManager() {
     List<CaffeineCache> caches = new ArrayList<>();
     caches.add(
         buildCache(USER_INFO_CACHE, cacheUserInfoTtl, TimeUnit.HOURS, cacheUsersInfoMaxSize));
+    caches.add(
+        buildCache(EXECUTION_JOB_CACHE, cacheExecutionJobTtl, TimeUnit.HOURS,
+            cacheExecutionJobMaxSize));
+    caches.add(
+        buildCache(IDEMPOTENT_REQUEST_CACHE, cacheIdempotentRequestTtl, TimeUnit.HOURS,
+            cacheIdempotentRequestMaxSize));
+    caches.add(
+        buildCache(COLLECTION_VERSION_CACHE, cacheCollectionVersionTtl, TimeUnit.MINUTES,
+            cacheCollectionVersionMaxSize));
     SimpleCacheManager manager = new SimpleCacheManager();
     manager.setCaches(caches);
     return manager;
@@ -1,15 +1,30 @@
 package com.gestion.almacenes.commons.config;
 
+import db.migration.V9__insert_data_supplier;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
 import javax.sql.DataSource;
 import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.CoreMigrationType;
+import org.flywaydb.core.api.migration.JavaMigration;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
 
 @Configuration
 public class FlywayConfig {
 
+  /**
+   * Migraciones que pasaron de SQL a Java (carga con COPY), en las bases donde ya se aplicaron como
+   * SQL se alinea el historial
+   */
+  private static final List<JavaMigration> MIGRATIONS_MOVED_TO_JAVA = List.of(
+      new V9__insert_data_supplier());
+
   @Autowired
   private DataSource dataSource;
 
@@ -21,7 +36,30 @@ public class FlywayConfig {
           .dataSource(dataSource)
           .baselineOnMigrate(true) // Añadir esta línea para habilitar baselineOnMigrate
           .load();
+
+      MIGRATIONS_MOVED_TO_JAVA.stream()
+          .filter(migration -> Arrays.stream(flyway.info().applied())
+              .anyMatch(info -> migration.getVersion().equals(info.getVersion())
+                  && CoreMigrationType.SQL.equals(info.getType())))
+          .forEach(migration -> this.markAsJava(flyway, migration));
+
       flyway.migrate();
     };
   }
-}
\ No newline at end of file
+
+  /**
+   * Actualiza solo la fila de la migracion en el historial (tipo, checksum, descripcion y script)
+   * para que coincida con la migracion Java; el resto del historial no se modifica
+   */
+  private void markAsJava(Flyway flyway, JavaMigration migration) {
+    String schema = flyway.getConfiguration().getDefaultSchema();
+    String table = flyway.getConfiguration().getTable();
+    new JdbcTemplate(dataSource).update(
+        "UPDATE " + (schema == null ? "" : "\"" + schema + "\".") + "\"" + table + "\""
+            + " SET type = ?, checksum = ?, description = ?, script = ?"
+            + " WHERE version = ? AND type = ?",
+        CoreMigrationType.JDBC.name(), new SqlParameterValue(Types.INTEGER, migration.getChecksum()),
+        migration.getDescription(), migration.getClass().getName(),
+        migration.getVersion().getVersion(), CoreMigrationType.SQL.name());
+  }
+}
@@ -0,0 +1,14 @@
+package com.gestion.almacenes.commons.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+/**
+ * Llena las fechas de creacion y modificacion de {@link com.gestion.almacenes.entities.Auditable},
+ * que se usan para las versiones (ETag / Last-Modified) de las consultas
+ */
+@Configuration
+@EnableJpaAuditing
+public class JpaAuditingConfig {
+
+}
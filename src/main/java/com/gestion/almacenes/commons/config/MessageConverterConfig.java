@@ -0,0 +1,34 @@
+package com.gestion.almacenes.commons.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Formatos binarios de respuesta, elegidos por la cabecera Accept: CBOR (application/cbor) y
+ * Smile (application/x-jackson-smile). Usan la misma configuracion de Jackson que el JSON
+ * (spring.jackson.*, modulos de fechas), por lo que devuelven los mismos campos en menos bytes; sin
+ * esa cabecera la respuesta sigue siendo JSON.
+ */
+@Configuration
+public class MessageConverterConfig {
+
+  @Bean
+  public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+      Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2CborHttpMessageConverter(
+        builder.factory(new CBORFactory()).build());
+  }
+
+  @Bean
+  public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+      Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2SmileHttpMessageConverter(
+        builder.factory(new SmileFactory()).build());
+  }
+
+}
@@ -0,0 +1,13 @@
+package com.gestion.almacenes.commons.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas programadas (fotos periodicas del stock)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
@@ -0,0 +1,5 @@
+package com.gestion.almacenes.commons.enums;
+
+public enum ExecutionJobStatusEnum {
+  QUEUED, RUNNING, DONE, FAILED
+}
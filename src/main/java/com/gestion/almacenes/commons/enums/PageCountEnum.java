@@ -0,0 +1,10 @@
+package com.gestion.almacenes.commons.enums;
+
+/**
+ * Forma de obtener el total de registros de un listado paginado: EXACT con count(*), NONE sin
+ * total (solo se sabe si hay una pagina siguiente) y APPROXIMATE con la estimacion de PostgreSQL,
+ * que solo existe para listados sin filtros (sin estimacion el total es -1)
+ */
+public enum PageCountEnum {
+  EXACT, NONE, APPROXIMATE
+}
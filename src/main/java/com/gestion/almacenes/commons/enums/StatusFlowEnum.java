@@ -1,5 +1,5 @@
 package com.gestion.almacenes.commons.enums;
 
 public enum StatusFlowEnum {
-  BORRADOR, FINALIZADO
+  BORRADOR, FINALIZADO, ANULADO
 }
@@ -7,6 +7,7 @@ import com.gestion.almacenes.commons.exception.response.FieldErrorModel;
 import com.gestion.almacenes.commons.exception.response.ValidationErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -64,6 +65,14 @@ public class ErrorHandler {
     return ResponseEntity.status(status).body(response);
   }
 
+  @ExceptionHandler(IdempotencyKeyMismatchException.class)
+  public ResponseEntity<ErrorResponse> handlerIdempotencyKeyMismatchException(
+      HttpServletRequest req, Exception ex) {
+    HttpStatus status = HttpStatus.UNPROCESSABLE_ENTITY;
+    ErrorResponse response = new ErrorResponse(status.value(), status.name(), ex.getMessage(),
+        req.getRequestURI());
+    return ResponseEntity.status(status).body(response);
+  }
 
   @ExceptionHandler(AlreadyDeletedException.class)
   public ResponseEntity<ErrorResponse> handlerAlreadyDeletedException(HttpServletRequest req,
@@ -117,4 +126,13 @@ public class ErrorHandler {
     return ResponseEntity.status(status).body(response);
   }
 
+  @ExceptionHandler(ConcurrencyFailureException.class)
+  public ResponseEntity<ErrorResponse> handlerConcurrencyFailureException(HttpServletRequest req,
+      Exception ex) {
+    HttpStatus status = HttpStatus.CONFLICT;
+    ErrorResponse response = new ErrorResponse(status.value(), status.name(), ex.getMessage(),
+        req.getRequestURI());
+    return ResponseEntity.status(status).body(response);
+  }
+
 }
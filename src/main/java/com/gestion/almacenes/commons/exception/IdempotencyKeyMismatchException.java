@@ -0,0 +1,9 @@
+package com.gestion.almacenes.commons.exception;
+
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+  public IdempotencyKeyMismatchException(String requestKey) {
+    super(String.format("La llave Idempotency-Key (%s) ya se uso con otra solicitud, use una llave "
+        + "nueva para cada solicitud distinta", requestKey));
+  }
+}
@@ -0,0 +1,320 @@
+package com.gestion.almacenes.commons.search;
+
+import com.gestion.almacenes.commons.util.ProductSuggestionPojo;
+import com.gestion.almacenes.entities.Product;
+import com.gestion.almacenes.repositories.ProductRepository;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Indice invertido en memoria de los productos activos para el autocompletado. El codigo, nombre y
+ * descripcion se dividen en trigramas (como pg_trgm, con dos espacios al inicio de cada palabra) y
+ * cada trigrama apunta a un arreglo de enteros con las posiciones de los productos que lo tienen.
+ * <p>
+ * Una consulta suma, por producto, los trigramas que coinciden: el puntaje es la fraccion de
+ * trigramas de la consulta encontrados, por lo que tolera errores de tipeo, y la ultima palabra se
+ * toma como prefijo. Las lecturas no usan bloqueos ni consultan la base de datos; las escrituras se
+ * aplican una a la vez, cuando se confirma la transaccion. Cuando mas de la mitad de las posiciones
+ * quedan vacias por productos modificados o eliminados el indice se reconstruye en memoria.
+ */
+@Component
+public class ProductSearchIndex {
+
+  private static final int GRAM_LENGTH = 3;
+  private static final double MIN_SCORE = 0.3;
+  private static final int MIN_COMPACT_SIZE = 64;
+  private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+  private static final Pattern SEPARATORS = Pattern.compile("[^a-z0-9]+");
+
+  private final ProductRepository productRepository;
+
+  private volatile Index index = new Index(new ConcurrentHashMap<>(), new Entry[0], 0,
+      new HashMap<>());
+
+  public ProductSearchIndex(ProductRepository productRepository) {
+    this.productRepository = productRepository;
+  }
+
+  /**
+   * Construye el indice con los productos activos al iniciar la aplicacion o despues de una carga
+   * masiva, y lo reemplaza de una sola vez
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void load() {
+    this.build(productRepository.findSearchProjectionByActiveIsTrue().stream()
+        .map(product -> Entry.of(product.getId(), product.getCode(), product.getName(),
+            product.getDescription()))
+        .toList());
+  }
+
+  private void build(List<Entry> entries) {
+    Map<String, IntList> postingsBuilder = new HashMap<>();
+    Map<Integer, Integer> ordinalsById = new HashMap<>();
+    for (int ordinal = 0; ordinal < entries.size(); ordinal++) {
+      ordinalsById.put(entries.get(ordinal).id(), ordinal);
+      for (String gram : documentGrams(entries.get(ordinal))) {
+        postingsBuilder.computeIfAbsent(gram, key -> new IntList()).add(ordinal);
+      }
+    }
+    Map<String, int[]> postings = new ConcurrentHashMap<>(postingsBuilder.size());
+    postingsBuilder.forEach((gram, ordinals) -> postings.put(gram, ordinals.toArray()));
+
+    this.index = new Index(postings, entries.toArray(new Entry[0]), entries.size(),
+        ordinalsById);
+  }
+
+  /**
+   * Agrega o reemplaza el producto en el indice cuando se confirme la transaccion actual
+   */
+  public void put(Product product) {
+    Entry entry = Entry.of(product.getId(), product.getCode(), product.getName(),
+        product.getDescription());
+    afterCommit(() -> this.apply(entry.id(), entry));
+  }
+
+  /**
+   * Quita el producto del indice cuando se confirme la transaccion actual
+   */
+  public void remove(Integer productId) {
+    afterCommit(() -> this.apply(productId, null));
+  }
+
+  /**
+   * Reconstruye el indice cuando se confirme la transaccion actual
+   */
+  public void reload() {
+    afterCommit(this::load);
+  }
+
+  /**
+   * Devuelve los productos que mejor coinciden con el texto ingresado
+   *
+   * @param query Texto ingresado (codigo, nombre o descripcion, completo o parcial)
+   * @param limit Cantidad maxima de sugerencias
+   * @return Sugerencias ordenadas de mayor a menor puntaje
+   */
+  public List<ProductSuggestionPojo> search(String query, int limit) {
+    String text = normalize(query);
+    Set<String> grams = queryGrams(text);
+    if (grams.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+    Index current = this.index;
+    Entry[] entries = current.entries;
+
+    int[] hits = new int[current.size];
+    IntList touched = new IntList();
+    for (String gram : grams) {
+      int[] ordinals = current.postings.get(gram);
+      if (ordinals == null) {
+        continue;
+      }
+      for (int ordinal : ordinals) {
+        if (ordinal < hits.length && hits[ordinal]++ == 0) {
+          touched.add(ordinal);
+        }
+      }
+    }
+
+    PriorityQueue<ProductSuggestionPojo> best = new PriorityQueue<>(limit + 1,
+        Comparator.comparingDouble(ProductSuggestionPojo::getScore));
+    for (int i = 0; i < touched.size; i++) {
+      int ordinal = touched.values[i];
+      Entry entry = entries[ordinal];
+      double similarity = (double) hits[ordinal] / grams.size();
+      if (entry == null || similarity < MIN_SCORE) {
+        continue;
+      }
+      best.add(new ProductSuggestionPojo(entry.id(), entry.code(), entry.name(),
+          similarity + prefixBonus(entry, text)));
+      if (best.size() > limit) {
+        best.poll();
+      }
+    }
+
+    List<ProductSuggestionPojo> suggestions = new ArrayList<>(best);
+    suggestions.sort(Comparator.comparingDouble(ProductSuggestionPojo::getScore).reversed()
+        .thenComparing(ProductSuggestionPojo::getCode));
+    return suggestions;
+  }
+
+  /**
+   * Quita la version anterior del producto y agrega la nueva (si no es nula)
+   */
+  private synchronized void apply(Integer productId, Entry entry) {
+    Index current = this.index;
+    Integer previous = current.ordinalsById.remove(productId);
+    if (previous != null) {
+      for (String gram : documentGrams(current.entries[previous])) {
+        current.postings.computeIfPresent(gram, (key, ordinals) -> {
+          int[] remaining = Arrays.stream(ordinals).filter(ordinal -> ordinal != previous)
+              .toArray();
+          return remaining.length == 0 ? null : remaining;
+        });
+      }
+      current.entries[previous] = null;
+    }
+
+    // Las posiciones que quedan vacias solo se recuperan reconstruyendo el indice
+    if (current.size - current.ordinalsById.size() > Math.max(MIN_COMPACT_SIZE, current.size / 2)) {
+      this.compact(current, entry);
+      return;
+    }
+    if (entry == null) {
+      return;
+    }
+
+    int ordinal = current.size;
+    Entry[] entries = current.entries;
+    if (ordinal == entries.length) {
+      entries = Arrays.copyOf(entries, Math.max(16, entries.length * 2));
+    }
+    entries[ordinal] = entry;
+    // El arreglo y el tamaño se publican antes que las posiciones, que leen las busquedas
+    this.index = new Index(current.postings, entries, ordinal + 1, current.ordinalsById);
+    current.ordinalsById.put(productId, ordinal);
+    for (String gram : documentGrams(entry)) {
+      current.postings.merge(gram, new int[]{ordinal}, (ordinals, added) -> {
+        int[] merged = Arrays.copyOf(ordinals, ordinals.length + 1);
+        merged[ordinals.length] = ordinal;
+        return merged;
+      });
+    }
+  }
+
+  /**
+   * Reconstruye el indice en memoria con los productos vigentes y el nuevo (si no es nulo)
+   */
+  private void compact(Index current, Entry entry) {
+    List<Entry> entries = new ArrayList<>(current.ordinalsById.size() + 1);
+    for (int ordinal = 0; ordinal < current.size; ordinal++) {
+      if (current.entries[ordinal] != null) {
+        entries.add(current.entries[ordinal]);
+      }
+    }
+    if (entry != null) {
+      entries.add(entry);
+    }
+    this.build(entries);
+  }
+
+  /**
+   * Premia las coincidencias desde el inicio del codigo y luego del nombre
+   */
+  private static double prefixBonus(Entry entry, String text) {
+    if (entry.searchCode().startsWith(text)) {
+      return 1;
+    }
+    return entry.searchName().startsWith(text) ? 0.5 : 0;
+  }
+
+  private static Set<String> documentGrams(Entry entry) {
+    Set<String> grams = new LinkedHashSet<>();
+    addGrams(grams, entry.searchCode(), false);
+    addGrams(grams, entry.searchName(), false);
+    addGrams(grams, normalize(entry.description()), false);
+    return grams;
+  }
+
+  /**
+   * La ultima palabra de la consulta puede estar incompleta, por eso no lleva el espacio final
+   */
+  private static Set<String> queryGrams(String text) {
+    Set<String> grams = new LinkedHashSet<>();
+    addGrams(grams, text, true);
+    return grams;
+  }
+
+  private static void addGrams(Set<String> grams, String text, boolean lastWordIsPrefix) {
+    if (text.isEmpty()) {
+      return;
+    }
+    String[] words = text.split(" ");
+    for (int i = 0; i < words.length; i++) {
+      boolean prefix = lastWordIsPrefix && i == words.length - 1;
+      String padded = "  " + words[i] + (prefix ? "" : " ");
+      for (int start = 0; start + GRAM_LENGTH <= padded.length(); start++) {
+        grams.add(padded.substring(start, start + GRAM_LENGTH));
+      }
+    }
+  }
+
+  /**
+   * Minusculas, sin tildes y con cualquier separador convertido en un espacio
+   */
+  private static String normalize(String value) {
+    if (value == null) {
+      return "";
+    }
+    String text = DIACRITICS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD))
+        .replaceAll("").toLowerCase(Locale.ROOT);
+    return SEPARATORS.matcher(text).replaceAll(" ").trim();
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  /**
+   * Producto indexado, con el codigo y el nombre ya normalizados para comparar prefijos
+   */
+  private record Entry(Integer id, String code, String name, String description,
+                       String searchCode, String searchName) {
+
+    static Entry of(Integer id, String code, String name, String description) {
+      return new Entry(id, code, name, description, normalize(code), normalize(name));
+    }
+  }
+
+  /**
+   * Estado del indice; las posiciones de cada trigrama son arreglos que se reemplazan, nunca se
+   * modifican, para que las busquedas los lean sin bloqueos
+   */
+  private record Index(Map<String, int[]> postings, Entry[] entries, int size,
+                       Map<Integer, Integer> ordinalsById) {
+
+  }
+
+  private static final class IntList {
+
+    private int[] values = new int[16];
+    private int size;
+
+    void add(int value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+
+    int[] toArray() {
+      return Arrays.copyOf(values, size);
+    }
+  }
+
+}
@@ -0,0 +1,116 @@
+package com.gestion.almacenes.commons.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.core.BaseConnection;
+
+/**
+ * Carga de datos de referencia desde CSV con el protocolo COPY de PostgreSQL. El CSV se copia a una
+ * tabla temporal de textos y desde ahi se inserta en la tabla destino quitando espacios de relleno,
+ * uniendo espacios repetidos y convirtiendo los valores vacios en NULL. No depende de Spring, se
+ * puede usar desde las migraciones de Flyway y en tiempo de ejecucion.
+ */
+public final class CopyDataLoader {
+
+  private CopyDataLoader() {
+  }
+
+  /**
+   * Carga el CSV en la tabla. La primera fila del CSV debe tener los nombres de las columnas de la
+   * tabla destino.
+   *
+   * @param connection Conexion a PostgreSQL, se usa dentro de la transaccion que tenga abierta
+   * @param table      Nombre de la tabla destino
+   * @param csv        Contenido del CSV
+   * @return Cantidad de filas insertadas
+   */
+  public static long load(Connection connection, String table, Reader csv)
+      throws SQLException, IOException {
+
+    BufferedReader reader = new BufferedReader(csv);
+    String headerLine = reader.readLine();
+    if (headerLine == null) {
+      return 0;
+    }
+    List<String> columns = new CsvReader(new StringReader(headerLine.replace("\uFEFF", "")),
+        ',').readRecord().stream().map(String::trim).toList();
+
+    Map<String, String> columnTypes = getColumnTypes(connection, table);
+    for (String column : columns) {
+      if (!columnTypes.containsKey(column)) {
+        throw new IllegalArgumentException(
+            "La tabla (" + table + ") no tiene la columna (" + column + ")");
+      }
+    }
+
+    String staging = quote("staging_" + table);
+    String columnList = columns.stream().map(CopyDataLoader::quote)
+        .collect(Collectors.joining(", "));
+
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE IF EXISTS " + staging);
+      statement.execute("CREATE TEMP TABLE " + staging + " (" + columns.stream()
+          .map(column -> quote(column) + " text").collect(Collectors.joining(", ")) + ")");
+
+      new CopyManager(connection.unwrap(BaseConnection.class)).copyIn(
+          "COPY " + staging + " (" + columnList + ") FROM STDIN WITH (FORMAT csv)", reader);
+
+      long inserted = statement.executeUpdate(
+          "INSERT INTO " + quote(table) + " (" + columnList + ") SELECT " + columns.stream()
+              .map(column -> normalize(column, columnTypes.get(column)))
+              .collect(Collectors.joining(", ")) + " FROM " + staging);
+
+      statement.execute("DROP TABLE " + staging);
+      return inserted;
+    }
+  }
+
+  private static Map<String, String> getColumnTypes(Connection connection, String table)
+      throws SQLException {
+    Map<String, String> columnTypes = new HashMap<>();
+    try (PreparedStatement statement = connection.prepareStatement("""
+        SELECT a.attname, format_type(a.atttypid, a.atttypmod)
+        FROM pg_attribute a
+        WHERE a.attrelid = to_regclass(?) AND a.attnum > 0 AND NOT a.attisdropped
+        """)) {
+      statement.setString(1, table);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          columnTypes.put(resultSet.getString(1), resultSet.getString(2));
+        }
+      }
+    }
+    if (columnTypes.isEmpty()) {
+      throw new IllegalArgumentException("No existe la tabla (" + table + ")");
+    }
+    return columnTypes;
+  }
+
+  /**
+   * Expresion que limpia el valor del CSV y lo convierte al tipo de la columna destino
+   */
+  private static String normalize(String column, String type) {
+    String value = "btrim(" + quote(column) + ")";
+    if (type.startsWith("character") || type.equals("text")) {
+      value = "regexp_replace(" + value + ", '\\s+', ' ', 'g')";
+    }
+    return "NULLIF(" + value + ", '')::" + type;
+  }
+
+  private static String quote(String identifier) {
+    return "\"" + identifier.replace("\"", "\"\"") + "\"";
+  }
+
+}
@@ -0,0 +1,91 @@
+package com.gestion.almacenes.commons.util;
+
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lector de CSV registro por registro, sin cargar todo el contenido en memoria. Soporta campos
+ * entre comillas dobles con separadores, saltos de linea y comillas escapadas ("").
+ */
+public class CsvReader {
+
+  private final PushbackReader reader;
+  private final char separator;
+  private long currentLine = 1;
+  private long recordLine = 1;
+
+  public CsvReader(Reader reader, char separator) {
+    this.reader = new PushbackReader(reader, 1);
+    this.separator = separator;
+  }
+
+  /**
+   * Lee el siguiente registro
+   * @return Campos del registro o null si no hay mas registros
+   */
+  public List<String> readRecord() throws IOException {
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    recordLine = currentLine;
+
+    int c = reader.read();
+    if (c == -1) {
+      return null;
+    }
+    while (c != -1) {
+      if (quoted) {
+        if (c == '"') {
+          int next = reader.read();
+          if (next == '"') {
+            field.append('"');
+          } else {
+            quoted = false;
+            this.unread(next);
+          }
+        } else {
+          if (c == '\n') {
+            currentLine++;
+          }
+          field.append((char) c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == separator) {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else if (c == '\r' || c == '\n') {
+        if (c == '\r') {
+          int next = reader.read();
+          if (next != '\n') {
+            this.unread(next);
+          }
+        }
+        currentLine++;
+        break;
+      } else {
+        field.append((char) c);
+      }
+      c = reader.read();
+    }
+    fields.add(field.toString());
+    return fields;
+  }
+
+  /**
+   * @return Numero de linea donde empieza el ultimo registro leido
+   */
+  public long getLineNumber() {
+    return recordLine;
+  }
+
+  private void unread(int c) throws IOException {
+    if (c != -1) {
+      reader.unread(c);
+    }
+  }
+
+}
@@ -0,0 +1,28 @@
+package com.gestion.almacenes.commons.util;
+
+import com.gestion.almacenes.commons.exception.response.FieldErrorModel;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Estado de la ejecucion en segundo plano de una orden
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ExecutionJobPojo {
+
+  private String jobId;
+  private Integer orderProductId;
+  private Integer storehouseId;
+  private volatile String status;
+  private volatile String message;
+  private volatile List<FieldErrorModel> errors;
+  private LocalDateTime queuedDate;
+  private volatile LocalDateTime startedDate;
+  private volatile LocalDateTime finishedDate;
+
+}
@@ -18,7 +18,14 @@ public class GenericMapper<I, D> {
   }
 
   public PagePojo<I> fromEntity(Page<I> page) {
-    PagePojo<I> dto = new PagePojo<>();
+    return fromPage(page);
+  }
+
+  /**
+   * Convierte una pagina de cualquier tipo (entidades o proyecciones) al formato de respuesta
+   */
+  public static <T> PagePojo<T> fromPage(Page<T> page) {
+    PagePojo<T> dto = new PagePojo<>();
     dto.setContent(page.getContent());
     dto.setLast(page.isLast());
     dto.setPageNumber(page.getNumber());
@@ -0,0 +1,136 @@
+package com.gestion.almacenes.commons.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.gestion.almacenes.commons.exception.ValidationErrorException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+/**
+ * Paginacion por cursor (keyset) para los listados paginados. En lugar de saltar filas con OFFSET
+ * se continua desde la ultima fila devuelta con WHERE (sortField, id) > (?, ?) y no se cuenta el
+ * total de registros, por lo que el costo de una pagina no depende de su profundidad.
+ * <p>
+ * El cursor es opaco para el cliente: contiene, codificados, los valores del campo de orden y del
+ * id de la ultima fila. Un cursor vacio inicia el recorrido desde la primera fila.
+ */
+public class KeysetPagination {
+
+  private static final String ID = "id";
+
+  private static final ObjectMapper CURSOR_MAPPER = JsonMapper.builder()
+      .findAndAddModules()
+      .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+      .build();
+
+  private KeysetPagination() {
+  }
+
+  /**
+   * Obtiene una pagina por cursor y la convierte al formato de respuesta
+   * @param fetch Asociaciones que se cargan en la misma consulta
+   */
+  public static <T> PagePojo<T> page(JpaSpecificationExecutor<T> repository, Class<T> type,
+      Specification<T> spec, Integer pageSize, String sortField, String sortOrder, String cursor,
+      String... fetch) {
+    Window<T> window = scroll(repository, type, spec, pageSize, sortField, sortOrder, cursor,
+        fetch);
+    return fromWindow(window, pageSize);
+  }
+
+  /**
+   * Obtiene las filas que siguen al cursor, ordenadas por el campo indicado y luego por id
+   * @param fetch Asociaciones que se cargan en la misma consulta
+   */
+  public static <T> Window<T> scroll(JpaSpecificationExecutor<T> repository, Class<T> type,
+      Specification<T> spec, Integer pageSize, String sortField, String sortOrder, String cursor,
+      String... fetch) {
+    Sort sort = sort(sortField, sortOrder);
+    ScrollPosition position = position(cursor, type, sort);
+    return repository.findBy(Specification.where(spec),
+        query -> query.sortBy(sort).limit(pageSize).project(fetch).scroll(position));
+  }
+
+  /**
+   * Convierte una ventana de resultados al formato de respuesta. Como no se cuenta el total de
+   * registros, totalPages y totalElements se devuelven en -1.
+   */
+  public static <T> PagePojo<T> fromWindow(Window<T> window, Integer pageSize) {
+    PagePojo<T> dto = new PagePojo<>();
+    dto.setContent(window.getContent());
+    dto.setLast(!window.hasNext());
+    dto.setPageSize(pageSize);
+    dto.setTotalPages(-1);
+    dto.setTotalElements(-1);
+    dto.setTotalExact(false);
+    if (window.hasNext() && !window.isEmpty()
+        && window.positionAt(window.size() - 1) instanceof KeysetScrollPosition keyset) {
+      dto.setNextCursor(encode(keyset.getKeys()));
+    }
+    return dto;
+  }
+
+  /**
+   * El id se agrega como desempate para que el orden sea unico y el cursor no repita ni salte filas
+   */
+  private static Sort sort(String sortField, String sortOrder) {
+    Sort.Direction direction = Sort.Direction.fromString(sortOrder);
+    Sort sort = Sort.by(direction, sortField);
+    return ID.equals(sortField) ? sort : sort.and(Sort.by(direction, ID));
+  }
+
+  private static ScrollPosition position(String cursor, Class<?> type, Sort sort) {
+    if (cursor == null || cursor.isBlank()) {
+      return ScrollPosition.keyset();
+    }
+    Map<String, Object> keys = new LinkedHashMap<>();
+    try {
+      JsonNode values = CURSOR_MAPPER.readTree(Base64.getUrlDecoder().decode(cursor));
+      for (Sort.Order order : sort) {
+        JsonNode value = values.get(order.getProperty());
+        if (value == null) {
+          throw new IllegalArgumentException(order.getProperty());
+        }
+        keys.put(order.getProperty(),
+            CURSOR_MAPPER.treeToValue(value, propertyType(type, order.getProperty())));
+      }
+    } catch (IllegalArgumentException | IOException e) {
+      throw new ValidationErrorException(
+          "El cursor no es válido para el orden solicitado, inicie nuevamente el recorrido");
+    }
+    return ScrollPosition.forward(keys);
+  }
+
+  /**
+   * Tipo del campo de orden, que puede ser una ruta como "product.name"
+   */
+  private static Class<?> propertyType(Class<?> type, String propertyPath) {
+    Class<?> current = type;
+    for (String property : propertyPath.split("\\.")) {
+      current = BeanUtils.findPropertyType(property, current);
+    }
+    return current;
+  }
+
+  private static String encode(Map<String, Object> keys) {
+    try {
+      return Base64.getUrlEncoder().withoutPadding()
+          .encodeToString(CURSOR_MAPPER.writeValueAsBytes(keys));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+}
@@ -0,0 +1,48 @@
+package com.gestion.almacenes.commons.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Respuestas NDJSON (un objeto JSON por linea) que se escriben a medida que se leen los registros,
+ * en lugar de armar la lista completa en memoria
+ */
+public class NdjsonResponse {
+
+  public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+  private NdjsonResponse() {
+  }
+
+  /**
+   * @param producer Metodo que recorre los registros y entrega cada uno al consumidor recibido,
+   *                 por ejemplo supplierService::streamAll
+   */
+  public static <T> ResponseEntity<StreamingResponseBody> of(ObjectMapper objectMapper,
+      Consumer<Consumer<T>> producer) {
+    StreamingResponseBody body = output ->
+        producer.accept(value -> writeLine(objectMapper, output, value));
+    return ResponseEntity.status(HttpStatus.OK)
+        .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE)).body(body);
+  }
+
+  /**
+   * Escribe el valor en una linea; no fuerza el envio, el contenedor lo hace al llenar su buffer
+   */
+  private static void writeLine(ObjectMapper objectMapper, OutputStream output, Object value) {
+    try {
+      output.write(objectMapper.writeValueAsBytes(value));
+      output.write('\n');
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+}
@@ -0,0 +1,24 @@
+package com.gestion.almacenes.commons.util;
+
+import com.gestion.almacenes.commons.exception.response.FieldErrorModel;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Resultado de la ejecucion de una orden dentro de una ejecucion por lotes
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderExecutionResultPojo {
+
+  private Integer orderProductId;
+  private boolean success;
+  private String message;
+  private List<FieldErrorModel> errors;
+
+}
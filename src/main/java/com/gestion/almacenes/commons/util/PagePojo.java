@@ -16,6 +16,14 @@ public class PagePojo<T> {
   private int pageSize;
   private int totalPages;
   private long totalElements;
+  /**
+   * Indica si totalElements es exacto; es falso cuando el total es estimado o no se calcula (-1)
+   */
+  private boolean totalExact = true;
+  /**
+   * Cursor para pedir la siguiente pagina en la paginacion por cursor, nulo en la ultima pagina
+   */
+  private String nextCursor;
 
   public PagePojo(List<T> content, boolean last, int pageNumber, int pageSize, int totalPages,
       long totalElements) {
@@ -0,0 +1,21 @@
+package com.gestion.almacenes.commons.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Error de una fila de la importacion de productos
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportResultPojo {
+
+  private long line;
+  private String code;
+  private String message;
+
+}
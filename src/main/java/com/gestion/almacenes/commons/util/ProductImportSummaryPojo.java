@@ -0,0 +1,19 @@
+package com.gestion.almacenes.commons.util;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Totales de la importacion de productos, se envia al final del reporte
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProductImportSummaryPojo {
+
+  private long total;
+  private long created;
+  private long failed;
+
+}
@@ -0,0 +1,22 @@
+package com.gestion.almacenes.commons.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Producto sugerido por el autocompletado, con su puntaje de coincidencia
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSuggestionPojo {
+
+  private Integer id;
+  private String code;
+  private String name;
+  private double score;
+
+}
@@ -0,0 +1,23 @@
+package com.gestion.almacenes.commons.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Version de un recurso para las consultas condicionales (If-None-Match / If-Modified-Since)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceVersionPojo {
+
+  private String etag;
+  /**
+   * Fecha de la ultima modificacion en milisegundos, -1 si no se conoce
+   */
+  private long lastModified;
+
+}
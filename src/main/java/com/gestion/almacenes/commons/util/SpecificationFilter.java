@@ -0,0 +1,131 @@
+package com.gestion.almacenes.commons.util;
+
+import jakarta.persistence.criteria.Path;
+import java.text.Normalizer;
+import java.util.Locale;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Filtros reutilizables para los buscadores y paginadores. Las comparaciones se hacen sobre
+ * lower(campo), que es la expresion de los indices de busqueda (V16): el codigo se busca por
+ * prefijo (indice B-tree text_pattern_ops) y el nombre por contenido (indice GIN pg_trgm).
+ * Los valores nulos o vacios no filtran.
+ */
+public class SpecificationFilter {
+
+  private static final char ESCAPE = '\\';
+  /**
+   * Mismas listas que el translate() de la columna supplier.search_text (V17), para que el texto
+   * buscado y el guardado se normalicen igual
+   */
+  private static final String ACCENTED = "áàâäãéèêëíìîïóòôöõúùûüñçÁÀÂÄÃÉÈÊËÍÌÎÏÓÒÔÖÕÚÙÛÜÑÇ";
+  private static final String UNACCENTED = "aaaaaeeeeiiiiooooouuuuncaaaaaeeeeiiiiooooouuuunc";
+
+  private SpecificationFilter() {
+  }
+
+  /**
+   * Filtra por codigo (prefijo) y por nombre (contenido)
+   * @param codeAttribute Ruta del atributo del codigo, por ejemplo "code" o "product.code"
+   * @param nameAttribute Ruta del atributo del nombre, por ejemplo "name" o "product.name"
+   */
+  public static <T> Specification<T> codeAndName(String codeAttribute, String code,
+      String nameAttribute, String name) {
+    return Specification.<T>where(startsWith(codeAttribute, code))
+        .and(contains(nameAttribute, name));
+  }
+
+  /**
+   * Agrega el filtro de registros activos
+   */
+  public static <T> Specification<T> active(Specification<T> spec) {
+    return Specification.<T>where((root, query, builder) -> builder.isTrue(root.get("active")))
+        .and(spec);
+  }
+
+  public static <T> Specification<T> startsWith(String attribute, String value) {
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    return (root, query, builder) -> builder.like(
+        builder.lower(path(root, attribute)), prefixPattern(value), ESCAPE);
+  }
+
+  public static <T> Specification<T> contains(String attribute, String value) {
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    return (root, query, builder) -> builder.like(
+        builder.lower(path(root, attribute)), containsPattern(value), ESCAPE);
+  }
+
+  /**
+   * Filtra los registros cuyo atributo contiene todas las palabras del texto, sin importar el
+   * orden, las mayusculas ni las tildes. El atributo debe estar guardado ya normalizado (ver
+   * {@link #normalizeSearchText(String)}), por eso se compara sin lower() y usa su propio indice.
+   */
+  public static <T> Specification<T> containsAllTokens(String attribute, String text) {
+    String normalized = normalizeSearchText(text);
+    if (normalized.isEmpty()) {
+      return null;
+    }
+    Specification<T> spec = Specification.where(null);
+    for (String token : normalized.split(" ")) {
+      String pattern = containsPattern(token);
+      spec = spec.and((root, query, builder) -> builder.like(path(root, attribute), pattern,
+          ESCAPE));
+    }
+    return spec;
+  }
+
+  /**
+   * Minusculas, sin tildes y con los espacios repetidos reducidos a uno. Las tildes se quitan con
+   * el mismo reemplazo de caracteres que la base de datos, los demas caracteres se mantienen.
+   */
+  public static String normalizeSearchText(String text) {
+    if (text == null) {
+      return "";
+    }
+    char[] chars = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT)
+        .toCharArray();
+    for (int i = 0; i < chars.length; i++) {
+      int index = ACCENTED.indexOf(chars[i]);
+      if (index >= 0) {
+        chars[i] = UNACCENTED.charAt(index);
+      }
+    }
+    return new String(chars).trim().replaceAll("\\s+", " ");
+  }
+
+  /**
+   * Patron LIKE para buscar por prefijo, en minusculas y con los comodines del valor escapados
+   */
+  public static String prefixPattern(String value) {
+    return value == null || value.isBlank() ? "%" : escape(value) + "%";
+  }
+
+  /**
+   * Patron LIKE para buscar por contenido, en minusculas y con los comodines del valor escapados
+   */
+  public static String containsPattern(String value) {
+    return value == null || value.isBlank() ? "%" : "%" + escape(value) + "%";
+  }
+
+  private static String escape(String value) {
+    return value.trim().toLowerCase(Locale.ROOT)
+        .replace("\\", "\\\\")
+        .replace("%", "\\%")
+        .replace("_", "\\_");
+  }
+
+  private static Path<String> path(Path<?> root, String attribute) {
+    Path<?> path = root;
+    for (String property : attribute.split("\\.")) {
+      path = path.get(property);
+    }
+    @SuppressWarnings("unchecked")
+    Path<String> stringPath = (Path<String>) path;
+    return stringPath;
+  }
+
+}
@@ -0,0 +1,54 @@
+package com.gestion.almacenes.commons.util;
+
+import com.gestion.almacenes.entities.Supplier;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Limpieza de los datos del proveedor antes de guardarlos, con las mismas reglas que se aplicaron a
+ * los datos heredados en V17: textos sin espacios sobrantes, correo en minusculas y telefonos solo
+ * con digitos (y el + inicial). Los valores que quedan vacios se guardan como nulos.
+ */
+public class SupplierNormalizer {
+
+  private static final Pattern SPACES = Pattern.compile("\\s+");
+  private static final Pattern PHONE_SYMBOLS = Pattern.compile("[^0-9+]");
+
+  private SupplierNormalizer() {
+  }
+
+  public static Supplier normalize(Supplier supplier) {
+    supplier.setSupplierCode(text(supplier.getSupplierCode()));
+    supplier.setCompanyName(text(supplier.getCompanyName()));
+    supplier.setAddress(text(supplier.getAddress()));
+    supplier.setCompanyDescription(text(supplier.getCompanyDescription()));
+    supplier.setOwnerNames(text(supplier.getOwnerNames()));
+    supplier.setOwnerSurname(text(supplier.getOwnerSurname()));
+    supplier.setEmail(email(supplier.getEmail()));
+    supplier.setSupplierPhoneNumber(phone(supplier.getSupplierPhoneNumber()));
+    supplier.setSupplierCelNumber(phone(supplier.getSupplierCelNumber()));
+    return supplier;
+  }
+
+  private static String text(String value) {
+    if (value == null) {
+      return null;
+    }
+    String text = SPACES.matcher(value.strip()).replaceAll(" ");
+    return text.isEmpty() ? null : text;
+  }
+
+  private static String email(String value) {
+    String email = text(value);
+    return email == null ? null : email.toLowerCase(Locale.ROOT);
+  }
+
+  private static String phone(String value) {
+    if (value == null) {
+      return null;
+    }
+    String phone = PHONE_SYMBOLS.matcher(value).replaceAll("");
+    return phone.isEmpty() ? null : phone;
+  }
+
+}
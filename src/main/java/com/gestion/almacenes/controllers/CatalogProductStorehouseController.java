@@ -1,5 +1,8 @@
 package com.gestion.almacenes.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gestion.almacenes.commons.enums.PageCountEnum;
+import com.gestion.almacenes.commons.util.NdjsonResponse;
 import com.gestion.almacenes.commons.util.PagePojo;
 import com.gestion.almacenes.dtos.CatalogProductStorehouseDto;
 import com.gestion.almacenes.entities.CatalogProductStorehouse;
@@ -11,6 +14,7 @@ import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -21,6 +25,7 @@ import java.util.List;
 public class CatalogProductStorehouseController {
 
     private final CatalogProductStorehouseService catalogProductStorehouseService;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "Obtener todos los registros")
     @GetMapping
@@ -29,6 +34,12 @@ public class CatalogProductStorehouseController {
         return ResponseEntity.status(HttpStatus.OK).body(catalogProductStorehouses);
     }
 
+    @Operation(summary = "Obtener todos los registros en NDJSON (un registro por línea), leídos y enviados por partes")
+    @GetMapping(value = "/stream", produces = NdjsonResponse.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> stream() {
+        return NdjsonResponse.of(objectMapper, catalogProductStorehouseService::streamAll);
+    }
+
     @Operation(summary = "Creación del registro")
     @PostMapping
     public ResponseEntity<CatalogProductStorehouse> create(@Valid @RequestBody CatalogProductStorehouseDto dto) {
@@ -78,9 +89,11 @@ public class CatalogProductStorehouseController {
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "5") int size,
         @RequestParam(defaultValue = "id") String sortField,
-        @RequestParam(defaultValue = "asc") String sortOrder
+        @RequestParam(defaultValue = "asc") String sortOrder,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "EXACT") PageCountEnum count
     ) {
-        PagePojo<CatalogProductStorehouse> catalogProductStorehousePagePojoFiltered = catalogProductStorehouseService.getByPageAndFilters(page, size, sortField, sortOrder);
+        PagePojo<CatalogProductStorehouse> catalogProductStorehousePagePojoFiltered = catalogProductStorehouseService.getByPageAndFilters(page, size, sortField, sortOrder, cursor, count);
 
         return ResponseEntity.status(HttpStatus.OK).body(catalogProductStorehousePagePojoFiltered);
     }
@@ -1,5 +1,8 @@
 package com.gestion.almacenes.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gestion.almacenes.commons.enums.PageCountEnum;
+import com.gestion.almacenes.commons.util.NdjsonResponse;
 import com.gestion.almacenes.commons.util.PagePojo;
 import com.gestion.almacenes.dtos.ConfigDto;
 import com.gestion.almacenes.entities.Config;
@@ -20,6 +23,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @AllArgsConstructor
 @RestController
@@ -28,6 +32,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class ConfigController {
 
   private final ConfigService configService;
+  private final ObjectMapper objectMapper;
 
   @Operation(summary = "Obtener todos los registros")
   @GetMapping
@@ -36,6 +41,12 @@ public class ConfigController {
     return ResponseEntity.status(HttpStatus.OK).body(configs);
   }
 
+  @Operation(summary = "Obtener todos los registros en NDJSON (un registro por línea), leídos y enviados por partes")
+  @GetMapping(value = "/stream", produces = NdjsonResponse.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> stream() {
+    return NdjsonResponse.of(objectMapper, configService::streamAll);
+  }
+
   @Operation(summary = "Creación del registro")
   @PostMapping
   public ResponseEntity<Config> create(@Valid @RequestBody ConfigDto dto) {
@@ -89,10 +100,12 @@ public class ConfigController {
       @RequestParam(defaultValue = "id") String sortField,
       @RequestParam(defaultValue = "asc") String sortOrder,
       @RequestParam(required = false) String code,
-      @RequestParam(required = false) String value
+      @RequestParam(required = false) String value,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "EXACT") PageCountEnum count
   ) {
     PagePojo<Config> configPagePojoFiltered = configService.getByPageAndFilters(page, size,
-        sortField, sortOrder, code, value);
+        sortField, sortOrder, code, value, cursor, count);
     return ResponseEntity.status(HttpStatus.OK).body(configPagePojoFiltered);
   }
 
@@ -1,8 +1,15 @@
 package com.gestion.almacenes.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gestion.almacenes.commons.util.ExecutionJobPojo;
+import com.gestion.almacenes.commons.util.NdjsonResponse;
+import com.gestion.almacenes.commons.util.OrderExecutionResultPojo;
+import com.gestion.almacenes.commons.enums.PageCountEnum;
 import com.gestion.almacenes.commons.util.PagePojo;
 import com.gestion.almacenes.dtos.OrderProductDto;
 import com.gestion.almacenes.entities.OrderProduct;
+import com.gestion.almacenes.services.IdempotentRequestService;
+import com.gestion.almacenes.services.OrderProductExecutionService;
 import com.gestion.almacenes.services.OrderProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -17,9 +24,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @AllArgsConstructor
 @RestController
@@ -28,6 +37,9 @@ import org.springframework.web.bind.annotation.RestController;
 public class OrderProductController {
 
   private final OrderProductService orderProductService;
+  private final OrderProductExecutionService orderProductExecutionService;
+  private final IdempotentRequestService idempotentRequestService;
+  private final ObjectMapper objectMapper;
 
   @Operation(summary = "Obtener todos los registros")
   @GetMapping
@@ -36,6 +48,12 @@ public class OrderProductController {
     return ResponseEntity.status(HttpStatus.OK).body(orderProducts);
   }
 
+  @Operation(summary = "Obtener todos los registros en NDJSON (un registro por línea), leídos y enviados por partes")
+  @GetMapping(value = "/stream", produces = NdjsonResponse.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> stream() {
+    return NdjsonResponse.of(objectMapper, orderProductService::streamAll);
+  }
+
   @Operation(summary = "Creación del registro para una orden de ingreso o salida")
   @PostMapping
   public ResponseEntity<OrderProduct> create(@Valid @RequestBody OrderProductDto dto) {
@@ -90,19 +108,63 @@ public class OrderProductController {
       @RequestParam(defaultValue = "id") String sortField,
       @RequestParam(defaultValue = "asc") String sortOrder,
       @RequestParam(required = false) String code,
-      @RequestParam(required = false) String name
+      @RequestParam(required = false) String name,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "EXACT") PageCountEnum count
   ) {
     PagePojo<OrderProduct> orderProductPagePojoFiltered = orderProductService.getByPageAndFilters(
-        page, size, sortField, sortOrder, code, name);
+        page, size, sortField, sortOrder, code, name, cursor, count);
 
     return ResponseEntity.status(HttpStatus.OK).body(orderProductPagePojoFiltered);
   }
 
   @Operation(summary = "Ejecuta una orden de ingreso o salida para que sume o disminuya el stock del almacen")
   @PostMapping("/executeOrderProduct")
-  public ResponseEntity<OrderProduct> executeOrderProduct(@RequestBody OrderProductDto dto) {
-    OrderProduct orderProductSaved = orderProductService.executeOrderProduct(dto);
-    return ResponseEntity.status(HttpStatus.CREATED).body(orderProductSaved);
+  public ResponseEntity<OrderProduct> executeOrderProduct(
+      @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+      @RequestBody OrderProductDto dto) {
+    return idempotentRequestService.execute("executeOrderProduct", idempotencyKey, dto,
+        OrderProduct.class, () -> {
+          OrderProduct orderProductSaved = orderProductService.executeOrderProduct(dto);
+          return ResponseEntity.status(HttpStatus.CREATED).body(orderProductSaved);
+        });
+  }
+
+  @Operation(summary = "Anula una orden finalizada revirtiendo su efecto sobre el stock del almacen")
+  @PostMapping("/cancelOrderProduct/{id}")
+  public ResponseEntity<OrderProduct> cancelOrderProduct(
+      @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+      @PathVariable Integer id) {
+    return idempotentRequestService.execute("cancelOrderProduct", idempotencyKey, id,
+        OrderProduct.class, () -> {
+          OrderProduct orderProductCanceled = orderProductService.cancelOrderProduct(id);
+          return ResponseEntity.status(HttpStatus.OK).body(orderProductCanceled);
+        });
+  }
+
+  @Operation(summary = "Ejecuta varias ordenes en una sola transacción y devuelve el resultado de cada una")
+  @PostMapping("/executeOrderProductList")
+  public ResponseEntity<List<OrderExecutionResultPojo>> executeOrderProductList(
+      @RequestBody List<Integer> orderProductIds) {
+    List<OrderExecutionResultPojo> results = orderProductService.executeOrderProductList(
+        orderProductIds);
+    return ResponseEntity.status(HttpStatus.OK).body(results);
+  }
+
+  @Operation(summary = "Encola la ejecución de una orden de ingreso o salida y devuelve el identificador del proceso",
+      description = "La orden se valida antes de encolarse y no puede encolarse dos veces mientras este pendiente. La cola se mantiene en memoria: si la aplicacion se reinicia los procesos pendientes se pierden y la orden debe volver a enviarse")
+  @PostMapping("/executeOrderProductAsync")
+  public ResponseEntity<ExecutionJobPojo> executeOrderProductAsync(
+      @RequestBody OrderProductDto dto) {
+    ExecutionJobPojo job = orderProductExecutionService.enqueue(dto);
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+  }
+
+  @Operation(summary = "Obtención del estado de la ejecución de una orden encolada")
+  @GetMapping("/executionJob/{jobId}")
+  public ResponseEntity<ExecutionJobPojo> getExecutionJob(@PathVariable String jobId) {
+    ExecutionJobPojo job = orderProductExecutionService.getJob(jobId);
+    return ResponseEntity.status(HttpStatus.OK).body(job);
   }
 
 
@@ -1,8 +1,12 @@
 package com.gestion.almacenes.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gestion.almacenes.commons.enums.PageCountEnum;
+import com.gestion.almacenes.commons.util.NdjsonResponse;
 import com.gestion.almacenes.commons.util.PagePojo;
 import com.gestion.almacenes.dtos.OrderProductDetailDto;
 import com.gestion.almacenes.entities.OrderProductDetail;
+import com.gestion.almacenes.services.IdempotentRequestService;
 import com.gestion.almacenes.services.OrderProductDetailService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -17,9 +21,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @AllArgsConstructor
 @RestController
@@ -28,6 +34,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class OrderProductDetailController {
 
   private final OrderProductDetailService orderProductDetailService;
+  private final IdempotentRequestService idempotentRequestService;
+  private final ObjectMapper objectMapper;
 
   @Operation(summary = "Obtener todos los detalles de todas las ordenes")
   @GetMapping
@@ -36,6 +44,12 @@ public class OrderProductDetailController {
     return ResponseEntity.status(HttpStatus.OK).body(orderProductDetails);
   }
 
+  @Operation(summary = "Obtener todos los registros en NDJSON (un registro por línea), leídos y enviados por partes")
+  @GetMapping(value = "/stream", produces = NdjsonResponse.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> stream() {
+    return NdjsonResponse.of(objectMapper, orderProductDetailService::streamAll);
+  }
+
   @Operation(summary = "Creación del detalle de una orden")
   @PostMapping
   public ResponseEntity<OrderProductDetail> create(@Valid @RequestBody OrderProductDetailDto dto) {
@@ -45,9 +59,14 @@ public class OrderProductDetailController {
 
   @Operation(summary = "Creación del detalle de una orden")
   @PostMapping("/createList")
-  public ResponseEntity<Void> createList(@Valid @RequestBody List<OrderProductDetailDto> orderProductDetailDtos) {
-    orderProductDetailService.createList(orderProductDetailDtos);
-    return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+  public ResponseEntity<Void> createList(
+      @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+      @Valid @RequestBody List<OrderProductDetailDto> orderProductDetailDtos) {
+    return idempotentRequestService.execute("createList", idempotencyKey,
+        orderProductDetailDtos, Void.class, () -> {
+          orderProductDetailService.createList(orderProductDetailDtos);
+          return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+        });
   }
 
   @Operation(summary = "Edición del detalle de una orden")
@@ -65,6 +84,15 @@ public class OrderProductDetailController {
     return ResponseEntity.status(HttpStatus.OK).body(orderProductDetail);
   }
 
+  @Operation(summary = "Obtención del detalle completo de una orden")
+  @GetMapping("/orderProduct/{orderProductId}")
+  public ResponseEntity<List<OrderProductDetail>> getByOrderProductId(
+      @PathVariable Integer orderProductId) {
+    List<OrderProductDetail> orderProductDetails = orderProductDetailService.getByOrderProductId(
+        orderProductId);
+    return ResponseEntity.status(HttpStatus.OK).body(orderProductDetails);
+  }
+
   @Operation(summary = "Eliminación del detalle de una orden")
   @DeleteMapping("/{id}")
   public ResponseEntity<Void> delete(@PathVariable Integer id) {
@@ -90,10 +118,12 @@ public class OrderProductDetailController {
       @RequestParam(defaultValue = "id") String sortField,
       @RequestParam(defaultValue = "asc") String sortOrder,
       @RequestParam(required = false) String code,
-      @RequestParam(required = false) String name
+      @RequestParam(required = false) String name,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "EXACT") PageCountEnum count
   ) {
     PagePojo<OrderProductDetail> orderProductDetailPagePojoFiltered = orderProductDetailService.getByPageAndFilters(
-        page, size, sortField, sortOrder, code, name);
+        page, size, sortField, sortOrder, code, name, cursor, count);
     return ResponseEntity.status(HttpStatus.OK).body(orderProductDetailPagePojoFiltered);
   }
 
@@ -1,14 +1,20 @@
 package com.gestion.almacenes.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gestion.almacenes.commons.enums.PageCountEnum;
+import com.gestion.almacenes.commons.util.NdjsonResponse;
 import com.gestion.almacenes.commons.util.PagePojo;
+import com.gestion.almacenes.commons.util.ResourceVersionPojo;
 import com.gestion.almacenes.dtos.OrderProductTypeDto;
 import com.gestion.almacenes.entities.OrderProductType;
 import com.gestion.almacenes.services.OrderProductTypeService;
+import com.gestion.almacenes.services.ResourceVersionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.AllArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -20,6 +26,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @AllArgsConstructor
 @RestController
@@ -28,12 +36,26 @@ import org.springframework.web.bind.annotation.RestController;
 public class OrderProductTypeController {
 
   private final OrderProductTypeService orderProductTypeService;
+  private final ResourceVersionService resourceVersionService;
+  private final ObjectMapper objectMapper;
 
   @Operation(summary = "Obtener todos los registros")
   @GetMapping
-  public ResponseEntity<List<OrderProductType>> getAll() {
+  public ResponseEntity<List<OrderProductType>> getAll(WebRequest request) {
+    ResourceVersionPojo version = resourceVersionService.getCollectionVersion(
+        OrderProductType.class);
+    if (request.checkNotModified(version.getEtag(), version.getLastModified())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
     List<OrderProductType> orderProductTypes = orderProductTypeService.getAll();
-    return ResponseEntity.status(HttpStatus.OK).body(orderProductTypes);
+    return ResponseEntity.status(HttpStatus.OK).cacheControl(CacheControl.noCache())
+        .body(orderProductTypes);
+  }
+
+  @Operation(summary = "Obtener todos los registros en NDJSON (un registro por línea), leídos y enviados por partes")
+  @GetMapping(value = "/stream", produces = NdjsonResponse.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> stream() {
+    return NdjsonResponse.of(objectMapper, orderProductTypeService::streamAll);
   }
 
   @Operation(summary = "Creación del registro")
@@ -53,9 +75,14 @@ public class OrderProductTypeController {
 
   @Operation(summary = "Obtención de los datos del registro por el identificador")
   @GetMapping("/{id}")
-  public ResponseEntity<OrderProductType> getById(@PathVariable Integer id) {
+  public ResponseEntity<OrderProductType> getById(@PathVariable Integer id, WebRequest request) {
     OrderProductType orderProductType = orderProductTypeService.getById(id);
-    return ResponseEntity.status(HttpStatus.OK).body(orderProductType);
+    ResourceVersionPojo version = resourceVersionService.getEntityVersion(orderProductType);
+    if (request.checkNotModified(version.getEtag(), version.getLastModified())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
+    return ResponseEntity.status(HttpStatus.OK).cacheControl(CacheControl.noCache())
+        .body(orderProductType);
   }
 
   @Operation(summary = "Obtención de los datos del registro por el código identificador")
@@ -90,10 +117,12 @@ public class OrderProductTypeController {
       @RequestParam(defaultValue = "id") String sortField,
       @RequestParam(defaultValue = "asc") String sortOrder,
       @RequestParam(required = false) String code,
-      @RequestParam(required = false) String name
+      @RequestParam(required = false) String name,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "EXACT") PageCountEnum count
   ) {
     PagePojo<OrderProductType> orderTypePagePojoFiltered = orderProductTypeService.getByPageAndFilters(
-        page, size, sortField, sortOrder, code, name);
+        page, size, sortField, sortOrder, code, name, cursor, count);
     return ResponseEntity.status(HttpStatus.OK).body(orderTypePagePojoFiltered);
   }
 
@@ -1,15 +1,31 @@
 package com.gestion.almacenes.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gestion.almacenes.commons.enums.PageCountEnum;
+import com.gestion.almacenes.commons.util.NdjsonResponse;
 import com.gestion.almacenes.commons.util.PagePojo;
+import com.gestion.almacenes.commons.util.ProductSuggestionPojo;
+import com.gestion.almacenes.commons.util.ProductImportSummaryPojo;
+import com.gestion.almacenes.commons.util.ResourceVersionPojo;
 import com.gestion.almacenes.dtos.ProductDto;
 import com.gestion.almacenes.entities.Product;
+import com.gestion.almacenes.entities.UnitMeasurement;
+import com.gestion.almacenes.services.ProductImportService;
 import com.gestion.almacenes.services.ProductService;
+import com.gestion.almacenes.services.ResourceVersionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import lombok.AllArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,8 +34,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @AllArgsConstructor
 @RestController
@@ -28,12 +47,27 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProductController {
 
   private final ProductService productService;
+  private final ResourceVersionService resourceVersionService;
+  private final ProductImportService productImportService;
+  private final ObjectMapper objectMapper;
 
   @Operation(summary = "Obtener todos los registros")
   @GetMapping
-  public ResponseEntity<List<Product>> getAll() {
+  public ResponseEntity<List<Product>> getAll(WebRequest request) {
+    ResourceVersionPojo version = resourceVersionService.getCollectionVersion(Product.class,
+        UnitMeasurement.class);
+    if (request.checkNotModified(version.getEtag(), version.getLastModified())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
     List<Product> products = productService.getAll();
-    return ResponseEntity.status(HttpStatus.OK).body(products);
+    return ResponseEntity.status(HttpStatus.OK).cacheControl(CacheControl.noCache())
+        .body(products);
+  }
+
+  @Operation(summary = "Obtener todos los registros en NDJSON (un registro por línea), leídos y enviados por partes")
+  @GetMapping(value = "/stream", produces = NdjsonResponse.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> stream() {
+    return NdjsonResponse.of(objectMapper, productService::streamAll);
   }
 
   @Operation(summary = "Creación del registro")
@@ -43,6 +77,34 @@ public class ProductController {
     return ResponseEntity.status(HttpStatus.CREATED).body(productSaved);
   }
 
+  @Operation(summary = "Importación masiva de productos desde CSV (code,name,description,unitMeasurementCode) o NDJSON. Devuelve en NDJSON los errores por fila y al final los totales")
+  @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"},
+      produces = "application/x-ndjson")
+  public ResponseEntity<StreamingResponseBody> importProducts(
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+      @RequestParam(defaultValue = "false") boolean selectAllStorehouse,
+      HttpServletRequest request) {
+    boolean ndjson = contentType.contains("ndjson");
+    StreamingResponseBody body = output -> {
+      ProductImportSummaryPojo summary = productImportService.importProducts(
+          request.getInputStream(), ndjson, selectAllStorehouse,
+          result -> this.writeLine(output, result));
+      this.writeLine(output, summary);
+    };
+    return ResponseEntity.status(HttpStatus.OK)
+        .contentType(MediaType.parseMediaType("application/x-ndjson")).body(body);
+  }
+
+  private void writeLine(OutputStream output, Object value) {
+    try {
+      output.write(objectMapper.writeValueAsBytes(value));
+      output.write('\n');
+      output.flush();
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
   @Operation(summary = "Edición del registro")
   @PutMapping("/{id}")
   public ResponseEntity<Product> update(@PathVariable Integer id,
@@ -53,9 +115,15 @@ public class ProductController {
 
   @Operation(summary = "Obtención de los datos del registro por el identificador")
   @GetMapping("/{id}")
-  public ResponseEntity<Product> getById(@PathVariable Integer id) {
+  public ResponseEntity<Product> getById(@PathVariable Integer id, WebRequest request) {
     Product product = productService.getById(id);
-    return ResponseEntity.status(HttpStatus.OK).body(product);
+    ResourceVersionPojo version = resourceVersionService.getEntityVersion(product,
+        product.getUnitMeasurement());
+    if (request.checkNotModified(version.getEtag(), version.getLastModified())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
+    return ResponseEntity.status(HttpStatus.OK).cacheControl(CacheControl.noCache())
+        .body(product);
   }
 
   @Operation(summary = "Obtención de los datos del registro por el código identificador")
@@ -82,6 +150,15 @@ public class ProductController {
     return ResponseEntity.status(HttpStatus.OK).body(productListFiltered);
   }
 
+  @Operation(summary = "Autocompletado de productos por código, nombre o descripción")
+  @GetMapping("/autocomplete")
+  public ResponseEntity<List<ProductSuggestionPojo>> autocomplete(
+      @RequestParam String query,
+      @RequestParam(defaultValue = "10") Integer limit) {
+    List<ProductSuggestionPojo> suggestions = productService.autocomplete(query, limit);
+    return ResponseEntity.status(HttpStatus.OK).body(suggestions);
+  }
+
   @Operation(summary = "Paginador y buscador de registros por atributos")
   @GetMapping("/pageable")
   public ResponseEntity<PagePojo<Product>> pageable(
@@ -90,10 +167,12 @@ public class ProductController {
       @RequestParam(defaultValue = "id") String sortField,
       @RequestParam(defaultValue = "asc") String sortOrder,
       @RequestParam(required = false) String code,
-      @RequestParam(required = false) String name
+      @RequestParam(required = false) String name,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "EXACT") PageCountEnum count
   ) {
     PagePojo<Product> productPagePojoFiltered = productService.pageable(page, size, sortField,
-        sortOrder, code, name);
+        sortOrder, code, name, cursor, count);
     return ResponseEntity.status(HttpStatus.OK).body(productPagePojoFiltered);
   }
 
@@ -0,0 +1,31 @@
+package com.gestion.almacenes.controllers;
+
+import com.gestion.almacenes.services.ReferenceDataService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.InputStream;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@AllArgsConstructor
+@RestController
+@RequestMapping("/referenceData")
+@Tag(name = "Carga de datos de referencia (ReferenceDataController)", description = "Carga masiva desde CSV con COPY de PostgreSQL")
+public class ReferenceDataController {
+
+  private final ReferenceDataService referenceDataService;
+
+  @Operation(summary = "Carga un CSV con cabecera de columnas en el conjunto de datos (supplier, product o storehouse) y devuelve la cantidad de filas cargadas",
+      description = "El stock no se puede cargar por aqui, sus cantidades solo cambian con las ordenes de ingreso o salida")
+  @PostMapping(value = "/{dataset}", consumes = "text/csv")
+  public ResponseEntity<Long> load(@PathVariable String dataset, InputStream csv) {
+    long loaded = referenceDataService.load(dataset, csv);
+    return ResponseEntity.status(HttpStatus.CREATED).body(loaded);
+  }
+
+}
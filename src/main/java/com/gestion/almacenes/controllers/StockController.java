@@ -1,14 +1,22 @@
 package com.gestion.almacenes.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gestion.almacenes.commons.enums.PageCountEnum;
+import com.gestion.almacenes.commons.util.NdjsonResponse;
 import com.gestion.almacenes.commons.util.PagePojo;
 import com.gestion.almacenes.dtos.StockDto;
 import com.gestion.almacenes.entities.Stock;
+import com.gestion.almacenes.repositories.projections.StockAsOfProjection;
+import com.gestion.almacenes.repositories.projections.StockProjection;
 import com.gestion.almacenes.services.StockService;
+import com.gestion.almacenes.services.StockSnapshotService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.AllArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -20,6 +28,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @AllArgsConstructor
 @RestController
@@ -28,14 +37,22 @@ import org.springframework.web.bind.annotation.RestController;
 public class StockController {
 
   private final StockService stockService;
+  private final StockSnapshotService stockSnapshotService;
+  private final ObjectMapper objectMapper;
 
   @Operation(summary = "Obtener todos los registros")
   @GetMapping
-  public ResponseEntity<List<Stock>> getAll() {
-    List<Stock> stocks = stockService.getAll();
+  public ResponseEntity<List<StockProjection>> getAll() {
+    List<StockProjection> stocks = stockService.getAll();
     return ResponseEntity.status(HttpStatus.OK).body(stocks);
   }
 
+  @Operation(summary = "Obtener todos los registros en NDJSON (un registro por línea), leídos y enviados por partes")
+  @GetMapping(value = "/stream", produces = NdjsonResponse.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> stream() {
+    return NdjsonResponse.of(objectMapper, stockService::streamAll);
+  }
+
   @Operation(summary = "Creación del registro")
   @PostMapping
   public ResponseEntity<Stock> create(@Valid @RequestBody StockDto dto) {
@@ -59,13 +76,23 @@ public class StockController {
 
   @Operation(summary = "Obtención del stock segun el identificador de producto y almacen")
   @GetMapping("/getStockByStorehouseIdAndProductId")
-  public ResponseEntity<Stock> getStockByStorehouseIdAndProductId(
+  public ResponseEntity<StockProjection> getStockByStorehouseIdAndProductId(
           @RequestParam(defaultValue = "0") int storehouseId,
           @RequestParam(defaultValue = "0") int productId ) {
-    Stock stock = stockService.getStockByStorehouseIdAndProductId(storehouseId, productId);
+    StockProjection stock = stockService.getStockByStorehouseIdAndProductId(storehouseId,
+        productId);
     return ResponseEntity.status(HttpStatus.OK).body(stock);
   }
 
+  @Operation(summary = "Obtención del stock de un almacen a una fecha y hora (por defecto la actual)")
+  @GetMapping("/asOf")
+  public ResponseEntity<List<StockAsOfProjection>> getStockAsOf(
+          @RequestParam Integer storehouseId,
+          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+    List<StockAsOfProjection> stocks = stockSnapshotService.getStockAsOf(storehouseId, asOf);
+    return ResponseEntity.status(HttpStatus.OK).body(stocks);
+  }
+
   @Operation(summary = "Eliminación del registro por el identificador")
   @DeleteMapping("/{id}")
   public ResponseEntity<Void> delete(@PathVariable Integer id) {
@@ -84,16 +111,18 @@ public class StockController {
 
   @Operation(summary = "Paginador y buscador de registros por atributos")
   @GetMapping("/pageable")
-  public ResponseEntity<PagePojo<Stock>> getAllPagination(
+  public ResponseEntity<PagePojo<StockProjection>> getAllPagination(
       @RequestParam(defaultValue = "0") int page,
       @RequestParam(defaultValue = "5") int size,
       @RequestParam(defaultValue = "id") String sortField,
       @RequestParam(defaultValue = "asc") String sortOrder,
       @RequestParam(required = false) String code,
-      @RequestParam(required = false) String name
+      @RequestParam(required = false) String name,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "EXACT") PageCountEnum count
   ) {
-    PagePojo<Stock> stockPagePojoFiltered = stockService.getByPageAndFilters(page, size, sortField,
-        sortOrder, code, name);
+    PagePojo<StockProjection> stockPagePojoFiltered = stockService.getByPageAndFilters(page, size, sortField,
+        sortOrder, code, name, cursor, count);
     return ResponseEntity.status(HttpStatus.OK).body(stockPagePojoFiltered);
   }
 
@@ -1,14 +1,21 @@
 package com.gestion.almacenes.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gestion.almacenes.commons.enums.PageCountEnum;
+import com.gestion.almacenes.commons.util.NdjsonResponse;
 import com.gestion.almacenes.commons.util.PagePojo;
+import com.gestion.almacenes.commons.util.ResourceVersionPojo;
 import com.gestion.almacenes.dtos.StorehouseDto;
 import com.gestion.almacenes.entities.Storehouse;
+import com.gestion.almacenes.entities.StorehouseType;
+import com.gestion.almacenes.services.ResourceVersionService;
 import com.gestion.almacenes.services.StorehouseService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.AllArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -20,6 +27,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @AllArgsConstructor
 @RestController
@@ -28,12 +37,26 @@ import org.springframework.web.bind.annotation.RestController;
 public class StorehouseController {
 
   private final StorehouseService storehouseService;
+  private final ResourceVersionService resourceVersionService;
+  private final ObjectMapper objectMapper;
 
   @GetMapping
   @Operation(summary = "Obtener todos los registros")
-  public ResponseEntity<List<Storehouse>> getAll() {
+  public ResponseEntity<List<Storehouse>> getAll(WebRequest request) {
+    ResourceVersionPojo version = resourceVersionService.getCollectionVersion(Storehouse.class,
+        StorehouseType.class);
+    if (request.checkNotModified(version.getEtag(), version.getLastModified())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
     List<Storehouse> storeHouses = storehouseService.getAll();
-    return ResponseEntity.status(HttpStatus.OK).body(storeHouses);
+    return ResponseEntity.status(HttpStatus.OK).cacheControl(CacheControl.noCache())
+        .body(storeHouses);
+  }
+
+  @Operation(summary = "Obtener todos los registros en NDJSON (un registro por línea), leídos y enviados por partes")
+  @GetMapping(value = "/stream", produces = NdjsonResponse.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> stream() {
+    return NdjsonResponse.of(objectMapper, storehouseService::streamAll);
   }
 
   @PostMapping
@@ -53,9 +76,15 @@ public class StorehouseController {
 
   @GetMapping("/{id}")
   @Operation(summary = "Obtención de los datos del registro por el identificador")
-  public ResponseEntity<Storehouse> getById(@PathVariable Integer id) {
+  public ResponseEntity<Storehouse> getById(@PathVariable Integer id, WebRequest request) {
     Storehouse storeHouse = storehouseService.getById(id);
-    return ResponseEntity.status(HttpStatus.OK).body(storeHouse);
+    ResourceVersionPojo version = resourceVersionService.getEntityVersion(storeHouse,
+        storeHouse.getStorehouseType());
+    if (request.checkNotModified(version.getEtag(), version.getLastModified())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
+    return ResponseEntity.status(HttpStatus.OK).cacheControl(CacheControl.noCache())
+        .body(storeHouse);
   }
   
   @Operation(summary = "Obtención de los datos del registro por el código identificador")
@@ -90,10 +119,12 @@ public class StorehouseController {
       @RequestParam(defaultValue = "id") String sortField,
       @RequestParam(defaultValue = "asc") String sortOrder,
       @RequestParam(required = false) String code,
-      @RequestParam(required = false) String name
+      @RequestParam(required = false) String name,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "EXACT") PageCountEnum count
   ) {
     PagePojo<Storehouse> storeHousePagePojoFiltered = storehouseService.pageable(page, size,
-        sortField, sortOrder, code, name);
+        sortField, sortOrder, code, name, cursor, count);
 
     return ResponseEntity.status(HttpStatus.OK).body(storeHousePagePojoFiltered);
   }
@@ -1,14 +1,20 @@
 package com.gestion.almacenes.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gestion.almacenes.commons.enums.PageCountEnum;
+import com.gestion.almacenes.commons.util.NdjsonResponse;
 import com.gestion.almacenes.commons.util.PagePojo;
+import com.gestion.almacenes.commons.util.ResourceVersionPojo;
 import com.gestion.almacenes.dtos.StorehouseTypeDto;
 import com.gestion.almacenes.entities.StorehouseType;
+import com.gestion.almacenes.services.ResourceVersionService;
 import com.gestion.almacenes.services.StorehouseTypeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.AllArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -21,6 +27,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @AllArgsConstructor
 @RestController
@@ -29,13 +37,25 @@ import org.springframework.web.bind.annotation.RestController;
 public class StorehouseTypeController {
 
   private final StorehouseTypeService storehouseTypeService;
+  private final ResourceVersionService resourceVersionService;
+  private final ObjectMapper objectMapper;
 
   @GetMapping
   @Operation(summary = "Obtener todos los registros")
-  public ResponseEntity<List<StorehouseType>> getAll() {
-
+  public ResponseEntity<List<StorehouseType>> getAll(WebRequest request) {
+    ResourceVersionPojo version = resourceVersionService.getCollectionVersion(StorehouseType.class);
+    if (request.checkNotModified(version.getEtag(), version.getLastModified())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
     List<StorehouseType> storehouseTypes = storehouseTypeService.getAll();
-    return ResponseEntity.status(HttpStatus.OK).body(storehouseTypes);
+    return ResponseEntity.status(HttpStatus.OK).cacheControl(CacheControl.noCache())
+        .body(storehouseTypes);
+  }
+
+  @Operation(summary = "Obtener todos los registros en NDJSON (un registro por línea), leídos y enviados por partes")
+  @GetMapping(value = "/stream", produces = NdjsonResponse.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> stream() {
+    return NdjsonResponse.of(objectMapper, storehouseTypeService::streamAll);
   }
 
   @Operation(summary = "Creación del registro")
@@ -55,9 +75,14 @@ public class StorehouseTypeController {
 
   @Operation(summary = "Obtención de los datos del registro por el identificador")
   @GetMapping("/{id}")
-  public ResponseEntity<StorehouseType> getById(@PathVariable Integer id) {
+  public ResponseEntity<StorehouseType> getById(@PathVariable Integer id, WebRequest request) {
     StorehouseType storehouseType = storehouseTypeService.getById(id);
-    return ResponseEntity.status(HttpStatus.OK).body(storehouseType);
+    ResourceVersionPojo version = resourceVersionService.getEntityVersion(storehouseType);
+    if (request.checkNotModified(version.getEtag(), version.getLastModified())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
+    return ResponseEntity.status(HttpStatus.OK).cacheControl(CacheControl.noCache())
+        .body(storehouseType);
   }
 
   @Operation(summary = "Obtención de los datos del registro por el código identificador")
@@ -91,10 +116,12 @@ public class StorehouseTypeController {
       @RequestParam(defaultValue = "id") String sortField,
       @RequestParam(defaultValue = "asc") String sortOrder,
       @RequestParam(required = false) String code,
-      @RequestParam(required = false) String name
+      @RequestParam(required = false) String name,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "EXACT") PageCountEnum count
   ) {
     PagePojo<StorehouseType> storehouseTypePagePojoFiltered = storehouseTypeService.getByPageAndFilters(
-        page, size, sortField, sortOrder, code, name);
+        page, size, sortField, sortOrder, code, name, cursor, count);
     return ResponseEntity.status(HttpStatus.OK).body(storehouseTypePagePojoFiltered);
   }
 
@@ -1,5 +1,8 @@
 package com.gestion.almacenes.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gestion.almacenes.commons.enums.PageCountEnum;
+import com.gestion.almacenes.commons.util.NdjsonResponse;
 import com.gestion.almacenes.commons.util.PagePojo;
 import com.gestion.almacenes.dtos.SupplierDto;
 import com.gestion.almacenes.entities.Supplier;
@@ -11,6 +14,7 @@ import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -21,6 +25,7 @@ import java.util.List;
 public class SupplierController {
 
     private final SupplierService supplierService;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "Obtener todos los registros")
     @GetMapping
@@ -29,6 +34,12 @@ public class SupplierController {
         return ResponseEntity.status(HttpStatus.OK).body(suppliers);
     }
 
+    @Operation(summary = "Obtener todos los registros en NDJSON (un registro por línea), leídos y enviados por partes")
+    @GetMapping(value = "/stream", produces = NdjsonResponse.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> stream() {
+        return NdjsonResponse.of(objectMapper, supplierService::streamAll);
+    }
+
     @Operation(summary = "Creación del registro")
     @PostMapping
     public ResponseEntity<Supplier> create(@Valid @RequestBody SupplierDto dto) {
@@ -74,6 +85,15 @@ public class SupplierController {
         return ResponseEntity.status(HttpStatus.OK).body(supplierListFiltered);
     }
 
+    @Operation(summary = "Búsqueda rápida por código, compañía, propietario o correo")
+    @GetMapping("/lookup")
+    public ResponseEntity<List<Supplier>> lookup(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "20") Integer limit) {
+        List<Supplier> suppliers = supplierService.lookup(query, limit);
+        return ResponseEntity.status(HttpStatus.OK).body(suppliers);
+    }
+
     @Operation(summary = "Paginador y buscador de registros por atributos")
     @GetMapping("/pageable")
     public ResponseEntity<PagePojo<Supplier>> getAllPagination(
@@ -82,9 +102,11 @@ public class SupplierController {
         @RequestParam(defaultValue = "id") String sortField,
         @RequestParam(defaultValue = "asc") String sortOrder,
         @RequestParam(required = false) String code,
-        @RequestParam(required = false) String name
+        @RequestParam(required = false) String name,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "EXACT") PageCountEnum count
     ) {
-        PagePojo<Supplier> supplierPagePojoFiltered = supplierService.getByPageAndFilters(page, size, sortField, sortOrder, code, name);
+        PagePojo<Supplier> supplierPagePojoFiltered = supplierService.getByPageAndFilters(page, size, sortField, sortOrder, code, name, cursor, count);
 
         return ResponseEntity.status(HttpStatus.OK).body(supplierPagePojoFiltered);
     }
@@ -1,14 +1,20 @@
 package com.gestion.almacenes.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gestion.almacenes.commons.enums.PageCountEnum;
+import com.gestion.almacenes.commons.util.NdjsonResponse;
 import com.gestion.almacenes.commons.util.PagePojo;
+import com.gestion.almacenes.commons.util.ResourceVersionPojo;
 import com.gestion.almacenes.dtos.UnitMeasurementDto;
 import com.gestion.almacenes.entities.UnitMeasurement;
+import com.gestion.almacenes.services.ResourceVersionService;
 import com.gestion.almacenes.services.UnitMeasurementService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.AllArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -20,6 +26,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @AllArgsConstructor
 @RestController
@@ -29,12 +37,26 @@ import org.springframework.web.bind.annotation.RestController;
 public class UnitMeasurementController {
 
   private final UnitMeasurementService unitMeasurementService;
+  private final ResourceVersionService resourceVersionService;
+  private final ObjectMapper objectMapper;
 
   @GetMapping
   @Operation(summary = "Obtener todos los registros")
-  public ResponseEntity<List<UnitMeasurement>> getAll() {
+  public ResponseEntity<List<UnitMeasurement>> getAll(WebRequest request) {
+    ResourceVersionPojo version = resourceVersionService.getCollectionVersion(
+        UnitMeasurement.class);
+    if (request.checkNotModified(version.getEtag(), version.getLastModified())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
     List<UnitMeasurement> unitMeasurements = unitMeasurementService.getAll();
-    return ResponseEntity.status(HttpStatus.OK).body(unitMeasurements);
+    return ResponseEntity.status(HttpStatus.OK).cacheControl(CacheControl.noCache())
+        .body(unitMeasurements);
+  }
+
+  @Operation(summary = "Obtener todos los registros en NDJSON (un registro por línea), leídos y enviados por partes")
+  @GetMapping(value = "/stream", produces = NdjsonResponse.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> stream() {
+    return NdjsonResponse.of(objectMapper, unitMeasurementService::streamAll);
   }
 
   @PostMapping
@@ -54,9 +76,14 @@ public class UnitMeasurementController {
 
   @Operation(summary = "Obtención de los datos del registro por el identificador")
   @GetMapping("/{id}")
-  public ResponseEntity<UnitMeasurement> getById(@PathVariable Integer id) {
+  public ResponseEntity<UnitMeasurement> getById(@PathVariable Integer id, WebRequest request) {
     UnitMeasurement unitMeasurement = unitMeasurementService.getById(id);
-    return ResponseEntity.status(HttpStatus.OK).body(unitMeasurement);
+    ResourceVersionPojo version = resourceVersionService.getEntityVersion(unitMeasurement);
+    if (request.checkNotModified(version.getEtag(), version.getLastModified())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
+    return ResponseEntity.status(HttpStatus.OK).cacheControl(CacheControl.noCache())
+        .body(unitMeasurement);
   }
 
   @Operation(summary = "Obtención de los datos del registro por el código identificador")
@@ -92,11 +119,13 @@ public class UnitMeasurementController {
       @RequestParam(defaultValue = "id") String sortField,
       @RequestParam(defaultValue = "asc") String sortOrder,
       @RequestParam(required = false) String code,
-      @RequestParam(required = false) String name
+      @RequestParam(required = false) String name,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "EXACT") PageCountEnum count
 
   ) {
     PagePojo<UnitMeasurement> unitMeasurementPagePojoFiltered = unitMeasurementService.getByPageAndFilters(
-        page, size, sortField, sortOrder, code, name);
+        page, size, sortField, sortOrder, code, name, cursor, count);
 
     return ResponseEntity.status(HttpStatus.OK).body(unitMeasurementPagePojoFiltered);
   }
@@ -0,0 +1,26 @@
+package com.gestion.almacenes.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(name = "DTO ProductImportDto (DTO Fila de importación de productos)")
+public class ProductImportDto {
+
+  @Schema(description = "Código del producto")
+  private String code;
+
+  @Schema(description = "Nombre del producto.")
+  private String name;
+
+  @Schema(description = "Descripción del producto.")
+  private String description;
+
+  @Schema(description = "Código de la unidad de medida.")
+  private String unitMeasurementCode;
+
+}
@@ -1,5 +1,6 @@
 package com.gestion.almacenes.entities;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
@@ -16,8 +17,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Getter
 @Setter
 @MappedSuperclass
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, CollectionVersionListener.class})
 @Schema( name = "Entity Auditable (Auditable)")
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Auditable {
 
   @CreatedDate
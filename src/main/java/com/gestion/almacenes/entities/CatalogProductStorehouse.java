@@ -1,12 +1,15 @@
 package com.gestion.almacenes.entities;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -21,12 +24,15 @@ import lombok.Setter;
 public class CatalogProductStorehouse extends Auditable {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "catalog_product_storehouse_seq")
+  @SequenceGenerator(name = "catalog_product_storehouse_seq",
+      sequenceName = "catalog_product_storehouse_seq", allocationSize = 50)
+  @Column(columnDefinition = "integer default nextval('catalog_product_storehouse_seq')")
   private Integer id;
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "storehouse_id")
   private Storehouse storehouse;
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "product_id")
   private Product product;
 
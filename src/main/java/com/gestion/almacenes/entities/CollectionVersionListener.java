@@ -0,0 +1,32 @@
+package com.gestion.almacenes.entities;
+
+import com.gestion.almacenes.services.ResourceVersionService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Invalida la version en cache del listado de la entidad cada vez que se inserta, modifica o elimina
+ * uno de sus registros. Las cargas que no pasan por JPA (COPY, consultas nativas) la invalidan por
+ * su cuenta.
+ */
+@Component
+public class CollectionVersionListener {
+
+  private final ObjectProvider<ResourceVersionService> resourceVersionService;
+
+  public CollectionVersionListener(ObjectProvider<ResourceVersionService> resourceVersionService) {
+    this.resourceVersionService = resourceVersionService;
+  }
+
+  @PostPersist
+  @PostUpdate
+  @PostRemove
+  public void evictCollectionVersion(Object entity) {
+    resourceVersionService.getObject().evictCollectionVersion(Hibernate.getClass(entity));
+  }
+
+}
@@ -0,0 +1,48 @@
+package com.gestion.almacenes.entities;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Respuesta guardada de una solicitud enviada con la cabecera Idempotency-Key
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "idempotent_request", uniqueConstraints = @UniqueConstraint(columnNames = {"scope",
+    "request_key"}))
+@Schema( name = "Entity IdempotentRequest (Solicitud idempotente)")
+public class IdempotentRequest {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "idempotent_request_seq")
+  @SequenceGenerator(name = "idempotent_request_seq", sequenceName = "idempotent_request_seq", allocationSize = 50)
+  @Column(columnDefinition = "integer default nextval('idempotent_request_seq')")
+  private Integer id;
+  @Column(length = 50, nullable = false)
+  private String scope;
+  @Column(name = "request_key", length = 100, nullable = false)
+  private String requestKey;
+  @Schema(description = "Hash SHA-256 del alcance y del contenido de la solicitud original")
+  @Column(name = "request_hash", length = 64)
+  private String requestHash;
+  @Schema(description = "Codigo HTTP de la respuesta, es nulo mientras la solicitud se procesa")
+  private Integer responseStatus;
+  @Column(columnDefinition = "TEXT")
+  private String responseBody;
+  @Column(nullable = false)
+  private LocalDateTime registerDate;
+
+}
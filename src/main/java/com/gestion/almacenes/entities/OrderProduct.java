@@ -3,11 +3,15 @@ package com.gestion.almacenes.entities;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -21,6 +25,11 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor
 @Entity
+@NamedEntityGraph(name = "OrderProduct.header", attributeNodes = {
+    @NamedAttributeNode("storehouse"),
+    @NamedAttributeNode("orderProductType"),
+    @NamedAttributeNode("supplier")
+})
 @Builder
 @Table(name = "order_product")
 @Schema( name = "Entity OrderProduct (Orden)")
@@ -28,7 +37,9 @@ import lombok.Setter;
 public class OrderProduct extends Auditable {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_product_seq")
+  @SequenceGenerator(name = "order_product_seq", sequenceName = "order_product_seq", allocationSize = 50)
+  @Column(columnDefinition = "integer default nextval('order_product_seq')")
   private Integer id;
 
   private String code;
@@ -36,20 +47,20 @@ public class OrderProduct extends Auditable {
   private LocalDate registrationDate;
   private LocalTime registrationTime;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "storehouse_id")
   private Storehouse storehouse;
 
   @Column(length = 500)
   private String description;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "order_product_type_id")
   private OrderProductType orderProductType;
 
   private String status;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "supplier_id")
   private Supplier supplier;
 
@@ -3,11 +3,16 @@ package com.gestion.almacenes.entities;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,6 +29,21 @@ import java.time.LocalDate;
 @Setter
 @NoArgsConstructor
 @Entity
+@NamedEntityGraph(name = "OrderProductDetail.withOrderAndStock", attributeNodes = {
+    @NamedAttributeNode(value = "orderProduct", subgraph = "orderProduct"),
+    @NamedAttributeNode(value = "stock", subgraph = "stock")
+}, subgraphs = {
+    @NamedSubgraph(name = "orderProduct", attributeNodes = {
+        @NamedAttributeNode("storehouse"),
+        @NamedAttributeNode("orderProductType"),
+        @NamedAttributeNode("supplier")
+    }),
+    @NamedSubgraph(name = "stock", attributeNodes = {
+        @NamedAttributeNode("storehouse"),
+        @NamedAttributeNode(value = "product", subgraph = "product")
+    }),
+    @NamedSubgraph(name = "product", attributeNodes = @NamedAttributeNode("unitMeasurement"))
+})
 @Builder
 @Table(name = "order_product_detail")
 @Schema( name = "Entity OrderProductDetail (Detalle de Orden)")
@@ -31,14 +51,16 @@ import java.time.LocalDate;
 public class OrderProductDetail extends Auditable {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_product_detail_seq")
+  @SequenceGenerator(name = "order_product_detail_seq", sequenceName = "order_product_detail_seq", allocationSize = 50)
+  @Column(columnDefinition = "integer default nextval('order_product_detail_seq')")
   private Integer id;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "order_product_id")
   private OrderProduct orderProduct;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "stock_id")
   private Stock stock;
 
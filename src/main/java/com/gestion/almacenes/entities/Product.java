@@ -3,11 +3,13 @@ package com.gestion.almacenes.entities;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -24,7 +26,9 @@ import java.time.LocalDate;
 public class Product extends Auditable {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+  @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = 50)
+  @Column(columnDefinition = "integer default nextval('product_seq')")
   private Integer id;
   @Column(length = 30, nullable = false)
   private String code;
@@ -34,7 +38,7 @@ public class Product extends Auditable {
   private String description;
 
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(columnDefinition = "unit_measurement_id")
   private UnitMeasurement unitMeasurement;
 
@@ -3,12 +3,18 @@ package com.gestion.almacenes.entities;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,6 +25,13 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor
 @Entity
+@NamedEntityGraph(name = "Stock.withStorehouseAndProduct", attributeNodes = {
+    @NamedAttributeNode(value = "storehouse", subgraph = "storehouse"),
+    @NamedAttributeNode(value = "product", subgraph = "product")
+}, subgraphs = {
+    @NamedSubgraph(name = "storehouse", attributeNodes = @NamedAttributeNode("storehouseType")),
+    @NamedSubgraph(name = "product", attributeNodes = @NamedAttributeNode("unitMeasurement"))
+})
 @Table(name = "stock")
 @Schema( name = "Entity Stock (Stock de producto)")
 @Builder
@@ -26,12 +39,14 @@ import lombok.Setter;
 public class Stock extends Auditable {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_seq")
+  @SequenceGenerator(name = "stock_seq", sequenceName = "stock_seq", allocationSize = 50)
+  @Column(columnDefinition = "integer default nextval('stock_seq')")
   private Integer id;
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "storehouse_id")
   private Storehouse storehouse;
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "product_id")
   private Product product;
   @Column(nullable = false, columnDefinition = "NUMERIC(18, 4)")
@@ -43,5 +58,7 @@ public class Stock extends Auditable {
   @Column(nullable = false)
   private Boolean stockAlert;
   private Boolean validExpirationDate;
+  @Version
+  private Long version;
 
 }
@@ -0,0 +1,56 @@
+package com.gestion.almacenes.entities;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Movimiento de stock, se registra uno por cada detalle de orden aplicado y nunca se modifica
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Builder
+@Table(name = "stock_movement")
+@Schema( name = "Entity StockMovement (Movimiento de stock)")
+@AllArgsConstructor
+public class StockMovement {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_movement_seq")
+  @SequenceGenerator(name = "stock_movement_seq", sequenceName = "stock_movement_seq", allocationSize = 50)
+  @Column(columnDefinition = "integer default nextval('stock_movement_seq')")
+  private Integer id;
+
+  @Column(nullable = false)
+  private Integer orderProductId;
+
+  private Integer orderProductDetailId;
+
+  @Column(nullable = false)
+  private Integer stockId;
+
+  @Schema(description = "Cantidad sumada (positiva) o restada (negativa) al stock")
+  @Column(nullable = false, columnDefinition = "NUMERIC(18, 4)")
+  private Double delta;
+
+  @Schema(description = "Cantidad en stock despues de aplicar el movimiento")
+  @Column(nullable = false, columnDefinition = "NUMERIC(18, 4)")
+  private Double balance;
+
+  @Column(nullable = false)
+  private LocalDateTime movementDate;
+
+}
@@ -0,0 +1,52 @@
+package com.gestion.almacenes.entities;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Foto periodica de la cantidad en stock, punto de partida para calcular el stock a una fecha
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Builder
+@Table(name = "stock_snapshot")
+@Schema( name = "Entity StockSnapshot (Foto del stock)")
+@AllArgsConstructor
+public class StockSnapshot {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_snapshot_seq")
+  @SequenceGenerator(name = "stock_snapshot_seq", sequenceName = "stock_snapshot_seq", allocationSize = 50)
+  @Column(columnDefinition = "integer default nextval('stock_snapshot_seq')")
+  private Integer id;
+
+  @Column(nullable = false)
+  private Integer stockId;
+
+  @Column(nullable = false)
+  private Integer storehouseId;
+
+  @Column(nullable = false)
+  private Integer productId;
+
+  @Column(nullable = false, columnDefinition = "NUMERIC(18, 4)")
+  private Double amountInStock;
+
+  @Column(nullable = false)
+  private LocalDateTime snapshotDate;
+
+}
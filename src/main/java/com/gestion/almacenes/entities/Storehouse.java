@@ -4,11 +4,13 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -23,7 +25,9 @@ import lombok.Setter;
 public class Storehouse extends Auditable {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "storehouse_seq")
+  @SequenceGenerator(name = "storehouse_seq", sequenceName = "storehouse_seq", allocationSize = 50)
+  @Column(columnDefinition = "integer default nextval('storehouse_seq')")
   private Integer id;
   @Column(length = 30, nullable = false)
   private String code;
@@ -31,7 +35,7 @@ public class Storehouse extends Auditable {
   private String name;
   @Column(length = 500, nullable = false)
   private String description;
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "storehouse_type_id")
   private StorehouseType storehouseType;
 
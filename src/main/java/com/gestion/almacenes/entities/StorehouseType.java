@@ -6,6 +6,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -20,7 +21,9 @@ import lombok.Setter;
 public class StorehouseType extends Auditable {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "storehouse_type_seq")
+  @SequenceGenerator(name = "storehouse_type_seq", sequenceName = "storehouse_type_seq", allocationSize = 50)
+  @Column(columnDefinition = "integer default nextval('storehouse_type_seq')")
   private Integer id;
   @Column(length = 30, nullable = false)
   private String code;
@@ -1,5 +1,6 @@
 package com.gestion.almacenes.entities;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -19,7 +20,9 @@ import java.time.LocalTime;
 public class Supplier  extends Auditable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "supplier_seq")
+    @SequenceGenerator(name = "supplier_seq", sequenceName = "supplier_seq", allocationSize = 50)
+    @Column(columnDefinition = "integer default nextval('supplier_seq')")
     private Integer id;
 
     @Schema(description = "Fecha de registro")
@@ -64,5 +67,10 @@ public class Supplier  extends Auditable {
     @Schema(description = "Correo electronico")
     @Column(length = 100)
     private String email;
-    
+
+    @Schema(description = "Texto de busqueda normalizado, calculado por la base de datos (V17)")
+    @JsonIgnore
+    @Column(columnDefinition = "text", insertable = false, updatable = false)
+    private String searchText;
+
 }
@@ -3,24 +3,37 @@ package com.gestion.almacenes.repositories;
 import com.gestion.almacenes.entities.CatalogProductStorehouse;
 import com.gestion.almacenes.entities.Product;
 import com.gestion.almacenes.entities.Storehouse;
+import jakarta.persistence.QueryHint;
 import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.springframework.data.repository.query.Param;
 
-public interface CatalogProductStorehouseRepository extends JpaRepository<CatalogProductStorehouse, Integer>{
+public interface CatalogProductStorehouseRepository extends JpaRepository<CatalogProductStorehouse, Integer>,
+    JpaSpecificationExecutor<CatalogProductStorehouse>{
 
     Optional<CatalogProductStorehouse> findByIdAndActiveIsTrue(Integer id);
 
     List<CatalogProductStorehouse> findAllByActiveIsTrue();
 
+    @EntityGraph(attributePaths = {"storehouse.storehouseType", "product.unitMeasurement"})
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    Stream<CatalogProductStorehouse> streamAllByActiveIsTrue();
+
     Page<CatalogProductStorehouse> findAll(Specification<CatalogProductStorehouse> spec, Pageable pageable);
     List<CatalogProductStorehouse> findAll(Specification<CatalogProductStorehouse> spec);
 
@@ -71,4 +84,77 @@ public interface CatalogProductStorehouseRepository extends JpaRepository<Catalo
         """, nativeQuery = true)
     @Transactional
     void addAllProductsToStorehouse(@Param("storehouseId") Integer storehouseId);
+
+    /**
+     * Asocia un producto a todos los almacenes activos que aun no lo tienen, en una sola sentencia
+     * @param productId Identificador del producto
+     * @return Cantidad de asociaciones creadas
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+        INSERT INTO public.catalog_product_storehouse
+        (active, created_by, created_date, last_modified_by, last_modified_date, product_id, storehouse_id)
+        SELECT true, null, null, null, null, :productId, s.id
+        from storehouse s
+        where s.active = true
+        and s.id not in(select cps.storehouse_id from catalog_product_storehouse cps
+        where cps.product_id = :productId and cps.active = true)
+        """, nativeQuery = true)
+    int addProductToAllStorehouses(@Param("productId") Integer productId);
+
+    /**
+     * Asocia un producto a los almacenes activos indicados que aun no lo tienen, en una sola
+     * sentencia
+     * @param productId Identificador del producto
+     * @param storehouseIds Identificadores de los almacenes
+     * @return Cantidad de asociaciones creadas
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+        INSERT INTO public.catalog_product_storehouse
+        (active, created_by, created_date, last_modified_by, last_modified_date, product_id, storehouse_id)
+        SELECT true, null, null, null, null, :productId, s.id
+        from storehouse s
+        where s.active = true
+        and s.id in (:storehouseIds)
+        and s.id not in(select cps.storehouse_id from catalog_product_storehouse cps
+        where cps.product_id = :productId and cps.active = true)
+        """, nativeQuery = true)
+    int addProductToStorehouses(@Param("productId") Integer productId,
+        @Param("storehouseIds") Collection<Integer> storehouseIds);
+
+    /**
+     * Quita en una sola sentencia el producto de todos los almacenes que no estan en la lista
+     * @param productId Identificador del producto
+     * @param storehouseIds Identificadores de los almacenes que se mantienen
+     * @return Cantidad de asociaciones eliminadas
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CatalogProductStorehouse cps "
+        + "where cps.product.id = ?1 and cps.storehouse.id not in ?2")
+    int deleteByProductIdAndStorehouseIdNotIn(Integer productId,
+        Collection<Integer> storehouseIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CatalogProductStorehouse cps where cps.product.id = ?1")
+    int deleteByProductId(Integer productId);
+
+    /**
+     * Asocia varios productos, por codigo, a todos los almacenes activos que aun no los tienen
+     * @param productCodes Codigos de los productos
+     * @return Cantidad de asociaciones creadas
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+        INSERT INTO public.catalog_product_storehouse
+        (active, created_by, created_date, last_modified_by, last_modified_date, product_id, storehouse_id)
+        SELECT true, null, null, null, null, p.id, s.id
+        from product p
+        cross join storehouse s
+        where p.active = true and p.code in (:productCodes)
+        and s.active = true
+        and not exists(select 1 from catalog_product_storehouse cps
+        where cps.product_id = p.id and cps.storehouse_id = s.id and cps.active = true)
+        """, nativeQuery = true)
+    int addProductsToAllStorehouses(@Param("productCodes") Collection<String> productCodes);
 }
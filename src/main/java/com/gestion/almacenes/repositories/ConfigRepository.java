@@ -1,14 +1,20 @@
 package com.gestion.almacenes.repositories;
 
 import com.gestion.almacenes.entities.Config;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface ConfigRepository extends JpaRepository<Config, Integer> {
+public interface ConfigRepository extends JpaRepository<Config, Integer>,
+    JpaSpecificationExecutor<Config> {
 
   boolean existsByCodeAndActiveIsTrue(String code);
 
@@ -18,6 +24,10 @@ public interface ConfigRepository extends JpaRepository<Config, Integer> {
 
   List<Config> findAllByActiveIsTrue();
 
+  @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+  Stream<Config> streamAllByActiveIsTrue();
+
   List<Config> findAll();
 
   Page<Config> findAll(Pageable pageable);
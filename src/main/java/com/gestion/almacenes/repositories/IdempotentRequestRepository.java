@@ -0,0 +1,18 @@
+package com.gestion.almacenes.repositories;
+
+import com.gestion.almacenes.entities.IdempotentRequest;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface IdempotentRequestRepository extends JpaRepository<IdempotentRequest, Integer> {
+
+  Optional<IdempotentRequest> findByScopeAndRequestKey(String scope, String requestKey);
+
+  @Modifying
+  @Query("delete from IdempotentRequest r where r.registerDate < ?1")
+  int deleteByRegisterDateBefore(LocalDateTime registerDate);
+
+}
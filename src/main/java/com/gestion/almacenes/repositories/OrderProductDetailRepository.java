@@ -1,25 +1,108 @@
 package com.gestion.almacenes.repositories;
 
+import com.gestion.almacenes.commons.concurrency.StockKey;
 import com.gestion.almacenes.entities.OrderProductDetail;
+import com.gestion.almacenes.repositories.projections.StockReservedProjection;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
-public interface OrderProductDetailRepository extends JpaRepository<OrderProductDetail, Integer> {
+public interface OrderProductDetailRepository extends JpaRepository<OrderProductDetail, Integer>,
+    JpaSpecificationExecutor<OrderProductDetail> {
 
+  @EntityGraph("OrderProductDetail.withOrderAndStock")
   Optional<OrderProductDetail> findByIdAndActiveIsTrue(Integer id);
 
+  @EntityGraph("OrderProductDetail.withOrderAndStock")
   List<OrderProductDetail> findAllByActiveIsTrue();
 
+  @EntityGraph("OrderProductDetail.withOrderAndStock")
+  @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+  Stream<OrderProductDetail> streamAllByActiveIsTrue();
+
+  @EntityGraph("OrderProductDetail.withOrderAndStock")
+  Page<OrderProductDetail> findAll(Pageable pageable);
+
+  @EntityGraph("OrderProductDetail.withOrderAndStock")
   Page<OrderProductDetail> findAll(Specification<OrderProductDetail> spec, Pageable pageable);
 
+  @EntityGraph("OrderProductDetail.withOrderAndStock")
   List<OrderProductDetail> findAll(Specification<OrderProductDetail> spec);
 
+  /**
+   * Devuelve el detalle activo de una orden junto con la orden, el stock, el producto y el almacen
+   * en una sola consulta
+   * @param id Identificador de la orden
+   * @return Lista de detalles de la orden
+   */
+  @EntityGraph("OrderProductDetail.withOrderAndStock")
   List<OrderProductDetail> findByOrderProduct_IdAndActiveTrue(Integer id);
 
+  /**
+   * Devuelve la cantidad de stocks distintos que afecta una orden
+   * @param orderProductId Identificador de la orden
+   * @return Cantidad de stocks distintos en el detalle activo de la orden
+   */
+  @Query("select count(distinct opd.stock.id) from OrderProductDetail opd "
+      + "where opd.orderProduct.id = ?1 and opd.active = true")
+  long countDistinctStockByOrderProductId(Integer orderProductId);
+
+  /**
+   * Devuelve los pares (almacen, producto) de los stocks que afecta una orden
+   * @param orderProductId Identificador de la orden
+   * @return Lista de stocks distintos del detalle activo de la orden
+   */
+  @Query("select distinct new com.gestion.almacenes.commons.concurrency.StockKey("
+      + "opd.stock.storehouse.id, opd.stock.product.id) from OrderProductDetail opd "
+      + "where opd.orderProduct.id = ?1 and opd.active = true")
+  List<StockKey> findStockKeysByOrderProductId(Integer orderProductId);
+
+  /**
+   * Devuelve los pares (almacen, producto) de los stocks que afectan varias ordenes
+   * @param orderProductIds Identificadores de las ordenes
+   * @return Lista de stocks distintos del detalle activo de las ordenes
+   */
+  @Query("select distinct new com.gestion.almacenes.commons.concurrency.StockKey("
+      + "opd.stock.storehouse.id, opd.stock.product.id) from OrderProductDetail opd "
+      + "where opd.orderProduct.id in ?1 and opd.active = true")
+  List<StockKey> findStockKeysByOrderProductIdIn(Collection<Integer> orderProductIds);
+
+  /**
+   * Devuelve en una sola consulta el detalle activo de varias ordenes junto con su stock
+   * @param orderProductIds Identificadores de las ordenes
+   * @return Lista de detalles ordenados por orden y detalle
+   */
+  @Query("select opd from OrderProductDetail opd join fetch opd.stock s join fetch s.product "
+      + "where opd.orderProduct.id in ?1 and opd.active = true "
+      + "order by opd.orderProduct.id, opd.id")
+  List<OrderProductDetail> findWithStockByOrderProductIdIn(Collection<Integer> orderProductIds);
+
+  /**
+   * Devuelve la cantidad comprometida por (almacen, producto) del detalle activo de las ordenes
+   * activas con el estado y tipo de accion indicados
+   * @param status Estado de las ordenes
+   * @param action Accion del tipo de orden
+   * @return Cantidades agrupadas por almacen y producto
+   */
+  @Query("select opd.stock.storehouse.id as storehouseId, opd.stock.product.id as productId, "
+      + "sum(opd.amount) as amount from OrderProductDetail opd "
+      + "where opd.active = true and opd.orderProduct.active = true "
+      + "and opd.orderProduct.status = ?1 and opd.orderProduct.orderProductType.action = ?2 "
+      + "group by opd.stock.storehouse.id, opd.stock.product.id")
+  List<StockReservedProjection> sumAmountByStockAndOrderProductStatusAndAction(String status,
+      String action);
 
   boolean existsByOrderProduct_IdAndStock_Storehouse_IdAndStock_Product_IdAndActiveTrue(Integer id,
       Integer id1, Integer id2);
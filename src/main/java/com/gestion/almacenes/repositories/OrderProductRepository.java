@@ -1,27 +1,51 @@
 package com.gestion.almacenes.repositories;
 
 import com.gestion.almacenes.entities.OrderProduct;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 
-public interface OrderProductRepository extends JpaRepository<OrderProduct, Integer> {
+public interface OrderProductRepository extends JpaRepository<OrderProduct, Integer>,
+    JpaSpecificationExecutor<OrderProduct> {
 
   boolean existsByCodeAndActiveIsTrue(String code);
 
   boolean existsByCodeAndIdNotAndActiveIsTrue(String code, Integer id);
 
+  @EntityGraph("OrderProduct.header")
   Optional<OrderProduct> findByIdAndActiveIsTrue(Integer id);
-  
+
+  @EntityGraph("OrderProduct.header")
   Optional<OrderProduct> findByCodeAndActiveTrue(String code);
 
+  @EntityGraph("OrderProduct.header")
   List<OrderProduct> findAllByActiveIsTrue();
 
+  @EntityGraph("OrderProduct.header")
+  List<OrderProduct> findByIdInAndActiveIsTrue(Collection<Integer> ids);
+
+  @EntityGraph("OrderProduct.header")
+  @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+  Stream<OrderProduct> streamAllByActiveIsTrue();
+
+  @EntityGraph("OrderProduct.header")
+  Page<OrderProduct> findAll(Pageable pageable);
+
+  @EntityGraph("OrderProduct.header")
   Page<OrderProduct> findAll(Specification<OrderProduct> spec, Pageable pageable);
 
+  @EntityGraph("OrderProduct.header")
   List<OrderProduct> findAll(Specification<OrderProduct> spec);
 
 }
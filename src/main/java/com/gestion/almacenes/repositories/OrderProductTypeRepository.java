@@ -1,14 +1,20 @@
 package com.gestion.almacenes.repositories;
 
 import com.gestion.almacenes.entities.OrderProductType;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 
-public interface OrderProductTypeRepository extends JpaRepository<OrderProductType, Integer> {
+public interface OrderProductTypeRepository extends JpaRepository<OrderProductType, Integer>,
+    JpaSpecificationExecutor<OrderProductType> {
 
   boolean existsByCodeAndActiveIsTrue(String code);
 
@@ -20,6 +26,10 @@ public interface OrderProductTypeRepository extends JpaRepository<OrderProductTy
 
   List<OrderProductType> findAllByActiveIsTrue();
 
+  @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+  Stream<OrderProductType> streamAllByActiveIsTrue();
+
   List<OrderProductType> findAll(Specification<OrderProductType> spec);
 
   Page<OrderProductType> findAll(Specification<OrderProductType> spec, Pageable pageable);
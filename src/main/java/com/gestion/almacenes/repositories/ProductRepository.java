@@ -1,14 +1,25 @@
 package com.gestion.almacenes.repositories;
 
 import com.gestion.almacenes.entities.Product;
+import com.gestion.almacenes.repositories.projections.ProductSearchProjection;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
-public interface ProductRepository extends JpaRepository<Product, Integer> {
+public interface ProductRepository extends JpaRepository<Product, Integer>,
+    JpaSpecificationExecutor<Product>,
+    ProductRepositoryCustom {
 
   boolean existsByCodeAndActiveIsTrue(String code);
 
@@ -25,4 +36,22 @@ public interface ProductRepository extends JpaRepository<Product, Integer> {
   Page<Product> findAll(Specification<Product> spec, Pageable pageable);
 
   List<Product> findAll(Specification<Product> spec);
+
+  /**
+   * Devuelve los codigos que ya estan registrados en productos activos
+   * @param codes Codigos a verificar
+   * @return Codigos existentes
+   */
+  @Query("select p.code from Product p where p.code in ?1 and p.active = true")
+  List<String> findCodeByCodeInAndActiveIsTrue(Collection<String> codes);
+
+  @Query("select p.id as id, p.code as code, p.name as name, p.description as description "
+      + "from Product p where p.active = true")
+  List<ProductSearchProjection> findSearchProjectionByActiveIsTrue();
+
+  @EntityGraph(attributePaths = "unitMeasurement")
+  @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+  Stream<Product> streamAllBy();
+
 }
@@ -0,0 +1,14 @@
+package com.gestion.almacenes.repositories;
+
+import com.gestion.almacenes.entities.Product;
+import java.util.List;
+
+public interface ProductRepositoryCustom {
+
+  /**
+   * Registra los productos con inserciones JDBC por lotes dentro de la transaccion actual
+   * @param products Productos a registrar, con su unidad de medida
+   */
+  void batchInsert(List<Product> products);
+
+}
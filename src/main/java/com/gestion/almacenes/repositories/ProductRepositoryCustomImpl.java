@@ -0,0 +1,30 @@
+package com.gestion.almacenes.repositories;
+
+import com.gestion.almacenes.entities.Product;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@AllArgsConstructor
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+  private static final int BATCH_SIZE = 500;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public void batchInsert(List<Product> products) {
+    jdbcTemplate.batchUpdate("""
+            INSERT INTO product
+            (code, name, description, unit_measurement_id, active, created_date, last_modified_date)
+            VALUES (?, ?, ?, ?, true, now(), now())
+            """,
+        products, BATCH_SIZE, (ps, product) -> {
+          ps.setString(1, product.getCode());
+          ps.setString(2, product.getName());
+          ps.setString(3, product.getDescription());
+          ps.setInt(4, product.getUnitMeasurement().getId());
+        });
+  }
+
+}
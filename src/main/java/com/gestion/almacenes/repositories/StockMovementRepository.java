@@ -0,0 +1,80 @@
+package com.gestion.almacenes.repositories;
+
+import com.gestion.almacenes.commons.concurrency.StockKey;
+import com.gestion.almacenes.entities.StockMovement;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StockMovementRepository extends JpaRepository<StockMovement, Integer>,
+    StockMovementRepositoryCustom {
+
+  /**
+   * Registra un movimiento por cada detalle activo de la orden. Se ejecuta despues de actualizar
+   * el stock, el saldo de cada linea se calcula restando del saldo final las lineas posteriores
+   * del mismo stock.
+   * @param orderProductId Identificador de la orden
+   * @param sign 1 para sumar (ingreso) o -1 para restar (salida) las cantidades del detalle
+   * @param movementDate Fecha de los movimientos, la que devuelve {@link #lockForMovements()}
+   * @return Cantidad de movimientos registrados
+   */
+  @Modifying
+  @Query(value = """
+      INSERT INTO stock_movement
+      (order_product_id, order_product_detail_id, stock_id, delta, balance, movement_date)
+      SELECT opd.order_product_id, opd.id, opd.stock_id, :sign * opd.amount,
+             s.amount_in_stock - :sign * COALESCE(SUM(opd.amount) OVER (
+                 PARTITION BY opd.stock_id ORDER BY opd.id
+                 ROWS BETWEEN 1 FOLLOWING AND UNBOUNDED FOLLOWING), 0),
+             :movementDate
+      FROM order_product_detail opd
+      INNER JOIN stock s ON s.id = opd.stock_id
+      WHERE opd.order_product_id = :orderProductId AND opd.active = true
+      """, nativeQuery = true)
+  int insertFromOrderProduct(@Param("orderProductId") Integer orderProductId,
+      @Param("sign") Integer sign, @Param("movementDate") LocalDateTime movementDate);
+
+  /**
+   * @param orderProductId Identificador de la orden
+   * @return Cantidad de stocks distintos con movimientos de la orden
+   */
+  @Query("select count(distinct m.stockId) from StockMovement m where m.orderProductId = ?1")
+  long countDistinctStockByOrderProductId(Integer orderProductId);
+
+  /**
+   * @param orderProductId Identificador de la orden
+   * @return Lista de stocks distintos con movimientos de la orden
+   */
+  @Query("select distinct new com.gestion.almacenes.commons.concurrency.StockKey("
+      + "s.storehouse.id, s.product.id) from StockMovement m, Stock s "
+      + "where s.id = m.stockId and m.orderProductId = ?1")
+  List<StockKey> findStockKeysByOrderProductId(Integer orderProductId);
+
+  /**
+   * Registra la reversion de cada movimiento de la orden, con la cantidad inversa. Se ejecuta
+   * despues de revertir el stock, el saldo de cada linea se calcula igual que en
+   * {@link #insertFromOrderProduct(Integer, Integer, LocalDateTime)}.
+   * @param orderProductId Identificador de la orden
+   * @param movementDate Fecha de los movimientos, la que devuelve {@link #lockForMovements()}
+   * @return Cantidad de movimientos registrados
+   */
+  @Modifying
+  @Query(value = """
+      INSERT INTO stock_movement
+      (order_product_id, order_product_detail_id, stock_id, delta, balance, movement_date)
+      SELECT m.order_product_id, m.order_product_detail_id, m.stock_id, -m.delta,
+             s.amount_in_stock + COALESCE(SUM(m.delta) OVER (
+                 PARTITION BY m.stock_id ORDER BY m.id
+                 ROWS BETWEEN 1 FOLLOWING AND UNBOUNDED FOLLOWING), 0),
+             :movementDate
+      FROM stock_movement m
+      INNER JOIN stock s ON s.id = m.stock_id
+      WHERE m.order_product_id = :orderProductId
+      """, nativeQuery = true)
+  int insertReversalFromOrderProduct(@Param("orderProductId") Integer orderProductId,
+      @Param("movementDate") LocalDateTime movementDate);
+
+}
@@ -0,0 +1,29 @@
+package com.gestion.almacenes.repositories;
+
+import com.gestion.almacenes.entities.StockMovement;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface StockMovementRepositoryCustom {
+
+  /**
+   * Registra los movimientos con inserciones JDBC por lotes dentro de la transaccion actual
+   * @param stockMovements Movimientos a registrar
+   */
+  void batchInsert(List<StockMovement> stockMovements);
+
+  /**
+   * Turno compartido del libro de movimientos para una transaccion que modifica el stock. Debe
+   * tomarse antes de modificar el stock y se mantiene hasta el fin de la transaccion; espera si
+   * hay una foto del stock en curso.
+   * @return Hora de la base de datos con el turno tomado, es la fecha de los movimientos
+   */
+  LocalDateTime lockForMovements();
+
+  /**
+   * Turno exclusivo del libro de movimientos para tomar una foto del stock: espera que terminen
+   * las transacciones que modifican el stock y las demora hasta el fin de la transaccion
+   */
+  void lockForSnapshot();
+
+}
@@ -0,0 +1,57 @@
+package com.gestion.almacenes.repositories;
+
+import com.gestion.almacenes.entities.StockMovement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@AllArgsConstructor
+public class StockMovementRepositoryCustomImpl implements StockMovementRepositoryCustom {
+
+  private static final int BATCH_SIZE = 500;
+
+  /**
+   * Llave del bloqueo consultivo (advisory lock) que ordena los movimientos y las fotos del stock
+   */
+  private static final long LEDGER_LOCK = 8_001L;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public void batchInsert(List<StockMovement> stockMovements) {
+    jdbcTemplate.batchUpdate("""
+            INSERT INTO stock_movement
+            (order_product_id, order_product_detail_id, stock_id, delta, balance, movement_date)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """,
+        stockMovements, BATCH_SIZE, (ps, stockMovement) -> {
+          ps.setInt(1, stockMovement.getOrderProductId());
+          if (stockMovement.getOrderProductDetailId() == null) {
+            ps.setNull(2, Types.INTEGER);
+          } else {
+            ps.setInt(2, stockMovement.getOrderProductDetailId());
+          }
+          ps.setInt(3, stockMovement.getStockId());
+          ps.setDouble(4, stockMovement.getDelta());
+          ps.setDouble(5, stockMovement.getBalance());
+          ps.setTimestamp(6, Timestamp.valueOf(stockMovement.getMovementDate()));
+        });
+  }
+
+  @Override
+  public LocalDateTime lockForMovements() {
+    jdbcTemplate.query("SELECT pg_advisory_xact_lock_shared(?)", resultSet -> null, LEDGER_LOCK);
+    // clock_timestamp y no now(): la hora debe ser posterior a la obtencion del turno
+    return jdbcTemplate.queryForObject("SELECT CAST(clock_timestamp() AS timestamp)",
+        Timestamp.class).toLocalDateTime();
+  }
+
+  @Override
+  public void lockForSnapshot() {
+    jdbcTemplate.query("SELECT pg_advisory_xact_lock(?)", resultSet -> null, LEDGER_LOCK);
+  }
+
+}
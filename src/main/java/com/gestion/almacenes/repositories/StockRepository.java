@@ -1,24 +1,182 @@
 package com.gestion.almacenes.repositories;
 
 import com.gestion.almacenes.entities.Stock;
+import com.gestion.almacenes.repositories.projections.StockProjection;
+import com.gestion.almacenes.repositories.projections.StockShortageProjection;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface StockRepository extends JpaRepository<Stock, Integer> {
+public interface StockRepository extends JpaRepository<Stock, Integer>,
+    JpaSpecificationExecutor<Stock> {
 
+  /**
+   * Columnas de los listados de stock, en una sola consulta con el almacen y el producto
+   */
+  String SELECT_STOCK_PROJECTION = "select s.id as id, sh.id as storehouseId, "
+      + "sh.code as storehouseCode, sh.name as storehouseName, p.id as productId, "
+      + "p.code as productCode, p.name as productName, um.code as unitMeasurementCode, "
+      + "s.amountInStock as amountInStock, s.minimumStock as minimumStock, "
+      + "s.maximumStock as maximumStock, s.stockAlert as stockAlert, "
+      + "s.validExpirationDate as validExpirationDate "
+      + "from Stock s join s.storehouse sh join s.product p left join p.unitMeasurement um ";
+
+  /**
+   * Conteo de los listados de stock, con los mismos joins que {@link #SELECT_STOCK_PROJECTION}
+   */
+  String COUNT_STOCK_PROJECTION = "select count(s) "
+      + "from Stock s join s.storehouse sh join s.product p ";
+
+  @EntityGraph("Stock.withStorehouseAndProduct")
   Optional<Stock> findByIdAndActiveIsTrue(Integer id);
 
   List<Stock> findAllByActiveIsTrue();
 
+  @EntityGraph("Stock.withStorehouseAndProduct")
+  @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+  Stream<Stock> streamAllByActiveIsTrue();
+
+  @EntityGraph("Stock.withStorehouseAndProduct")
   List<Stock> findAll(Specification<Stock> spec);
 
   Page<Stock> findAll(Specification<Stock> spec, Pageable pageable);
 
   boolean existsByStorehouse_IdAndProduct_IdAndActiveTrue(Integer id, Integer id1);
 
+  @EntityGraph("Stock.withStorehouseAndProduct")
   Optional<Stock> findByStorehouse_IdAndProduct_IdAndActiveTrue(Integer id, Integer id1);
+
+  @Query(SELECT_STOCK_PROJECTION + "where s.active = true")
+  List<StockProjection> findProjectionByActiveIsTrue();
+
+  @Query(value = SELECT_STOCK_PROJECTION, countQuery = COUNT_STOCK_PROJECTION)
+  Page<StockProjection> findProjectionAll(Pageable pageable);
+
+  /**
+   * Listado de stock filtrado por codigo y nombre del producto
+   * @param codePattern Patron LIKE en minusculas para el codigo (prefijo)
+   * @param namePattern Patron LIKE en minusculas para el nombre (contenido)
+   */
+  @Query(value = SELECT_STOCK_PROJECTION
+      + "where lower(p.code) like ?1 escape '\\' and lower(p.name) like ?2 escape '\\'",
+      countQuery = COUNT_STOCK_PROJECTION
+          + "where lower(p.code) like ?1 escape '\\' and lower(p.name) like ?2 escape '\\'")
+  Page<StockProjection> findProjectionByProductCodeAndProductName(String codePattern,
+      String namePattern, Pageable pageable);
+
+  @Query(SELECT_STOCK_PROJECTION
+      + "where sh.id = ?1 and p.id = ?2 and s.active = true")
+  Optional<StockProjection> findProjectionByStorehouseIdAndProductIdAndActiveIsTrue(
+      Integer storehouseId, Integer productId);
+
+  /**
+   * Devuelve en una sola consulta los stocks activos de un almacen para varios productos
+   * @param storehouseId Identificador del almacen
+   * @param productIds Identificadores de los productos
+   * @return Stocks encontrados junto con su producto y almacen
+   */
+  @Query("select s from Stock s join fetch s.product join fetch s.storehouse "
+      + "where s.storehouse.id = ?1 and s.product.id in ?2 and s.active = true")
+  List<Stock> findWithProductByStorehouseIdAndProductIdIn(Integer storehouseId,
+      Collection<Integer> productIds);
+
+  /**
+   * Devuelve los stocks que quedarian en negativo si se aplican los detalles de la orden
+   * @param orderProductId Identificador de la orden
+   * @param sign 1 para sumar (ingreso) o -1 para restar (salida) las cantidades del detalle
+   * @return Lista de stocks con la cantidad actual y la cantidad solicitada por la orden
+   */
+  @Query(value = """
+      SELECT s.id AS stockId, p.code AS productCode, p.name AS productName,
+             s.amount_in_stock AS amountInStock, d.amount AS amountRequested
+      FROM stock s
+      INNER JOIN (SELECT opd.stock_id, SUM(opd.amount) AS amount
+                  FROM order_product_detail opd
+                  WHERE opd.order_product_id = :orderProductId AND opd.active = true
+                  GROUP BY opd.stock_id) d ON d.stock_id = s.id
+      INNER JOIN product p ON p.id = s.product_id
+      WHERE s.amount_in_stock + (:sign * d.amount) < 0
+      ORDER BY s.id
+      """, nativeQuery = true)
+  List<StockShortageProjection> findShortagesByOrderProductId(
+      @Param("orderProductId") Integer orderProductId, @Param("sign") Integer sign);
+
+  /**
+   * Aplica en una sola sentencia todas las cantidades del detalle de una orden sobre el stock.
+   * Las cantidades se agrupan por stock y solo se actualizan las filas que no quedan en negativo.
+   * @param orderProductId Identificador de la orden
+   * @param sign 1 para sumar (ingreso) o -1 para restar (salida) las cantidades del detalle
+   * @return Cantidad de stocks actualizados
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(value = """
+      UPDATE stock s
+      SET amount_in_stock = s.amount_in_stock + (:sign * d.amount),
+          version = s.version + 1,
+          last_modified_date = now()
+      FROM (SELECT opd.stock_id, SUM(opd.amount) AS amount
+            FROM order_product_detail opd
+            WHERE opd.order_product_id = :orderProductId AND opd.active = true
+            GROUP BY opd.stock_id) d
+      WHERE s.id = d.stock_id
+      AND s.amount_in_stock + (:sign * d.amount) >= 0
+      """, nativeQuery = true)
+  int applyOrderProductDetails(@Param("orderProductId") Integer orderProductId,
+      @Param("sign") Integer sign);
+
+  /**
+   * Devuelve los stocks que quedarian en negativo si se revierten los movimientos registrados por
+   * la orden
+   * @param orderProductId Identificador de la orden
+   * @return Lista de stocks con la cantidad actual y la cantidad que se revierte
+   */
+  @Query(value = """
+      SELECT s.id AS stockId, p.code AS productCode, p.name AS productName,
+             s.amount_in_stock AS amountInStock, d.amount AS amountRequested
+      FROM stock s
+      INNER JOIN (SELECT m.stock_id, SUM(m.delta) AS amount
+                  FROM stock_movement m
+                  WHERE m.order_product_id = :orderProductId
+                  GROUP BY m.stock_id) d ON d.stock_id = s.id
+      INNER JOIN product p ON p.id = s.product_id
+      WHERE s.amount_in_stock - d.amount < 0
+      ORDER BY s.id
+      """, nativeQuery = true)
+  List<StockShortageProjection> findShortagesToRevertByOrderProductId(
+      @Param("orderProductId") Integer orderProductId);
+
+  /**
+   * Revierte en una sola sentencia los movimientos registrados por la orden, que son las cantidades
+   * que realmente se aplicaron al stock. Solo se actualizan las filas que no quedan en negativo.
+   * @param orderProductId Identificador de la orden
+   * @return Cantidad de stocks actualizados
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(value = """
+      UPDATE stock s
+      SET amount_in_stock = s.amount_in_stock - d.amount,
+          version = s.version + 1,
+          last_modified_date = now()
+      FROM (SELECT m.stock_id, SUM(m.delta) AS amount
+            FROM stock_movement m
+            WHERE m.order_product_id = :orderProductId
+            GROUP BY m.stock_id) d
+      WHERE s.id = d.stock_id
+      AND s.amount_in_stock - d.amount >= 0
+      """, nativeQuery = true)
+  int revertOrderProductMovements(@Param("orderProductId") Integer orderProductId);
 }
@@ -0,0 +1,70 @@
+package com.gestion.almacenes.repositories;
+
+import com.gestion.almacenes.entities.StockSnapshot;
+import com.gestion.almacenes.repositories.projections.StockAsOfProjection;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StockSnapshotRepository extends JpaRepository<StockSnapshot, Integer> {
+
+  /**
+   * Guarda la cantidad actual de todos los stocks activos con la hora de la base de datos. Debe
+   * ejecutarse con el turno exclusivo del libro de movimientos
+   * ({@link StockMovementRepository#lockForSnapshot()}): los movimientos confirmados antes quedan
+   * en la foto y tienen una fecha anterior, los posteriores tienen una fecha posterior.
+   * @return Cantidad de stocks guardados
+   */
+  @Modifying
+  @Query(value = """
+      INSERT INTO stock_snapshot (stock_id, storehouse_id, product_id, amount_in_stock, snapshot_date)
+      SELECT s.id, s.storehouse_id, s.product_id, s.amount_in_stock, CAST(clock_timestamp() AS timestamp)
+      FROM stock s
+      WHERE s.active = true
+      """, nativeQuery = true)
+  int insertFromStock();
+
+  /**
+   * Stock de un almacen a una fecha. Parte de la foto mas cercana anterior a la fecha y suma los
+   * movimientos posteriores; si no hay foto anterior parte de la siguiente foto (o del stock
+   * actual) y resta los movimientos hacia atras. Solo se recorren los movimientos entre la foto y
+   * la fecha pedida.
+   * @param storehouseId Identificador del almacen
+   * @param asOf Fecha y hora a la que se calcula el stock
+   * @return Cantidad por stock del almacen
+   */
+  @Query(value = """
+      SELECT s.id AS stockId, p.id AS productId, p.code AS productCode, p.name AS productName,
+             CASE WHEN prev_sn.snapshot_date IS NOT NULL THEN
+                 prev_sn.amount_in_stock + COALESCE((
+                     SELECT SUM(m.delta) FROM stock_movement m
+                     WHERE m.stock_id = s.id
+                       AND m.movement_date > prev_sn.snapshot_date
+                       AND m.movement_date <= :asOf), 0)
+             ELSE
+                 COALESCE(next_sn.amount_in_stock, s.amount_in_stock) - COALESCE((
+                     SELECT SUM(m.delta) FROM stock_movement m
+                     WHERE m.stock_id = s.id
+                       AND m.movement_date > :asOf
+                       AND (next_sn.snapshot_date IS NULL OR m.movement_date <= next_sn.snapshot_date)), 0)
+             END AS amountInStock
+      FROM stock s
+      INNER JOIN product p ON p.id = s.product_id
+      LEFT JOIN LATERAL (
+          SELECT sn.amount_in_stock, sn.snapshot_date FROM stock_snapshot sn
+          WHERE sn.stock_id = s.id AND sn.snapshot_date <= :asOf
+          ORDER BY sn.snapshot_date DESC LIMIT 1) prev_sn ON true
+      LEFT JOIN LATERAL (
+          SELECT sn.amount_in_stock, sn.snapshot_date FROM stock_snapshot sn
+          WHERE sn.stock_id = s.id AND sn.snapshot_date > :asOf
+          ORDER BY sn.snapshot_date ASC LIMIT 1) next_sn ON prev_sn.snapshot_date IS NULL
+      WHERE s.storehouse_id = :storehouseId AND s.active = true
+      ORDER BY s.id
+      """, nativeQuery = true)
+  List<StockAsOfProjection> findStockAsOf(@Param("storehouseId") Integer storehouseId,
+      @Param("asOf") LocalDateTime asOf);
+
+}
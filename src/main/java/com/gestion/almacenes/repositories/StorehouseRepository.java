@@ -1,14 +1,23 @@
 package com.gestion.almacenes.repositories;
 
 import com.gestion.almacenes.entities.Storehouse;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
-public interface StorehouseRepository extends JpaRepository<Storehouse, Integer> {
+public interface StorehouseRepository extends JpaRepository<Storehouse, Integer>,
+    JpaSpecificationExecutor<Storehouse> {
 
   boolean existsByCodeAndActiveIsTrue(String code);
 
@@ -28,4 +37,17 @@ public interface StorehouseRepository extends JpaRepository<Storehouse, Integer>
    */
   List<Storehouse> findByActiveTrue();
 
+  /**
+   * Devuelve los identificadores que corresponden a almacenes activos
+   * @param ids Identificadores de almacenes
+   * @return Identificadores de los almacenes activos encontrados
+   */
+  @Query("select s.id from Storehouse s where s.id in ?1 and s.active = true")
+  List<Integer> findIdByIdInAndActiveIsTrue(Collection<Integer> ids);
+
+  @EntityGraph(attributePaths = "storehouseType")
+  @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+  Stream<Storehouse> streamAllBy();
+
 }
\ No newline at end of file
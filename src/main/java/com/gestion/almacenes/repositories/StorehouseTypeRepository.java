@@ -1,14 +1,20 @@
 package com.gestion.almacenes.repositories;
 
 import com.gestion.almacenes.entities.StorehouseType;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 
-public interface StorehouseTypeRepository extends JpaRepository<StorehouseType, Integer> {
+public interface StorehouseTypeRepository extends JpaRepository<StorehouseType, Integer>,
+    JpaSpecificationExecutor<StorehouseType> {
 
   boolean existsByCodeAndActiveIsTrue(String code);
 
@@ -20,6 +26,10 @@ public interface StorehouseTypeRepository extends JpaRepository<StorehouseType,
 
   List<StorehouseType> findAllByActiveIsTrue();
 
+  @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+  Stream<StorehouseType> streamAllByActiveIsTrue();
+
   List<StorehouseType> findAll(Specification<StorehouseType> spec);
 
   Page<StorehouseType> findAll(Specification<StorehouseType> spec, Pageable pageable);
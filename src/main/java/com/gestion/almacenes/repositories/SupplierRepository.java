@@ -1,15 +1,21 @@
 package com.gestion.almacenes.repositories;
 
 import com.gestion.almacenes.entities.Supplier;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface SupplierRepository extends JpaRepository<Supplier, Integer>{
+public interface SupplierRepository extends JpaRepository<Supplier, Integer>,
+    JpaSpecificationExecutor<Supplier>{
 
     boolean existsBySupplierCodeAndActiveIsTrue(String code);
 
@@ -21,6 +27,10 @@ public interface SupplierRepository extends JpaRepository<Supplier, Integer>{
 
     List<Supplier> findAllByActiveIsTrue();
 
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    Stream<Supplier> streamAllByActiveIsTrue();
+
     Page<Supplier> findAll(Specification<Supplier> spec, Pageable pageable);
     List<Supplier> findAll(Specification<Supplier> spec);
 
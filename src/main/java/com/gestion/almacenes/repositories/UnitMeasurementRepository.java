@@ -1,15 +1,21 @@
 package com.gestion.almacenes.repositories;
 
 import com.gestion.almacenes.entities.UnitMeasurement;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface UnitMeasurementRepository extends JpaRepository<UnitMeasurement, Integer> {
+public interface UnitMeasurementRepository extends JpaRepository<UnitMeasurement, Integer>,
+    JpaSpecificationExecutor<UnitMeasurement> {
 
   boolean existsByCodeAndActiveIsTrue(String code);
 
@@ -20,6 +26,10 @@ public interface UnitMeasurementRepository extends JpaRepository<UnitMeasurement
 
   List<UnitMeasurement> findAllByActiveIsTrue();
 
+  @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+  Stream<UnitMeasurement> streamAllByActiveIsTrue();
+
   Page<UnitMeasurement> findAll(Specification<UnitMeasurement> spec, Pageable pageable);
 
   List<UnitMeasurement> findAll(Specification<UnitMeasurement> spec);
@@ -0,0 +1,16 @@
+package com.gestion.almacenes.repositories.projections;
+
+/**
+ * Campos del producto que se indexan para el autocompletado
+ */
+public interface ProductSearchProjection {
+
+  Integer getId();
+
+  String getCode();
+
+  String getName();
+
+  String getDescription();
+
+}
@@ -0,0 +1,18 @@
+package com.gestion.almacenes.repositories.projections;
+
+/**
+ * Cantidad en stock de un producto a una fecha dada
+ */
+public interface StockAsOfProjection {
+
+  Integer getStockId();
+
+  Integer getProductId();
+
+  String getProductCode();
+
+  String getProductName();
+
+  Double getAmountInStock();
+
+}
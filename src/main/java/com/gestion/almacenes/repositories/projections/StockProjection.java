@@ -0,0 +1,34 @@
+package com.gestion.almacenes.repositories.projections;
+
+/**
+ * Datos del stock que se muestran en los listados, sin cargar las entidades relacionadas
+ */
+public interface StockProjection {
+
+  Integer getId();
+
+  Integer getStorehouseId();
+
+  String getStorehouseCode();
+
+  String getStorehouseName();
+
+  Integer getProductId();
+
+  String getProductCode();
+
+  String getProductName();
+
+  String getUnitMeasurementCode();
+
+  Double getAmountInStock();
+
+  Double getMinimumStock();
+
+  Double getMaximumStock();
+
+  Boolean getStockAlert();
+
+  Boolean getValidExpirationDate();
+
+}
@@ -0,0 +1,14 @@
+package com.gestion.almacenes.repositories.projections;
+
+/**
+ * Cantidad comprometida por las ordenes de salida en borrador sobre un (almacen, producto)
+ */
+public interface StockReservedProjection {
+
+  Integer getStorehouseId();
+
+  Integer getProductId();
+
+  Double getAmount();
+
+}
@@ -0,0 +1,18 @@
+package com.gestion.almacenes.repositories.projections;
+
+/**
+ * Stock que no alcanza para cubrir la cantidad solicitada por los detalles de una orden
+ */
+public interface StockShortageProjection {
+
+  Integer getStockId();
+
+  String getProductCode();
+
+  String getProductName();
+
+  Double getAmountInStock();
+
+  Double getAmountRequested();
+
+}
@@ -1,15 +1,19 @@
 package com.gestion.almacenes.services;
 
+import com.gestion.almacenes.commons.enums.PageCountEnum;
 import com.gestion.almacenes.commons.util.PagePojo;
 import com.gestion.almacenes.dtos.CatalogProductStorehouseDto;
 import com.gestion.almacenes.entities.CatalogProductStorehouse;
 import java.util.List;
+import java.util.function.Consumer;
 
 
 public interface CatalogProductStorehouseService {
 
   List<CatalogProductStorehouse> getAll();
 
+  void streamAll(Consumer<CatalogProductStorehouse> action);
+
   CatalogProductStorehouse create(CatalogProductStorehouseDto dto);
 
   CatalogProductStorehouse update(Integer id, CatalogProductStorehouseDto dto);
@@ -23,7 +27,7 @@ public interface CatalogProductStorehouseService {
   List<CatalogProductStorehouse> getFiltered();
 
   PagePojo<CatalogProductStorehouse> getByPageAndFilters(Integer page, Integer size,
-      String sortField, String sortOrder);
+      String sortField, String sortOrder, String cursor, PageCountEnum count);
 
   void addAllProductsToStorehouse(Integer storehouseId);
 }
@@ -1,16 +1,20 @@
 package com.gestion.almacenes.services;
 
+import com.gestion.almacenes.commons.enums.PageCountEnum;
 import com.gestion.almacenes.commons.util.PagePojo;
 import com.gestion.almacenes.dtos.ConfigDto;
 import com.gestion.almacenes.entities.Config;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 
 public interface ConfigService {
 
   List<Config> getAll();
 
+  void streamAll(Consumer<Config> action);
+
   Config create(ConfigDto dto);
 
   Config update(Integer id, ConfigDto dto);
@@ -24,6 +28,6 @@ public interface ConfigService {
   List<Config> getFiltered(String code, String name);
 
   PagePojo<Config> getByPageAndFilters(Integer page, Integer size, String sortField,
-      String sortOrder, String code, String name);
+      String sortOrder, String code, String name, String cursor, PageCountEnum count);
 
 }
@@ -0,0 +1,13 @@
+package com.gestion.almacenes.services;
+
+import java.util.function.Supplier;
+import org.springframework.http.ResponseEntity;
+
+
+public interface IdempotentRequestService {
+
+  <T> ResponseEntity<T> execute(String scope, String requestKey, Object request, Class<T> type,
+      Supplier<ResponseEntity<T>> action);
+
+  int purgeExpired();
+}
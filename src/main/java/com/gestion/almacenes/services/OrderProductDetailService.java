@@ -1,27 +1,33 @@
 package com.gestion.almacenes.services;
 
+import com.gestion.almacenes.commons.enums.PageCountEnum;
 import com.gestion.almacenes.commons.util.PagePojo;
 import com.gestion.almacenes.dtos.OrderProductDetailDto;
 import com.gestion.almacenes.entities.OrderProductDetail;
 import java.util.List;
+import java.util.function.Consumer;
 
 
 public interface OrderProductDetailService {
 
   List<OrderProductDetail> getAll();
 
+  void streamAll(Consumer<OrderProductDetail> action);
+
   OrderProductDetail create(OrderProductDetailDto dto);
 
   OrderProductDetail update(Integer id, OrderProductDetailDto dto);
 
   OrderProductDetail getById(Integer id);
 
+  List<OrderProductDetail> getByOrderProductId(Integer orderProductId);
+
   void delete(Integer id);
 
   List<OrderProductDetail> getFiltered(String code, String name);
 
   PagePojo<OrderProductDetail> getByPageAndFilters(Integer page, Integer size, String sortField,
-      String sortOrder, String code, String name);
+      String sortOrder, String code, String name, String cursor, PageCountEnum count);
 
     void createList(List<OrderProductDetailDto> orderProductDetailDtos);
 }
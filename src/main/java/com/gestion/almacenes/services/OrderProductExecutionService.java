@@ -0,0 +1,12 @@
+package com.gestion.almacenes.services;
+
+import com.gestion.almacenes.commons.util.ExecutionJobPojo;
+import com.gestion.almacenes.dtos.OrderProductDto;
+
+
+public interface OrderProductExecutionService {
+
+  ExecutionJobPojo enqueue(OrderProductDto dto);
+
+  ExecutionJobPojo getJob(String jobId);
+}
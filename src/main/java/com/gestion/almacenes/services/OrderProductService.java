@@ -1,15 +1,20 @@
 package com.gestion.almacenes.services;
 
+import com.gestion.almacenes.commons.util.OrderExecutionResultPojo;
+import com.gestion.almacenes.commons.enums.PageCountEnum;
 import com.gestion.almacenes.commons.util.PagePojo;
 import com.gestion.almacenes.dtos.OrderProductDto;
 import com.gestion.almacenes.entities.OrderProduct;
 import java.util.List;
+import java.util.function.Consumer;
 
 
 public interface OrderProductService {
 
   List<OrderProduct> getAll();
 
+  void streamAll(Consumer<OrderProduct> action);
+
   OrderProduct create(OrderProductDto dto);
 
   OrderProduct update(Integer id, OrderProductDto dto);
@@ -23,7 +28,13 @@ public interface OrderProductService {
   List<OrderProduct> getFiltered(String code, String name);
 
   PagePojo<OrderProduct> getByPageAndFilters(Integer page, Integer size, String sortField,
-      String sortOrder, String code, String name);
+      String sortOrder, String code, String name, String cursor, PageCountEnum count);
 
   OrderProduct executeOrderProduct(OrderProductDto dto);
+
+  OrderProduct validateExecuteOrderProduct(Integer orderProductId);
+
+  List<OrderExecutionResultPojo> executeOrderProductList(List<Integer> orderProductIds);
+
+  OrderProduct cancelOrderProduct(Integer id);
 }
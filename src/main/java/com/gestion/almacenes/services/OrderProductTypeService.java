@@ -1,15 +1,19 @@
 package com.gestion.almacenes.services;
 
+import com.gestion.almacenes.commons.enums.PageCountEnum;
 import com.gestion.almacenes.commons.util.PagePojo;
 import com.gestion.almacenes.dtos.OrderProductTypeDto;
 import com.gestion.almacenes.entities.OrderProductType;
 import java.util.List;
+import java.util.function.Consumer;
 
 
 public interface OrderProductTypeService {
 
   List<OrderProductType> getAll();
 
+  void streamAll(Consumer<OrderProductType> action);
+
   OrderProductType create(OrderProductTypeDto dto);
 
   OrderProductType update(Integer id, OrderProductTypeDto dto);
@@ -23,5 +27,5 @@ public interface OrderProductTypeService {
   List<OrderProductType> getFiltered(String code, String name);
 
   PagePojo<OrderProductType> getByPageAndFilters(Integer page, Integer size, String sortField,
-      String sortOrder, String code, String name);
+      String sortOrder, String code, String name, String cursor, PageCountEnum count);
 }
@@ -0,0 +1,13 @@
+package com.gestion.almacenes.services;
+
+import com.gestion.almacenes.commons.enums.PageCountEnum;
+import com.gestion.almacenes.commons.util.PagePojo;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface PaginationService {
+
+  <T> PagePojo<T> getPage(Class<T> type, Specification<T> spec, Pageable pageable,
+      PageCountEnum count, String entityGraph);
+
+}
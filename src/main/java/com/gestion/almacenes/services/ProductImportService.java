@@ -0,0 +1,13 @@
+package com.gestion.almacenes.services;
+
+import com.gestion.almacenes.commons.util.ProductImportResultPojo;
+import com.gestion.almacenes.commons.util.ProductImportSummaryPojo;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+public interface ProductImportService {
+
+  ProductImportSummaryPojo importProducts(InputStream input, boolean ndjson,
+      boolean selectAllStorehouse, Consumer<ProductImportResultPojo> errorConsumer);
+
+}
@@ -1,15 +1,20 @@
 package com.gestion.almacenes.services;
 
+import com.gestion.almacenes.commons.enums.PageCountEnum;
 import com.gestion.almacenes.commons.util.PagePojo;
+import com.gestion.almacenes.commons.util.ProductSuggestionPojo;
 import com.gestion.almacenes.dtos.ProductDto;
 import com.gestion.almacenes.entities.Product;
 import java.util.List;
+import java.util.function.Consumer;
 
 
 public interface ProductService {
 
   List<Product> getAll();
 
+  void streamAll(Consumer<Product> action);
+
   Product create(ProductDto dto);
 
   Product update(Integer id, ProductDto dto);
@@ -22,6 +27,8 @@ public interface ProductService {
 
   List<Product> search(String code, String name);
 
+  List<ProductSuggestionPojo> autocomplete(String query, Integer limit);
+
   PagePojo<Product> pageable(Integer page, Integer size, String sortField, String sortOrder,
-      String code, String name);
+      String code, String name, String cursor, PageCountEnum count);
 }
@@ -0,0 +1,9 @@
+package com.gestion.almacenes.services;
+
+import java.io.InputStream;
+
+public interface ReferenceDataService {
+
+  long load(String dataset, InputStream csv);
+
+}
@@ -0,0 +1,14 @@
+package com.gestion.almacenes.services;
+
+import com.gestion.almacenes.commons.util.ResourceVersionPojo;
+import com.gestion.almacenes.entities.Auditable;
+
+public interface ResourceVersionService {
+
+  ResourceVersionPojo getCollectionVersion(Class<?>... types);
+
+  ResourceVersionPojo getEntityVersion(Auditable entity, Auditable... related);
+
+  void evictCollectionVersion(Class<?> type);
+
+}
@@ -1,14 +1,19 @@
 package com.gestion.almacenes.services;
 
+import com.gestion.almacenes.commons.enums.PageCountEnum;
 import com.gestion.almacenes.commons.util.PagePojo;
 import com.gestion.almacenes.dtos.StockDto;
 import com.gestion.almacenes.entities.Stock;
+import com.gestion.almacenes.repositories.projections.StockProjection;
 import java.util.List;
+import java.util.function.Consumer;
 
 
 public interface StockService {
 
-  List<Stock> getAll();
+  List<StockProjection> getAll();
+
+  void streamAll(Consumer<StockProjection> action);
 
   Stock create(StockDto dto);
 
@@ -20,8 +25,8 @@ public interface StockService {
 
   List<Stock> getFiltered(String code, String name);
 
-  PagePojo<Stock> getByPageAndFilters(Integer page, Integer size, String sortField,
-      String sortOrder, String code, String name);
+  PagePojo<StockProjection> getByPageAndFilters(Integer page, Integer size, String sortField,
+      String sortOrder, String code, String name, String cursor, PageCountEnum count);
 
-  Stock getStockByStorehouseIdAndProductId(Integer storehouseId, Integer productId);
+  StockProjection getStockByStorehouseIdAndProductId(Integer storehouseId, Integer productId);
 }
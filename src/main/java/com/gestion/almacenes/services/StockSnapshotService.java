@@ -0,0 +1,13 @@
+package com.gestion.almacenes.services;
+
+import com.gestion.almacenes.repositories.projections.StockAsOfProjection;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface StockSnapshotService {
+
+  int takeSnapshot();
+
+  List<StockAsOfProjection> getStockAsOf(Integer storehouseId, LocalDateTime asOf);
+
+}
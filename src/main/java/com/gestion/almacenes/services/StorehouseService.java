@@ -1,15 +1,19 @@
 package com.gestion.almacenes.services;
 
+import com.gestion.almacenes.commons.enums.PageCountEnum;
 import com.gestion.almacenes.commons.util.PagePojo;
 import com.gestion.almacenes.dtos.StorehouseDto;
 import com.gestion.almacenes.entities.Storehouse;
 import java.util.List;
+import java.util.function.Consumer;
 
 
 public interface StorehouseService {
 
   List<Storehouse> getAll();
 
+  void streamAll(Consumer<Storehouse> action);
+
   Storehouse create(StorehouseDto dto);
 
   Storehouse update(Integer id, StorehouseDto dto);
@@ -23,7 +27,7 @@ public interface StorehouseService {
   List<Storehouse> search(String code, String name);
 
   PagePojo<Storehouse> pageable(Integer page, Integer size, String sortField, String sortOrder,
-      String code, String name);
+      String code, String name, String cursor, PageCountEnum count);
 
 
 }
@@ -1,9 +1,11 @@
 package com.gestion.almacenes.services;
 
+import com.gestion.almacenes.commons.enums.PageCountEnum;
 import com.gestion.almacenes.commons.util.PagePojo;
 import com.gestion.almacenes.dtos.StorehouseTypeDto;
 import com.gestion.almacenes.entities.StorehouseType;
 import java.util.List;
+import java.util.function.Consumer;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
 
@@ -11,6 +13,8 @@ public interface StorehouseTypeService {
 
   List<StorehouseType> getAll();
 
+  void streamAll(Consumer<StorehouseType> action);
+
   StorehouseType create(StorehouseTypeDto dto);
 
   StorehouseType update(Integer id, StorehouseTypeDto dto);
@@ -24,5 +28,5 @@ public interface StorehouseTypeService {
   List<StorehouseType> getFiltered(String code, String name);
 
   PagePojo<StorehouseType> getByPageAndFilters(Integer page, Integer size, String sortField,
-      String sortOrder, String code, String name);
+      String sortOrder, String code, String name, String cursor, PageCountEnum count);
 }
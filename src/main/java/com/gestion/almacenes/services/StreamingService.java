@@ -0,0 +1,11 @@
+package com.gestion.almacenes.services;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+public interface StreamingService {
+
+  <T> void forEach(Supplier<Stream<T>> source, Consumer<? super T> action);
+
+}
@@ -1,16 +1,20 @@
 package com.gestion.almacenes.services;
 
+import com.gestion.almacenes.commons.enums.PageCountEnum;
 import com.gestion.almacenes.commons.util.PagePojo;
 import com.gestion.almacenes.dtos.SupplierDto;
 import com.gestion.almacenes.entities.Supplier;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 
 public interface SupplierService{
 
     List<Supplier> getAll();
 
+    void streamAll(Consumer<Supplier> action);
+
     Supplier create(SupplierDto dto);
 
     Supplier update(Integer id, SupplierDto dto);
@@ -23,5 +27,7 @@ public interface SupplierService{
 
     List<Supplier> getFiltered(String code, String name);
 
-    PagePojo<Supplier> getByPageAndFilters(Integer page, Integer size, String sortField, String sortOrder, String code, String name);
+    List<Supplier> lookup(String query, Integer limit);
+
+    PagePojo<Supplier> getByPageAndFilters(Integer page, Integer size, String sortField, String sortOrder, String code, String name, String cursor, PageCountEnum count);
 }
@@ -1,15 +1,19 @@
 package com.gestion.almacenes.services;
 
+import com.gestion.almacenes.commons.enums.PageCountEnum;
 import com.gestion.almacenes.commons.util.PagePojo;
 import com.gestion.almacenes.dtos.UnitMeasurementDto;
 import com.gestion.almacenes.entities.UnitMeasurement;
 import java.util.List;
+import java.util.function.Consumer;
 
 
 public interface UnitMeasurementService {
 
   List<UnitMeasurement> getAll();
 
+  void streamAll(Consumer<UnitMeasurement> action);
+
   UnitMeasurement create(UnitMeasurementDto dto);
 
   UnitMeasurement update(Integer id, UnitMeasurementDto dto);
@@ -23,5 +27,5 @@ public interface UnitMeasurementService {
   List<UnitMeasurement> getFiltered(String code, String name);
 
   PagePojo<UnitMeasurement> getByPageAndFilters(Integer page, Integer size, String sortField,
-      String sortOrder, String code, String name);
+      String sortOrder, String code, String name, String cursor, PageCountEnum count);
 }
@@ -1,6 +1,8 @@
 package com.gestion.almacenes.servicesImpls;
 
+import com.gestion.almacenes.commons.enums.PageCountEnum;
 import com.gestion.almacenes.commons.util.GenericMapper;
+import com.gestion.almacenes.commons.util.KeysetPagination;
 import com.gestion.almacenes.commons.util.PagePojo;
 import com.gestion.almacenes.dtos.CatalogProductStorehouseDto;
 import com.gestion.almacenes.entities.CatalogProductStorehouse;
@@ -11,6 +13,8 @@ import com.gestion.almacenes.repositories.ProductRepository;
 import com.gestion.almacenes.repositories.StorehouseProductRepository;
 import com.gestion.almacenes.repositories.StorehouseRepository;
 import com.gestion.almacenes.services.CatalogProductStorehouseService;
+import com.gestion.almacenes.services.PaginationService;
+import com.gestion.almacenes.services.StreamingService;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -19,6 +23,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import static com.gestion.almacenes.servicesImpls.ExceptionsCustom.errorDuplicate;
 import static com.gestion.almacenes.servicesImpls.ExceptionsCustom.errorEntityNotFound;
@@ -29,6 +34,8 @@ public class CatalogProductStorehouseServiceImpl implements
         CatalogProductStorehouseService {
 
     private final CatalogProductStorehouseRepository catalogProductStorehouseRepository;
+    private final PaginationService paginationService;
+    private final StreamingService streamingService;
     private final GenericMapper<CatalogProductStorehouse, CatalogProductStorehouseDto> catalogProductStorehouseMMapper = new GenericMapper<>(
             CatalogProductStorehouse.class);
     private final StorehouseRepository storehouseRepository;
@@ -40,6 +47,11 @@ public class CatalogProductStorehouseServiceImpl implements
         return catalogProductStorehouseRepository.findAllByActiveIsTrue();
     }
 
+    @Override
+    public void streamAll(Consumer<CatalogProductStorehouse> action) {
+        streamingService.forEach(catalogProductStorehouseRepository::streamAllByActiveIsTrue, action);
+    }
+
     @Override
     public CatalogProductStorehouse create(CatalogProductStorehouseDto dto) {
 
@@ -92,11 +104,20 @@ public class CatalogProductStorehouseServiceImpl implements
     }
 
     @Override
-    public PagePojo<CatalogProductStorehouse> getByPageAndFilters(Integer pageNumber, Integer pageSize, String sortField, String sortOrder) {
+    public PagePojo<CatalogProductStorehouse> getByPageAndFilters(Integer pageNumber, Integer pageSize, String sortField, String sortOrder, String cursor, PageCountEnum count) {
+
+        if (cursor != null) {
+            return KeysetPagination.page(catalogProductStorehouseRepository, CatalogProductStorehouse.class, null, pageSize, sortField, sortOrder, cursor);
+        }
 
         Sort sort = Sort.by(Sort.Direction.fromString(sortOrder), sortField);
         Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
 
+        if (count != PageCountEnum.EXACT) {
+            return paginationService.getPage(CatalogProductStorehouse.class, null, pageable, count,
+            null);
+        }
+
         Page<CatalogProductStorehouse> catalogProductStorehousePage = catalogProductStorehouseRepository.findAll(pageable);
 
         return catalogProductStorehouseMMapper.fromEntity(catalogProductStorehousePage);
@@ -1,21 +1,29 @@
 package com.gestion.almacenes.servicesImpls;
 
 import com.gestion.almacenes.commons.config.CacheConfig;
+import com.gestion.almacenes.commons.enums.PageCountEnum;
+import com.gestion.almacenes.commons.util.KeysetPagination;
 import com.gestion.almacenes.commons.util.PagePojo;
 import com.gestion.almacenes.dtos.ConfigDto;
 import com.gestion.almacenes.entities.Config;
 import com.gestion.almacenes.mappers.ConfigMapper;
 import com.gestion.almacenes.repositories.ConfigRepository;
 import com.gestion.almacenes.services.ConfigService;
+import com.gestion.almacenes.services.PaginationService;
+import com.gestion.almacenes.services.StreamingService;
 import java.util.List;
+import java.util.function.Consumer;
 import lombok.AllArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import static com.gestion.almacenes.commons.util.SpecificationFilter.active;
+import static com.gestion.almacenes.commons.util.SpecificationFilter.codeAndName;
 import static com.gestion.almacenes.servicesImpls.ExceptionsCustom.*;
 
 @Service
@@ -24,6 +32,8 @@ public class ConfigServiceImpl implements
     ConfigService {
 
   private final ConfigRepository configRepository;
+  private final PaginationService paginationService;
+  private final StreamingService streamingService;
   private final ConfigMapper configMapper;
 
   @Override
@@ -31,6 +41,11 @@ public class ConfigServiceImpl implements
     return configRepository.findAllByActiveIsTrue();
   }
 
+  @Override
+  public void streamAll(Consumer<Config> action) {
+    streamingService.forEach(configRepository::streamAllByActiveIsTrue, action);
+  }
+
   @Override
   public Config create(ConfigDto configdto) {
 
@@ -81,17 +96,29 @@ public class ConfigServiceImpl implements
 
   @Override
   public List<Config> getFiltered(String code, String name) {
-    return configRepository.findAll();
+    return configRepository.findAll(active(codeAndName("code", code, "value", name)));
   }
 
   @Override
   public PagePojo<Config> getByPageAndFilters(Integer pageNumber, Integer pageSize,
-      String sortField, String sortOrder, String code, String name) {
+      String sortField, String sortOrder, String code, String name, String cursor,
+      PageCountEnum count) {
+
+    Specification<Config> spec = codeAndName("code", code, "value", name);
+
+    if (cursor != null) {
+      return KeysetPagination.page(configRepository, Config.class, spec, pageSize, sortField,
+          sortOrder, cursor);
+    }
 
     Sort sort = Sort.by(Sort.Direction.fromString(sortOrder), sortField);
     Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
 
-    Page<Config> configPage = configRepository.findAll(pageable);
+    if (count != PageCountEnum.EXACT) {
+      return paginationService.getPage(Config.class, spec, pageable, count, null);
+    }
+
+    Page<Config> configPage = configRepository.findAll(spec, pageable);
 
     return configMapper.fromEntity(configPage);
   }
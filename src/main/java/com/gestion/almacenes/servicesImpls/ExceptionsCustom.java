@@ -3,12 +3,16 @@ package com.gestion.almacenes.servicesImpls;
 import com.gestion.almacenes.commons.exception.AlreadyDeletedException;
 import com.gestion.almacenes.commons.exception.DuplicateException;
 import com.gestion.almacenes.commons.exception.EntityNotFound;
+import com.gestion.almacenes.commons.exception.ErrorListException;
+import com.gestion.almacenes.commons.exception.IdempotencyKeyMismatchException;
 import com.gestion.almacenes.commons.exception.ValidationErrorException;
+import com.gestion.almacenes.commons.exception.response.FieldErrorModel;
 import com.gestion.almacenes.entities.StorehouseType;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
 import org.springframework.core.MethodParameter;
@@ -25,6 +29,11 @@ public class ExceptionsCustom {
   }
 
 
+  public static void errorList(List<FieldErrorModel> errorList) {
+    throw new ErrorListException(errorList);
+  }
+
+
   public static void errorEntityNotFoundInLine(Class<?> data,
       Integer id) {
     throw new EntityNotFound(data.getSimpleName(), id);
@@ -44,6 +53,10 @@ public class ExceptionsCustom {
     throw new DuplicateException(data.getSimpleName(), nameAttribute, value);
   }
 
+  public static void errorIdempotencyKeyMismatch(String requestKey) {
+    throw new IdempotencyKeyMismatchException(requestKey);
+  }
+
   public static void errorAlreadyDeleted(Class<?> data, Integer id) {
     throw new AlreadyDeletedException(data.getSimpleName(), id);
   }
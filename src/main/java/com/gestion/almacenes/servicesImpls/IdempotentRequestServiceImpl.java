@@ -0,0 +1,212 @@
+package com.gestion.almacenes.servicesImpls;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gestion.almacenes.commons.concurrency.RetryOnConflictExecutor;
+import com.gestion.almacenes.commons.config.CacheConfig;
+import com.gestion.almacenes.entities.IdempotentRequest;
+import com.gestion.almacenes.repositories.IdempotentRequestRepository;
+import com.gestion.almacenes.services.IdempotentRequestService;
+import jakarta.transaction.Transactional;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static com.gestion.almacenes.servicesImpls.ExceptionsCustom.errorDuplicate;
+import static com.gestion.almacenes.servicesImpls.ExceptionsCustom.errorIdempotencyKeyMismatch;
+
+/**
+ * Evita que una solicitud repetida (reintento del cliente) se procese dos veces. La llave se
+ * reserva, se ejecuta la operacion y se guarda la respuesta en una sola transaccion; las
+ * siguientes solicitudes devuelven la respuesta guardada, primero desde la cache y si no desde la
+ * tabla.
+ * <p>
+ * Si la aplicacion se detiene antes de confirmar, la reserva se deshace junto con la operacion y
+ * el reintento la ejecuta de nuevo. Una solicitud con la misma llave que llega mientras la
+ * original se procesa espera a que termine (indice unico sobre la llave) y devuelve su respuesta.
+ * <p>
+ * La llave queda ligada al contenido de la solicitud original (hash del alcance y del cuerpo o
+ * identificadores): si se reutiliza con otra solicitud se rechaza. Las llaves se eliminan de la
+ * tabla al vencer, igual que en la cache.
+ */
+@Service
+public class IdempotentRequestServiceImpl implements
+    IdempotentRequestService {
+
+  private final IdempotentRequestRepository idempotentRequestRepository;
+  private final ObjectMapper objectMapper;
+  private final Cache idempotentRequestCache;
+  private final TransactionTemplate transactionTemplate;
+  private final RetryOnConflictExecutor retryOnConflictExecutor;
+
+  @Value("${cache.idempotent-request.ttl:24}")
+  private long retentionHours;
+
+  public IdempotentRequestServiceImpl(IdempotentRequestRepository idempotentRequestRepository,
+      ObjectMapper objectMapper, CacheManager cacheManager,
+      TransactionTemplate transactionTemplate, RetryOnConflictExecutor retryOnConflictExecutor) {
+    this.idempotentRequestRepository = idempotentRequestRepository;
+    this.objectMapper = objectMapper;
+    this.idempotentRequestCache = cacheManager.getCache(CacheConfig.IDEMPOTENT_REQUEST_CACHE);
+    this.transactionTemplate = transactionTemplate;
+    this.retryOnConflictExecutor = retryOnConflictExecutor;
+  }
+
+  /**
+   * @param request Contenido que identifica la solicitud (cuerpo, identificadores de la ruta), se
+   *                compara con el de la solicitud que uso la llave por primera vez
+   */
+  @Override
+  public <T> ResponseEntity<T> execute(String scope, String requestKey, Object request,
+      Class<T> type, Supplier<ResponseEntity<T>> action) {
+
+    if (requestKey == null || requestKey.isBlank()) {
+      return action.get();
+    }
+
+    String requestHash = this.hash(scope, request);
+    String cacheKey = scope + ":" + requestKey;
+    IdempotentRequest idempotentRequest = idempotentRequestCache.get(cacheKey,
+        IdempotentRequest.class);
+    if (idempotentRequest != null) {
+      return this.replay(idempotentRequest, requestHash, cacheKey, type);
+    }
+
+    try {
+      // Los conflictos de la operacion se reintentan aqui, con la reserva en la misma transaccion
+      return retryOnConflictExecutor.execute(scope, () -> transactionTemplate.execute(
+          status -> this.executeInTransaction(scope, requestKey, requestHash, cacheKey, type,
+              action)));
+    } catch (DataIntegrityViolationException exception) {
+      // Otra solicitud con la misma llave se confirmo primero: se devuelve su respuesta
+      idempotentRequest = idempotentRequestRepository.findByScopeAndRequestKey(scope, requestKey)
+          .orElseThrow(() -> exception);
+      return this.replay(idempotentRequest, requestHash, cacheKey, type);
+    }
+  }
+
+  private <T> ResponseEntity<T> executeInTransaction(String scope, String requestKey,
+      String requestHash, String cacheKey, Class<T> type, Supplier<ResponseEntity<T>> action) {
+
+    IdempotentRequest idempotentRequest = idempotentRequestRepository.findByScopeAndRequestKey(
+        scope, requestKey).orElse(null);
+    if (idempotentRequest != null) {
+      return this.replay(idempotentRequest, requestHash, cacheKey, type);
+    }
+
+    IdempotentRequest reserved = this.reserve(scope, requestKey, requestHash);
+    ResponseEntity<T> response = action.get();
+
+    reserved.setResponseStatus(response.getStatusCode().value());
+    reserved.setResponseBody(response.hasBody() ? this.toJson(response.getBody()) : null);
+    IdempotentRequest saved = idempotentRequestRepository.save(reserved);
+    afterCommit(() -> idempotentRequestCache.put(cacheKey, saved));
+
+    return response;
+  }
+
+  /**
+   * Elimina las llaves registradas antes del tiempo de retencion (el mismo de la cache)
+   * @return Cantidad de llaves eliminadas
+   */
+  @Override
+  @Transactional
+  @Scheduled(cron = "${idempotent-request.purge.cron:0 15 * * * *}")
+  public int purgeExpired() {
+    return idempotentRequestRepository.deleteByRegisterDateBefore(
+        LocalDateTime.now().minusHours(retentionHours));
+  }
+
+  /**
+   * La llave es unica: si otra solicitud la reservo y aun no confirma, la insercion espera a que
+   * termine y falla si se confirmo
+   */
+  private IdempotentRequest reserve(String scope, String requestKey, String requestHash) {
+    IdempotentRequest idempotentRequest = new IdempotentRequest();
+    idempotentRequest.setScope(scope);
+    idempotentRequest.setRequestKey(requestKey);
+    idempotentRequest.setRequestHash(requestHash);
+    idempotentRequest.setRegisterDate(LocalDateTime.now());
+    return idempotentRequestRepository.saveAndFlush(idempotentRequest);
+  }
+
+  /**
+   * Devuelve la respuesta guardada para la llave, si la solicitud es la misma que la original
+   */
+  private <T> ResponseEntity<T> replay(IdempotentRequest idempotentRequest, String requestHash,
+      String cacheKey, Class<T> type) {
+    if (idempotentRequest.getRequestHash() != null
+        && !idempotentRequest.getRequestHash().equals(requestHash)) {
+      errorIdempotencyKeyMismatch(idempotentRequest.getRequestKey());
+    }
+    // Reserva sin respuesta, registrada antes de guardar ambas en la misma transaccion
+    if (idempotentRequest.getResponseStatus() == null) {
+      errorDuplicate(IdempotentRequest.class, "Idempotency-Key",
+          idempotentRequest.getRequestKey());
+    }
+    idempotentRequestCache.put(cacheKey, idempotentRequest);
+    return this.toResponse(idempotentRequest, type);
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  /**
+   * SHA-256 del alcance y del contenido de la solicitud serializado en JSON
+   */
+  private String hash(String scope, Object request) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(scope.getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+      digest.update(objectMapper.writeValueAsBytes(request));
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (JsonProcessingException | NoSuchAlgorithmException exception) {
+      throw new IllegalStateException("No se pudo calcular el hash de la solicitud", exception);
+    }
+  }
+
+  private <T> ResponseEntity<T> toResponse(IdempotentRequest idempotentRequest, Class<T> type) {
+    if (idempotentRequest.getResponseBody() == null) {
+      return ResponseEntity.status(idempotentRequest.getResponseStatus()).build();
+    }
+    try {
+      return ResponseEntity.status(idempotentRequest.getResponseStatus())
+          .body(objectMapper.readValue(idempotentRequest.getResponseBody(), type));
+    } catch (JsonProcessingException exception) {
+      throw new IllegalStateException("No se pudo leer la respuesta guardada", exception);
+    }
+  }
+
+  private String toJson(Object body) {
+    try {
+      return objectMapper.writeValueAsString(body);
+    } catch (JsonProcessingException exception) {
+      throw new IllegalStateException("No se pudo guardar la respuesta", exception);
+    }
+  }
+
+}
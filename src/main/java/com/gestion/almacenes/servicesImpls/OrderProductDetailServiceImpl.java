@@ -1,9 +1,13 @@
 package com.gestion.almacenes.servicesImpls;
 
+import com.gestion.almacenes.commons.concurrency.StockReservationManager;
 import com.gestion.almacenes.commons.enums.PackingCodeEnum;
+import com.gestion.almacenes.commons.enums.PageCountEnum;
 import com.gestion.almacenes.commons.enums.StatusFlowEnum;
 import com.gestion.almacenes.commons.exception.ValidationErrorException;
+import com.gestion.almacenes.commons.exception.response.FieldErrorModel;
 import com.gestion.almacenes.commons.util.GenericMapper;
+import com.gestion.almacenes.commons.util.KeysetPagination;
 import com.gestion.almacenes.commons.util.PagePojo;
 import com.gestion.almacenes.dtos.OrderProductDetailDto;
 import com.gestion.almacenes.entities.OrderProduct;
@@ -12,21 +16,32 @@ import com.gestion.almacenes.entities.Product;
 import com.gestion.almacenes.entities.Stock;
 import com.gestion.almacenes.repositories.*;
 import com.gestion.almacenes.services.OrderProductDetailService;
+import com.gestion.almacenes.services.PaginationService;
+import com.gestion.almacenes.services.StreamingService;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import static com.gestion.almacenes.commons.util.SpecificationFilter.active;
+import static com.gestion.almacenes.commons.util.SpecificationFilter.codeAndName;
 import static com.gestion.almacenes.servicesImpls.ExceptionsCustom.errorEntityNotFound;
+import static com.gestion.almacenes.servicesImpls.ExceptionsCustom.errorList;
 import static com.gestion.almacenes.servicesImpls.ExceptionsCustom.errorProcess;
 
 @Service
@@ -36,9 +51,12 @@ public class OrderProductDetailServiceImpl implements
     OrderProductDetailService {
 
   private final OrderProductDetailRepository orderProductDetailRepository;
+  private final PaginationService paginationService;
+  private final StreamingService streamingService;
   private final OrderProductRepository orderProductRepository;
   private final StockRepository stockRepository;
   private final ProductRepository productRepository;
+  private final StockReservationManager stockReservationManager;
   private final GenericMapper<OrderProductDetail, OrderProductDetailDto> genericMapper = new GenericMapper<>(
       OrderProductDetail.class);
 
@@ -47,6 +65,12 @@ public class OrderProductDetailServiceImpl implements
     return orderProductDetailRepository.findAllByActiveIsTrue();
   }
 
+  @Override
+  @Transactional(Transactional.TxType.SUPPORTS)
+  public void streamAll(Consumer<OrderProductDetail> action) {
+    streamingService.forEach(orderProductDetailRepository::streamAllByActiveIsTrue, action);
+  }
+
   @Override
   public OrderProductDetail create(OrderProductDetailDto orderProductDetaildto) {
 
@@ -67,11 +91,17 @@ public class OrderProductDetailServiceImpl implements
       //throw new ValidationErrorException("Ya fue registrado en la orden el Item ("+product.getName()+")");
     }
 
+    Stock stock = this.findStockByStorehouseIdAndProductId(orderProduct.getStorehouse().getId(),
+        orderProductDetaildto.getProductId());
+
+    // Las ordenes de salida en borrador reservan la cantidad sobre el disponible del stock
+    if (stockReservationManager.isReserving(orderProduct)) {
+      this.reserveStock(orderProduct, stock, orderProductDetaildto.getAmount());
+    }
+
     // Creamos la entidad con los datos de stock (producto y almacen), cantidad ingresada y cabecera
     OrderProductDetail orderProductDetail = OrderProductDetail.builder()
-            .stock(
-            this.findStockByStorehouseIdAndProductId(orderProduct.getStorehouse().getId(),
-                orderProductDetaildto.getProductId()))
+            .stock(stock)
             .amount(orderProductDetaildto.getAmount())
             .orderProduct(orderProduct)
             .codeProduct(orderProductDetaildto.getCodeProduct())
@@ -85,11 +115,86 @@ public class OrderProductDetailServiceImpl implements
     return orderProductDetailNew;
   }
 
+  /**
+   * Registra varios detalles a la vez: una consulta para las ordenes, una consulta por almacen para
+   * los stocks y las inserciones por lotes. Si alguna linea tiene errores no se registra ninguna y
+   * se devuelven los errores de todas las lineas.
+   *
+   * @param orderProductDetailDtos Detalles a registrar
+   */
   @Override
   public void createList(List<OrderProductDetailDto> orderProductDetailDtos) {
-    for (OrderProductDetailDto orderProductDetailDto: orderProductDetailDtos){
-      create(orderProductDetailDto);
+
+    Map<Integer, OrderProduct> orderProducts = orderProductRepository.findAllById(
+            orderProductDetailDtos.stream().map(OrderProductDetailDto::getOrderProductId)
+                .filter(Objects::nonNull).collect(Collectors.toSet())
+        ).stream().filter(OrderProduct::getActive)
+        .collect(Collectors.toMap(OrderProduct::getId, Function.identity()));
+
+    // Stocks de todos los productos solicitados, agrupados por almacen
+    Map<Integer, Map<Integer, Stock>> stocksByStorehouse = new HashMap<>();
+    orderProductDetailDtos.stream()
+        .filter(dto -> orderProducts.containsKey(dto.getOrderProductId()))
+        .collect(Collectors.groupingBy(
+            dto -> orderProducts.get(dto.getOrderProductId()).getStorehouse().getId(),
+            Collectors.mapping(OrderProductDetailDto::getProductId, Collectors.toSet())))
+        .forEach((storehouseId, productIds) -> stocksByStorehouse.put(storehouseId,
+            stockRepository.findWithProductByStorehouseIdAndProductIdIn(storehouseId, productIds)
+                .stream().collect(Collectors.toMap(stock -> stock.getProduct().getId(),
+                    Function.identity()))));
+
+    List<FieldErrorModel> errors = new ArrayList<>();
+    List<OrderProductDetail> orderProductDetails = new ArrayList<>();
+
+    for (int i = 0; i < orderProductDetailDtos.size(); i++) {
+      OrderProductDetailDto dto = orderProductDetailDtos.get(i);
+
+      OrderProduct orderProduct = orderProducts.get(dto.getOrderProductId());
+      if (orderProduct == null) {
+        errors.add(new FieldErrorModel("[" + i + "].orderProductId",
+            errorEntityNotFound(OrderProduct.class, dto.getOrderProductId()).get().getMessage(),
+            "notFound"));
+        continue;
+      }
+      if (this.isClosed(orderProduct)) {
+        errors.add(new FieldErrorModel("[" + i + "].orderProductId",
+            this.closedOrderMessage(orderProduct), "invalidStatus"));
+        continue;
+      }
+
+      Stock stock = stocksByStorehouse.getOrDefault(orderProduct.getStorehouse().getId(), Map.of())
+          .get(dto.getProductId());
+      if (stock == null) {
+        errors.add(new FieldErrorModel("[" + i + "].productId",
+            errorEntityNotFound(Stock.class, orderProduct.getStorehouse().getId()).get()
+                .getMessage(),
+            "notFound"));
+        continue;
+      }
+
+      if (stockReservationManager.isReserving(orderProduct)
+          && !stockReservationManager.tryReserve(stock, dto.getAmount())) {
+        errors.add(new FieldErrorModel("[" + i + "].amount",
+            this.unavailableStockMessage(orderProduct, stock, dto.getAmount()),
+            "insufficientStock"));
+        continue;
+      }
+
+      orderProductDetails.add(OrderProductDetail.builder()
+          .stock(stock)
+          .amount(dto.getAmount())
+          .orderProduct(orderProduct)
+          .codeProduct(dto.getCodeProduct())
+          .expirationDateProduct(dto.getExpirationDateProduct())
+          .build());
     }
+
+    // Las reservas tomadas se deshacen con la transaccion
+    if (!errors.isEmpty()) {
+      errorList(errors);
+    }
+
+    orderProductDetailRepository.saveAll(orderProductDetails);
   }
 
   @Override
@@ -101,11 +206,29 @@ public class OrderProductDetailServiceImpl implements
     this.checkIfOrderIsFinalized(orderProduct);
 
     OrderProductDetail orderProductDetailFound = this.findOrderProductDetailById(id);
+    // El detalle tampoco puede salir de una orden cerrada
+    this.checkIfOrderIsFinalized(orderProductDetailFound.getOrderProduct());
+
+    Stock stock = this.findStockByStorehouseIdAndProductId(orderProduct.getStorehouse().getId(),
+        orderProductDetailDto.getProductId());
+
+    // Se mueve la reserva del stock y de la orden anteriores a los nuevos. Con el mismo stock solo
+    // cambia algo si una de las dos ordenes reserva y la otra no
+    boolean wasReserving = stockReservationManager.isReserving(
+        orderProductDetailFound.getOrderProduct());
+    boolean isReserving = stockReservationManager.isReserving(orderProduct);
+    if (!Objects.equals(stock.getId(), orderProductDetailFound.getStock().getId())
+        || wasReserving != isReserving) {
+      if (isReserving) {
+        this.reserveStock(orderProduct, stock, orderProductDetailFound.getAmount());
+      }
+      if (wasReserving) {
+        stockReservationManager.release(orderProductDetailFound.getStock(),
+            orderProductDetailFound.getAmount());
+      }
+    }
 
-    orderProductDetailFound.setStock(
-        this.findStockByStorehouseIdAndProductId(orderProduct.getStorehouse().getId(),
-            orderProductDetailDto.getProductId())
-    );
+    orderProductDetailFound.setStock(stock);
     orderProductDetailFound.setOrderProduct(orderProduct);
 
 
@@ -116,7 +239,11 @@ public class OrderProductDetailServiceImpl implements
   @Override
   public void delete(Integer id) {
     OrderProductDetail orderProductDetail = this.findOrderProductDetailById(id);
+    this.checkIfOrderIsFinalized(orderProductDetail.getOrderProduct());
     orderProductDetailRepository.delete(orderProductDetail);
+    if (stockReservationManager.isReserving(orderProductDetail.getOrderProduct())) {
+      stockReservationManager.release(orderProductDetail.getStock(), orderProductDetail.getAmount());
+    }
 
   }
 
@@ -125,20 +252,41 @@ public class OrderProductDetailServiceImpl implements
     return this.findOrderProductDetailById(id);
   }
 
+  @Override
+  public List<OrderProductDetail> getByOrderProductId(Integer orderProductId) {
+    return orderProductDetailRepository.findByOrderProduct_IdAndActiveTrue(
+        this.findOrderProductById(orderProductId).getId());
+  }
+
   @Override
   public List<OrderProductDetail> getFiltered(String code, String name) {
-    return orderProductDetailRepository.findAll();
+    return orderProductDetailRepository.findAll(
+        active(codeAndName("codeProduct", code, "stock.product.name", name)));
   }
 
   @Override
   public PagePojo<OrderProductDetail> getByPageAndFilters(Integer pageNumber, Integer pageSize,
-      String sortField, String sortOrder, String code, String name) {
+      String sortField, String sortOrder, String code, String name, String cursor,
+      PageCountEnum count) {
+
+    Specification<OrderProductDetail> spec = codeAndName("codeProduct", code, "stock.product.name", name);
+
+    if (cursor != null) {
+      return KeysetPagination.page(orderProductDetailRepository, OrderProductDetail.class, spec,
+          pageSize, sortField, sortOrder, cursor, "orderProduct.storehouse",
+          "orderProduct.orderProductType", "orderProduct.supplier", "stock.storehouse",
+          "stock.product.unitMeasurement");
+    }
 
     Sort sort = Sort.by(Sort.Direction.fromString(sortOrder), sortField);
     Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
 
-    Page<OrderProductDetail> orderProductDetailPage = orderProductDetailRepository.findAll(
-        pageable);
+    if (count != PageCountEnum.EXACT) {
+      return paginationService.getPage(OrderProductDetail.class, spec, pageable, count,
+          "OrderProductDetail.withOrderAndStock");
+    }
+
+    Page<OrderProductDetail> orderProductDetailPage = orderProductDetailRepository.findAll(spec, pageable);
 
     return genericMapper.fromEntity(orderProductDetailPage);
   }
@@ -165,15 +313,39 @@ public class OrderProductDetailServiceImpl implements
   }
 
   private void checkIfOrderIsFinalized(OrderProduct orderProduct) {
-    if (Objects.equals(orderProduct.getStatus(), StatusFlowEnum.FINALIZADO.name())) {
-      throw new ValidationErrorException(
-          String.format(
-              "Actualmente el estado de la orden esta en estado (%s) y no puede realizar esta operación",
-              StatusFlowEnum.FINALIZADO.name())
-      );
+    if (this.isClosed(orderProduct)) {
+      throw new ValidationErrorException(this.closedOrderMessage(orderProduct));
     }
   }
 
+  private boolean isClosed(OrderProduct orderProduct) {
+    return Objects.equals(orderProduct.getStatus(), StatusFlowEnum.FINALIZADO.name())
+        || Objects.equals(orderProduct.getStatus(), StatusFlowEnum.ANULADO.name());
+  }
+
+  private String closedOrderMessage(OrderProduct orderProduct) {
+    return String.format(
+        "Actualmente el estado de la orden esta en estado (%s) y no puede realizar esta operación",
+        orderProduct.getStatus());
+  }
+
+  /**
+   * Reserva la cantidad sobre el disponible para comprometer del stock, sin consultar las demas
+   * ordenes en borrador
+   */
+  private void reserveStock(OrderProduct orderProduct, Stock stock, Double amount) {
+    if (!stockReservationManager.tryReserve(stock, amount)) {
+      throw new ValidationErrorException(this.unavailableStockMessage(orderProduct, stock, amount));
+    }
+  }
+
+  private String unavailableStockMessage(OrderProduct orderProduct, Stock stock, Double amount) {
+    return String.format(
+        "El almacen (%s) no tiene disponible la cantidad de (Cant. %s) del Item (%s). Disponible para comprometer (%s)",
+        orderProduct.getStorehouse().getName(), amount, stock.getProduct().getName(),
+        stockReservationManager.getAvailableToPromise(stock));
+  }
+
   private Product findProductById(Integer productId) {
 
     return productRepository.findByIdAndActiveIsTrue(productId).orElseThrow(
@@ -0,0 +1,117 @@
+package com.gestion.almacenes.servicesImpls;
+
+import com.gestion.almacenes.commons.config.AsyncConfig;
+import com.gestion.almacenes.commons.config.CacheConfig;
+import com.gestion.almacenes.commons.enums.ExecutionJobStatusEnum;
+import com.gestion.almacenes.commons.exception.ErrorListException;
+import com.gestion.almacenes.commons.util.ExecutionJobPojo;
+import com.gestion.almacenes.dtos.OrderProductDto;
+import com.gestion.almacenes.entities.OrderProduct;
+import com.gestion.almacenes.services.OrderProductExecutionService;
+import com.gestion.almacenes.services.OrderProductService;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import static com.gestion.almacenes.servicesImpls.ExceptionsCustom.errorDuplicate;
+import static com.gestion.almacenes.servicesImpls.ExceptionsCustom.errorEntityNotFound;
+
+/**
+ * Cola de ejecucion de ordenes en segundo plano. Las ordenes de un mismo almacen se ejecutan en el
+ * orden en que llegaron, las de almacenes distintos se reparten entre los hilos disponibles.
+ * <p>
+ * Los procesos pendientes se guardan en memoria sin limite hasta terminar y recien entonces pasan a
+ * la cache, donde se consultan hasta que vencen. La cola no se persiste: si la aplicacion se
+ * reinicia los procesos pendientes se pierden y las ordenes quedan sin ejecutar.
+ */
+@Service
+public class OrderProductExecutionServiceImpl implements
+    OrderProductExecutionService {
+
+  private final OrderProductService orderProductService;
+  private final Executor executor;
+  private final Cache jobCache;
+  private final Map<Integer, CompletableFuture<Void>> storehouseQueues = new ConcurrentHashMap<>();
+  private final Map<String, ExecutionJobPojo> pendingJobs = new ConcurrentHashMap<>();
+  private final Map<Integer, String> pendingOrders = new ConcurrentHashMap<>();
+
+  public OrderProductExecutionServiceImpl(OrderProductService orderProductService,
+      @Qualifier(AsyncConfig.ORDER_EXECUTION_EXECUTOR) Executor executor,
+      CacheManager cacheManager) {
+    this.orderProductService = orderProductService;
+    this.executor = executor;
+    this.jobCache = cacheManager.getCache(CacheConfig.EXECUTION_JOB_CACHE);
+  }
+
+  @Override
+  public ExecutionJobPojo enqueue(OrderProductDto dto) {
+
+    // Mismas validaciones que la ejecucion directa, para no encolar ordenes que fallarian
+    OrderProduct orderProduct = orderProductService.validateExecuteOrderProduct(
+        dto.getOrderProductId());
+
+    ExecutionJobPojo job = new ExecutionJobPojo();
+    job.setJobId(UUID.randomUUID().toString());
+    job.setOrderProductId(orderProduct.getId());
+    job.setStorehouseId(orderProduct.getStorehouse().getId());
+    job.setStatus(ExecutionJobStatusEnum.QUEUED.name());
+    job.setQueuedDate(LocalDateTime.now());
+
+    String pendingJobId = pendingOrders.putIfAbsent(orderProduct.getId(), job.getJobId());
+    if (pendingJobId != null) {
+      errorDuplicate(ExecutionJobPojo.class, "orderProductId", orderProduct.getId().toString());
+    }
+    pendingJobs.put(job.getJobId(), job);
+
+    // Se encadena detras de la ultima ejecucion pendiente del mismo almacen
+    Integer storehouseId = job.getStorehouseId();
+    CompletableFuture<Void> queued = storehouseQueues.compute(storehouseId,
+        (key, tail) -> (tail == null ? CompletableFuture.<Void>completedFuture(null) : tail)
+            .handleAsync((result, error) -> {
+              this.run(job, dto);
+              return null;
+            }, executor)
+    );
+    queued.whenComplete((result, error) -> storehouseQueues.remove(storehouseId, queued));
+
+    return job;
+  }
+
+  @Override
+  public ExecutionJobPojo getJob(String jobId) {
+    return Optional.ofNullable(pendingJobs.get(jobId))
+        .or(() -> Optional.ofNullable(jobCache.get(jobId, ExecutionJobPojo.class))).orElseThrow(
+        errorEntityNotFound(ExecutionJobPojo.class, "jobId", jobId)
+    );
+  }
+
+  private void run(ExecutionJobPojo job, OrderProductDto dto) {
+    job.setStartedDate(LocalDateTime.now());
+    job.setStatus(ExecutionJobStatusEnum.RUNNING.name());
+    try {
+      orderProductService.executeOrderProduct(dto);
+      job.setStatus(ExecutionJobStatusEnum.DONE.name());
+    } catch (ErrorListException exception) {
+      job.setErrors(exception.getErrorList());
+      job.setMessage("La orden tiene items que no pueden ejecutarse.");
+      job.setStatus(ExecutionJobStatusEnum.FAILED.name());
+    } catch (RuntimeException exception) {
+      job.setMessage(exception.getMessage());
+      job.setStatus(ExecutionJobStatusEnum.FAILED.name());
+    } finally {
+      job.setFinishedDate(LocalDateTime.now());
+      jobCache.put(job.getJobId(), job);
+      pendingJobs.remove(job.getJobId());
+      pendingOrders.remove(job.getOrderProductId(), job.getJobId());
+    }
+  }
+
+}
@@ -1,26 +1,52 @@
 package com.gestion.almacenes.servicesImpls;
 
+import com.gestion.almacenes.commons.concurrency.RetryOnConflictExecutor;
+import com.gestion.almacenes.commons.concurrency.StockKey;
+import com.gestion.almacenes.commons.concurrency.StockLockManager.StockLocks;
+import com.gestion.almacenes.commons.concurrency.StockLockManager;
+import com.gestion.almacenes.commons.concurrency.StockReservationManager;
 import com.gestion.almacenes.commons.enums.OrderProductTypeActionEnum;
+import com.gestion.almacenes.commons.enums.PageCountEnum;
 import com.gestion.almacenes.commons.enums.StatusFlowEnum;
+import com.gestion.almacenes.commons.exception.ValidationErrorException;
+import com.gestion.almacenes.commons.exception.response.FieldErrorModel;
 import com.gestion.almacenes.commons.util.GenericMapper;
+import com.gestion.almacenes.commons.util.KeysetPagination;
+import com.gestion.almacenes.commons.util.OrderExecutionResultPojo;
 import com.gestion.almacenes.commons.util.PagePojo;
 import com.gestion.almacenes.dtos.OrderProductDto;
 import com.gestion.almacenes.entities.*;
 import com.gestion.almacenes.repositories.*;
+import com.gestion.almacenes.repositories.projections.StockShortageProjection;
 import com.gestion.almacenes.services.OrderProductService;
+import com.gestion.almacenes.services.PaginationService;
+import com.gestion.almacenes.services.StreamingService;
 import lombok.AllArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.text.DecimalFormat;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import static com.gestion.almacenes.commons.util.SpecificationFilter.active;
+import static com.gestion.almacenes.commons.util.SpecificationFilter.codeAndName;
 import static com.gestion.almacenes.servicesImpls.ExceptionsCustom.*;
 
 @Service
@@ -29,6 +55,8 @@ public class OrderProductServiceImpl implements
     OrderProductService {
 
   private final OrderProductRepository orderProductRepository;
+  private final PaginationService paginationService;
+  private final StreamingService streamingService;
   private final StorehouseRepository storeHouseRepository;
   private final OrderProductTypeRepository orderProductTypeRepository;
   private final GenericMapper<OrderProduct, OrderProductDto> genericMapper = new GenericMapper<>(
@@ -36,12 +64,22 @@ public class OrderProductServiceImpl implements
   private final OrderProductDetailRepository orderProductDetailRepository;
   private final StockRepository stockRepository;
   private final SupplierRepository supplierRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final RetryOnConflictExecutor retryOnConflictExecutor;
+  private final StockLockManager stockLockManager;
+  private final StockMovementRepository stockMovementRepository;
+  private final StockReservationManager stockReservationManager;
 
   @Override
   public List<OrderProduct> getAll() {
     return orderProductRepository.findAllByActiveIsTrue();
   }
 
+  @Override
+  public void streamAll(Consumer<OrderProduct> action) {
+    streamingService.forEach(orderProductRepository::streamAllByActiveIsTrue, action);
+  }
+
   @Override
   public OrderProduct create(OrderProductDto orderProductdto) {
 
@@ -87,6 +125,10 @@ public class OrderProductServiceImpl implements
 
   @Override
   public OrderProduct update(Integer id, OrderProductDto orderProductdto) {
+    return transactionTemplate.execute(status -> this.updateInTransaction(id, orderProductdto));
+  }
+
+  private OrderProduct updateInTransaction(Integer id, OrderProductDto orderProductdto) {
     OrderProduct orderProductFound = this.findOrderProductById(id);
     if (orderProductRepository.existsByCodeAndIdNotAndActiveIsTrue(
         orderProductdto.getCode(), orderProductFound.getId())) {
@@ -96,13 +138,92 @@ public class OrderProductServiceImpl implements
     OrderProductType orderProductType = this.findOrderProductTypeById(
         orderProductdto.getOrderProductTypeId());
 
+    OrderProduct orderProductPrevious = orderProductFound;
     orderProductFound = genericMapper.fromDto(orderProductdto);
+    orderProductFound.setId(orderProductPrevious.getId());
+    orderProductFound.setStatus(orderProductPrevious.getStatus());
     orderProductFound.setStorehouse(storehouse);
     orderProductFound.setOrderProductType(orderProductType);
 
+    this.moveReservations(orderProductPrevious, orderProductFound);
+
     return orderProductRepository.save(orderProductFound);
   }
 
+  /**
+   * Al cambiar el tipo o el almacen de una orden en borrador se liberan las reservas tomadas con los
+   * datos anteriores y se vuelven a reservar con los nuevos. Si cambia el almacen los detalles pasan
+   * al stock del mismo producto en el nuevo almacen.
+   */
+  private void moveReservations(OrderProduct previous, OrderProduct updated) {
+    boolean storehouseChanged = !Objects.equals(previous.getStorehouse().getId(),
+        updated.getStorehouse().getId());
+    // El detalle de una orden cerrada es el que se revierte al anularla, no puede cambiar de stock
+    if (storehouseChanged && !Objects.equals(previous.getStatus(),
+        StatusFlowEnum.BORRADOR.name())) {
+      errorProcess("Solo se puede cambiar el almacen de ordenes en estado ("
+          + StatusFlowEnum.BORRADOR.name() + ").");
+    }
+    boolean wasReserving = stockReservationManager.isReserving(previous);
+    boolean isReserving = stockReservationManager.isReserving(updated);
+    if (!storehouseChanged && wasReserving == isReserving) {
+      return;
+    }
+
+    List<OrderProductDetail> details = orderProductDetailRepository
+        .findWithStockByOrderProductIdIn(List.of(previous.getId()));
+    if (details.isEmpty()) {
+      return;
+    }
+
+    if (wasReserving) {
+      stockReservationManager.release(details);
+    }
+
+    List<FieldErrorModel> errors = new ArrayList<>();
+    if (storehouseChanged) {
+      Map<Integer, Stock> stocks = stockRepository.findWithProductByStorehouseIdAndProductIdIn(
+              updated.getStorehouse().getId(),
+              details.stream().map(detail -> detail.getStock().getProduct().getId())
+                  .collect(Collectors.toSet()))
+          .stream().collect(Collectors.toMap(stock -> stock.getProduct().getId(),
+              Function.identity()));
+      details.forEach(detail -> {
+        Stock stock = stocks.get(detail.getStock().getProduct().getId());
+        if (stock == null) {
+          errors.add(new FieldErrorModel(detail.getStock().getProduct().getCode(),
+              errorEntityNotFound(Stock.class, updated.getStorehouse().getId()).get()
+                  .getMessage(), "notFound"));
+          return;
+        }
+        detail.setStock(stock);
+      });
+    }
+
+    if (errors.isEmpty() && isReserving) {
+      details.forEach(detail -> {
+        if (!stockReservationManager.tryReserve(detail.getStock(), detail.getAmount())) {
+          errors.add(new FieldErrorModel(detail.getStock().getProduct().getCode(),
+              String.format(
+                  "El almacen (%s) no tiene disponible la cantidad de (Cant. %s) del Item (%s). Disponible para comprometer (%s)",
+                  updated.getStorehouse().getName(), detail.getAmount(),
+                  detail.getStock().getProduct().getName(),
+                  stockReservationManager.getAvailableToPromise(detail.getStock())),
+              "insufficientStock"));
+        }
+      });
+    }
+
+    // Las reservas tomadas se deshacen con la transaccion
+    if (!errors.isEmpty()) {
+      errorList(errors);
+    }
+
+    if (storehouseChanged) {
+      orderProductDetailRepository.saveAll(details);
+    }
+  }
+
   @Override
   public OrderProduct getById(Integer id) {
     return this.findOrderProductById(id);
@@ -121,6 +242,10 @@ public class OrderProductServiceImpl implements
     if (orderProduct.getActive()) {
       orderProduct.setActive(false);
       orderProductRepository.save(orderProduct);
+      if (stockReservationManager.isReserving(orderProduct)) {
+        stockReservationManager.release(
+            orderProductDetailRepository.findWithStockByOrderProductIdIn(List.of(id)));
+      }
     } else {
 //      throw new AlreadyDeletedException(OrderProduct.class.getSimpleName(), orderProduct.getId());
       errorAlreadyDeleted(OrderProduct.class, orderProduct.getId());
@@ -129,66 +254,327 @@ public class OrderProductServiceImpl implements
 
   @Override
   public List<OrderProduct> getFiltered(String code, String name) {
-    return orderProductRepository.findAll();
+    return orderProductRepository.findAll(active(codeAndName("code", code, "description", name)));
   }
 
   @Override
   public PagePojo<OrderProduct> getByPageAndFilters(Integer pageNumber, Integer pageSize,
-      String sortField, String sortOrder, String code, String name) {
+      String sortField, String sortOrder, String code, String name, String cursor,
+      PageCountEnum count) {
+
+    Specification<OrderProduct> spec = codeAndName("code", code, "description", name);
+
+    if (cursor != null) {
+      return KeysetPagination.page(orderProductRepository, OrderProduct.class, spec, pageSize,
+          sortField, sortOrder, cursor, "storehouse", "orderProductType", "supplier");
+    }
 
     Sort sort = Sort.by(Sort.Direction.fromString(sortOrder), sortField);
     Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
 
-    Page<OrderProduct> orderProductPage = orderProductRepository.findAll(pageable);
+    if (count != PageCountEnum.EXACT) {
+      return paginationService.getPage(OrderProduct.class, spec, pageable, count,
+          "OrderProduct.header");
+    }
+
+    Page<OrderProduct> orderProductPage = orderProductRepository.findAll(spec, pageable);
 
     return genericMapper.fromEntity(orderProductPage);
   }
 
   @Override
   public OrderProduct executeOrderProduct(OrderProductDto dto) {
+    // Las ordenes que comparten stocks se ejecutan una detras de otra
+    try (StockLocks stockLocks = stockLockManager.lock(
+        () -> orderProductDetailRepository.findStockKeysByOrderProductId(
+            dto.getOrderProductId()))) {
+      return retryOnConflictExecutor.execute("executeOrderProduct",
+          () -> transactionTemplate.execute(status -> this.executeOrderProductInTransaction(dto)));
+    }
+  }
 
-    OrderProduct orderProduct = this.findOrderProductById(dto.getOrderProductId());
-    String action = orderProduct.getOrderProductType().getAction();
+  /**
+   * Validaciones previas a la ejecucion, sin modificar la orden
+   * @return Orden lista para ejecutarse
+   */
+  @Override
+  public OrderProduct validateExecuteOrderProduct(Integer orderProductId) {
+    OrderProduct orderProduct = this.findOrderProductById(orderProductId);
+    this.validationExecuteOrderProduct(
+        orderProductDetailRepository.countDistinctStockByOrderProductId(orderProduct.getId()),
+        orderProduct);
+    return orderProduct;
+  }
 
-    List<OrderProductDetail> orderProductDetails = orderProductDetailRepository.findByOrderProduct_IdAndActiveTrue(
-        dto.getOrderProductId());
+  private OrderProduct executeOrderProductInTransaction(OrderProductDto dto) {
+
+    OrderProduct orderProduct = this.findOrderProductById(dto.getOrderProductId());
+    long stocksToUpdate = orderProductDetailRepository.countDistinctStockByOrderProductId(
+        orderProduct.getId());
 
     //Validacion General
-    //this.validationExecuteOrderProduct(orderProductDetails, orderProduct);
-
-    for (OrderProductDetail orderProductDetail : orderProductDetails) {
-      Double amountDetail = orderProductDetail.getAmount();
-      Stock stock = orderProductDetail.getStock();
-      double newAmountStock = Double.parseDouble("0");
-
-      if (Objects.equals(action, OrderProductTypeActionEnum.RECEIPT.name())) {
-        newAmountStock = stock.getAmountInStock() + amountDetail;
-      } else {
-        if (stock.getAmountInStock() < amountDetail) {
-          DecimalFormat mf = new DecimalFormat("0.00");
-          mf.setMinimumFractionDigits(2);
-          String stingAmountDetail = mf.format(amountDetail);
-          errorProcess(
-              String.format(
-                  "El almacen (%s) no tiene la cantidad de (Cant. %s) Items (%s) necesarios. Solo se tienen (%s)",
-                  orderProduct.getStorehouse().getName(),
-                  stingAmountDetail,
-                  orderProductDetail.getStock().getProduct().getName(),
-                  orderProductDetail.getStock().getAmountInStock().toString()
-              )
-          );
+    this.validationExecuteOrderProduct(stocksToUpdate, orderProduct);
+
+    // Al ejecutarse la salida deja de reservar y descuenta directamente del stock
+    if (stockReservationManager.isReserving(orderProduct)) {
+      stockReservationManager.release(
+          orderProductDetailRepository.findWithStockByOrderProductIdIn(List.of(orderProduct.getId())));
+    }
+
+    this.applyOrderProductToStock(orderProduct, this.getStockSign(orderProduct), stocksToUpdate);
+
+    orderProduct.setStatus(StatusFlowEnum.FINALIZADO.name());
+    return orderProductRepository.save(orderProduct);
+
+  }
+
+  @Override
+  public OrderProduct cancelOrderProduct(Integer id) {
+    try (StockLocks stockLocks = stockLockManager.lock(() -> {
+      List<StockKey> stockKeys = stockMovementRepository.findStockKeysByOrderProductId(id);
+      return stockKeys.isEmpty()
+          ? orderProductDetailRepository.findStockKeysByOrderProductId(id) : stockKeys;
+    })) {
+      return retryOnConflictExecutor.execute("cancelOrderProduct",
+          () -> transactionTemplate.execute(status -> this.cancelOrderProductInTransaction(id)));
+    }
+  }
+
+  /**
+   * Revierte una orden finalizada aplicando sobre el stock las cantidades inversas de los movimientos
+   * que registro al ejecutarse. Las ordenes ejecutadas antes de registrar movimientos se revierten
+   * con su detalle, que no cambia una vez cerrada la orden. Un ingreso anulado no puede dejar stock
+   * negativo.
+   *
+   * @param id Identificador de la orden
+   * @return Orden anulada
+   */
+  private OrderProduct cancelOrderProductInTransaction(Integer id) {
+
+    OrderProduct orderProduct = this.findOrderProductById(id);
+    if (!Objects.equals(orderProduct.getStatus(), StatusFlowEnum.FINALIZADO.name())) {
+      errorProcess("Solo se pueden anular ordenes en estado (" + StatusFlowEnum.FINALIZADO.name()
+          + ").");
+    }
+
+    long stocksToRevert = stockMovementRepository.countDistinctStockByOrderProductId(id);
+    if (stocksToRevert > 0) {
+      this.revertOrderProductMovements(orderProduct, stocksToRevert);
+    } else {
+      long stocksToUpdate = orderProductDetailRepository.countDistinctStockByOrderProductId(id);
+      if (stocksToUpdate > 0) {
+        this.applyOrderProductToStock(orderProduct, -this.getStockSign(orderProduct),
+            stocksToUpdate);
+      }
+    }
+
+    orderProduct.setStatus(StatusFlowEnum.ANULADO.name());
+    return orderProductRepository.save(orderProduct);
+  }
+
+  @Override
+  public List<OrderExecutionResultPojo> executeOrderProductList(List<Integer> orderProductIds) {
+    List<Integer> ids = orderProductIds.stream().filter(Objects::nonNull).distinct().toList();
+    try (StockLocks stockLocks = stockLockManager.lock(
+        () -> orderProductDetailRepository.findStockKeysByOrderProductIdIn(ids))) {
+      return retryOnConflictExecutor.execute("executeOrderProductList",
+          () -> transactionTemplate.execute(
+              status -> this.executeOrderProductListInTransaction(ids)));
+    }
+  }
+
+  /**
+   * Ejecuta varias ordenes en una sola transaccion. Las ordenes se evaluan una por una sobre los
+   * saldos acumulados en memoria; las que no tienen stock suficiente se rechazan sin afectar a las
+   * demas. Los saldos finales se escriben una sola vez al confirmar la transaccion.
+   *
+   * @param orderProductIds Identificadores de las ordenes en el orden en que se ejecutaran
+   * @return Resultado de cada orden
+   */
+  private List<OrderExecutionResultPojo> executeOrderProductListInTransaction(
+      List<Integer> orderProductIds) {
+
+    // Antes de leer los saldos, para no cruzarse con una foto del stock. La fecha de los
+    // movimientos es la hora de la base de datos, igual que en la ejecucion individual
+    LocalDateTime movementDate = stockMovementRepository.lockForMovements();
+
+    Map<Integer, OrderProduct> orderProducts = orderProductRepository
+        .findByIdInAndActiveIsTrue(orderProductIds).stream()
+        .collect(Collectors.toMap(OrderProduct::getId, Function.identity()));
+
+    Map<Integer, List<OrderProductDetail>> detailsByOrder = orderProductDetailRepository
+        .findWithStockByOrderProductIdIn(orderProductIds).stream()
+        .collect(Collectors.groupingBy(detail -> detail.getOrderProduct().getId()));
+
+    Map<Integer, Stock> stocks = new HashMap<>();
+    Map<Integer, Double> balances = new HashMap<>();
+    List<StockMovement> stockMovements = new ArrayList<>();
+    List<OrderExecutionResultPojo> results = new ArrayList<>();
+
+    for (Integer orderProductId : orderProductIds) {
+
+      OrderProduct orderProduct = orderProducts.get(orderProductId);
+      if (orderProduct == null) {
+        results.add(new OrderExecutionResultPojo(orderProductId, false,
+            errorEntityNotFound(OrderProduct.class, orderProductId).get().getMessage(), null));
+        continue;
+      }
+
+      // Cantidades de la orden agrupadas por stock
+      int sign = this.getStockSign(orderProduct);
+      Map<Integer, Double> deltas = new LinkedHashMap<>();
+      for (OrderProductDetail detail : detailsByOrder.getOrDefault(orderProductId, List.of())) {
+        deltas.merge(detail.getStock().getId(), sign * detail.getAmount(), Double::sum);
+      }
+
+      // Mismas validaciones que la ejecucion individual de una orden
+      try {
+        this.validationExecuteOrderProduct(deltas.size(), orderProduct);
+      } catch (ValidationErrorException exception) {
+        results.add(new OrderExecutionResultPojo(orderProductId, false,
+            exception.getMessage(), null));
+        continue;
+      }
+      for (OrderProductDetail detail : detailsByOrder.get(orderProductId)) {
+        stocks.putIfAbsent(detail.getStock().getId(), detail.getStock());
+      }
+
+      List<FieldErrorModel> errors = new ArrayList<>();
+      deltas.forEach((stockId, delta) -> {
+        Stock stock = stocks.get(stockId);
+        double balance = balances.getOrDefault(stockId, stock.getAmountInStock());
+        if (balance + delta < 0) {
+          errors.add(this.toShortageError(orderProduct, stock.getProduct().getCode(),
+              stock.getProduct().getName(), Math.abs(delta), balance));
         }
-        newAmountStock = stock.getAmountInStock() - amountDetail;
+      });
+      if (!errors.isEmpty()) {
+        results.add(new OrderExecutionResultPojo(orderProductId, false,
+            "La orden tiene items que no pueden ejecutarse.", errors));
+        continue;
+      }
+
+      if (stockReservationManager.isReserving(orderProduct)) {
+        stockReservationManager.release(detailsByOrder.getOrDefault(orderProductId, List.of()));
       }
 
-      stock.setAmountInStock(newAmountStock);
-      stockRepository.save(stock);
+      // Un movimiento por linea con el saldo resultante
+      for (OrderProductDetail detail : detailsByOrder.getOrDefault(orderProductId, List.of())) {
+        Integer stockId = detail.getStock().getId();
+        double delta = sign * detail.getAmount();
+        double balance = balances.getOrDefault(stockId, stocks.get(stockId).getAmountInStock())
+            + delta;
+        balances.put(stockId, balance);
+        stockMovements.add(StockMovement.builder()
+            .orderProductId(orderProductId)
+            .orderProductDetailId(detail.getId())
+            .stockId(stockId)
+            .delta(delta)
+            .balance(balance)
+            .movementDate(movementDate)
+            .build());
+      }
+      orderProduct.setStatus(StatusFlowEnum.FINALIZADO.name());
+      results.add(new OrderExecutionResultPojo(orderProductId, true, null, null));
+    }
 
+    // Los cambios se escriben con un solo flush al confirmar la transaccion
+    balances.forEach((stockId, balance) -> stocks.get(stockId).setAmountInStock(balance));
+    stockMovementRepository.batchInsert(stockMovements);
+
+    return results;
+  }
+
+  /**
+   * Aplica todo el detalle de la orden sobre el stock con una sola sentencia. Antes de actualizar
+   * se verifican todos los items sin stock suficiente y se reportan juntos. Cada linea aplicada
+   * queda registrada en el historial de movimientos.
+   *
+   * @param orderProduct   Orden que se esta ejecutando
+   * @param sign           1 para sumar (ingreso o anulacion de salida) o -1 para restar (salida o
+   *                       anulacion de ingreso)
+   * @param stocksToUpdate Cantidad de stocks distintos en el detalle de la orden
+   */
+  private void applyOrderProductToStock(OrderProduct orderProduct, int sign,
+      long stocksToUpdate) {
+
+    LocalDateTime movementDate = stockMovementRepository.lockForMovements();
+
+    List<StockShortageProjection> shortages = stockRepository.findShortagesByOrderProductId(
+        orderProduct.getId(), sign);
+    if (!shortages.isEmpty()) {
+      errorList(
+          shortages.stream().map(shortage -> this.toShortageError(orderProduct, shortage)).toList()
+      );
     }
 
-    orderProduct.setStatus(StatusFlowEnum.FINALIZADO.name());
-    return orderProductRepository.save(orderProduct);
+    int stocksUpdated = stockRepository.applyOrderProductDetails(orderProduct.getId(), sign);
 
+    // Otra operacion modifico el stock entre la verificacion y la actualizacion, se reintenta
+    if (stocksUpdated != stocksToUpdate) {
+      throw new OptimisticLockingFailureException(
+          "El stock fue modificado por otra operación mientras se ejecutaba la orden.");
+    }
+
+    stockMovementRepository.insertFromOrderProduct(orderProduct.getId(), sign, movementDate);
+  }
+
+  /**
+   * Revierte en el stock y en los movimientos las cantidades que aplico la orden al ejecutarse.
+   *
+   * @param orderProduct   Orden que se esta anulando
+   * @param stocksToRevert Cantidad de stocks distintos en los movimientos de la orden
+   */
+  private void revertOrderProductMovements(OrderProduct orderProduct, long stocksToRevert) {
+
+    LocalDateTime movementDate = stockMovementRepository.lockForMovements();
+
+    List<StockShortageProjection> shortages = stockRepository
+        .findShortagesToRevertByOrderProductId(orderProduct.getId());
+    if (!shortages.isEmpty()) {
+      errorList(
+          shortages.stream().map(shortage -> this.toShortageError(orderProduct, shortage)).toList()
+      );
+    }
+
+    int stocksUpdated = stockRepository.revertOrderProductMovements(orderProduct.getId());
+
+    // Otra operacion modifico el stock entre la verificacion y la actualizacion, se reintenta
+    if (stocksUpdated != stocksToRevert) {
+      throw new OptimisticLockingFailureException(
+          "El stock fue modificado por otra operación mientras se anulaba la orden.");
+    }
+
+    stockMovementRepository.insertReversalFromOrderProduct(orderProduct.getId(), movementDate);
+  }
+
+  private int getStockSign(OrderProduct orderProduct) {
+    return Objects.equals(orderProduct.getOrderProductType().getAction(),
+        OrderProductTypeActionEnum.RECEIPT.name()) ? 1 : -1;
+  }
+
+  private FieldErrorModel toShortageError(OrderProduct orderProduct,
+      StockShortageProjection shortage) {
+    return this.toShortageError(orderProduct, shortage.getProductCode(),
+        shortage.getProductName(), shortage.getAmountRequested(), shortage.getAmountInStock());
+  }
+
+  private FieldErrorModel toShortageError(OrderProduct orderProduct, String productCode,
+      String productName, Double amountRequested, Double amountInStock) {
+    DecimalFormat mf = new DecimalFormat("0.00");
+    mf.setMinimumFractionDigits(2);
+    String stingAmountDetail = mf.format(amountRequested);
+    return new FieldErrorModel(
+        productCode,
+        String.format(
+            "El almacen (%s) no tiene la cantidad de (Cant. %s) Items (%s) necesarios. Solo se tienen (%s)",
+            orderProduct.getStorehouse().getName(),
+            stingAmountDetail,
+            productName,
+            amountInStock.toString()
+        ),
+        "insufficientStock"
+    );
   }
 
   private OrderProduct findOrderProductById(Integer id) {
@@ -210,15 +596,18 @@ public class OrderProductServiceImpl implements
     );
   }
 
-  private void validationExecuteOrderProduct(List<OrderProductDetail> orderProductDetails,
-      OrderProduct orderProduct) {
-    if (orderProductDetails.isEmpty()) {
+  private void validationExecuteOrderProduct(long stocksToUpdate, OrderProduct orderProduct) {
+    if (stocksToUpdate == 0) {
       errorProcess("No tiene items para realizar.");
     }
 
     if (Objects.equals(orderProduct.getStatus(), StatusFlowEnum.FINALIZADO.name())) {
       errorProcess("La orden ya fue procesada.");
     }
+
+    if (Objects.equals(orderProduct.getStatus(), StatusFlowEnum.ANULADO.name())) {
+      errorProcess("La orden fue anulada.");
+    }
   }
 
 }
\ No newline at end of file
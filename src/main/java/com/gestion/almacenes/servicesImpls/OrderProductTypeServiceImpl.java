@@ -1,20 +1,28 @@
 package com.gestion.almacenes.servicesImpls;
 
+import com.gestion.almacenes.commons.enums.PageCountEnum;
 import com.gestion.almacenes.commons.util.GenericMapper;
+import com.gestion.almacenes.commons.util.KeysetPagination;
 import com.gestion.almacenes.commons.util.PagePojo;
 import com.gestion.almacenes.dtos.OrderProductTypeDto;
 import com.gestion.almacenes.entities.OrderProductType;
 import com.gestion.almacenes.repositories.OrderProductTypeRepository;
 import com.gestion.almacenes.services.OrderProductTypeService;
+import com.gestion.almacenes.services.PaginationService;
+import com.gestion.almacenes.services.StreamingService;
 import java.util.List;
+import java.util.function.Consumer;
 import lombok.AllArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import static com.gestion.almacenes.commons.util.SpecificationFilter.active;
+import static com.gestion.almacenes.commons.util.SpecificationFilter.codeAndName;
 import static com.gestion.almacenes.servicesImpls.ExceptionsCustom.*;
 
 @Service
@@ -23,6 +31,8 @@ public class OrderProductTypeServiceImpl implements
     OrderProductTypeService {
 
   private final OrderProductTypeRepository orderProductTypeRepository;
+  private final PaginationService paginationService;
+  private final StreamingService streamingService;
   private final ModelMapper modelMapper = new ModelMapper();
   private final GenericMapper<OrderProductType, OrderProductTypeDto> genericMapper = new GenericMapper<>(
       OrderProductType.class);
@@ -33,6 +43,11 @@ public class OrderProductTypeServiceImpl implements
     return orderProductTypeRepository.findAllByActiveIsTrue();
   }
 
+  @Override
+  public void streamAll(Consumer<OrderProductType> action) {
+    streamingService.forEach(orderProductTypeRepository::streamAllByActiveIsTrue, action);
+  }
+
   @Override
   public OrderProductType create(OrderProductTypeDto orderProductTypedto) {
 
@@ -83,17 +98,29 @@ public class OrderProductTypeServiceImpl implements
 
   @Override
   public List<OrderProductType> getFiltered(String code, String name) {
-    return orderProductTypeRepository.findAll();
+    return orderProductTypeRepository.findAll(active(codeAndName("code", code, "name", name)));
   }
 
   @Override
   public PagePojo<OrderProductType> getByPageAndFilters(Integer pageNumber, Integer pageSize,
-      String sortField, String sortOrder, String code, String name) {
+      String sortField, String sortOrder, String code, String name, String cursor,
+      PageCountEnum count) {
+
+    Specification<OrderProductType> spec = codeAndName("code", code, "name", name);
+
+    if (cursor != null) {
+      return KeysetPagination.page(orderProductTypeRepository, OrderProductType.class, spec, pageSize, sortField,
+          sortOrder, cursor);
+    }
 
     Sort sort = Sort.by(Sort.Direction.fromString(sortOrder), sortField);
     Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
 
-    Page<OrderProductType> orderTypePage = orderProductTypeRepository.findAll(pageable);
+    if (count != PageCountEnum.EXACT) {
+      return paginationService.getPage(OrderProductType.class, spec, pageable, count, null);
+    }
+
+    Page<OrderProductType> orderTypePage = orderProductTypeRepository.findAll(spec, pageable);
 
     return genericMapper.fromEntity(orderTypePage);
   }
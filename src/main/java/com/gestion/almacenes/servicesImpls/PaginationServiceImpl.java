@@ -0,0 +1,126 @@
+package com.gestion.almacenes.servicesImpls;
+
+import com.gestion.almacenes.commons.enums.PageCountEnum;
+import com.gestion.almacenes.commons.util.PagePojo;
+import com.gestion.almacenes.services.PaginationService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Table;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+@Service
+@AllArgsConstructor
+public class PaginationServiceImpl implements PaginationService {
+
+  private static final String FETCH_GRAPH = "jakarta.persistence.fetchgraph";
+
+  private final EntityManager entityManager;
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Obtiene una pagina sin ejecutar count(*). Se lee una fila de mas para saber si existe una
+   * pagina siguiente y el total se omite (NONE) o se estima con las estadisticas de PostgreSQL
+   * (APPROXIMATE). Las estadisticas son de la tabla completa, por eso un listado con filtros o una
+   * tabla sin estadisticas no tienen estimacion y el total se devuelve como -1. Con EXACT el total
+   * se cuenta igual que en un Page.
+   *
+   * @param type        Clase de la entidad
+   * @param spec        Filtros del listado, puede ser nulo
+   * @param pageable    Pagina, tamaño y orden solicitados
+   * @param count       Forma de obtener el total
+   * @param entityGraph Nombre del grafo con las asociaciones que se cargan, puede ser nulo
+   * @return Pagina en el formato de respuesta
+   */
+  @Override
+  public <T> PagePojo<T> getPage(Class<T> type, Specification<T> spec, Pageable pageable,
+      PageCountEnum count, String entityGraph) {
+
+    CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<T> query = builder.createQuery(type);
+    Root<T> root = query.from(type);
+    Predicate predicate = spec == null ? null : spec.toPredicate(root, query, builder);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    query.select(root).orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+
+    TypedQuery<T> typedQuery = entityManager.createQuery(query)
+        .setFirstResult((int) pageable.getOffset())
+        .setMaxResults(pageable.getPageSize() + 1);
+    if (entityGraph != null) {
+      typedQuery.setHint(FETCH_GRAPH, entityManager.getEntityGraph(entityGraph));
+    }
+    List<T> rows = typedQuery.getResultList();
+    boolean hasNext = rows.size() > pageable.getPageSize();
+    List<T> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+
+    PagePojo<T> dto = new PagePojo<>();
+    dto.setContent(content);
+    dto.setLast(!hasNext);
+    dto.setPageNumber(pageable.getPageNumber());
+    dto.setPageSize(pageable.getPageSize());
+
+    boolean lastPage = !hasNext && (!content.isEmpty() || pageable.getOffset() == 0);
+    long estimate = !lastPage && count == PageCountEnum.APPROXIMATE && predicate == null
+        ? this.estimateRows(type) : -1;
+    long total;
+    boolean exact;
+    if (lastPage) {
+      // En la ultima pagina el total se conoce sin contar
+      total = pageable.getOffset() + content.size();
+      exact = true;
+    } else if (count == PageCountEnum.EXACT) {
+      total = this.countRows(type, spec);
+      exact = true;
+    } else if (estimate >= 0) {
+      // Al menos existen las filas hasta esta pagina y una mas
+      total = Math.max(estimate, pageable.getOffset() + content.size() + 1);
+      exact = false;
+    } else {
+      total = -1;
+      exact = false;
+    }
+    dto.setTotalElements(total);
+    dto.setTotalPages(total < 0 ? -1 : (int) Math.ceil((double) total / pageable.getPageSize()));
+    dto.setTotalExact(exact);
+    return dto;
+  }
+
+  /**
+   * Cantidad de filas estimada por PostgreSQL (pg_class.reltuples) para la tabla de la entidad,
+   * actualizada por ANALYZE y autovacuum. Devuelve -1 si la tabla aun no tiene estadisticas.
+   */
+  private long estimateRows(Class<?> type) {
+    Table table = type.getAnnotation(Table.class);
+    if (table == null) {
+      return -1;
+    }
+    Long estimate = jdbcTemplate.queryForObject(
+        "SELECT COALESCE((SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)), -1)",
+        Long.class, table.name());
+    return estimate == null ? -1 : estimate;
+  }
+
+  private <T> long countRows(Class<T> type, Specification<T> spec) {
+    CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Long> query = builder.createQuery(Long.class);
+    Root<T> root = query.from(type);
+    Predicate predicate = spec == null ? null : spec.toPredicate(root, query, builder);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    query.select(builder.count(root));
+    return entityManager.createQuery(query).getSingleResult();
+  }
+
+}
@@ -0,0 +1,280 @@
+package com.gestion.almacenes.servicesImpls;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gestion.almacenes.commons.search.ProductSearchIndex;
+import com.gestion.almacenes.commons.util.CsvReader;
+import com.gestion.almacenes.commons.util.ProductImportResultPojo;
+import com.gestion.almacenes.commons.util.ProductImportSummaryPojo;
+import com.gestion.almacenes.dtos.ProductImportDto;
+import com.gestion.almacenes.entities.Product;
+import com.gestion.almacenes.entities.UnitMeasurement;
+import com.gestion.almacenes.repositories.CatalogProductStorehouseRepository;
+import com.gestion.almacenes.repositories.ProductRepository;
+import com.gestion.almacenes.repositories.UnitMeasurementRepository;
+import com.gestion.almacenes.services.ProductImportService;
+import com.gestion.almacenes.services.ResourceVersionService;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Importacion masiva de productos. El archivo se lee fila por fila y se registra por bloques, cada
+ * bloque en su propia transaccion; los errores de cada fila se informan a medida que se procesan.
+ */
+@Service
+@AllArgsConstructor
+public class ProductImportServiceImpl implements ProductImportService {
+
+  private static final int CHUNK_SIZE = 500;
+  private static final Pattern CODE_PATTERN = Pattern.compile("^[a-zA-Z0-9_/-]*$");
+  private static final List<String> CSV_COLUMNS = List.of("code", "name", "description",
+      "unitMeasurementCode");
+
+  private final ProductRepository productRepository;
+  private final ProductSearchIndex productSearchIndex;
+  private final UnitMeasurementRepository unitMeasurementRepository;
+  private final CatalogProductStorehouseRepository catalogProductStorehouseRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final ResourceVersionService resourceVersionService;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public ProductImportSummaryPojo importProducts(InputStream input, boolean ndjson,
+      boolean selectAllStorehouse, Consumer<ProductImportResultPojo> errorConsumer) {
+
+    ImportContext context = new ImportContext(
+        unitMeasurementRepository.findAllByActiveIsTrue().stream()
+            .collect(Collectors.toMap(UnitMeasurement::getCode, Function.identity(),
+                (first, second) -> first)),
+        selectAllStorehouse, errorConsumer);
+
+    try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(input, StandardCharsets.UTF_8))) {
+      if (ndjson) {
+        this.readNdjson(reader, context);
+      } else {
+        this.readCsv(reader, context);
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+    this.processChunk(context);
+    if (context.summary.getCreated() > 0) {
+      productSearchIndex.load();
+    }
+
+    return context.summary;
+  }
+
+  private void readNdjson(BufferedReader reader, ImportContext context) throws IOException {
+    long lineNumber = 0;
+    String line;
+    while ((line = reader.readLine()) != null) {
+      lineNumber++;
+      if (line.isBlank()) {
+        continue;
+      }
+      try {
+        this.addRow(new ImportRow(lineNumber, objectMapper.readValue(line, ProductImportDto.class),
+            null), context);
+      } catch (JsonProcessingException exception) {
+        this.addRow(new ImportRow(lineNumber, null,
+            "La fila no es un JSON válido: " + exception.getOriginalMessage()), context);
+      }
+    }
+  }
+
+  private void readCsv(BufferedReader reader, ImportContext context) throws IOException {
+    CsvReader csvReader = new CsvReader(reader, ',');
+
+    // La cabecera indica la posicion de cada columna
+    List<String> header = csvReader.readRecord();
+    if (header == null) {
+      return;
+    }
+    Map<String, Integer> columns = new HashMap<>();
+    for (int i = 0; i < header.size(); i++) {
+      String column = header.get(i).replace("\uFEFF", "").trim();
+      for (String name : CSV_COLUMNS) {
+        if (name.equalsIgnoreCase(column)) {
+          columns.putIfAbsent(name, i);
+        }
+      }
+    }
+    if (columns.size() < CSV_COLUMNS.size()) {
+      context.reportError(new ProductImportResultPojo(1, null,
+          "La cabecera debe tener las columnas " + String.join(", ", CSV_COLUMNS) + "."));
+      return;
+    }
+
+    List<String> record;
+    while ((record = csvReader.readRecord()) != null) {
+      if (record.size() == 1 && record.get(0).isBlank()) {
+        continue;
+      }
+      ProductImportDto dto = new ProductImportDto();
+      dto.setCode(this.getField(record, columns.get("code")));
+      dto.setName(this.getField(record, columns.get("name")));
+      dto.setDescription(this.getField(record, columns.get("description")));
+      dto.setUnitMeasurementCode(this.getField(record, columns.get("unitMeasurementCode")));
+      this.addRow(new ImportRow(csvReader.getLineNumber(), dto, null), context);
+    }
+  }
+
+  private String getField(List<String> record, int index) {
+    return index < record.size() ? record.get(index).trim() : null;
+  }
+
+  private void addRow(ImportRow row, ImportContext context) {
+    context.chunk.add(row);
+    if (context.chunk.size() >= CHUNK_SIZE) {
+      this.processChunk(context);
+    }
+  }
+
+  /**
+   * Valida las filas del bloque, verifica los codigos existentes con una sola consulta y registra
+   * las filas validas con inserciones por lotes
+   */
+  private void processChunk(ImportContext context) {
+    if (context.chunk.isEmpty()) {
+      return;
+    }
+
+    List<ImportRow> rows = new ArrayList<>(context.chunk);
+    context.chunk.clear();
+    context.summary.setTotal(context.summary.getTotal() + rows.size());
+
+    Set<String> codesExisting = new HashSet<>(productRepository.findCodeByCodeInAndActiveIsTrue(
+        rows.stream().filter(row -> row.dto() != null && row.dto().getCode() != null)
+            .map(row -> row.dto().getCode()).collect(Collectors.toSet())));
+
+    List<ImportRow> rowsValid = new ArrayList<>();
+    List<Product> products = new ArrayList<>();
+    for (ImportRow row : rows) {
+      String error = row.error() != null ? row.error() : this.validate(row.dto(), context,
+          codesExisting);
+      if (error != null) {
+        context.reportError(new ProductImportResultPojo(row.line(),
+            row.dto() == null ? null : row.dto().getCode(), error));
+        continue;
+      }
+      context.codesImported.add(row.dto().getCode());
+      rowsValid.add(row);
+      products.add(this.toProduct(row.dto(), context));
+    }
+
+    if (products.isEmpty()) {
+      return;
+    }
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        productRepository.batchInsert(products);
+        if (context.selectAllStorehouse) {
+          catalogProductStorehouseRepository.addProductsToAllStorehouses(
+              products.stream().map(Product::getCode).toList());
+        }
+        // La insercion por JDBC no pasa por los listeners de JPA
+        resourceVersionService.evictCollectionVersion(Product.class);
+      });
+      context.summary.setCreated(context.summary.getCreated() + products.size());
+    } catch (DataAccessException exception) {
+      rowsValid.forEach(row -> {
+        context.codesImported.remove(row.dto().getCode());
+        context.reportError(new ProductImportResultPojo(row.line(), row.dto().getCode(),
+            "No se pudo registrar el bloque de filas: " + exception.getMostSpecificCause()
+                .getMessage()));
+      });
+    }
+  }
+
+  private String validate(ProductImportDto dto, ImportContext context, Set<String> codesExisting) {
+    if (dto.getCode() == null || dto.getCode().isBlank()) {
+      return "El campo Código es obligatorio.";
+    }
+    if (dto.getCode().length() > 30) {
+      return "El campo Código no puede tener más de 30 caracteres.";
+    }
+    if (!CODE_PATTERN.matcher(dto.getCode()).find()) {
+      return "El código no es válido, solo se permiten caracteres alfanuméricos y ('-', '/' o '_').";
+    }
+    if (dto.getName() == null || dto.getName().isBlank()) {
+      return "El campo Nombre es obligatorio.";
+    }
+    if (dto.getName().length() > 100) {
+      return "El campo Nombre no puede tener más de 100 caracteres.";
+    }
+    if (dto.getDescription() == null || dto.getDescription().isBlank()) {
+      return "El campo Descripción es obligatorio.";
+    }
+    if (dto.getDescription().length() > 500) {
+      return "El campo Descripción no puede tener más de 500 caracteres.";
+    }
+    if (!context.unitMeasurements.containsKey(dto.getUnitMeasurementCode())) {
+      return "No existe la unidad de medida (" + dto.getUnitMeasurementCode() + ").";
+    }
+    if (codesExisting.contains(dto.getCode()) || context.codesImported.contains(dto.getCode())) {
+      return "El código con valor (" + dto.getCode() + ") ya existe.";
+    }
+    return null;
+  }
+
+  private Product toProduct(ProductImportDto dto, ImportContext context) {
+    Product product = new Product();
+    product.setCode(dto.getCode());
+    product.setName(dto.getName());
+    product.setDescription(dto.getDescription());
+    product.setUnitMeasurement(context.unitMeasurements.get(dto.getUnitMeasurementCode()));
+    return product;
+  }
+
+  private record ImportRow(long line, ProductImportDto dto, String error) {
+
+  }
+
+  /**
+   * Estado de una importacion: unidades de medida por codigo, codigos ya importados, bloque en
+   * curso y totales
+   */
+  private static class ImportContext {
+
+    private final Map<String, UnitMeasurement> unitMeasurements;
+    private final boolean selectAllStorehouse;
+    private final Consumer<ProductImportResultPojo> errorConsumer;
+    private final Set<String> codesImported = new HashSet<>();
+    private final List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+    private final ProductImportSummaryPojo summary = new ProductImportSummaryPojo();
+
+    private ImportContext(Map<String, UnitMeasurement> unitMeasurements,
+        boolean selectAllStorehouse, Consumer<ProductImportResultPojo> errorConsumer) {
+      this.unitMeasurements = unitMeasurements;
+      this.selectAllStorehouse = selectAllStorehouse;
+      this.errorConsumer = errorConsumer;
+    }
+
+    private void reportError(ProductImportResultPojo result) {
+      summary.setFailed(summary.getFailed() + 1);
+      errorConsumer.accept(result);
+    }
+
+  }
+
+}
@@ -1,9 +1,12 @@
 package com.gestion.almacenes.servicesImpls;
 
+import com.gestion.almacenes.commons.enums.PageCountEnum;
+import com.gestion.almacenes.commons.search.ProductSearchIndex;
 import com.gestion.almacenes.commons.util.GenericMapper;
+import com.gestion.almacenes.commons.util.KeysetPagination;
 import com.gestion.almacenes.commons.util.PagePojo;
+import com.gestion.almacenes.commons.util.ProductSuggestionPojo;
 import com.gestion.almacenes.dtos.ProductDto;
-import com.gestion.almacenes.entities.CatalogProductStorehouse;
 import com.gestion.almacenes.entities.Product;
 import com.gestion.almacenes.entities.Storehouse;
 import com.gestion.almacenes.entities.UnitMeasurement;
@@ -12,18 +15,23 @@ import com.gestion.almacenes.repositories.CatalogProductStorehouseRepository;
 import com.gestion.almacenes.repositories.ProductRepository;
 import com.gestion.almacenes.repositories.StorehouseRepository;
 import com.gestion.almacenes.repositories.UnitMeasurementRepository;
+import com.gestion.almacenes.services.PaginationService;
 import com.gestion.almacenes.services.ProductService;
+import com.gestion.almacenes.services.StreamingService;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static com.gestion.almacenes.commons.util.SpecificationFilter.active;
+import static com.gestion.almacenes.commons.util.SpecificationFilter.codeAndName;
 import static com.gestion.almacenes.servicesImpls.ExceptionsCustom.*;
 
 @Transactional
@@ -32,7 +40,12 @@ import static com.gestion.almacenes.servicesImpls.ExceptionsCustom.*;
 public class ProductServiceImpl implements
     ProductService {
 
+  private static final int MAX_SUGGESTIONS = 50;
+
   private final ProductRepository productRepository;
+  private final ProductSearchIndex productSearchIndex;
+  private final PaginationService paginationService;
+  private final StreamingService streamingService;
   private final ProductMapper productMapper;
   private final UnitMeasurementRepository unitMeasurementRepository;
   private final GenericMapper<Product, ProductDto> genericMapper = new GenericMapper<>(
@@ -45,6 +58,12 @@ public class ProductServiceImpl implements
     return productRepository.findAll();
   }
 
+  @Override
+  @Transactional(Transactional.TxType.SUPPORTS)
+  public void streamAll(Consumer<Product> action) {
+    streamingService.forEach(productRepository::streamAllBy, action);
+  }
+
   @Override
   public Product create(ProductDto productdto) {
 
@@ -59,22 +78,16 @@ public class ProductServiceImpl implements
     );
 
     Product productNew = productRepository.save(product);
-
-
+    productSearchIndex.put(productNew);
 
     if(productdto.getSelectAllStorehouse()){
-
-      for(Storehouse storehouse: storehouseRepository.findByActiveTrue()){
-        this.createCatalogProductStorehouse(productNew, storehouse);
-      }
-
+      catalogProductStorehouseRepository.addProductToAllStorehouses(productNew.getId());
     }else{
       if(productdto.getStorehouseIds()!=null) {
-        for (Integer storehouseId : productdto.getStorehouseIds()) {
-          Storehouse storehouse = storehouseRepository.findByIdAndActiveIsTrue(storehouseId).orElseThrow(
-                  errorEntityNotFound(Storehouse.class, storehouseId)
-          );
-          this.createCatalogProductStorehouse(productNew, storehouse);
+        this.checkStorehousesExist(productdto.getStorehouseIds());
+        if (!productdto.getStorehouseIds().isEmpty()) {
+          catalogProductStorehouseRepository.addProductToStorehouses(productNew.getId(),
+              productdto.getStorehouseIds());
         }
       }else{
         errorProcess("La lista de almacenes esta vacía.");
@@ -98,39 +111,25 @@ public class ProductServiceImpl implements
             productdto.getUnitMeasurementId())
     );
     Product productEdited = productRepository.save(product);
-
-
+    productSearchIndex.put(productEdited);
 
     if(productdto.getSelectAllStorehouse()){
-
-      List<Integer> storehouseIdsNotId = catalogProductStorehouseRepository.findStorehouseIdNotInByProductId(productEdited.getId());
-      for(Integer storehouseId: storehouseIdsNotId){
-        Storehouse storehouse = this.findStorehouseById(storehouseId);
-        this.createCatalogProductStorehouse(productEdited, storehouse);
-      }
-
+      catalogProductStorehouseRepository.addProductToAllStorehouses(productEdited.getId());
     }else{
-
-      List<Integer> storehouseIds = catalogProductStorehouseRepository.findStorehouseIdByProductId(productEdited.getId());
-
-      // Crear una copia de las listas para no modificar las originales
-      List<Integer> toDeleteStorehouse  = new ArrayList<>(storehouseIds);
-      List<Integer> toCreateStorehouse  = new ArrayList<>(productdto.getStorehouseIds());
-
-      toDeleteStorehouse.removeAll(productdto.getStorehouseIds());
-
-      for(Integer storehouseId: toDeleteStorehouse){
-        Storehouse storehouse = this.findStorehouseById(storehouseId);
-        catalogProductStorehouseRepository.deleteByStorehouseAndProduct(storehouse, productEdited);
+      if(productdto.getStorehouseIds()==null) {
+        errorProcess("La lista de almacenes esta vacía.");
       }
-
-      toCreateStorehouse.removeAll(storehouseIds);
-
-      for(Integer storehouseId: toCreateStorehouse){
-        Storehouse storehouse = this.findStorehouseById(storehouseId);
-        this.createCatalogProductStorehouse(productEdited, storehouse);
+      this.checkStorehousesExist(productdto.getStorehouseIds());
+
+      // Se quitan los almacenes que ya no estan en la lista y se agregan los nuevos
+      if (productdto.getStorehouseIds().isEmpty()) {
+        catalogProductStorehouseRepository.deleteByProductId(productEdited.getId());
+      } else {
+        catalogProductStorehouseRepository.deleteByProductIdAndStorehouseIdNotIn(
+            productEdited.getId(), productdto.getStorehouseIds());
+        catalogProductStorehouseRepository.addProductToStorehouses(productEdited.getId(),
+            productdto.getStorehouseIds());
       }
-
     }
 
     return productEdited;
@@ -155,21 +154,42 @@ public class ProductServiceImpl implements
   public void delete(Integer id) {
     Product product = this.findProductById(id);
     productRepository.delete(product);
+    productSearchIndex.remove(product.getId());
   }
 
   @Override
   public List<Product> search(String code, String name) {
-    return productRepository.findAll();
+    return productRepository.findAll(active(codeAndName("code", code, "name", name)));
+  }
+
+  /**
+   * Sugerencias de productos para el autocompletado, resueltas con el indice en memoria
+   */
+  @Override
+  @Transactional(Transactional.TxType.SUPPORTS)
+  public List<ProductSuggestionPojo> autocomplete(String query, Integer limit) {
+    return productSearchIndex.search(query, Math.min(limit, MAX_SUGGESTIONS));
   }
 
   @Override
   public PagePojo<Product> pageable(Integer pageNumber, Integer pageSize, String sortField,
-      String sortOrder, String code, String name) {
+      String sortOrder, String code, String name, String cursor, PageCountEnum count) {
+
+    Specification<Product> spec = codeAndName("code", code, "name", name);
+
+    if (cursor != null) {
+      return KeysetPagination.page(productRepository, Product.class, spec, pageSize, sortField,
+          sortOrder, cursor);
+    }
 
     Sort sort = Sort.by(Sort.Direction.fromString(sortOrder), sortField);
     Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
 
-    Page<Product> productPage = productRepository.findAll(pageable);
+    if (count != PageCountEnum.EXACT) {
+      return paginationService.getPage(Product.class, spec, pageable, count, null);
+    }
+
+    Page<Product> productPage = productRepository.findAll(spec, pageable);
 
     return genericMapper.fromEntity(productPage);
   }
@@ -186,17 +206,20 @@ public class ProductServiceImpl implements
     );
   }
 
-  private void createCatalogProductStorehouse(Product productEdited, Storehouse storehouse) {
-    CatalogProductStorehouse catalogProductStorehouse = new CatalogProductStorehouse();
-    catalogProductStorehouse.setProduct(productEdited);
-    catalogProductStorehouse.setStorehouse(storehouse);
-    catalogProductStorehouseRepository.save(catalogProductStorehouse);
-  }
-
-  private Storehouse findStorehouseById(Integer storehouseId) {
-    return storehouseRepository.findById(storehouseId).orElseThrow(
-            errorEntityNotFound(Storehouse.class, storehouseId)
-    );
+  /**
+   * Verifica con una sola consulta que todos los almacenes existan y esten activos
+   * @param storehouseIds Identificadores de los almacenes
+   */
+  private void checkStorehousesExist(List<Integer> storehouseIds) {
+    if (storehouseIds.isEmpty()) {
+      return;
+    }
+    List<Integer> storehouseIdsFound = storehouseRepository.findIdByIdInAndActiveIsTrue(
+        storehouseIds);
+    storehouseIds.stream()
+        .filter(storehouseId -> !storehouseIdsFound.contains(storehouseId))
+        .findFirst()
+        .ifPresent(storehouseId -> errorEntityNotFoundInLine(Storehouse.class, storehouseId));
   }
 
 }
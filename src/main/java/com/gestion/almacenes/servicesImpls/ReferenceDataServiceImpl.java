@@ -0,0 +1,70 @@
+package com.gestion.almacenes.servicesImpls;
+
+import com.gestion.almacenes.commons.search.ProductSearchIndex;
+import com.gestion.almacenes.commons.util.CopyDataLoader;
+import com.gestion.almacenes.entities.Product;
+import com.gestion.almacenes.entities.Storehouse;
+import com.gestion.almacenes.entities.Supplier;
+import com.gestion.almacenes.services.ReferenceDataService;
+import com.gestion.almacenes.services.ResourceVersionService;
+import jakarta.transaction.Transactional;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import static com.gestion.almacenes.servicesImpls.ExceptionsCustom.errorProcess;
+
+@Service
+@AllArgsConstructor
+public class ReferenceDataServiceImpl implements ReferenceDataService {
+
+  /**
+   * Tablas que se pueden cargar con datos de referencia. El stock no se incluye: sus cantidades solo
+   * cambian con las ordenes, que registran los movimientos y respetan las reservas.
+   */
+  private static final Map<String, Class<?>> DATASETS = Map.of("supplier", Supplier.class,
+      "product", Product.class, "storehouse", Storehouse.class);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ProductSearchIndex productSearchIndex;
+  private final ResourceVersionService resourceVersionService;
+
+  /**
+   * Carga un CSV (con cabecera de columnas) en la tabla del conjunto de datos con COPY, en una sola
+   * transaccion
+   *
+   * @param dataset Nombre del conjunto de datos (tabla)
+   * @param csv     Contenido del CSV
+   * @return Cantidad de filas cargadas
+   */
+  @Override
+  @Transactional
+  public long load(String dataset, InputStream csv) {
+    if (!DATASETS.containsKey(dataset)) {
+      errorProcess("El conjunto de datos (" + dataset + ") no existe, solo se permite "
+          + String.join(", ", DATASETS.keySet().stream().sorted().toList()) + ".");
+    }
+    Long loaded = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+      try {
+        return CopyDataLoader.load(connection, dataset,
+            new InputStreamReader(csv, StandardCharsets.UTF_8));
+      } catch (IOException exception) {
+        throw new UncheckedIOException(exception);
+      }
+    });
+    // COPY no pasa por JPA, por eso la version del listado se invalida aqui
+    resourceVersionService.evictCollectionVersion(DATASETS.get(dataset));
+    if ("product".equals(dataset)) {
+      productSearchIndex.reload();
+    }
+    return loaded == null ? 0 : loaded;
+  }
+
+}
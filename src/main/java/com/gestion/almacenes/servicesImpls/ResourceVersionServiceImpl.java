@@ -0,0 +1,130 @@
+package com.gestion.almacenes.servicesImpls;
+
+import com.gestion.almacenes.commons.config.CacheConfig;
+import com.gestion.almacenes.commons.util.ResourceVersionPojo;
+import com.gestion.almacenes.entities.Auditable;
+import com.gestion.almacenes.services.ResourceVersionService;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class ResourceVersionServiceImpl implements ResourceVersionService {
+
+  private final EntityManager entityManager;
+  private final Cache collectionVersionCache;
+  /**
+   * Generacion de la version de cada entidad, aumenta en cada descarte
+   */
+  private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+  public ResourceVersionServiceImpl(EntityManager entityManager, CacheManager cacheManager) {
+    this.entityManager = entityManager;
+    this.collectionVersionCache = cacheManager.getCache(CacheConfig.COLLECTION_VERSION_CACHE);
+  }
+
+  /**
+   * Version de un listado, calculada con la cantidad de registros y la ultima fecha de modificacion
+   * de cada entidad que aparece en la respuesta (por ejemplo el producto y su unidad de medida). Se
+   * guarda en cache por entidad, asi una consulta repetida no llega a la base de datos.
+   * <p>
+   * Cada version guarda la generacion en la que se empezo a calcular: una consulta que leyo los
+   * datos antes de un descarte y la guarda despues no se vuelve a usar. Solo la respuesta de esa
+   * misma consulta puede salir desactualizada. Los cambios hechos fuera de la aplicacion, que no
+   * descartan la version, se ven al vencer la cache (cache.collection-version.ttl).
+   *
+   * @param types Entidades que forman el listado
+   * @return ETag debil y fecha de la ultima modificacion
+   */
+  @Override
+  public ResourceVersionPojo getCollectionVersion(Class<?>... types) {
+    long count = 0;
+    long lastModified = -1;
+    for (Class<?> type : types) {
+      String key = type.getName();
+      long generation = this.generation(key).get();
+      CollectionVersion version = collectionVersionCache.get(key, CollectionVersion.class);
+      if (version == null || version.generation() != generation) {
+        version = this.loadCollectionVersion(type, generation);
+        collectionVersionCache.put(key, version);
+      }
+      count += version.count();
+      lastModified = Math.max(lastModified, version.lastModified());
+    }
+    return new ResourceVersionPojo("W/\"" + count + "-" + lastModified + "\"", lastModified);
+  }
+
+  /**
+   * Version de un registro, calculada con su fecha de modificacion y la de las asociaciones que se
+   * devuelven con el
+   *
+   * @param entity  Registro consultado
+   * @param related Asociaciones incluidas en la respuesta, pueden ser nulas
+   * @return ETag debil y fecha de la ultima modificacion
+   */
+  @Override
+  public ResourceVersionPojo getEntityVersion(Auditable entity, Auditable... related) {
+    long lastModified = toMillis(entity.getLastModifiedDate());
+    for (Auditable association : related) {
+      if (association != null) {
+        lastModified = Math.max(lastModified, toMillis(association.getLastModifiedDate()));
+      }
+    }
+    return new ResourceVersionPojo("W/\"" + lastModified + "\"", lastModified);
+  }
+
+  /**
+   * Descarta la version en cache del listado de la entidad cuando se confirme la transaccion
+   * actual, para que la siguiente consulta la vuelva a calcular
+   */
+  @Override
+  public void evictCollectionVersion(Class<?> type) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      this.evict(type.getName());
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        evict(type.getName());
+      }
+    });
+  }
+
+  private void evict(String key) {
+    this.generation(key).incrementAndGet();
+    collectionVersionCache.evict(key);
+  }
+
+  private AtomicLong generation(String key) {
+    return generations.computeIfAbsent(key, name -> new AtomicLong());
+  }
+
+  /**
+   * @param generation Generacion leida antes de consultar la base de datos
+   */
+  private CollectionVersion loadCollectionVersion(Class<?> type, long generation) {
+    Object[] result = entityManager.createQuery("select count(e), max(e.lastModifiedDate) from "
+        + entityManager.getMetamodel().entity(type).getName() + " e", Object[].class)
+        .getSingleResult();
+    return new CollectionVersion((Long) result[0], toMillis((LocalDateTime) result[1]),
+        generation);
+  }
+
+  private static long toMillis(LocalDateTime date) {
+    return date == null ? -1 : date.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+
+  private record CollectionVersion(long count, long lastModified, long generation) {
+
+  }
+
+}
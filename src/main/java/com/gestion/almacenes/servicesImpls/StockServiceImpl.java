@@ -1,7 +1,9 @@
 package com.gestion.almacenes.servicesImpls;
 
+import com.gestion.almacenes.commons.enums.PageCountEnum;
 import com.gestion.almacenes.commons.exception.EntityNotFound;
 import com.gestion.almacenes.commons.util.GenericMapper;
+import com.gestion.almacenes.commons.util.KeysetPagination;
 import com.gestion.almacenes.commons.util.PagePojo;
 import com.gestion.almacenes.dtos.StockDto;
 import com.gestion.almacenes.entities.Product;
@@ -10,14 +12,28 @@ import com.gestion.almacenes.entities.Storehouse;
 import com.gestion.almacenes.repositories.ProductRepository;
 import com.gestion.almacenes.repositories.StockRepository;
 import com.gestion.almacenes.repositories.StorehouseRepository;
+import com.gestion.almacenes.repositories.projections.StockProjection;
+import com.gestion.almacenes.services.PaginationService;
 import com.gestion.almacenes.services.StockService;
+import com.gestion.almacenes.services.StreamingService;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.stereotype.Service;
+import static com.gestion.almacenes.commons.util.SpecificationFilter.active;
+import static com.gestion.almacenes.commons.util.SpecificationFilter.codeAndName;
+import static com.gestion.almacenes.commons.util.SpecificationFilter.containsPattern;
+import static com.gestion.almacenes.commons.util.SpecificationFilter.prefixPattern;
 import static com.gestion.almacenes.servicesImpls.ExceptionsCustom.errorEntityNotFound;
 import static com.gestion.almacenes.servicesImpls.ExceptionsCustom.errorProcess;
 
@@ -26,14 +42,23 @@ import static com.gestion.almacenes.servicesImpls.ExceptionsCustom.errorProcess;
 public class StockServiceImpl implements
     StockService {
 
+  private static final ProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
+
   private final StockRepository stockRepository;
-  private final GenericMapper<Stock, StockDto> genericMapper = new GenericMapper<>(Stock.class);
+  private final PaginationService paginationService;
+  private final StreamingService streamingService;
   private final StorehouseRepository storeHouseRepository;
   private final ProductRepository productRepository;
 
   @Override
-  public List<Stock> getAll() {
-    return stockRepository.findAllByActiveIsTrue();
+  public List<StockProjection> getAll() {
+    return stockRepository.findProjectionByActiveIsTrue();
+  }
+
+  @Override
+  public void streamAll(Consumer<StockProjection> action) {
+    streamingService.forEach(stockRepository::streamAllByActiveIsTrue,
+        stock -> action.accept(toProjection(stock)));
   }
 
   @Override
@@ -84,24 +109,72 @@ public class StockServiceImpl implements
 
   @Override
   public List<Stock> getFiltered(String code, String name) {
-    return stockRepository.findAll();
+    return stockRepository.findAll(active(codeAndName("product.code", code, "product.name", name)));
   }
 
   @Override
-  public PagePojo<Stock> getByPageAndFilters(Integer pageNumber, Integer pageSize, String sortField,
-      String sortOrder, String code, String name) {
+  public PagePojo<StockProjection> getByPageAndFilters(Integer pageNumber, Integer pageSize, String sortField,
+      String sortOrder, String code, String name, String cursor, PageCountEnum count) {
+
+    Specification<Stock> spec = codeAndName("product.code", code, "product.name", name);
+
+    if (cursor != null) {
+      Window<Stock> stockWindow = KeysetPagination.scroll(stockRepository, Stock.class, spec,
+          pageSize, sortField, sortOrder, cursor, "storehouse", "product.unitMeasurement");
+      return KeysetPagination.fromWindow(stockWindow.map(this::toProjection), pageSize);
+    }
 
     Sort sort = Sort.by(Sort.Direction.fromString(sortOrder), sortField);
     Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
 
-    Page<Stock> stockPage = stockRepository.findAll(pageable);
+    if (count != PageCountEnum.EXACT) {
+      PagePojo<Stock> stockPage = paginationService.getPage(Stock.class, spec, pageable, count,
+          "Stock.withStorehouseAndProduct");
+      PagePojo<StockProjection> stockProjectionPage = new PagePojo<>(
+          stockPage.getContent().stream().map(this::toProjection).toList(), stockPage.isLast(),
+          stockPage.getPageNumber(), stockPage.getPageSize(), stockPage.getTotalPages(),
+          stockPage.getTotalElements());
+      stockProjectionPage.setTotalExact(stockPage.isTotalExact());
+      return stockProjectionPage;
+    }
+
+    Page<StockProjection> stockPage = code == null && name == null
+        ? stockRepository.findProjectionAll(pageable)
+        : stockRepository.findProjectionByProductCodeAndProductName(prefixPattern(code),
+            containsPattern(name), pageable);
 
-    return genericMapper.fromEntity(stockPage);
+    return GenericMapper.fromPage(stockPage);
+  }
+
+  /**
+   * Arma la proyeccion del listado a partir de un stock ya cargado con su almacen y producto
+   */
+  private StockProjection toProjection(Stock stock) {
+    Map<String, Object> values = new HashMap<>();
+    values.put("id", stock.getId());
+    values.put("storehouseId", stock.getStorehouse().getId());
+    values.put("storehouseCode", stock.getStorehouse().getCode());
+    values.put("storehouseName", stock.getStorehouse().getName());
+    values.put("productId", stock.getProduct().getId());
+    values.put("productCode", stock.getProduct().getCode());
+    values.put("productName", stock.getProduct().getName());
+    values.put("unitMeasurementCode", stock.getProduct().getUnitMeasurement() == null ? null
+        : stock.getProduct().getUnitMeasurement().getCode());
+    values.put("amountInStock", stock.getAmountInStock());
+    values.put("minimumStock", stock.getMinimumStock());
+    values.put("maximumStock", stock.getMaximumStock());
+    values.put("stockAlert", stock.getStockAlert());
+    values.put("validExpirationDate", stock.getValidExpirationDate());
+    return PROJECTION_FACTORY.createProjection(StockProjection.class, values);
   }
 
   @Override
-  public Stock getStockByStorehouseIdAndProductId(Integer storehouseId, Integer productId) {
-    return stockRepository.findByStorehouse_IdAndProduct_IdAndActiveTrue(storehouseId, productId).orElseThrow();
+  public StockProjection getStockByStorehouseIdAndProductId(Integer storehouseId,
+      Integer productId) {
+    return stockRepository.findProjectionByStorehouseIdAndProductIdAndActiveIsTrue(storehouseId,
+        productId).orElseThrow(
+        errorEntityNotFound(Stock.class, storehouseId)
+    );
   }
 
   private Stock findStockById(Integer id) {
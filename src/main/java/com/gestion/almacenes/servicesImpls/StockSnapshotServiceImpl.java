@@ -0,0 +1,48 @@
+package com.gestion.almacenes.servicesImpls;
+
+import com.gestion.almacenes.entities.Storehouse;
+import com.gestion.almacenes.repositories.StockMovementRepository;
+import com.gestion.almacenes.repositories.StockSnapshotRepository;
+import com.gestion.almacenes.repositories.StorehouseRepository;
+import com.gestion.almacenes.repositories.projections.StockAsOfProjection;
+import com.gestion.almacenes.services.StockSnapshotService;
+import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import static com.gestion.almacenes.servicesImpls.ExceptionsCustom.errorEntityNotFound;
+
+@Service
+@AllArgsConstructor
+public class StockSnapshotServiceImpl implements StockSnapshotService {
+
+  private final StockSnapshotRepository stockSnapshotRepository;
+  private final StockMovementRepository stockMovementRepository;
+  private final StorehouseRepository storehouseRepository;
+
+  /**
+   * Foto periodica del stock, limita la cantidad de movimientos a recorrer en las consultas por
+   * fecha. Se toma con el turno exclusivo del libro de movimientos para que ningun movimiento quede
+   * fuera de la foto con fecha anterior, ni dentro de la foto con fecha posterior.
+   */
+  @Override
+  @Transactional
+  @Scheduled(cron = "${stock.snapshot.cron:0 0 0 * * *}")
+  public int takeSnapshot() {
+    stockMovementRepository.lockForSnapshot();
+    return stockSnapshotRepository.insertFromStock();
+  }
+
+  @Override
+  public List<StockAsOfProjection> getStockAsOf(Integer storehouseId, LocalDateTime asOf) {
+    storehouseRepository.findByIdAndActiveIsTrue(storehouseId).orElseThrow(
+        errorEntityNotFound(Storehouse.class, storehouseId)
+    );
+    return stockSnapshotRepository.findStockAsOf(storehouseId,
+        asOf == null ? LocalDateTime.now() : asOf);
+  }
+
+}
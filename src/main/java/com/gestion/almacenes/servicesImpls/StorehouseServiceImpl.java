@@ -1,6 +1,8 @@
 package com.gestion.almacenes.servicesImpls;
 
+import com.gestion.almacenes.commons.enums.PageCountEnum;
 import com.gestion.almacenes.commons.util.GenericMapper;
+import com.gestion.almacenes.commons.util.KeysetPagination;
 import com.gestion.almacenes.commons.util.PagePojo;
 import com.gestion.almacenes.dtos.StorehouseDto;
 import com.gestion.almacenes.entities.Storehouse;
@@ -9,16 +11,22 @@ import com.gestion.almacenes.repositories.ProductRepository;
 import com.gestion.almacenes.repositories.StorehouseProductRepository;
 import com.gestion.almacenes.repositories.StorehouseRepository;
 import com.gestion.almacenes.repositories.StorehouseTypeRepository;
+import com.gestion.almacenes.services.PaginationService;
 import com.gestion.almacenes.services.StorehouseService;
+import com.gestion.almacenes.services.StreamingService;
 import java.util.List;
+import java.util.function.Consumer;
 import lombok.AllArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import static com.gestion.almacenes.commons.util.SpecificationFilter.active;
+import static com.gestion.almacenes.commons.util.SpecificationFilter.codeAndName;
 import static com.gestion.almacenes.servicesImpls.ExceptionsCustom.*;
 
 @Service
@@ -28,6 +36,8 @@ public class StorehouseServiceImpl implements
 
 
   private final StorehouseRepository storehouseRepository;
+  private final PaginationService paginationService;
+  private final StreamingService streamingService;
   private final ModelMapper modelMapper = new ModelMapper();
   private final GenericMapper<Storehouse, StorehouseDto> genericMapper = new GenericMapper<>(
       Storehouse.class);
@@ -40,6 +50,11 @@ public class StorehouseServiceImpl implements
     return storehouseRepository.findAll();
   }
 
+  @Override
+  public void streamAll(Consumer<Storehouse> action) {
+    streamingService.forEach(storehouseRepository::streamAllBy, action);
+  }
+
   @Override
   public Storehouse create(StorehouseDto storeHousedto) {
 
@@ -101,17 +116,28 @@ public class StorehouseServiceImpl implements
 
   @Override
   public List<Storehouse> search(String code, String name) {
-    return storehouseRepository.findAll();
+    return storehouseRepository.findAll(active(codeAndName("code", code, "name", name)));
   }
 
   @Override
   public PagePojo<Storehouse> pageable(Integer pageNumber, Integer pageSize, String sortField,
-      String sortOrder, String code, String name) {
+      String sortOrder, String code, String name, String cursor, PageCountEnum count) {
+
+    Specification<Storehouse> spec = codeAndName("code", code, "name", name);
+
+    if (cursor != null) {
+      return KeysetPagination.page(storehouseRepository, Storehouse.class, spec, pageSize, sortField,
+          sortOrder, cursor);
+    }
 
     Sort sort = Sort.by(Sort.Direction.fromString(sortOrder), sortField);
     Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
 
-    Page<Storehouse> storeHousePage = storehouseRepository.findAll(pageable);
+    if (count != PageCountEnum.EXACT) {
+      return paginationService.getPage(Storehouse.class, spec, pageable, count, null);
+    }
+
+    Page<Storehouse> storeHousePage = storehouseRepository.findAll(spec, pageable);
 
     return genericMapper.fromEntity(storeHousePage);
 
@@ -1,20 +1,28 @@
 package com.gestion.almacenes.servicesImpls;
 
+import com.gestion.almacenes.commons.enums.PageCountEnum;
+import com.gestion.almacenes.commons.util.KeysetPagination;
 import com.gestion.almacenes.commons.util.PagePojo;
 import com.gestion.almacenes.dtos.StorehouseTypeDto;
 import com.gestion.almacenes.entities.StorehouseType;
 import com.gestion.almacenes.mappers.StorehouseTypeMapper;
 import com.gestion.almacenes.repositories.StorehouseTypeRepository;
+import com.gestion.almacenes.services.PaginationService;
 import com.gestion.almacenes.services.StorehouseTypeService;
+import com.gestion.almacenes.services.StreamingService;
 import java.util.List;
+import java.util.function.Consumer;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
+import static com.gestion.almacenes.commons.util.SpecificationFilter.active;
+import static com.gestion.almacenes.commons.util.SpecificationFilter.codeAndName;
 import static com.gestion.almacenes.servicesImpls.ExceptionsCustom.*;
 
 @Service
@@ -23,6 +31,8 @@ public class StorehouseTypeServiceImpl implements
     StorehouseTypeService {
 
   private final StorehouseTypeRepository storehouseTypeRepository;
+  private final PaginationService paginationService;
+  private final StreamingService streamingService;
   private final StorehouseTypeMapper storehouseTypeMapper;
 
   @Override
@@ -30,6 +40,11 @@ public class StorehouseTypeServiceImpl implements
     return storehouseTypeRepository.findAllByActiveIsTrue();
   }
 
+  @Override
+  public void streamAll(Consumer<StorehouseType> action) {
+    streamingService.forEach(storehouseTypeRepository::streamAllByActiveIsTrue, action);
+  }
+
   @Override
   public StorehouseType create(StorehouseTypeDto storehouseTypedto) {
 
@@ -80,17 +95,29 @@ public class StorehouseTypeServiceImpl implements
 
   @Override
   public List<StorehouseType> getFiltered(String code, String name) {
-    return storehouseTypeRepository.findAll();
+    return storehouseTypeRepository.findAll(active(codeAndName("code", code, "name", name)));
   }
 
   @Override
   public PagePojo<StorehouseType> getByPageAndFilters(Integer pageNumber, Integer pageSize,
-      String sortField, String sortOrder, String code, String name) {
+      String sortField, String sortOrder, String code, String name, String cursor,
+      PageCountEnum count) {
+
+    Specification<StorehouseType> spec = codeAndName("code", code, "name", name);
+
+    if (cursor != null) {
+      return KeysetPagination.page(storehouseTypeRepository, StorehouseType.class, spec, pageSize, sortField,
+          sortOrder, cursor);
+    }
 
     Sort sort = Sort.by(Sort.Direction.fromString(sortOrder), sortField);
     Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
 
-    Page<StorehouseType> storehouseTypePage = storehouseTypeRepository.findAll(pageable);
+    if (count != PageCountEnum.EXACT) {
+      return paginationService.getPage(StorehouseType.class, spec, pageable, count, null);
+    }
+
+    Page<StorehouseType> storehouseTypePage = storehouseTypeRepository.findAll(spec, pageable);
 
     return storehouseTypeMapper.fromEntity(storehouseTypePage);
   }
@@ -0,0 +1,59 @@
+package com.gestion.almacenes.servicesImpls;
+
+import com.gestion.almacenes.services.StreamingService;
+import jakarta.persistence.EntityManager;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class StreamingServiceImpl implements StreamingService {
+
+  /**
+   * Cada cuantas filas se vacia el contexto de persistencia; coincide con el fetch size de las
+   * consultas Stream de los repositorios
+   */
+  private static final int CLEAR_INTERVAL = 500;
+
+  private final EntityManager entityManager;
+  private final TransactionTemplate readOnlyTransaction;
+
+  public StreamingServiceImpl(EntityManager entityManager,
+      PlatformTransactionManager transactionManager) {
+    this.entityManager = entityManager;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+  }
+
+  /**
+   * Recorre las filas de una consulta Stream dentro de una transaccion de solo lectura (el driver de
+   * PostgreSQL solo respeta el fetch size con la transaccion abierta). Cada fila se entrega a la
+   * accion y luego se desvincula, y cada cierto numero de filas se vacia el contexto para soltar
+   * tambien las asociaciones, por lo que la memoria usada no depende de la cantidad de filas.
+   *
+   * @param source Consulta del repositorio que devuelve un Stream
+   * @param action Accion que consume cada fila, por ejemplo escribirla en la respuesta
+   */
+  @Override
+  public <T> void forEach(Supplier<Stream<T>> source, Consumer<? super T> action) {
+    readOnlyTransaction.executeWithoutResult(status -> {
+      try (Stream<T> rows = source.get()) {
+        Iterator<T> iterator = rows.iterator();
+        int read = 0;
+        while (iterator.hasNext()) {
+          T row = iterator.next();
+          action.accept(row);
+          entityManager.detach(row);
+          if (++read % CLEAR_INTERVAL == 0) {
+            entityManager.clear();
+          }
+        }
+      }
+    });
+  }
+
+}
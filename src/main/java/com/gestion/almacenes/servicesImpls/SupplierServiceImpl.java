@@ -1,21 +1,31 @@
 package com.gestion.almacenes.servicesImpls;
 
+import com.gestion.almacenes.commons.enums.PageCountEnum;
 import com.gestion.almacenes.commons.util.GenericMapper;
+import com.gestion.almacenes.commons.util.KeysetPagination;
 import com.gestion.almacenes.commons.util.PagePojo;
+import com.gestion.almacenes.commons.util.SupplierNormalizer;
 import com.gestion.almacenes.dtos.SupplierDto;
 import com.gestion.almacenes.entities.Supplier;
 import com.gestion.almacenes.repositories.SupplierRepository;
+import com.gestion.almacenes.services.PaginationService;
+import com.gestion.almacenes.services.StreamingService;
 import com.gestion.almacenes.services.SupplierService;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static com.gestion.almacenes.commons.util.SpecificationFilter.active;
+import static com.gestion.almacenes.commons.util.SpecificationFilter.codeAndName;
+import static com.gestion.almacenes.commons.util.SpecificationFilter.containsAllTokens;
 import static com.gestion.almacenes.servicesImpls.ExceptionsCustom.errorDuplicateInFieldCode;
 import static com.gestion.almacenes.servicesImpls.ExceptionsCustom.errorEntityNotFound;
 
@@ -24,7 +34,11 @@ import static com.gestion.almacenes.servicesImpls.ExceptionsCustom.errorEntityNo
 public class SupplierServiceImpl implements
         SupplierService {
 
+    private static final int MAX_LOOKUP_RESULTS = 50;
+
     private final SupplierRepository supplierRepository;
+    private final PaginationService paginationService;
+    private final StreamingService streamingService;
     private final GenericMapper<Supplier, SupplierDto> supplierMMapper = new GenericMapper<>(
             Supplier.class);
 
@@ -33,13 +47,18 @@ public class SupplierServiceImpl implements
         return supplierRepository.findAllByActiveIsTrue();
     }
 
+    @Override
+    public void streamAll(Consumer<Supplier> action) {
+        streamingService.forEach(supplierRepository::streamAllByActiveIsTrue, action);
+    }
+
     @Override
     public Supplier create(SupplierDto supplierdto) {
 
         if (supplierRepository.existsBySupplierCodeAndActiveIsTrue(supplierdto.getSupplierCode()))
             errorDuplicateInFieldCode(Supplier.class, "supplierCode", supplierdto.getSupplierCode());
 
-        Supplier supplier = supplierMMapper.fromDto(supplierdto);
+        Supplier supplier = SupplierNormalizer.normalize(supplierMMapper.fromDto(supplierdto));
         supplier.setRegisterDate(LocalDateTime.now());
 
         return supplierRepository.save(supplier);
@@ -53,7 +72,7 @@ public class SupplierServiceImpl implements
         if (supplierRepository.existsBySupplierCodeAndIdNotAndActiveIsTrue(supplierdto.getSupplierCode(), supplierFound.getId()))
             errorDuplicateInFieldCode(Supplier.class, "supplierCode", supplierdto.getSupplierCode());
 
-        Supplier supplier = supplierMMapper.fromDto(supplierdto);
+        Supplier supplier = SupplierNormalizer.normalize(supplierMMapper.fromDto(supplierdto));
 
         return supplierRepository.save(supplier);
     }
@@ -78,17 +97,43 @@ public class SupplierServiceImpl implements
 
     @Override
     public List<Supplier> getFiltered(String code, String name) {
+        return supplierRepository.findAll(
+                active(codeAndName("supplierCode", code, "companyName", name)));
+    }
 
-        return supplierRepository.findAll();
+    /**
+     * Busqueda rapida de proveedores activos para el registro de ordenes: cada palabra ingresada
+     * debe aparecer en el codigo, nombre de la compañia, propietario o correo
+     */
+    @Override
+    public List<Supplier> lookup(String query, Integer limit) {
+        Specification<Supplier> spec = containsAllTokens("searchText", query);
+        if (spec == null) {
+            return List.of();
+        }
+        return supplierRepository.findBy(active(spec), fluentQuery -> fluentQuery
+                .sortBy(Sort.by("companyName"))
+                .limit(Math.min(limit, MAX_LOOKUP_RESULTS))
+                .all());
     }
 
     @Override
-    public PagePojo<Supplier> getByPageAndFilters(Integer pageNumber, Integer pageSize, String sortField, String sortOrder, String code, String name) {
+    public PagePojo<Supplier> getByPageAndFilters(Integer pageNumber, Integer pageSize, String sortField, String sortOrder, String code, String name, String cursor, PageCountEnum count) {
+
+        Specification<Supplier> spec = codeAndName("supplierCode", code, "companyName", name);
+
+        if (cursor != null) {
+            return KeysetPagination.page(supplierRepository, Supplier.class, spec, pageSize, sortField, sortOrder, cursor);
+        }
 
         Sort sort = Sort.by(Sort.Direction.fromString(sortOrder), sortField);
         Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
 
-        Page<Supplier> supplierPage = supplierRepository.findAll(pageable);
+        if (count != PageCountEnum.EXACT) {
+            return paginationService.getPage(Supplier.class, spec, pageable, count, null);
+        }
+
+        Page<Supplier> supplierPage = supplierRepository.findAll(spec, pageable);
 
         return supplierMMapper.fromEntity(supplierPage);
     }
@@ -1,22 +1,30 @@
 package com.gestion.almacenes.servicesImpls;
 
+import com.gestion.almacenes.commons.enums.PageCountEnum;
 import com.gestion.almacenes.commons.exception.AlreadyDeletedException;
 import com.gestion.almacenes.commons.exception.EntityNotFound;
 import com.gestion.almacenes.commons.util.GenericMapper;
+import com.gestion.almacenes.commons.util.KeysetPagination;
 import com.gestion.almacenes.commons.util.PagePojo;
 import com.gestion.almacenes.dtos.UnitMeasurementDto;
 import com.gestion.almacenes.entities.UnitMeasurement;
 import com.gestion.almacenes.repositories.UnitMeasurementRepository;
+import com.gestion.almacenes.services.PaginationService;
+import com.gestion.almacenes.services.StreamingService;
 import com.gestion.almacenes.services.UnitMeasurementService;
 import java.util.List;
+import java.util.function.Consumer;
 import lombok.AllArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import static com.gestion.almacenes.commons.util.SpecificationFilter.active;
+import static com.gestion.almacenes.commons.util.SpecificationFilter.codeAndName;
 import static com.gestion.almacenes.servicesImpls.ExceptionsCustom.*;
 
 @Service
@@ -25,6 +33,8 @@ public class UnitMeasurementServiceImpl implements
     UnitMeasurementService {
 
   private final UnitMeasurementRepository unitMeasurementRepository;
+  private final PaginationService paginationService;
+  private final StreamingService streamingService;
   private final ModelMapper modelMapper = new ModelMapper();
 
   private final GenericMapper<UnitMeasurement, UnitMeasurementDto> genericMapper = new GenericMapper<>(
@@ -36,6 +46,11 @@ public class UnitMeasurementServiceImpl implements
     return unitMeasurementRepository.findAllByActiveIsTrue();
   }
 
+  @Override
+  public void streamAll(Consumer<UnitMeasurement> action) {
+    streamingService.forEach(unitMeasurementRepository::streamAllByActiveIsTrue, action);
+  }
+
   @Override
   public UnitMeasurement create(UnitMeasurementDto unitMeasurementdto) {
 
@@ -89,18 +104,29 @@ public class UnitMeasurementServiceImpl implements
 
   @Override
   public List<UnitMeasurement> getFiltered(String code, String name) {
-
-    return unitMeasurementRepository.findAll();
+    return unitMeasurementRepository.findAll(active(codeAndName("code", code, "name", name)));
   }
 
   @Override
   public PagePojo<UnitMeasurement> getByPageAndFilters(Integer pageNumber, Integer pageSize,
-      String sortField, String sortOrder, String code, String name) {
+      String sortField, String sortOrder, String code, String name, String cursor,
+      PageCountEnum count) {
+
+    Specification<UnitMeasurement> spec = codeAndName("code", code, "name", name);
+
+    if (cursor != null) {
+      return KeysetPagination.page(unitMeasurementRepository, UnitMeasurement.class, spec, pageSize, sortField,
+          sortOrder, cursor);
+    }
 
     Sort sort = Sort.by(Sort.Direction.fromString(sortOrder), sortField);
     Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
 
-    Page<UnitMeasurement> unitMeasurementPage = unitMeasurementRepository.findAll(pageable);
+    if (count != PageCountEnum.EXACT) {
+      return paginationService.getPage(UnitMeasurement.class, spec, pageable, count, null);
+    }
+
+    Page<UnitMeasurement> unitMeasurementPage = unitMeasurementRepository.findAll(spec, pageable);
 
     return genericMapper.fromEntity(unitMeasurementPage);
   }
@@ -0,0 +1,24 @@
+package db.migration;
+
+import com.gestion.almacenes.commons.util.CopyDataLoader;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * Proveedores iniciales, cargados con COPY desde db/data/supplier.csv
+ */
+public class V9__insert_data_supplier extends BaseJavaMigration {
+
+  @Override
+  public void migrate(Context context) throws Exception {
+    try (Reader reader = new InputStreamReader(
+        new ClassPathResource("db/data/supplier.csv").getInputStream(), StandardCharsets.UTF_8)) {
+      CopyDataLoader.load(context.getConnection(), "supplier", reader);
+    }
+  }
+
+}
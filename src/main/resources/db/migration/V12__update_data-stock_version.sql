@@ -0,0 +1,4 @@
+
+-- Version inicial para el bloqueo optimista del stock
+UPDATE stock SET version = 0 WHERE version IS NULL;
+ALTER TABLE stock ALTER COLUMN version SET DEFAULT 0;
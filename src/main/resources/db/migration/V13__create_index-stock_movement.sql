@@ -0,0 +1,4 @@
+
+-- Historial de movimientos por stock y fecha
+CREATE INDEX IF NOT EXISTS idx_stock_movement_stock_id_movement_date ON stock_movement (stock_id, movement_date);
+CREATE INDEX IF NOT EXISTS idx_stock_movement_order_product_id ON stock_movement (order_product_id);
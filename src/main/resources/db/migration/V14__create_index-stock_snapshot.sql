@@ -0,0 +1,3 @@
+
+-- Foto mas cercana por stock y fecha
+CREATE INDEX IF NOT EXISTS idx_stock_snapshot_stock_id_snapshot_date ON stock_snapshot (stock_id, snapshot_date);
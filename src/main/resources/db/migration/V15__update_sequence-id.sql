@@ -0,0 +1,21 @@
+
+-- Identificadores por secuencia (incremento de 50) para que Hibernate inserte por lotes.
+-- Se quita la identidad, se ajusta la secuencia al maximo id existente y se deja como valor por
+-- defecto para las inserciones directas en SQL.
+DO $$
+DECLARE
+    t text;
+BEGIN
+    FOREACH t IN ARRAY ARRAY['catalog_product_storehouse', 'config', 'idempotent_request',
+        'order_product', 'order_product_detail', 'order_product_type', 'product', 'stock',
+        'stock_movement', 'stock_snapshot', 'storehouse', 'storehouse_type', 'supplier',
+        'unit_measurement']
+    LOOP
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', t);
+        EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I INCREMENT BY 50', t || '_seq');
+        EXECUTE format('ALTER SEQUENCE %I INCREMENT BY 50 OWNED BY %I.id', t || '_seq', t);
+        EXECUTE format('SELECT setval(%L, (SELECT COALESCE(MAX(id), 0) + 1 FROM %I), false)',
+            t || '_seq', t);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id SET DEFAULT nextval(%L)', t, t || '_seq');
+    END LOOP;
+END $$;
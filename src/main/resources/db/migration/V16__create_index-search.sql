@@ -0,0 +1,28 @@
+-- Buscadores por codigo (prefijo) y nombre (contenido), sobre lower(...) igual que SpecificationFilter
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_product_code_lower ON product (lower(code) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_product_name_trgm ON product USING gin (lower(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_storehouse_code_lower ON storehouse (lower(code) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_storehouse_name_trgm ON storehouse USING gin (lower(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_storehouse_type_code_lower ON storehouse_type (lower(code) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_storehouse_type_name_trgm ON storehouse_type USING gin (lower(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_unit_measurement_code_lower ON unit_measurement (lower(code) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_unit_measurement_name_trgm ON unit_measurement USING gin (lower(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_order_product_type_code_lower ON order_product_type (lower(code) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_order_product_type_name_trgm ON order_product_type USING gin (lower(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_config_code_lower ON config (lower(code) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_config_value_trgm ON config USING gin (lower(value) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_order_product_code_lower ON order_product (lower(code) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_order_product_description_trgm ON order_product USING gin (lower(description) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_supplier_supplier_code_lower ON supplier (lower(supplier_code) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_supplier_company_name_trgm ON supplier USING gin (lower(company_name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_order_product_detail_code_product_lower ON order_product_detail (lower(code_product) text_pattern_ops);
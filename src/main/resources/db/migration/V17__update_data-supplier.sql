@@ -0,0 +1,24 @@
+-- Limpieza de los datos heredados de proveedores (mismas reglas que SupplierNormalizer)
+UPDATE supplier SET
+  supplier_code = btrim(regexp_replace(supplier_code, '\s+', ' ', 'g')),
+  company_name = NULLIF(btrim(regexp_replace(company_name, '\s+', ' ', 'g')), ''),
+  address = NULLIF(btrim(regexp_replace(address, '\s+', ' ', 'g')), ''),
+  company_description = NULLIF(btrim(regexp_replace(company_description, '\s+', ' ', 'g')), ''),
+  owner_names = NULLIF(btrim(regexp_replace(owner_names, '\s+', ' ', 'g')), ''),
+  owner_surname = NULLIF(btrim(regexp_replace(owner_surname, '\s+', ' ', 'g')), ''),
+  email = NULLIF(lower(btrim(regexp_replace(email, '\s+', ' ', 'g'))), ''),
+  supplier_phone_number = NULLIF(regexp_replace(supplier_phone_number, '[^0-9+]', '', 'g'), ''),
+  supplier_cel_number = NULLIF(regexp_replace(supplier_cel_number, '[^0-9+]', '', 'g'), '');
+
+-- Texto de busqueda en minusculas y sin tildes (mismas reglas que SpecificationFilter.normalizeSearchText)
+ALTER TABLE supplier DROP COLUMN IF EXISTS search_text;
+ALTER TABLE supplier ADD COLUMN search_text text GENERATED ALWAYS AS (
+  translate(
+    lower(coalesce(supplier_code, '') || ' ' || coalesce(company_name, '') || ' '
+      || coalesce(owner_names, '') || ' ' || coalesce(owner_surname, '') || ' '
+      || coalesce(email, '')),
+    'áàâäãéèêëíìîïóòôöõúùûüñçÁÀÂÄÃÉÈÊËÍÌÎÏÓÒÔÖÕÚÙÛÜÑÇ',
+    'aaaaaeeeeiiiiooooouuuuncaaaaaeeeeiiiiooooouuuunc')
+) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_supplier_search_text_trgm ON supplier USING gin (search_text gin_trgm_ops);
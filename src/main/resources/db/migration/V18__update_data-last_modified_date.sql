@@ -0,0 +1,7 @@
+-- Fecha de modificacion inicial de los datos de referencia, antes de activar la auditoria de JPA,
+-- para que sus consultas condicionales (ETag / Last-Modified) tengan una fecha desde el inicio
+UPDATE product SET last_modified_date = coalesce(created_date, now()) WHERE last_modified_date IS NULL;
+UPDATE storehouse SET last_modified_date = coalesce(created_date, now()) WHERE last_modified_date IS NULL;
+UPDATE storehouse_type SET last_modified_date = coalesce(created_date, now()) WHERE last_modified_date IS NULL;
+UPDATE unit_measurement SET last_modified_date = coalesce(created_date, now()) WHERE last_modified_date IS NULL;
+UPDATE order_product_type SET last_modified_date = coalesce(created_date, now()) WHERE last_modified_date IS NULL;
@@ -0,0 +1,4 @@
+-- Hash de la solicitud original de cada llave y limpieza de las llaves vencidas por fecha
+ALTER TABLE idempotent_request ADD COLUMN IF NOT EXISTS request_hash varchar(64);
+CREATE INDEX IF NOT EXISTS idx_idempotent_request_register_date
+  ON idempotent_request (register_date);
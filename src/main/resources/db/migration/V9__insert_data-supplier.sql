@@ -1,2760 +0,0 @@
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA DE REFACCIONES  Y EQUIPOS  FRIGORIFICOS  S.A. DE C.V.          ','ifnava@hotmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','174-28-69     ','3965','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ECOMUEBLES DE BAJA CALIFORNIA,  S. A. DE C. V.                                  ','',true,NULL,'','2024-08-11 00:08:51.000451','556-08-00     ','5441','557-29-18     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SUMINISTROS MEDICOS E INFORMATICOS,S.A.DE C.V.                                  ','',true,NULL,'','2024-08-11 00:08:51.000451','16643440410','20593','16646610030'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VALENZUELA ALVAREZ JESUS MANUEL                                                 ','',true,NULL,'','2024-08-11 00:08:51.000451','5565624','23205',''),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VILLALOBOS AGUIRRE JOAQUIN JAIME                                                ','smartdesignens@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6461521105','27812','6461521105'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OMEI DISTRIBUIDORA S. DE R.L. DE C.V.                                           ','omeidistribuidora@gmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6646340894','28073','6646340894'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CONSULTORA AMBIENTAL GEO MAYA S. DE R.L. DE C.V.                                ','ambiental.geo.maya@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','6461282563','28540','6461966040'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AGENCIA ARJONA,S.A. DE C.V.                                                     ','dcarrillo@agenciaarjona.com.mx                              ',true,NULL,'','2024-08-11 00:08:51.000451','1783101','1001','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AUTO MOTORES FRONTERA, S.A. C.V.                                                ','fcontreras@nissanbaja.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','5 57 20 90    ','1188','57-27-91 Y 92 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AUTOMOTRIZ DEL VALLE DE BAJA CALIFORNIA S.A DE C.V                              ','paty.samayoa@autopasion.com.mx                              ',true,NULL,'','2024-08-11 00:08:51.000451','9044999','1261','6862428708');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'APROTEC MEXICANA S.A. DE C.V.                                                   ','magui@aprotecmexicana.com                                   ',true,NULL,'Bernardino RIVERA ','2024-08-11 00:08:51.000451','685-71-43     ','1296','6851624'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ACCESORIOS PARA LABORATORIOS, S.A. DE C.V.                                      ','celia@accesolab.com                                         ',true,NULL,'Rene Wolf Leitenberg','2024-08-11 00:08:51.000451','255 55 17     ','1359','254 30 91     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ASESORIA Y PROVEEDORA DE EQUIPOS PARA LABORATORIO SA DE CV                      ','janaya@aspelab.com                                          ',true,NULL,'José de Jesús Martínez ','2024-08-11 00:08:51.000451','33 3679-3800  ','1501','664 476 72 27 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ASESORIA Y PROVEEDORA DE EQUIPOS PARA LABORATORIO SA DE CV                      ','janaya@aspelab.com                                          ',true,NULL,'José de Jesús Martínez ','2024-08-11 00:08:51.000451','33 3679-3800  ','1501','664 476 72 27 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AGILENT TECHNOLOGIES MEXICO,S. DE RL.DE C.V.                                    ','ricardo.perez@agilent.com                                   ',true,NULL,'Marisela Casas ','2024-08-11 00:08:51.000451','5512532000','1530','9171-5540     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AIRE SERVICIO REFRIGERACION DE MEXICALI, S.A. DE C.V.                           ','francis_flores@aireservicio.com                             ',true,NULL,'Manuel Miranda ','2024-08-11 00:08:51.000451','565-02-97     ','1589','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALTA TECNOLOGIA EN LABORATORIOS S.A. DE C.V.                                    ','altatecenlabs@prodigy.net.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','(33)  3616   2','1648','65552523'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ARCOS DELGADO GUSTAVO                                                           ','arivera@gomezfarias.com                                     ',true,NULL,'  ','2024-08-11 00:08:51.000451','664 2900265   ','1663','6642900269'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ARCOS DELGADO GUSTAVO                                                           ','arivera@gomezfarias.com                                     ',true,NULL,'  ','2024-08-11 00:08:51.000451','664 2900265   ','1663','6642900269'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AUTO PRODUCTOS BAJA, S.A. DE C.V.                                               ','celinaguitron@autoproductos.com.mx                          ',true,NULL,'Luis Alberto Duron Jiménez','2024-08-11 00:08:51.000451','686- 561-57-00','1673','686-561-57-93 ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMANDER DE BAJA CALIFORNIA,S.A.DE C.V.                                         ','',true,NULL,'Jorge Atondo ','2024-08-11 00:08:51.000451','622-23-45     ','3844','6222345'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROVEEDORA DE COCINAS DE BAJA CALIFORNIA SA DE CV                               ','',true,NULL,'','2024-08-11 00:08:51.000451','178-39-33     ','17237','174-07-84     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ROMERO SILVA JULIO CESAR                                                        ','karlasantafe@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6601711','27092','6601711'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SUINSA INDUSTRIAL SUPPLY S.A. DE C.V.                                           ','',true,NULL,'','2024-08-11 00:08:51.000451','969-58-52     ','20716','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SUMINISTROS TECNOLOGICOS PARA LABORATORIO S.A. DE C.V.                          ','su-tek@hotmail.com                                          ',true,NULL,'Enrique Rodríguez Montaño','2024-08-11 00:08:51.000451','52554316','20731','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SUMINISTROS INFORMATICOS & MEDICOS S DE RL DE CV                                ','ventas@smibc.com                                            ',true,NULL,'','2024-08-11 00:08:51.000451','344-04-10     ','20745','344-04-11     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SOLUCIONES INDUSTRIALES CIENTIFICAS Y TECNOLOGICAS S.A. DE C.V.                 ','ordenes@sicytec.com                                         ',true,NULL,'J. Francisco Vargas Cerrillo','2024-08-11 00:08:51.000451','582-6200      ','20747','582-6200      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SIERRA MADRE TUBULARES, S.A. DE C.V.                                            ','claudia.ordaz@sierra-madre.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','5.26E+11','20748','5.26E+11'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SOPORTE F1 S. DE R.L. DE C.V.                                                   ','ventas@soportef1.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','6646460322','20757','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SOLUCIONES INTEGRALES EXPRESS  BAJA,  S.R.L. DE C. V.                           ','sieb_tj_ventas@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','664-242-01-03 ','20769','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SURMAN TIJUANA, S.A. DE C.V.                                                    ','arianna.ortega@surman.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6649731807','20775','6649731808'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SURMAN TIJUANA, S.A. DE C.V.                                                    ','arianna.ortega@surman.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6649731807','20775','6649731808'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TELEFONOS DEL NOROESTE, S.A. DE C.V.                                            ','mosparro@telnor.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686 551 54 06 ','21039','686 157 96 07 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'3M MEXICO, S.A. DE C.V.                                                         ','mdnajerareyes@mmm.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','626-04-00     ','21214','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TERUI GARCIA SARA                                                               ','ofi-mex@hotmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','5-58-59-95    ','21284','524-27-35/686 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TECHMASTER DE MEXICO,S.A.DE C.V.                                                ','mxl_sales@techmastermx.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6865551660','21306','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TRABAMED,S.A. DE C.V.                                                           ','btrabamed@gmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','681-6016      ','21331','681-0505      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TIENDA DELTA,S.A.DE C.V.                                                        ','tutienda.delta@gmail.com                                    ',true,NULL,'Luis Manuel Hernández López','2024-08-11 00:08:51.000451','559-90-00     ','21373','5619791'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TEJERA SUAREZ MARIA ELENA                                                       ','universidades@libcientifica.com                             ',true,NULL,'  ','2024-08-11 00:08:51.000451','931 23 58     ','21375','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TECNOLOGIA EN LABORATORIOS, S.A.DE C.V.                                         ','gdelallata@tecnolab.com.mx                                  ',true,NULL,'Gabriel De La Llata Gómez','2024-08-11 00:08:51.000451','14422185229','21386','14422188939');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TAQ SISTEMAS MEDICOS,S.A.DE C.V.                                                ','alvaro.lopez@taq.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','55-5488 9898  ','21402','55-5488 6096  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TRONCOSO NAVARRO MARCOS ANTONIO                                                 ','troncosom@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6865631857','21403','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TECNOLOGIA Y DISENO PUBLICITARIO, S.A DE C.V.                                   ','tdi_delfina@prodigy.net.mx                                  ',true,NULL,'Delfina Mireya Guerra Rodríguez','2024-08-11 00:08:51.000451','8375-5999     ','21416','8372-6390     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TODO TECNOLOGICO COMERCIAL E INDUSTRIAL S. DE R.L. DE C.V.                      ','miguel@totecmx.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','(664) 647-0008','21417','(664) 623-2560'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TIRADO OSUNA RUBEN                                                              ','este_bans@hotmail.com                                       ',true,NULL,'  ','2024-08-11 00:08:51.000451','646 151-42-15 ','21424','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TTQ DE MONTERREY, S.A.DE C.V.                                                   ','administracion@topografiamonterrey.com                      ',true,NULL,'','2024-08-11 00:08:51.000451','828-3563310   ','21427','*             '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TDM COMUNICACIONES,S.A.DE C.V.                                                  ','tdm@tdm.com.mx                                              ',true,NULL,'','2024-08-11 00:08:51.000451','656-229-53-00 ','21435','EXT. 215-217  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TECNOLOGIA DINAMICA DE MEXICO,  S. A. DE C. V.                                  ','marco.martinez@tecno-dinamica.com                           ',true,NULL,'','2024-08-11 00:08:51.000451','55-9116-0192  ','21451','55-9116-0193  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TAPIA GALINDO MARIO ALBERTO                                                     ','mario@tapiarq.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','6869463607','21456','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'THE LIBRARY OF CONGRESS                                                         ','kparker@loc.gov                                             ',true,NULL,'','2024-08-11 00:08:51.000451','2027076100','21462','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TERSA AUTOMOTRIZ S.A. DE C.V.                                                   ','lherrera@grupotersa.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6865573150','21463','6865573151'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'UNIFORMES JULIAN,S.A.DE C.V.                                                    ','ventas@uniformesjulian.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','554-75-46     ','22039','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ULINE SHIPPING SUPPLIES.S. DE R.L.DE C.V.                                       ','servicioaclientes@uline.com                                 ',true,NULL,'Dora Hernández ','2024-08-11 00:08:51.000451','800-295-5510  ','22100','800-295-5510  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'UGALDENT,S.A. DE C.V.                                                           ','hermes_ugal@yahoo.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','5663099','22101','5663099'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'UTINET NETWORKS, S. DE R.L. DE C.V.                                             ','alfonso@utinet.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','2803030','22108','2803030'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LSS DE MEXICO S.A. DE C.V.                                                      ','lss@lassmexico.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','6646666','27601','6646666'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JM SERVICES BC  S DE RL DE CV                                                   ','ssoto@jmservices.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6865565624','27682','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDITORIAL LIMUSA S.A. DE C,V.                                                   ','a@limusa.com                                                ',true,NULL,'','2024-08-11 00:08:51.000451','0','27953','0'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VICTOR MANUEL AVENDANO  NAVARRETE                                               ','caltechbc@gmail.com                                         ',true,NULL,'  ','2024-08-11 00:08:51.000451','6461931324','28480','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AGUILAR RAMIREZ MARIO CESAR                                                     ','mario@sigmacomputadoras.com                                 ',true,NULL,'  ','2024-08-11 00:08:51.000451','624-0240      ','1687','cel. 174-4703 ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AMOLCA,S.A.DE C.V.                                                              ','administracion@amolcamexico.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5658-0882','1714','0155-5659-1998'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALTA ILUMINACION DE BAJA CALIFORNIA S DE RL DE CV                               ','rgardea@aibcmx.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','250-02-62     ','1719','250-02-63     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANTONIO VAZ DISTRIBUIDORES, S. DE R.L. DE C.V.                                  ','terrizamo1@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','683-61-00     ','1736','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AZUL DENTAL DIVISION EQUIPOS S.A DE C.V.                                        ','staffdireccion@dentalazul.com                               ',true,NULL,'Lucia Ramírez Martínez','2024-08-11 00:08:51.000451','6646882777','1739','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ARAMED Y LABORATORIO, S.A. DE C.V.                                              ','atencionacliente@aramedylaboratorio.com.mx                  ',true,NULL,'Aracely Rivas ','2024-08-11 00:08:51.000451','3336418699','1741','33-36425160   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AWARE DIGITAL SYSTEMS,S.A.DE C.V.                                               ','arturo.alfaro.rdz@gmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6240674','1751','6240674'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ACSECOM S. DE R.L. DE C.V.                                                      ','mario@franquez.com                                          ',true,NULL,'Ilda Angelica Delgado ','2024-08-11 00:08:51.000451','6865643855','1762','686564-3847   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AGUILAR Y AVILES MARIA DE LOS ANGELES                                           ','dentalmayorista@msn.com                                     ',true,NULL,'  ','2024-08-11 00:08:51.000451','664/ 609-9175 ','1772','609-9175      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'APPLE OPERATIONS MEXICO, S.A. DE C.V.                                           ','mexicoempresarial@grupo.apple.com                           ',true,NULL,'Alejandro Geniz N/A','2024-08-11 00:08:51.000451','01-800-692-775','1779','01-800-6922-77'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'APPLIED BIOSYSTEMS DE MEXICO, S. DE R.L. DE C.V.                                ','alicia.mejia@appliedbiosystems.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','55-35-36-10   ','1782','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROMMESA USA S.A.DE C.V.                                                        ','',true,NULL,'','2024-08-11 00:08:51.000451','647-5198      ','17446','647-5132      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALCANTAR HUANTE MANUEL DE JESUS                                                 ','malcantar@thestorepc.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','567-79-56     ','1818','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AUTOMOTRIZ MEXICALI, S. DE R.L. DE C.V.                                         ','lizeth.carrillo@autopasion.com.mx                           ',true,NULL,'','2024-08-11 00:08:51.000451','104-22-22     ','1821','104-22-33     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANTOELI,S.A.DE C.V.                                                             ','fierroreyes@antoeli.com.mx                                  ',true,NULL,'Alejandro Fierro ','2024-08-11 00:08:51.000451','5530957225','1828','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AGUILAR AVILES ROSA DE GUADALUPE                                                ','dentalmayorista@msn.com                                     ',true,NULL,'  ','2024-08-11 00:08:51.000451','634-21-83     ','1834','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALCARAZ DE ANDA RAUL                                                            ','ralcaraz44@gmail.com                                        ',true,NULL,'  ','2024-08-11 00:08:51.000451','664-645-41-78 ','1863','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BALDERRAMA TAFOYA OSCAR                                                         ','conta@musicalbaja.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686-554-40-08 ','2168','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BIOMEDICA DE MEXICO,S.A.C.V.                                                    ','carlos.cruz@biomedicademexico.com                           ',true,NULL,'','2024-08-11 00:08:51.000451','664-608-95-45 ','2224',''),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BAJA OFFICE SUPPLIES, S.A.D E C.V.                                              ','',true,NULL,'','2024-08-11 00:08:51.000451','622-37-91     ','2288','622-3791      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BBVA BANCOMER,S.A.                                                              ','',true,NULL,'','2024-08-11 00:08:51.000451','55555555','2347','');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BAJA PAPELERA S.A. DE C.V.                                                      ','bajapapelera@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','683-16-23     ','2348','215-10-20     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BLUEMETRIC,  S. A. DE C. V.                                                     ','ventas@bluemetric.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','81-8315-5764  ','2361','83155764'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BAJANET, S DE RL DE C. V.                                                       ','ventas2@iamet.com.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686-564-53-47 ','2364','664-380-89-65 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARQUEZ ROSAS KARLA ISABEL                                                      ','',true,NULL,'','2024-08-11 00:08:51.000451','973-14-69     ','13712','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BRANDSD,  S. DE R.L. DE C. V.                                                   ','ventas@brandsd.com                                          ',true,NULL,'Laura Elena Hurtado ','2024-08-11 00:08:51.000451','664-607-7085  ','2366','(664)683-0594 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMPUPARTES Y ACCESORIOS,S.A.DE C.V.                                            ','ventasmxli@compupartes.com.mx                               ',true,NULL,'Susana Acosta ','2024-08-11 00:08:51.000451','686-555-69-95 ','3009','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CASA DE INGENIERIA Y PAPELERA, S.A. DE C.V.                                     ','lupita.quintero@casadeingenieria.com                        ',true,NULL,'Oscar Angulo ','2024-08-11 00:08:51.000451','57-43-09      ','3027','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CEDEÑO BAEZ NANCY ADRIANA                                                       ','ventas@scientec.com.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5688-5712','3053','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COPIADORAS OCCIDENTALES Y SERVICIOS, S.A. DE C.V.                               ','egonzalez@cosbaja.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','177-30-11 ( EN','3087','177-37-63 ( EN'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COPIADORAS OCCIDENTALES Y SERVICIOS, S.A. DE C.V.                               ','egonzalez@cosbaja.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','177-30-11 ( EN','3087','177-37-63 ( EN');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COPIADORAS OCCIDENTALES Y SERVICIOS, S.A. DE C.V.                               ','egonzalez@cosbaja.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','177-30-11 ( EN','3087','177-37-63 ( EN'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CENTRO DE DISTRIBUCION AH KIM PECH, S.A.DE C.V.                                 ','mzubieta@ahkimpech.com                                      ',true,NULL,'Jorge Luis Fernando Boliva','2024-08-11 00:08:51.000451','55-5563-8261  ','3091','1-800-777-11-3'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CUEVAS LOPEZ JORGE HAZAEL                                                       ','hazael_jc@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','              ','3093','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA RC,  S. A. DE C. V.                                            ','comercializadorarc@hotmail.com                              ',true,NULL,'Pierre Katim Ruffo ','2024-08-11 00:08:51.000451','6461565300','3112','6461565300'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA RC,  S. A. DE C. V.                                            ','comercializadorarc@hotmail.com                              ',true,NULL,'Pierre Katim Ruffo ','2024-08-11 00:08:51.000451','6461565300','3112','6461565300'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COTA DURAN CESAR                                                                ','',true,NULL,'','2024-08-11 00:08:51.000451','252-7638      ','3121','686120-9321   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CENTRAL DE MOTORES DE MEXICALI, S.A DE C.V                                      ','faguilar@gmmexicali.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','905-5874      ','3200','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA MEXICANA DE LA FRONTERA S.A. DE C.V.                           ','cmfens@hotmail.com                                          ',true,NULL,'Eduardo Charvel ','2024-08-11 00:08:51.000451','(646) 177-2109','3390','(686) 5684196 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARL ZEISS DE MEXICO, S.A.                                                      ','german.bazaldua@zeiss.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','55-5999-0200  ','3470','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CAMACHO ESPINOZA MONICA                                                         ','cornejodisacomp@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','563-63-02     ','3519','');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIO AUTOMOTRIZ,SA.DE CV.                                                   ','jquintero@nissanensenada.com.mx                             ',true,NULL,'','2024-08-11 00:08:51.000451','664-683-43-11 ','3529','646 1766611 EX'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIO AUTOMOTRIZ,SA.DE CV.                                                   ','jquintero@nissanensenada.com.mx                             ',true,NULL,'','2024-08-11 00:08:51.000451','664-683-43-11 ','3529','646 1766611 EX'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIO AUTOMOTRIZ,SA.DE CV.                                                   ','jquintero@nissanensenada.com.mx                             ',true,NULL,'','2024-08-11 00:08:51.000451','664-683-43-11 ','3529','646 1766611 EX'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA CIPAC, S.A. DE C.V.                                            ','gabriela.carrillo@cipacmx.com                               ',true,NULL,'Eva Nidia Vega Covantes','2024-08-11 00:08:51.000451','5-52-21-00    ','3623','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CLINIBAC, S. DE R.L. DE C.V.                                                    ','mmartinez@clinibactij.com                                   ',true,NULL,'Eduardo Molina ','2024-08-11 00:08:51.000451','686-553-49-31 ','3690','6 08 95 71    '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CLINIBAC, S. DE R.L. DE C.V.                                                    ','mmartinez@clinibactij.com                                   ',true,NULL,'Eduardo Molina ','2024-08-11 00:08:51.000451','686-553-49-31 ','3690','6 08 95 71    '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMTEL COMUNICACIONES TELEFONICAS S.A. DE C.V.                                  ','carlost@comtel.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','565 34 88     ','3731','565 30 20     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CAMARENA MARTINEZ MARIA CRUZ                                                    ','ventas@mcrepresentaciones.com                               ',true,NULL,'  ','2024-08-11 00:08:51.000451','664-686-5583  ','3750','01800-788-0678'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA COSTA BELLA S. DE R.L. DE C.V.                                 ','costbella@hotmail.com                                       ',true,NULL,'Fermin Eduardo Marquez ','2024-08-11 00:08:51.000451','1725740','3769','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMPONENTES ELECTRONICOS ARGEZ, S. A. DE C. V.                                  ','mexicali@steren.com.mx                                      ',true,NULL,'Juan Manuel Armenta ','2024-08-11 00:08:51.000451','5-64-91-11    ','3790','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CLIPS MART S.A. DE C.V.                                                         ','horacio.olachea@clips.com.mx                                ',true,NULL,'Eduardo Peregrina ','2024-08-11 00:08:51.000451','568-22-80     ','3792','568-22-80     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CLIPS MART S.A. DE C.V.                                                         ','horacio.olachea@clips.com.mx                                ',true,NULL,'Eduardo Peregrina ','2024-08-11 00:08:51.000451','568-22-80     ','3792','568-22-80     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIAL QUIMICA DEL NOROESTE S.A.DE C.V.                                      ','amalia_luciaf@hotmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','664-700-72-66 ','3793','664-4978883   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARRILLO LOMELI CLAUDIA LETICIA                                                 ','nemm44@hotmail.com                                          ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-564-3720  ','3857','6868401049 CEL'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CONTROL TECNICO Y REPRESENTACIONES S.A.DE C.V.                                  ','cinthia.martinez@ctr.com.mx                                 ',true,NULL,'Abelardo Perches ','2024-08-11 00:08:51.000451','614-4140392   ','3881','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COVARRUBIAS ALVAREZ GUADALUPE                                                   ','hidrobajaeduardo@hotmail.com                                ',true,NULL,'  ','2024-08-11 00:08:51.000451','5-61-60-85    ','3902','*             '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA CORONA, S.A. DE C.V.                                           ','lidiaw@grupokym.com                                         ',true,NULL,'Abel Moreno ','2024-08-11 00:08:51.000451','1770155','3918','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMTECYS S DE R.L DE C.V.                                                       ','',true,NULL,'','2024-08-11 00:08:51.000451','9754673','3948','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMPUPROVEEDORES, S.A. DE C.V.                                                  ','nazlicoeto@compuproveedores.com                             ',true,NULL,'Luz del Mar Coeto Lara','2024-08-11 00:08:51.000451','645-1814      ','3963','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMPUPROVEEDORES, S.A. DE C.V.                                                  ','nazlicoeto@compuproveedores.com                             ',true,NULL,'Luz del Mar Coeto Lara','2024-08-11 00:08:51.000451','645-1814      ','3963','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CORPORATIVO FIVE TECH.S.A.DE C.V.                                               ','afierro@inteed.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6865556364','3968','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIMEDH,S.A.DE C.V.                                                          ','carlos.distrimedh@hotmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','5543373','4070','634-7605      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIMEDH,S.A.DE C.V.                                                          ','carlos.distrimedh@hotmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','5543373','4070','634-7605      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORA OTAOLA,S.A DE CV                                                  ','',true,NULL,'','2024-08-11 00:08:51.000451','177-02-85     ','4161','177-02-86     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DIAGNOSTICA NUEVA ACCION,S.A.DE C.V.                                            ','mperez@dnamex.com                                           ',true,NULL,'Juan Carlos Duarte ','2024-08-11 00:08:51.000451','686-6896      ','4297','686-6828      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DIAGNOSTICA NUEVA ACCION,S.A.DE C.V.                                            ','mperez@dnamex.com                                           ',true,NULL,'Juan Carlos Duarte ','2024-08-11 00:08:51.000451','686-6896      ','4297','686-6828      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORA DENTAL JALISCO, S.A. DE C.V                                       ','ddentalj@hotmail.com                                        ',true,NULL,'Concepción Martín Del Campo','2024-08-11 00:08:51.000451','(664) 685-6338','4351','(664)685-2858 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIB.Y PAP.SIGLO XXI,S.A.CV                                                  ','',true,NULL,'','2024-08-11 00:08:51.000451','177-35-66     ','4374','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DIPROQUIM INDUSTRIAL,S.DE R.L. DE C.V.                                          ','diproquimtj@prodigy.net.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','647-33-87     ','4391','647-34-38     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DEPORTES CAMPOS DE MEXICALI, S.A. DE C.V.                                       ','depcampos2004@yahoo.com.mx                                  ',true,NULL,'Javier Campor ','2024-08-11 00:08:51.000451','552-63-06     ','4408','552-63-06     ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUCION INDUSTRIAL PACIFICO S DE R.L. DE C.V.                              ','didepa@prodigy.net.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','561-74-25     ','4416','562-24-88     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DESARROLLOS  SIST.Y SERV.TEC.INF.Y COM.S.R.L.C.V.                               ','everardo@escuelanet.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','554-3558 (116)','4457','554-3558      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DIGRAMEX,S.A.DE C.V.                                                            ','ventas1@digramex.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','5689344','4483','5689344'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORA DE FOCOS,S.A.DE C.V.                                              ','difosa01@gmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','555-66-19     ','4493','555-66-19     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'D NEWTON SOLUCIONES S.A. DE C.V.                                                ','zfloreslidia@mac.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686-7300      ','4494','*             '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DIAZ VALENCIA ANA PATRICIA                                                      ','',true,NULL,'','2024-08-11 00:08:51.000451','1513627','4495','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORA PAPELERA DE ENSENADA, S.A. DE C.V.                                ','',true,NULL,'','2024-08-11 00:08:51.000451','1788907','4520','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DESARROLLADORA URBANA M&M S.A. DE C.V.                                          ','MONICA.PROVEE@HOTMAIL.COM                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6649736216','4536','6646244031'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUCION Y MANTENIMIENTO DEL NOROESTE  S.A. DE C.V.                         ','dismant_cotizaciones@dismant.com.mx                         ',true,NULL,'Alejo Zamorano ','2024-08-11 00:08:51.000451','16444110045','4537','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORA MAICO DE MEXICO,S.A.DE C.V.                                       ','hleyton@maico.cc                                            ',true,NULL,'','2024-08-11 00:08:51.000451','18001126242','4542','18000012323');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DENTSPLY MEXICO SA DE CV                                                        ','',true,NULL,'','2024-08-11 00:08:51.000451','0','4546','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DYNAMIC COMMUNICATIONS MEXICO SA DE CV                                          ','jmejia@godynacom.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','664621-11-00  ','4549','664621-11-00  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EQUIPO, HERRAMIENTA Y SEGURIDAD INDUSTRIAL SA DE CV                             ','javiergmz@equipo.com.mx                                     ',true,NULL,'Héctor Jesús Gómez ','2024-08-11 00:08:51.000451','5-56-01-23    ','5089','5-56-01-22    '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ELECTRO SISTEMAS BAJA,.S.A.DE C.V.                                              ','',true,NULL,'Jaime Ontiveros ','2024-08-11 00:08:51.000451','554-47-10     ','5090','554-67-55     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EQUIPAR S.A.DE C.V.                                                             ','dvalencia@equipar.com.mx                                    ',true,NULL,'David Flores ','2024-08-11 00:08:51.000451','(55) 5420-9901','5153','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EQUIPOS Y BOMBAS INDUSTRIALES DE BAJA, S.A. DE C.V.                             ','ebibsa@prodigy.net.mx                                       ',true,NULL,'Lucila Gutiérrez ','2024-08-11 00:08:51.000451','173-51-74     ','5193','176-73-01     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EQUIPOS Y BOMBAS INDUSTRIALES DE BAJA, S.A. DE C.V.                             ','ebibsa@prodigy.net.mx                                       ',true,NULL,'Lucila Gutiérrez ','2024-08-11 00:08:51.000451','173-51-74     ','5193','176-73-01     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EQUIPOS Y BOMBAS INDUSTRIALES DE BAJA, S.A. DE C.V.                             ','ebibsa@prodigy.net.mx                                       ',true,NULL,'Lucila Gutiérrez ','2024-08-11 00:08:51.000451','173-51-74     ','5193','176-73-01     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ESCOBEDO SOTO ANA MARIA                                                         ','amescobedo2011@gmail.com                                    ',true,NULL,'  ','2024-08-11 00:08:51.000451','582-21-27     ','5204','*             '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ESCOBEDO SOTO ANA MARIA                                                         ','amescobedo2011@gmail.com                                    ',true,NULL,'  ','2024-08-11 00:08:51.000451','582-21-27     ','5204','*             ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ENLACE COMERCIAL SAN LUIS,S.A.DE C,V,                                           ','',true,NULL,'','2024-08-11 00:08:51.000451','653-53-48-402 ','5247','653-121-79-84 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ELECTRONICA STEREN, S.A. DE C.V.                                                ','lucia.guerrero@steren.com.mx                                ',true,NULL,'FERNANDO Proo ','2024-08-11 00:08:51.000451','6646851898','5269','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EQUIPOS DEL BERMEJO S.A.DE.C.V.                                                 ','jorge@e-bermejo.com                                         ',true,NULL,'Jorge Jiménez ','2024-08-11 00:08:51.000451','553-42-31     ','5305','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EQUIPOS Y SOLDADURAS DEL NORTE,S.A.DE C.V                                       ','cotizacion@oasa-ensenada.com                                ',true,NULL,'Rodolfo Vez ','2024-08-11 00:08:51.000451','176-47-20     ','5320','176-47-21     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ELEVADORES OTIS,S.A.DE C.V.                                                     ','eduardo.olvera@otis.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','664-637-62-98 ','5325','664-637-67-99 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ELECTROIDEAS S.A DE C.V.                                                        ','ensenada@steren.com.mx                                      ',true,NULL,'Lourde del Carmen Murillo ','2024-08-11 00:08:51.000451','1734122','5329','1734123'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EXCEL DISTRIBUIDORA S. DE R.L. DE C.V.                                          ','gquiroga@excel.mx                                           ',true,NULL,'Gerardo Bautista ','2024-08-11 00:08:51.000451','5596565','5344','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EXCEL DISTRIBUIDORA S. DE R.L. DE C.V.                                          ','gquiroga@excel.mx                                           ',true,NULL,'Gerardo Bautista ','2024-08-11 00:08:51.000451','5596565','5344','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EBSCO MEXICO INC. S.A. DE C.V.                                                  ','csantiesteban@ebsco.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','5552738218','5370','5552731585'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ESQUER LOERA FRANCISCO                                                          ','ideasimpresas70@yahoo.com.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','8414022','5431','6861204301');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDITORIAL ODONTOLOGIA ACTUAL, S.A.DE C.V.                                       ','javier@odontologiaactual.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','5543634273','5432','5615-36-88    '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ESPINOZA MARTINEZ EDGARDO                                                       ','printer_serv@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','','5438',''),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ESPACIOS E IMAGEN DE OFICINA S.A. DE C.V.                                       ','vidal@espacioseimagen.com.mx                                ',true,NULL,'Jorge Alberto Atondo Aguato','2024-08-11 00:08:51.000451','(664) 6256047 ','5445','5564100'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FOTO VENUS, S.A. DE C.V.                                                        ','fotove@gmail.com                                            ',true,NULL,'José Luis Sánchez ','2024-08-11 00:08:51.000451','552-68-70     ','6030','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FESTO PNEUMATIC,S.A.                                                            ','jesus.cardiel@mx.festo.com                                  ',true,NULL,'Armando Ramírez ','2024-08-11 00:08:51.000451','104-0381      ','6147','*             '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FUKUY LUVIANO JOSE                                                              ','ventas@totalgroup.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','554-76-16     ','6247','554-46-27     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FINAL TEST, S.A. DE C.V.                                                        ','ventas@finaltest.com.mx                                     ',true,NULL,'German Medrano Estrada','2024-08-11 00:08:51.000451','664-681-1140  ','6275','01-800 027 484'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FENIX SOLUTION MEXICO,S.A.DE C.V.                                               ','',true,NULL,'','2024-08-11 00:08:51.000451','6865541524','6288','*             '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FASTENAL MEXICO,  S. DE R.L. DE C.V.                                            ','msauceda@fastenal.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','182-92-20     ','6291','182-92-21     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FUKUY MARTINEZ JOSE LUIS                                                        ','joseluis@globaldemexico.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','561-61-77     ','6304','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FUSION TECNOLOGIAS EN SISTEMAS DE INFORMACION S.A. DE C.V.                      ','edgar.lopez@fusionsys.com.mx                                ',true,NULL,'Edgar López ','2024-08-11 00:08:51.000451','216-1222      ','6305','607-5115      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FUSION TECNOLOGIAS EN SISTEMAS DE INFORMACION S.A. DE C.V.                      ','edgar.lopez@fusionsys.com.mx                                ',true,NULL,'Edgar López ','2024-08-11 00:08:51.000451','216-1222      ','6305','607-5115      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FUSION TECNOLOGIAS EN SISTEMAS DE INFORMACION S.A. DE C.V.                      ','edgar.lopez@fusionsys.com.mx                                ',true,NULL,'Edgar López ','2024-08-11 00:08:51.000451','216-1222      ','6305','607-5115      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FUENTES LIZARRAGA JOSE ANGEL                                                    ','angel.fuentes@grupoaseti.com.mx                             ',true,NULL,'','2024-08-11 00:08:51.000451','6865633660','6319','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FRANQUEZ ESPINOZA MARIO ALBERTO                                                 ','',true,NULL,'','2024-08-11 00:08:51.000451','6862741604','6331','1118868'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GAYLORD BROS., INC.                                                             ','maria.wilson@gaylord.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','315-453-50-30 ','7007','-             '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GARCIA MORENO VICENTE                                                           ','',true,NULL,'','2024-08-11 00:08:51.000451','686-554-23-30 ','7159','619-941-29-36 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GARCIA REYES MARIA DE LOURDES                                                   ','ventas.barragan@hotmail.com                                 ',true,NULL,'  ','2024-08-11 00:08:51.000451','553-66-32     ','7286','*             '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRAN CLASE EN OFICINAS,S.A.C.V                                                  ','',true,NULL,'','2024-08-11 00:08:51.000451','6273063','7291','6273062'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GOMEZ MARTINEZ FAUSTINO                                                         ','faustinogomex@gmail.com                                     ',true,NULL,'  ','2024-08-11 00:08:51.000451','177-83-61     ','7295','646-1116132   ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GOMEZ MARTINEZ FAUSTINO                                                         ','faustinogomex@gmail.com                                     ',true,NULL,'  ','2024-08-11 00:08:51.000451','177-83-61     ','7295','646-1116132   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRAINGER S.A.DE C.V.                                                            ','deyanira.toledo@grainger.com                                ',true,NULL,'Luis Lizarraga ','2024-08-11 00:08:51.000451','6213965','7344','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GASTELUM ZARATE MIGUEL                                                          ','fvcasaycampo@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','592-57-92     ','7411','561-94-90     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GOMEZ CORONADO MARIA GUADALUPE                                                  ','',true,NULL,'','2024-08-11 00:08:51.000451','553-51-75     ','7429','557-1554      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRABADOS FERNANDO FERNANDEZ,S. DE R.L. DE C.V.                                  ','cxc_factura@grupomondi.biz                                  ',true,NULL,'Eduardo José Torres Cano','2024-08-11 00:08:51.000451','55-5688-42-87 ','7487','55-5688-40-58 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GYMCO SYSTEMS, S.A. DE C.V.                                                     ','',true,NULL,'','2024-08-11 00:08:51.000451','580-90-00     ','7493','**            '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GARCIA UCAN RICARDO                                                             ','ducan_admon@yahoo.com.mx                                    ',true,NULL,'  ','2024-08-11 00:08:51.000451','6461761579','7530','6461770261'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GUILLEN SANCHEZ JUAN ANTONIO                                                    ','info@octagono.net                                           ',true,NULL,'','2024-08-11 00:08:51.000451','646175-73-48  ','7534','646175-73-48  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GUERRA LOPEZ GERARDO                                                            ','antonio.lizarraga@compulandmx.com                           ',true,NULL,'  ','2024-08-11 00:08:51.000451','566-7951      ','7537','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GUERRA LOPEZ GERARDO                                                            ','antonio.lizarraga@compulandmx.com                           ',true,NULL,'  ','2024-08-11 00:08:51.000451','566-7951      ','7537','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO CULTURAL TIERRA CALIDA S.DE R.L. DE C.V.                                  ','tierracalida.libros@gmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','5660555','7546','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRAJEDA GOMEZ JESUS ERNESTO                                                     ','',true,NULL,'','2024-08-11 00:08:51.000451','566-21-28     ','7559',''),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO GURROLA S. DE R.L. DE C.V.                                                ','gurrola@playerascisne.com                                   ',true,NULL,'Manuel Francisco Gurrola Lugo','2024-08-11 00:08:51.000451','6865646534','7579','6461763196'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HIMGRO,S.A.                                                                     ','a@himgro.com                                                ',true,NULL,'','2024-08-11 00:08:51.000451','684-0371      ','8020','684-0380      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HERRERA AGUILAR LUIS ANTONIO                                                    ','sistecpower@gmail.com                                       ',true,NULL,'  ','2024-08-11 00:08:51.000451','566-5888      ','8117','-             '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HOLOGRAMAS DE MEXICO,S.A.DE C.V.                                                ','mvargas@holomex.com.mx                                      ',true,NULL,'Laura I. ','2024-08-11 00:08:51.000451','525-547-9046  ','8137','525-541-34-13 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OCHOA HERNANDEZ ILEANA ELIZABETH                                                ','srobles@educativacomputacion.com                            ',true,NULL,'  ','2024-08-11 00:08:51.000451','621-5489      ','8206','*             '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HDS DE BAJA CALIFORNIA S DE RL DE C.V.                                          ','compras@hds.com.mx                                          ',true,NULL,'','2024-08-11 00:08:51.000451','686-3307      ','8211','*             '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IMPRESORA SAN ANDRES S.A. DE C.V.                                               ','cobranza@sanandres.com.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','567-05-01     ','9019','67-46-66      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INSTRUMENTACION Y EQUIPOS MEDICOS, S.DE R.L. DE C.V.                            ','info@iemsalud.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','6842442','9023','684-95-20     ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IRIS CHEMICAL S.A. DE C.V.                                                      ','adriana.garcia@solucionesiris.com                           ',true,NULL,'Víctor Gilberto Blando Briseño','2024-08-11 00:08:51.000451','5560372','9048','5560372'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IRIS CHEMICAL S.A. DE C.V.                                                      ','adriana.garcia@solucionesiris.com                           ',true,NULL,'Víctor Gilberto Blando Briseño','2024-08-11 00:08:51.000451','5560372','9048','5560372'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INFRA, S.A. DE C.V.                                                             ','ecuevas@infra.com.mx                                        ',true,NULL,'Wenceslao Iván Gómez Contreras','2024-08-11 00:08:51.000451','557-12-60     ','9147','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INFRA, S.A. DE C.V.                                                             ','ecuevas@infra.com.mx                                        ',true,NULL,'Wenceslao Iván Gómez Contreras','2024-08-11 00:08:51.000451','557-12-60     ','9147','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IBARRA I./IACOP                                                                 ','ventas@iacop.com.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686 8-42-30-30','9178','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INSTRUMENTOS Y EQUIPOS FALCON SA DE CV                                          ','mxfalcon@prodigy.net.mx                                     ',true,NULL,'Víctor Ramíres ','2024-08-11 00:08:51.000451','*             ','9194','*             '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IMPULSORA LIBRO CLUB,SA DE CV                                                   ','',true,NULL,'','2024-08-11 00:08:51.000451','564-9644      ','9206','215-9494      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INSTRUMENTACION Y EQUIPO MEDICO DE BAJA CALIFORNIA,SA DE CV                     ','iemsa90@yahoo.com                                           ',true,NULL,'Maricela Lizarraga ','2024-08-11 00:08:51.000451','552-8183      ','9234','553-61-49     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INSUMOS MEDICOS DE MEXICALI, S. DE R.L. DE C.V.                                 ','sara@insumed.com.mx                                         ',true,NULL,'Carmen Aguilar ','2024-08-11 00:08:51.000451','554-29-25     ','9254','554-29-89     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IMAGEN DE MEXICALI,S.A. DE C.V.                                                 ','carlos_villarreal@xeroximagen.com                           ',true,NULL,'','2024-08-11 00:08:51.000451','554-88-81     ','9317','554-88-82     ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IMPORTADORA Y EXPORTADORA LA AMISTAD,S.A.                                       ','ventas@uniformeslaamistad.com                               ',true,NULL,'Fernando Rojas Monzón','2024-08-11 00:08:51.000451','5-61-66-44    ','9333','5-61-73-92    '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IMPRESOS Y PAPELERIA OCANA, S. DE R.L. DE C.V.                                  ','neto260_@outlook.es                                         ',true,NULL,'Susana Martínez ','2024-08-11 00:08:51.000451','6646294964','9348','664610233'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INKCO INTERNACIONAL S.A. DE C.V.                                                ','',true,NULL,'Pedro Moge ','2024-08-11 00:08:51.000451','564-96-21     ','9357','564-96-28     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INTEK DEL PACIFICO,S.R.L.DE C.V.                                                ','intekmx@gmail.com                                           ',true,NULL,'Sergio Angulo ','2024-08-11 00:08:51.000451','564-84-24     ','9362','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IMPEX COMPUTACION, S.A. DE C.V.                                                 ','',true,NULL,'Mauricio Camarena ','2024-08-11 00:08:51.000451','(55) 5660-6400','9363','(55) 29008420 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INFORMACION CIENTIFICA INTERNACIONAL MTY S.A. DE C.V.                           ','compras@iciweb.com.mx.com                                   ',true,NULL,'Luis Enrique Marin ','2024-08-11 00:08:51.000451','9797534','9367','9797535'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INFOESTRATEGICA LATINA,S.A.DE C.V.                                              ','factura@infoestrategica.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','5255-5488-0219','9372','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IMAGING FACTORY S.A.DE C.V.                                                     ','',true,NULL,'','2024-08-11 00:08:51.000451','018000284682-9','9387','971-05-55     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INGENIERIA DE SISTEMAS APLICADAS,S.A.DE C.V.                                    ','abelortegon@isasacv.com                                     ',true,NULL,'Antonio Ortegon ','2024-08-11 00:08:51.000451','556-20-19     ','9393','556-2019      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INTELLICENTER DE MEXICO,S.A.DE C.V.                                             ','nelly.martinez@aysco.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','553-43-00     ','9409','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INTERNET CONTROLADO S.A.DE C.V.                                                 ','',true,NULL,'','2024-08-11 00:08:51.000451','631-1200      ','9414','01800 024-4262'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INTECS INSTRUMENTACION S.A. DE C.V.                                             ','veronicag@intecssa.com.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','01(222) 756 29','9435','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NESTOR GABRIEL MARQUEZ MENA                                                     ','industrialgama2009@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','623-39-29     ','9451','623-39-30     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NESTOR GABRIEL MARQUEZ MENA                                                     ','industrialgama2009@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','623-39-29     ','9451','623-39-30     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INTERCOVAMEX S.A DE C.V                                                         ','contacto@intercovamex.com                                   ',true,NULL,'José Juan Alvarez ','2024-08-11 00:08:51.000451','01-777-313226 ','9454','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IMPRIME SIN LIMITES S.DE RL DE CV                                               ','',true,NULL,'','2024-08-11 00:08:51.000451','681-81-63     ','9467','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JEOL DE MEXICO, S.A. DE C.V.                                                    ','maribel@jeol.com.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','55-5211-4507  ','10136','55-5448-5900  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'KURODA NORTE, S.A. DE C.V.                                                      ','mmedinac@kuroda.com                                         ',true,NULL,'Pablo Medina ','2024-08-11 00:08:51.000451','173-55-06  ENS','11035','6862161062 MEX'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'KURODA NORTE, S.A. DE C.V.                                                      ','mmedinac@kuroda.com                                         ',true,NULL,'Pablo Medina ','2024-08-11 00:08:51.000451','173-55-06  ENS','11035','6862161062 MEX'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'KAFCO DE MEXICO, S.A. DE C.V.                                                   ','kafco.ensenada@live.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','646-182-97-94 ','11056','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LOGICA Y SISTEMAS S.A. DE C.V.                                                  ','',true,NULL,'','2024-08-11 00:08:51.000451','646-1770725   ','12079','646-1764102   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LIBROS LIBROS,S.A.DE C.V.                                                       ','acastillo@book.com.mx                                       ',true,NULL,'Alberto Castillo ','2024-08-11 00:08:51.000451','(664) 630-9065','12266','(664) 630-0046'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LAB-TECH INSTRUMENTACION S.A. DE C.V                                            ','licitaciones@labtech.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','33-36-19-40-40','12283','*             '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LIBROS PENINSULA,S.A.                                                           ','eldiauabc@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','624-9213      ','12287','684-0908      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LABOMED ISHI,S.A. DE C.V.                                                       ','labomedishi@gmail.com                                       ',true,NULL,'Mónica Rivas Beltrán','2024-08-11 00:08:51.000451','660-82-35     ','12306','660-81-66     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LAN EDUCATION,S.A.DE C.V.                                                       ','sergio@grupolan.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','664 6824126   ','12309','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LOCK PRODUCTOS PARA NAVES INDUSTRIALES, S.A. DE C.V.                            ','miguel@lockproductos.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686-567-5139  ','12310','565-1324      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LOPEZ SANCHEZ ANGEL ANTONIO                                                     ','',true,NULL,'','2024-08-11 00:08:51.000451','177-36-26     ','12385','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LOPEZ NAVA JOSE MANUEL                                                          ','calzadodmagno@hotmail.com                                   ',true,NULL,'  ','2024-08-11 00:08:51.000451','580-98-88     ','12417','592-27-87     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LOZANO MEJIA ALBERTO                                                            ','',true,NULL,'','2024-08-11 00:08:51.000451','177-35-66     ','12426','172-51-45     ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LIZARRAGA ZAMUDIO ROLANDO                                                       ','rolando_lz@yahoo.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','646-178-2478  ','12427','646-117-1928  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LOZA PEREZ LUZ LETICIA                                                          ','ramses.gonzalez@grafocintas.com                             ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-567-2694  ','12435','686-565-2048  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LOGISTICA Y TECNOLOGIAS PARA LABORATORIOS, S. A DE C.V.                         ','silvia.hernandez@logitlab.com.mx                            ',true,NULL,'Fermin Mercado ','2024-08-11 00:08:51.000451','553-5833      ','12442','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LOPEZ PARRA GENESIS ABRIL                                                       ','pegasoos2112@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6461773626','12444','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUDOVICO ACOSTA CHAMORRO                                                        ','lalberto_07@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','205-06-05     ','12451','216-02-14     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MEXICALI CONFORTABLE,S.A. C.V.                                                  ','adelarosa@meconsa.com.mx                                    ',true,NULL,'Carlos Mora Roman','2024-08-11 00:08:51.000451','567-18-01     ','13088','567-11-55     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MAC COMPUTADORAS DE TIJUANA S.A. DE C.V.                                        ','yukary.cardona@grupomac.com.mx                              ',true,NULL,'','2024-08-11 00:08:51.000451','(664)635-2063 ','13123','CEL. (664) 228'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MOTORES DE TIJUANA,S.A.DE C.V.                                                  ','hnajera@gmtijuana.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6642116510','13177','646 1760208   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MOTORES DE TIJUANA,S.A.DE C.V.                                                  ','hnajera@gmtijuana.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6642116510','13177','646 1760208   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MICRO COMPUTEC S.A. DE C.V.                                                     ','mbenitez@computec.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','555-5550      ','13183','555-5556      ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MAC.ELECTRICA S.A. DE C.V.                                                      ','agustin@macelectrica.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','61-24-13      ','13263','61-30-01      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MULTION CONSULTING, S.A. DE C.V.                                                ','anunez@multion.com                                          ',true,NULL,'Joaquin Mauri ','2024-08-11 00:08:51.000451','5-598-92-52   ','13303','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MC PROVEEDORES S.A. DE C.V.                                                     ','mcp01@prodigy.net.mx                                        ',true,NULL,'Carlos Iñiguez ','2024-08-11 00:08:51.000451','686 555-54-84 ','13343','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MOUNTAIN TECNOLOGIAS S.A.DE C.V.                                                ','jorge@mountaintecnologias.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','6087263','13500','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARTINEZ VELA JORGE                                                             ','ventas2@marvel-mx.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686-5667738   ','13537','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MAX COMPUTERS, S.A. DE C.V.                                                     ','yoana.maxcomputers@prodigy.net.mx                           ',true,NULL,'','2024-08-11 00:08:51.000451','686 566-77-44 ','13542','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MAGANA CORDERO JUAN ALFONSO                                                     ','alfonso_tenor@hotmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','1755668','13568','6461573322'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MAX PC DE MEXICO, S.A DE C.V.                                                   ','emilio.lerma@maxicomm.com.mx                                ',true,NULL,'Antonio Salazar ','2024-08-11 00:08:51.000451','178-80-08     ','13606','178-80-08     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARTINEZ DORANTES FERMIN                                                        ','impresora_atlantida@hotmail.com                             ',true,NULL,'  ','2024-08-11 00:08:51.000451','621-0171      ','13632','621-0175      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MORENO JASQUI MIGUEL                                                            ','miguel@abreco.com.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','55-26-14-95-55','13647','55-26-14-47-20');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MALDONADO GARCIA LUIS ROBERTO                                                   ','compras@itsolutionsmx.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','176-31-62     ','13660','176-31-62     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARCAS Y REPRESENTACIONES, S.A. DE C.V.                                         ','efranco@marcasy.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','6649007273','13670','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MATERIALES DE CONSUMO PARA LA MAQUILADORA SA DE CV                              ','ventasmexicali@mcm-industries.com                           ',true,NULL,'Miguel Color ','2024-08-11 00:08:51.000451','624-1347 TIJUA','13671','562-71-76 MXLI'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MW TECHNOLOGY S.A. DE C.V.                                                      ','benjamin.quiroz@technologymw.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','647-57-96     ','13695','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MEDICA DEL NOROESTE,S.A.DE C.V.                                                 ','lidyacontreras64@hotmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','552-27-87     ','13702','554-24-11     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MEDICAL Y TECHNICAL BOOKS,S.A.DE C.V.                                           ','felipe.serrato@libreriameditec.com                          ',true,NULL,'Jorge Octavio Villegas y ','2024-08-11 00:08:51.000451','222-225-1090  ','13707','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MENDEZ AMEZCUA HECTOR ANDRES                                                    ','hm.computers@live.com                                       ',true,NULL,'  ','2024-08-11 00:08:51.000451','838-2394      ','13714','(686)115-71-57'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MONDRAGON MUÑOZ MIGUEL                                                          ','mgallegos@tecsol3d.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','8183322125','13717','8111137733'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MALVERN INSTRUMENTS, INC.                                                       ','info@malvern.com                                            ',true,NULL,'','2024-08-11 00:08:51.000451','508768-6400   ','13722','*             '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MEDICION Y TECNOLOGIA INDUSTRIAL,S.A.DE C.V.                                    ','david.urdaneta@mytec.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','225-54-92     ','13727','*             ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MILANO LOPEZ SERGIO                                                             ','nayeli2017@milanoindustrial.com                             ',true,NULL,'  ','2024-08-11 00:08:51.000451','174-06-07     ','13735','1565331'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MILANO LOPEZ SERGIO                                                             ','nayeli2017@milanoindustrial.com                             ',true,NULL,'  ','2024-08-11 00:08:51.000451','174-06-07     ','13735','1565331'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MALDONADO IZASMENDI JESUS AURELIO                                               ','tecnocomasesores@prodigy.net.mx                             ',true,NULL,'','2024-08-11 00:08:51.000451','6461205256','13743','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MONDRAGON ORDAZ JOSE ANGEL GUSTAVO                                              ','arodriguez@oficlub.com                                      ',true,NULL,'  ','2024-08-11 00:08:51.000451','200-2928      ','13746','*             '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MONDRAGON ORDAZ JOSE ANGEL GUSTAVO                                              ','arodriguez@oficlub.com                                      ',true,NULL,'  ','2024-08-11 00:08:51.000451','200-2928      ','13746','*             '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NAVARRO RENTERIA ALEJANDRA                                                      ','lacasadelplomero2013@hotmail.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','177-91-11     ','14056','*             '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NORDISTRIBUCIONES VETERINARIAS S.A. DE C.V.                                     ','azramos@nordisvet.com                                       ',true,NULL,'Sandra Calderón ','2024-08-11 00:08:51.000451','5614726','14079','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NUEVA WAL MART DE MEXICO S. DE R.L. DE C.V.                                     ','linm@live.com.mx                                            ',true,NULL,'','2024-08-11 00:08:51.000451','177-21-93 CALL','14103','173-30-79  MAC'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NEXIUM INGENIERIA, S. A. DE C. V.                                               ','mluna@nexiumingenieria.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','568-1000      ','14118','664-647-8200  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NATIONAL INSTRUMENTS DE MEXICO,S.A.DE C.V.                                      ','mexico.orders@ni.com                                        ',true,NULL,'Héctor Bustamante ','2024-08-11 00:08:51.000451','656 6860350   ','14123','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OFISOLUCIONES DE ENSENADA, S.A. DE C.V.                                         ','isidrodz@yahoo.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','1786920','16038','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OFFICE DEPOT DE MEXICO S.A. DE C.V.                                             ','jcarrasco@officedepot.com.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','686 567-1550  ','16093','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OFICENTRO CORPORATIVO S.A. DE C.V.                                              ','dtrillas@oficentro.com.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','149-24-79     ','16113','689-08-52     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OFICENTRO CORPORATIVO S.A. DE C.V.                                              ','dtrillas@oficentro.com.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','149-24-79     ','16113','689-08-52     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OFICENTRO CORPORATIVO S.A. DE C.V.                                              ','dtrillas@oficentro.com.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','149-24-79     ','16113','689-08-52     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OFICENTRO CORPORATIVO S.A. DE C.V.                                              ','dtrillas@oficentro.com.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','149-24-79     ','16113','689-08-52     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OPERADORA BJ SA DE CV                                                           ','scityproaudio@hotmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','664684-0209   ','16114','6646840209'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ORDAZ LEON MARIO                                                                ','gustavo@grupokym.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','685-35-15     ','16132','685-24-41     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OJEDA CARRILLO MARIA TAYDE                                                      ','impresionesatono@hotmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','5-52-97-97    ','16143','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OPTIMA AUTOMOTRIZ,S.A.DE C.V.                                                   ','adrianan@hondaoptima.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686-568-46-86 ','16173','686-568-46-87 ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OFIBAJA,S.A.DE C.V.                                                             ','ofibaja@hotmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','567-18-16     ','16186','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OFICEMART, S.A. DE C.V.                                                         ','uabc@oficemart.mx                                           ',true,NULL,'','2024-08-11 00:08:51.000451','6865587874','16191','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OFICEMART, S.A. DE C.V.                                                         ','uabc@oficemart.mx                                           ',true,NULL,'','2024-08-11 00:08:51.000451','6865587874','16191','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OFICEMART, S.A. DE C.V.                                                         ','uabc@oficemart.mx                                           ',true,NULL,'','2024-08-11 00:08:51.000451','6865587874','16191','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OPERADORA OMX,  S. A. DE C. V.                                                  ','gerardo.oliva@officemax.com.mx                              ',true,NULL,'Alberto José Gómez Viguera','2024-08-11 00:08:51.000451','686 5662836   ','16196','01800-7137070 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OPERADORA OMX,  S. A. DE C. V.                                                  ','gerardo.oliva@officemax.com.mx                              ',true,NULL,'Alberto José Gómez Viguera','2024-08-11 00:08:51.000451','686 5662836   ','16196','01800-7137070 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OPERADORA OMX,  S. A. DE C. V.                                                  ','gerardo.oliva@officemax.com.mx                              ',true,NULL,'Alberto José Gómez Viguera','2024-08-11 00:08:51.000451','686 5662836   ','16196','01800-7137070 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PRODUCTOS METALICOS STEELE, S.A.D E C.V.                                        ','pmstij@pmsteele.com.mx                                      ',true,NULL,'Socorro Enciso ','2024-08-11 00:08:51.000451','85-73-75 AL 77','17002','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROVEEDORA PAPELERA KINO S.A DE C.V.                                            ','ordenes.mexicali@ppk.com.mx                                 ',true,NULL,'Francisco Galvez ','2024-08-11 00:08:51.000451','6865665267','17015','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROVEEDORA SANITARIA DE BAJA CALIFORNIA  S.A. DE C.V.                           ','prosanbc@prodigy.net.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','176-14-14     ','17027','*             ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROVEEDORA DEL ESTADO S.A. DE C.V.                                              ','facturacion113@provex.mx                                    ',true,NULL,'Pablo Humberto Victoria Muñoz','2024-08-11 00:08:51.000451','686 554 1414  ','17096','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROVEEDORA DEL ESTADO S.A. DE C.V.                                              ','facturacion113@provex.mx                                    ',true,NULL,'Pablo Humberto Victoria Muñoz','2024-08-11 00:08:51.000451','686 554 1414  ','17096','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PERKIN ELMER DE MEXICO,S.A.                                                     ','crescencio.baez@perkinelmer.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','(01800) 337070','17229','(686) 556-6898'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PRODUCTOS ELECTRICOS DE TIJUANA S.A. DE C.V.                                    ','cid.sanchez@grupopetsa.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','664-686-86-01 ','17449','686-05-62     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PRODUCTOS ELECTRICOS DE TIJUANA S.A. DE C.V.                                    ','cid.sanchez@grupopetsa.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','664-686-86-01 ','17449','686-05-62     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PLASCENCIA GONZALEZ ANA CINTHYA                                                 ','mary@dentel.mx                                              ',true,NULL,'  ','2024-08-11 00:08:51.000451','664-682-8185  ','17463','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PCLANS TELECOMUNICACIONES S.A. DE C.V.                                          ','',true,NULL,'','2024-08-11 00:08:51.000451','905-9967      ','17479','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PLAZA Y VALDES,S.A. DE C.V.                                                     ','',true,NULL,'','2024-08-11 00:08:51.000451','5097-2099     ','17507',''),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PEREZ OCANA MANLIO                                                              ','manliopo1@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','55-5731-04-79 ','17511','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PALACIOS SANDOVAL DANIEL                                                        ','tlibros@yahoo.com.mx                                        ',true,NULL,'  ','2024-08-11 00:08:51.000451','178-14-08     ','17532','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PINTURAS Y RECUBRIMIENTOS DE LA BAJA SA DE CV                                   ','',true,NULL,'Rubén Rodríguez Delgado','2024-08-11 00:08:51.000451','1761647','17543','1725815'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ELEMENT14 S DE RL DE CV                                                         ','ltamayo@newark.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','800 463 9275  ','17555','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ELEMENT14 S DE RL DE CV                                                         ','ltamayo@newark.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','800 463 9275  ','17555','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PRODUCTOS VETERINARIOS ESPECIALIZADOS, S.A. DE C.V.                             ','pvesa@prodigy.net.mx                                        ',true,NULL,'Davi Armando De La Cruz ','2024-08-11 00:08:51.000451','5-67-93-91    ','17565','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PANDA SOFTWARE,S.A.DE C.V.                                                      ','teresa.zarco@mx.pandasecurity.com                           ',true,NULL,'','2024-08-11 00:08:51.000451','5555143660','17645','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PARABYTE,S.DE R.L.DE C.V.                                                       ','mauricio.huante@parabyte.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6865652400','17656','6869468697'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PEREZ CORNEJO MA. GUADALUPE                                                     ','pedrorayomg@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','664 381-48-43 ','17660','6644087729'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PADILLA BABUN TERESA OSMAYRA                                                    ','tere.babun@hotmail.com                                      ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-552-93-33 ','17661','6865535600'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROVEEDORA DE INSUMOS Y SERVICIOS MEXUS SA DE CV                                ','franciscosilvag@yahoo.com.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','6865643880','17671','6865434784'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'QUIMICA DEL PACIFICO, S.A. DE C.V.                                              ','ventasquimpasa@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','177-67-27     ','18013','*             ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'QUINTERO CAMACHO PEDRO                                                          ','eeiventas@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','646-172-44-15 ','18017','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'QUIMICA INDUSTRIAL Y ANALITICA,S.A.DE C.V.                                      ','ventas4@quiasa.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','686 557 1681  ','18032','686-557-1681  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'QUIMICA INDUSTRIAL Y ANALITICA,S.A.DE C.V.                                      ','ventas4@quiasa.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','686 557 1681  ','18032','686-557-1681  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RODRIGUEZ VIDAURI JESUS ENRIQUE                                                 ','',true,NULL,'','2024-08-11 00:08:51.000451','567-48-86     ','19004',''),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ROMO OCHOA KARLA                                                                ','mrtienda_karla@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6461511230','19019','6161511230'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'REINOSA ESCOBEDO EDMOND ANGEL                                                   ','labolsa235@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6865667312','19260','6865667460'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RIVERA MARTINEZ ESTEFANA                                                        ','ismael@villabombas.com                                      ',true,NULL,'  ','2024-08-11 00:08:51.000451','177-14-50     ','19261','177-14-52     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RAMIREZ MARTINEZ LUCIA                                                          ','lucia@dentalazul.com                                        ',true,NULL,'  ','2024-08-11 00:08:51.000451','664-688-2777  ','19353','01-800-024-298'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RENDON RIOS ALBERTO ANTONIO                                                     ','sumilabtj@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','664 6072382   ','19432','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RETO INDUSTRIAL,S.A.DE C.V.                                                     ','ivalenzuela@reto.com.mx                                     ',true,NULL,'Ivan de Jesús Valenzuela Corrales','2024-08-11 00:08:51.000451','55-85-03-90-20','19437','644-1102221   ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'REACTIVOS Y EQUIPO,S.A.DE C.V.                                                  ','soledad.juarez@reactivosyequipos.com.mx                     ',true,NULL,'Luis Enrique García Preciado','2024-08-11 00:08:51.000451','664-631-1775  ','19441','(81) 8333-8691'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'REACTIVOS Y EQUIPO,S.A.DE C.V.                                                  ','soledad.juarez@reactivosyequipos.com.mx                     ',true,NULL,'Luis Enrique García Preciado','2024-08-11 00:08:51.000451','664-631-1775  ','19441','(81) 8333-8691'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ASCENCIO REYES DIEGO                                                            ','',true,NULL,'  ','2024-08-11 00:08:51.000451','6455545','19481','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ASCENCIO REYES DIEGO                                                            ','',true,NULL,'  ','2024-08-11 00:08:51.000451','6455545','19481','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RODRIGUEZ GALINDO CECILIA                                                       ','ventas@compusysmxl.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','68655360721','19483',''),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HEREDIA CICEROL CARLOS RAYMUNDO                                                 ','',true,NULL,'','2024-08-11 00:08:51.000451','65-83-45      ','20030',''),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SURTIDORA PAZHER,S.A.DE C.V.                                                    ','beatriz.paz@pazher.com                                      ',true,NULL,'Ramiro Paz ','2024-08-11 00:08:51.000451','5596022','20152','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SUNLAND S.A. DE C.V.                                                            ','sunland1@prodigy.net.mx                                     ',true,NULL,'Gonzalo Meza ','2024-08-11 00:08:51.000451','52-63-64      ','20154','52-63-65      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PREDICTIVE ANALYTICAL SOFTWARE AND SOLUTIONS, S.A. DE C.V.                      ','nayhely.lozano@pass.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','55-5682-8768  ','20433','55-5682-1797  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SALMED DISTRIBUIDORA S.A. DE C.V.                                               ','ventassalmed@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','664-660-6582  ','20448','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SISTEMAX,S.A.DE C.V                                                             ','a@sistemax.com                                              ',true,NULL,'','2024-08-11 00:08:51.000451','6243060','20453','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SOLUCIONES INTEGRALES TECNOLOGICAS S.A. DE C.V.                                 ','sitsa@sitsa.biz                                             ',true,NULL,'Pablo G. Cruz ','2024-08-11 00:08:51.000451','5-54-89-89    ','20525','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SPACIOS I HAKIM S.A. DE C.V.                                                    ','salim@spaciosihakim.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','634-76-35     ','20531','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SURTIDORA DE PAPELERIAS KYM, S.A. DE C.V.                                       ','paola.razo@grupokym.com                                     ',true,NULL,'Mario Ordaz ','2024-08-11 00:08:51.000451','556-3611      ','20581','558-4008      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SISTEMAS DE INFORMACION GEOGRAFICA,S.A. DE C.V. .                               ','mblas@sigsa.info                                            ',true,NULL,'','2024-08-11 00:08:51.000451','55-5575-1351  ','20608','55-5575-2190  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SISTEMAS PHOENIX, S. DE R.L.                                                    ','rcamacho@sistemasphoenix.com.mx                             ',true,NULL,'Francisco De La Mora ','2024-08-11 00:08:51.000451','5.26E+11','20619','5.26E+11'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SMARTVISION COMPUTER''S S.A.DE C.V.                                              ','',true,NULL,'','2024-08-11 00:08:51.000451','626-1701      ','20645','626-1707      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SINAPSIS SERVICIOS INTEG. EN COMP. S. DE R.L. DE C                              ','proyectos@sinapsisonline.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','13331223802','20651','13331223808'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SANCHEZ DEGOLLADO JOSE ALBERTO                                                  ','serviciospie@hotmail.com                                    ',true,NULL,'  ','2024-08-11 00:08:51.000451','1207546','20657','1494629'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SKIT INDUSTRIAL S.DE R.L. DE C.V.                                               ','skit.ventas1@skit.com.mx                                    ',true,NULL,'Ubaldo Molina ','2024-08-11 00:08:51.000451','686 568 3569  ','20687','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SKIT INDUSTRIAL S.DE R.L. DE C.V.                                               ','skit.ventas1@skit.com.mx                                    ',true,NULL,'Ubaldo Molina ','2024-08-11 00:08:51.000451','686 568 3569  ','20687','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SONY DE MEXICO,S.A.DE C.V.                                                      ','',true,NULL,'','2024-08-11 00:08:51.000451','01/800-759-76-','20693','01/800-759-76-'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SANCHEZ OLIVERA CESAR GILBERTO                                                  ','',true,NULL,'','2024-08-11 00:08:51.000451','1720804','20694','1720804'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERRATO DE LA CRUZ MARIA DE LOURDES                                             ','procytec.bc@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','646-172-26-08 ','20697','646-172-26-08 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VALREP S.A DE C.V.                                                              ','ventas@valenzuelarepresentaciones.com                       ',true,NULL,'','2024-08-11 00:08:51.000451','622-2501      ','23107','664-6222842   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VALREP S.A DE C.V.                                                              ','ventas@valenzuelarepresentaciones.com                       ',true,NULL,'','2024-08-11 00:08:51.000451','622-2501      ','23107','664-6222842   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VALREP S.A DE C.V.                                                              ','ventas@valenzuelarepresentaciones.com                       ',true,NULL,'','2024-08-11 00:08:51.000451','622-2501      ','23107','664-6222842   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VILLA SANCHEZ JUAN GUILLERMO                                                    ','ventas@provdeoficinas.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','176-11-81     ','23202','176-44-46     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VEGA SOFT, S.A. DE C.V.                                                         ','alejandro.vilchis@vegasoft.com.mx                           ',true,NULL,'','2024-08-11 00:08:51.000451','81) 8317 1731 ','23226','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'V W R INTERNATIONAL S.DE R.L. DE C.V.                                           ','isabel_iniguez@vwr.com                                      ',true,NULL,'Eduardo Mendez Leal','2024-08-11 00:08:51.000451','664 615 9981  ','23255','664 615 9984  ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VEGA OLIVARES JESUS HECTOR                                                      ','vegagrafics@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','553-7878      ','23275','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VESALIUS,  S. A. DE C. V.                                                       ','jgarcia@vesalius.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','55745797','23306','55749587'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'WENS GRAPHIC,S.A.DE C.V.                                                        ','director@wensgraphic.mx                                     ',true,NULL,'Orlando Sergio Mayorga Espinoza','2024-08-11 00:08:51.000451','558-63-40     ','24070','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'WESTPACO DE MEXICO S DE RL DE CV                                                ','westpaco.antonio@yahoo.com.mx                               ',true,NULL,'','2024-08-11 00:08:51.000451','676-95-92     ','24084','676-95-93     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'XPRESS INDUSTRIAL, S. DE R.L. DE C.V.                                           ','',true,NULL,'','2024-08-11 00:08:51.000451','647-06-08     ','25008','647-08-12     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'XPRESS INDUSTRIAL, S. DE R.L. DE C.V.                                           ','',true,NULL,'','2024-08-11 00:08:51.000451','647-06-08     ','25008','647-08-12     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ISIDRO JAVIER DIAZ LOPEZ                                                        ','isidrodz@yahoo.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6461786820','27053','6461786820'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO SOLTEK, S. DE R.L. DE C.V.                                                ','info@gruposoltek.com                                        ',true,NULL,'Haydeé Meléndez ','2024-08-11 00:08:51.000451','646 1782321   ','27054','CEL. 646 18396'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GLOBAL SUPLIERS S.A. DE C.V.                                                    ','global.suppliersens@gmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','6461740203','27055','6461740203'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SAFETY STOCK S. R. L. DE C.V.                                                   ','ernesto@safetystocktijuana.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','6642906891','27056','6462906890');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALANIS MUNIZ SERGIO                                                             ','alvisdiagnostics@gmail.com                                  ',true,NULL,'  ','2024-08-11 00:08:51.000451','6865540446','27059','6865540446'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EXEL RB INDUSTRIAL S.A. DE C.V.                                                 ','josemcasanova@yahoo.com                                     ',true,NULL,'Gerardo Bautista N/A','2024-08-11 00:08:51.000451','664 6072350   ','27062','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'UNI-RED, COMPUTACION Y SISTEMAS S.A. DE C.V.                                    ','iwancho@uni-red.com.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','664 681 8339  ','27063','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INNOVA INVESTIGACION S.A. DE C.V.                                               ','innovain@prodigy.net.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','5526031911','27068','5557609404'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INNOVA INVESTIGACION S.A. DE C.V.                                               ','innovain@prodigy.net.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','5526031911','27068','5557609404'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IBOARD, S.A. DE C.V.                                                            ','info@iboard.mx                                              ',true,NULL,'','2024-08-11 00:08:51.000451','0155 55332989 ','27069','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALEJANDRO GUERRERO ORTIZ                                                        ','asecom.gerencia@gmail.com                                   ',true,NULL,'  ','2024-08-11 00:08:51.000451','6461773685','27070','646 1328207   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CONSORCIO INTERNACIONAL HUITZILIN SA DE CV.                                     ','leticia@huitzilin.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','15552127331','27071','15535477999'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CERON MIRANDA JAZMIN YOLANDA                                                    ','direccion_jceli@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5994-8114','27076','*             '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JAIME  RODRIGUEZ  CRISTOBAL                                                     ','bajarefrigeracion_jrc@hotmail.com                           ',true,NULL,'  ','2024-08-11 00:08:51.000451','149-07-69     ','27077','152*146147*1  ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NAVARRO PACHECO SAUL                                                            ','saul-navarro@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','253-12-71     ','27078','686272-2438   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LINKTECH ENLACES DE TECNOLOGIA, S.A DE C.V                                      ','ecorral@setup.com.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','554-3337      ','27079','*             '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OFIMOBILIARIO S.A. DE C.V.                                                      ','hmanzano@ofibaja.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686555603','27083','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PRISMA CONSULTORES, S. A. DE C. V.                                              ','jmnoriega@prismaconsultores.com.mx                          ',true,NULL,'','2024-08-11 00:08:51.000451','(55) 52-54-82-','27084','(55) 55-31-16-'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PIZARRONES CRISTAL AND COLORS S.A. DE C.V.                                      ','ventas_picricol@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','4626350154','27087','4626350152'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CORPORACION BIBLIOGRAFICA, S.A DE C.V.                                          ','cobi@cobi.com.mx                                            ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5670-4328','27088','*             '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FERRE MART OTAY SA DE CV                                                        ','ferremartotay@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','623-37-76     ','27090','623-37-76     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VILLANUEVA AUDELO EDGARD LOIS                                                   ','v-med@hotmail.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','117-47-62     ','27091','3163773'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CREADORES DE ESPACIOS EXCEPCIONALES MOBER SA DE CV                              ','gerenciatijuana@mober.com.mx                                ',true,NULL,'Carlos Peña Lavenant','2024-08-11 00:08:51.000451','607-37-96     ','27094','607-37-96     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'UNIPARTS S.A. DE C.V.                                                           ','egomez@uniparts.com.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','5552814718','27101','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LAURA ELENA GOMEZ MORENO                                                        ','rcanino@prodigy.net.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6461739536','27104','6469475564'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALEF PROGRAMAS EDUCATIVOS, S.A. DE C.V.                                         ','alefprogramaseducativos@gmail.com                           ',true,NULL,'','2024-08-11 00:08:51.000451','3336669367','27105','3336669367'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TELECOMUNICACIONES APLICADAS, S. A. DE C. V.                                    ','guillermoayon@tecnoteltj.com.mx                             ',true,NULL,'','2024-08-11 00:08:51.000451','664-622-49-92 ','27112','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AGUILAR HERRERA NANCY LIZETTE                                                   ','nanzyliz18@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','567-18-18     ','27113','9620022'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RUBER EIM DE MEXICO, S.A. DE C.V.                                               ','rubereim@outlook.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','56533077','27114','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MAQUINARIA FRONTERA, S.A. DE C.V.                                               ','dan.villanueva@tractoresverdes.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','686-551-7601  ','27116','653-130-8850  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CLAUDIA ORTEGA FLORES                                                           ','claudia@compunetmex.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6646224483','27119','6646224483'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AGEO VELASQUEZ ACEVEDO                                                          ','libreria@libreriaguru.com                                   ',true,NULL,'  ','2024-08-11 00:08:51.000451','664-648-90-95 ','27121','646-120-90-09 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'YANEZ IBARRA HECTOR JAVIER                                                      ','cominser_mxl@yahoo.com.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','5564305','27122','6861572158'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BIOMEDICA DE MEXICO S.A DE C.V.                                                 ','carlos.cruz@biomedicademexico.com                           ',true,NULL,'','2024-08-11 00:08:51.000451','664-6089546   ','27125','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JUVERA VELASQUEZ ARTURO ADRIAN                                                  ','hectorjuvera@hotmail.com                                    ',true,NULL,'  ','2024-08-11 00:08:51.000451','8405044','27128','RADIO 152*1411'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INTER GAMMA S.A. DE C.V.                                                        ','inter_gamma@yahoo.com.mx                                    ',true,NULL,'Juan David Ramos Parra','2024-08-11 00:08:51.000451','664 6821585   ','27144','664 6241031   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PERFOPARTS, S.A DE C.V.                                                         ','ventas@perfoparts.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','555362-9129   ','27149','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TERASIC TECHNOLOGIES, INC                                                       ','sales@terasic.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','88635508800','27150','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TERASIC TECHNOLOGIES, INC                                                       ','sales@terasic.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','88635508800','27150','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JORGE CORTES GUEDEA                                                             ','jorge.cortez@novosportware.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','18662123207','27157','18662123207'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO INDUSTRIAL MYPINO GIM S.A. DE C.V.                                        ','mypibno@hotmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','6622163178','27161','6622165317'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CABRAL VALDEZ MARIA OLIVA                                                       ','madesperanza2011@hotmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','661-6134445   ','27162','661-6134445   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VALENZUELA PRECIADO CECILIA LIZETT                                              ','ventasflg_santafe@hotmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','664-975-27-57 ','27163','664-975-27-57 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO LV S. DE R.L. DE C.V.                                                     ','admon@liftbrandingpromo.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','634-2483      ','27164','634-2483      ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BRIMART, S.A. DE C.V.                                                           ','brimart1@prodigy.net.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','5513254990','27170','5513254990'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CASANDRA LIZBETH DELGADO REYES                                                  ','uniformescasandra@hotmail.com                               ',true,NULL,'  ','2024-08-11 00:08:51.000451','5546712','27171','5534274'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ADRIAN LENIN MONTIEL                                                            ','skn-materiales@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','1125231','27172','152*15*32851  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RIOS MALDONADO MIGUEL                                                           ','medyca.express@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','689-75-48     ','27175','3009088'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDUTELSA SA DE CV                                                               ','direccione@edultesa.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','844-434-00-33 ','27183','844-434-00-33 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PINTURAS PEVI, S.A. DE C.V.                                                     ','glopez@pinturaspevi.mx                                      ',true,NULL,'Joaquin Jiménez ','2024-08-11 00:08:51.000451','566-3067      ','27188','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PINTURAS PEVI, S.A. DE C.V.                                                     ','glopez@pinturaspevi.mx                                      ',true,NULL,'Joaquin Jiménez ','2024-08-11 00:08:51.000451','566-3067      ','27188','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORA DE PRODUCTOS MEDICO DE MEXICALI, S. DE R.L. DE C.V.               ','dipromedmexicali@hotmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','5556831','27189','(686)1530074  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO SOFT AIR, S. DE R.L. DE C.V.                                              ','luis.quezada@softair.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','557-8371      ','27194','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'A.P. ARTICULOS PROMOCIONALES, S.A. DE C.V.                                      ','articulos-ap@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','566-25-85     ','27198','566-25-85     ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORA PROMEDIC, S.A. DE C.V.                                            ','pro_medic@hotmail.com                                       ',true,NULL,'Marco Antonio Arce ','2024-08-11 00:08:51.000451','5546549','27199','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HERRAMIENTAS Y SERVICIOS DE BAJA CALIFORNIA S. DE R.L. DE C.V.                  ','chernandez@ccequipos.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6646863901','27205','6646863901'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VELIA ZAVALA MARTINEZ                                                           ','alselectronica@prodigy.net.mx                               ',true,NULL,'  ','2024-08-11 00:08:51.000451','6865684707','27206','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BAJA SKY SA DE CV                                                               ','ventas@cdctoner.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','664-623-88-88 ','27210','664-623-88-88 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FERNANDO GALLARDO CAMACHO                                                       ','fgallardo@integranetsoluciones.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','6461330831','27213','6461330833'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISIME S.A DE C.V.                                                              ','rzarinana@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','4.46E+11','27214','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SOLIDSERVICIOS, S.A. DE C.V.                                                    ','eduardo.herrera@solidservicios.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','10979792','27215','10979792'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RIPIPSA CALIFORNIA SA DE CV                                                     ','e.barrera@ripipsa.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','664 701 7936  ','27217','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SANCHEZ GARCIA JORGE                                                            ','ruly_benhur@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6865522306','27219','6861665273'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OCHOA OSUNA ERNESTO                                                             ','deco.ventas14@gmail.com                                     ',true,NULL,'  ','2024-08-11 00:08:51.000451','(646) 1771362 ','27221','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TECZONE COMPUTER, S. DE R.L. DE C.V.                                            ','sergiogarcia@teczonecomputer.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','686 2185048   ','27222','4.47E+11'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RED 7 S. DE R.L. DE C.V.                                                        ','mjguaderrama@septimared.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','2734672','27223','6862780296'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GLECO MEDICAL USA, S. DE R.L. DE C.V                                            ','aarmendariz@gleco.mx                                        ',true,NULL,'Josué Eduardo Gleason ','2024-08-11 00:08:51.000451','664-634-34-26 ','27225','634-37-25 Y 63'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GLECO MEDICAL USA, S. DE R.L. DE C.V                                            ','aarmendariz@gleco.mx                                        ',true,NULL,'Josué Eduardo Gleason ','2024-08-11 00:08:51.000451','664-634-34-26 ','27225','634-37-25 Y 63'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ORLANDO SERGIO MAYORGA ESPINOZA                                                 ','wenceo@live.com.mx                                          ',true,NULL,'','2024-08-11 00:08:51.000451','6865554400','27228','6865554221'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MN PROVEEDORA, S. DE R.L. DE C.V.                                               ','ventas@mnproveedora.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','838-24-95     ','27229','838-20-47     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PRODUCTOS Y EQUIPOS BIOTECNOLOGICOS, S.A. DE C.V.                               ','albertogarcia@probiotek.com                                 ',true,NULL,'Roberto Jonatan Mena ','2024-08-11 00:08:51.000451','(81) 8383-8907','27232','01-800-6726914'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PLASMA DISENO DE STANDS S DE RL DE CV                                           ','conta.siempreplasma@gmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','664 6319095   ','27234','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRAFICOS IMPREX, S.A. DE C.V.                                                   ','eanaya@graficosimprex.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6865544165','27235','6865547888'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ZION TECHNOLOGY & COMMUNICATION S.DE R.L. DE C.V.                               ','asosa@zionne.com                                            ',true,NULL,'','2024-08-11 00:08:51.000451','6646863769','27236','6641230919');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CAFEBRERIA EL PENDULO S.A. DE C.V.                                              ','carlosg@pendulo.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','5552811118','27238','5552811118 EXT'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RAMA SERVICIOS, S.A. DE C.V.                                                    ','baramburo@ramaservicios.com.mx                              ',true,NULL,'Gustavo Rangel ','2024-08-11 00:08:51.000451','5668989','27239','5668989'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DUPLICACION DIGITAL, S.A. DE C.V.                                               ','carlos@konicentro.cc                                        ',true,NULL,'Manuel Lorenzo Davis ','2024-08-11 00:08:51.000451','5570966','27240','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'QUERO MEJIA ELIA LIZETH                                                         ','iselaconquimex@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5714-6538','27242','0155-5714-6542'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LOPEZ ZAMORA JOSE NORBERTO                                                      ','ing.nlopez@gmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','4.47E+11','27243','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JAIME ALBERTO SALAZAR CASTANEDA                                                 ','jasacas@hotmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','174-28-18     ','27244','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DIFARMER SA DE CV                                                               ','rgsdep@hotmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','01667-715-1900','27247','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HYGIENE ECOLOGICA, S. DE R.L. DE C.V.                                           ','grupocomsa2016@gmail.com                                    ',true,NULL,'Luis Gaxiola ','2024-08-11 00:08:51.000451','686 270-09-65 ','27248','646 240-11-28 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HYGIENE ECOLOGICA, S. DE R.L. DE C.V.                                           ','grupocomsa2016@gmail.com                                    ',true,NULL,'Luis Gaxiola ','2024-08-11 00:08:51.000451','686 270-09-65 ','27248','646 240-11-28 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIA LUISA GONZALEZ RODRIGUEZ                                                  ','luisensbc@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','1770725','27249','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GONZALEZ ROBINSON GREGORIO                                                      ','intelec332@gmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','120-56-05     ','27252','152*14*63808  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDICIONES ILCSA SA DE CV                                                        ','ventasilcsa@libroclub.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','664-607-1992  ','27258','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TRANE, SA DE CV.                                                                ','juan.murieta@trane.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','686-165-89-13 ','27259','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MADRIGAL MEDINA JORGE                                                           ','ferreteria_lainternacional@hotmail.com                      ',true,NULL,'','2024-08-11 00:08:51.000451','6461762650','27265','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUCION DE COMPONENTES PARA AUTOMATIZACION S.A. DE C.V.                    ','azamudio@dicoa.mx                                           ',true,NULL,'Daniel García ','2024-08-11 00:08:51.000451','5677468','27266','5677549'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROSMED, S.A DE C.V                                                             ','claudia@prosmed.com.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5363-0890','27269','0155-5527-5696'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TECNICA BIOELECTRONICA ESPECIALIZADA S.A. DE C.V.                               ','tbe@tbe-servilab.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','6461416713','27272','6641915587'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'QUIJADA RUIZ DAVID HUMBERTO                                                     ','melissa_ayon@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6646094507','27273','6642361454'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SILVA GAMEZ LUIS GABRIEL                                                        ','alcantaralitobc@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6461726409','27275','6461030271'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VALENZUELA VAZQUEZ JESUS ALBERTO                                                ','carmedens@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','(646) 218-83-2','27277','152*134395*5  ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CASTRO CASTRO CHRISTYAN EUFRACIO                                                ','casgrafic@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6462045793','27279','6461464618'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORES INDUSTRIALES S.A.                                                ','esky3008@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','01 55 5310 422','27280','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MACHINE TOOLS SUPPLY DE MEXICO S DE R.L DE C.V.                                 ','ahuerta@mtsupply.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','566-99-50     ','27285','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FIDEL ARMANDO CASTAÑEDA QUEVEDO                                                 ','rollosybolsas@outlook.es                                    ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-148-9558  ','27286','906-3748 CASA '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LIBRERIAS GONVILL S.A. DE C.V.                                                  ','licitaciones@gonvill.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','3338372300','27288','3338372309'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HEWLETT-PACKARD MEXICO, S. DE R.L. DE C.V.                                      ','carlos.gomez.lopez@hp.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','5552584000','27291','13336699434'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NEXTLEVEL IP SOLUTIONS, S. DE R.L. DE C.V.                                      ','mira@nextlevelip.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','6641044335','27294','6865522015'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CORPORATIVO VYK S.C. DE R.L. DE C.V.                                            ','ccordova@vykherramientas.com                                ',true,NULL,'Carlos Cordova ','2024-08-11 00:08:51.000451','686 5649330   ','27296','6862165713'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VALES BC S.R.L. DE C.V.                                                         ','valesbctj@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6646817603','27297','6646817603'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LOZANO RIZK JORGE                                                               ','servicios@lozano-ac.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','646 1607705   ','27298','646 1607705   ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROAIN S DE RL DE CV                                                            ','ventas@proain.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','(461) 6129922 ','27302','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MEX-COM GLOBAL SOLUTIONS S. DE R.L. DE C.V.                                     ','gerencia@corporativomexcom.com.mx                           ',true,NULL,'','2024-08-11 00:08:51.000451','(686) 566 63 6','27305','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SAVIN GONZALEZ ANGEL OSVALDO                                                    ','asavin@printersshop.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','120-80-23     ','27312','CEL. 216-41-93'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LIBBEY MEXICO S. DE R.L. DE C.V.                                                ','javier.garzam@libbey.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','8110013000','27315','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MAQUINADOS, DISTRIBUCION Y MANTENIMIENTO INDUSTRIAL S. DE R.L DE C.V            ','mdmiventas@gmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','153-1763      ','27316','686-3272290   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA T7 MEXICO SA DE CV.                                            ','kjacobo@telesiete.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','55   5005-9896','27323','55   5005-9897'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VORTEK INTERNATIONAL, S. DE R.L.                                                ','carlos@vortek.com.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686-565-3020  ','27325','686-526-9490  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MANRIQUEZ NUÑEZ MARIA ANTONIETA                                                 ','xposhow@hotmail.com                                         ',true,NULL,'  ','2024-08-11 00:08:51.000451','(686) 946-30-5','27327','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BIBLIO SYSTEM SA DE CV                                                          ','jmondragon@gpo-integra.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','52(55)9171 114','27329','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BADUQUI TORRES FRANCISCO UBALDO                                                 ','servicios.ired@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686-270-9394  ','27330','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SURTIDORA ELECTRICA DEL NOROESTE S.A. DE C.V.                                   ','jose.labarrera@sensa.com.mx                                 ',true,NULL,'Carlos Acosta ','2024-08-11 00:08:51.000451','6461763540','27332','6461725927'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SURTIDORA ELECTRICA DEL NOROESTE S.A. DE C.V.                                   ','jose.labarrera@sensa.com.mx                                 ',true,NULL,'Carlos Acosta ','2024-08-11 00:08:51.000451','6461763540','27332','6461725927'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SOLUCIONES EN TRADUCCION E INTERPRETACION S.A. DE C.V.                          ','solutionmexico@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','554173131','27334','5556898266'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA VILSA, S.A. DE C.V.                                            ','lar_sa56@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','6865529539','27335','6861131551'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IHO ESPACIOS S.A. DE C.V.                                                       ','sucursaltijuana@iho.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','664-609-6442  ','27340','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CIRENTEC S.A. DE C.V.                                                           ','ventas@cirentec.com.mx                                      ',true,NULL,'María del Carmen Tecuatl ','2024-08-11 00:08:51.000451','2222613009','27341','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ELECTRICA CENTINELA, S. DE R.L. DE C.V.                                         ','ventas.ecentinela@gmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686 592-9295  ','27342','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IBARRA TRANSFORMACIONES Y ACABADOS METALICOS S.A. DE C.V.                       ','rudycamarena26@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686 557-39-17 ','27343','686 557-39-17 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NAJERA ROJO JOSE JORGE                                                          ','jnajera@ometron.com.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6461783128','27344','6.46E+12'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JANISOURCE DISTRIBUIDORES S DE RL DE CV                                         ','teresanchez@janisource.com.mx                               ',true,NULL,'Carlos Albert Canto ','2024-08-11 00:08:51.000451','(664)607-72-75','27346','(664)607-72-75');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ELYPTICA S.R.L. MI                                                              ','elyptica1@prodigy.net.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6461788909','27350','6461788909'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IMPRESSION DE MEXICO S. DE R.L. DE C.V.                                         ','antonio.cota@impressionmexico.com                           ',true,NULL,'','2024-08-11 00:08:51.000451','646-176-27-62 ','27351','646-17249-26  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INFINITY PAPELERIA S DE RL DE CV                                                ','infinitypapeleria@prodigy.net.mx                            ',true,NULL,'Juan Manuel Rodríguez ','2024-08-11 00:08:51.000451','664-971-07-21 ','27352','664-290-39-01 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HERNADEZ TINAJERO ROBERTO                                                       ','idecomm@prodigy.net.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6461773826','27353','6461773826'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JULIA MALABAR CEBALLOS                                                          ','jmalabar13@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6643830959','27354','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GUERRA REVELES JOSE LUIS                                                        ','distribuidoraloguese@hotmail.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','6461202559','27356','6461202559'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SPORT FITNESS, S.A. DE C.V.                                                     ','ventas_maite@sportfitness.com.mx                            ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5281-2750','27357','RADIO 59269116'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EL CRISOL S.A. DE C.V.                                                          ','tijuana@elcrisol.com.mx                                     ',true,NULL,'Julio César Fonseca ','2024-08-11 00:08:51.000451','6647384420','27359','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IMPORTADORA HECUSA S.A. DE C.V.                                                 ','importadorahecusa@hotmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','6865803094','27360','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NORMA MUNGUIA RODRIGUEZ                                                         ','normadevega@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','644 415 98 01 ','27372','644 174 15 76 ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LEACSA, S.A. DE C.V.                                                            ','ventas@leacsa.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','0155 56620010 ','27373','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INDUSTRIAS BIOSELEC, S.A. DE C.V.                                               ','ralvarez@bioselec.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5541-3400','27374','0133-3630-5781'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DIAGNOCELL LABORATORIOS S.A. DE C.V.                                            ','diagnocelllabs@yahoo.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','55 55368708   ','27377','55 5536 8659  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA AZRIEL, S.A. DE C.V.                                           ','comercializadora_azriel@hotmail.com                         ',true,NULL,'','2024-08-11 00:08:51.000451','0155-4333-0241','27378','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INTEGRANDO SOLUCIONES TECNOLOGICAS DEL NOROESTE S. DE R.L. DE C.V.              ','istechtj@yahoo.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','664 3829048   ','27384','664 1283535   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VILLAVICENCIO HITO YESICA GUADALUPE                                             ','villahi@villahi.com.mx                                      ',true,NULL,'  ','2024-08-11 00:08:51.000451','6461772209','27387','6461772209'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FORMAS INTELIGENTES, S. A. DE C.V.                                              ','sonia.muniz@formasinteligentes.com.mx                       ',true,NULL,'','2024-08-11 00:08:51.000451','81-19325200   ','27390','81-83650389   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORA JOFA, S.A. DE C.V.                                                ','ventas6@jofa.com.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','557-16-86     ','27393','686 168-1251  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORA JOFA, S.A. DE C.V.                                                ','ventas6@jofa.com.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','557-16-86     ','27393','686 168-1251  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AUTOS PREMIUM DE TIJUANA, S.A. DE C.V.                                          ','mham@bmw-mexicali.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6865646421','27394','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AUTOS PREMIUM DE TIJUANA, S.A. DE C.V.                                          ','mham@bmw-mexicali.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6865646421','27394','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'METODOS RAPIDOS S.A. DE C.V.                                                    ','at08@metodosrapidos.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','5553432314','27397','5553432314'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CENTINELA AUTOMOTORES, S.A. DE C.V.                                             ','bcerino@vwbaja.mx                                           ',true,NULL,'','2024-08-11 00:08:51.000451','6868387000','27398','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AUTOMOTRIZ DEL VALLE, S.A. DE C.V.                                              ','paty.samayoa@autopasion.com.mx                              ',true,NULL,'','2024-08-11 00:08:51.000451','6869044982','27399','6869044996'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AUTOMOTRIZ DEL VALLE, S.A. DE C.V.                                              ','paty.samayoa@autopasion.com.mx                              ',true,NULL,'','2024-08-11 00:08:51.000451','6869044982','27399','6869044996'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GALVAN ROBLES RUBEN ALBERTO                                                     ','eljo66@hotmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','6461769391','27402','6461768402'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ACCESORIOS Y EQUIPOS MEDICOS CACHANILLA, S. DE R.L. DE C.V.                     ','bcmedica@prodigy.net.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686 569 99 88 ','27404','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MOTOCICLETAS DE MILWAUKEE, S.A. DE C.V.                                         ','isanchez@harleybmc.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','8183565680','27405','8183565252'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INDUSTRIAL DE UNIFORMES MR. JONES S.A. DE C.V.                                  ','rolando.mr.jones@gmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6865674435','27406','6865674436'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ELECTRICA AVEHERSA, S.A. DE C.V.                                                ','avehersa@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','580-9600      ','27407','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JAMA DENTAL MEDICO SA DE CV                                                     ','mbuenrostro@jamadental.net                                  ',true,NULL,'','2024-08-11 00:08:51.000451','2222','27408','2222'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AMPLI BIO, S.A. DE C.V.                                                         ','edgaro@amplibio.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','0133 3640-4092','27410','CEL. 333201952'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MEDIBAC S. DE R.L. DE C.V.                                                      ','medibac02@hotmail.com                                       ',true,NULL,'Carlos Alberto González ','2024-08-11 00:08:51.000451','5544304','27413','554-4312      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TOTAL HOME AND OFFICE S. DE R.L. DE C.V.                                        ','joseangel@totalgroup.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','5544627','27414','5549865'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROVEEDORA INDUSTRIAL SION, S.A. DE C.V.                                        ','ventas@sionproveedora.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686 5545641   ','27416','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FELIX NABOR NAJERA FLORES                                                       ','najerafelix@hotmail.com                                     ',true,NULL,'  ','2024-08-11 00:08:51.000451','(646) 1 77 204','27423','(646) 1 30 73 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ROSA MARIA ESPARZA GONZALEZ                                                     ','desodorantespernice@hotmail.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','6461202559','27426','6461202559'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISENO EN ELECTRONICA DEL NORTE, S.A. DE C.V.                                   ','mexicali@mitzu.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','6865632936','27428','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DE ANDA ROMO JUAN ANTONIO                                                       ','chepa_choncho@hotmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','563-8003      ','27431','844-2848      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISENO E INGENIERIA EN AUTOMATIZACION S.A. DE C.V.                              ','diaventas@diasamx.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6649695650','27434','6649695650');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GOMEZ DIAZ PEDRO                                                                ','mueblesmagobc@yahoo.com.mx                                  ',true,NULL,'  ','2024-08-11 00:08:51.000451','634-35-92     ','27439','634-34-92     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GASTROEQUIPOS INDUSTRIALES S.A. DE C.V.                                         ','gventas@gastroequipos.mx                                    ',true,NULL,'Itan Tennessy Aguilar ','2024-08-11 00:08:51.000451','664-686-13-96 ','27441','664-682-97-00 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORA GEMINI, S. A DE C. V.                                             ','gilberto.duarte@grupomagestic.com.mx                        ',true,NULL,'Gilberto Duarte Vidal','2024-08-11 00:08:51.000451','689-39-21     ','27444','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORA GEMINI, S. A DE C. V.                                             ','gilberto.duarte@grupomagestic.com.mx                        ',true,NULL,'Gilberto Duarte Vidal','2024-08-11 00:08:51.000451','689-39-21     ','27444','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORA GEMINI, S. A DE C. V.                                             ','gilberto.duarte@grupomagestic.com.mx                        ',true,NULL,'Gilberto Duarte Vidal','2024-08-11 00:08:51.000451','689-39-21     ','27444','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NUÑEZ ALVAREZ BLANCA CECILIA                                                    ','portacool3@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','568-2423      ','27446','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIAL ENCANTO S.A. DE C.V.                                                  ','bpenuelas@encanto.com.mx                                    ',true,NULL,'Susana Salas ','2024-08-11 00:08:51.000451','592-14-14     ','27447','592-14-15     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BARJA SERVICES S.A DE C.V                                                       ','barja.services2017@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','686-552-2787  ','27448','686-552-2787  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIAL BALANDRA, S.A. DE C.V.                                                ','comercialbalandra@cbi.com.mx                                ',true,NULL,'Bassen Kanaan Ayub','2024-08-11 00:08:51.000451','6646255665','27449','6646812223'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INTERNATIONAL DE BAJA CALIFORNIA, S.A. DE C.V.                                  ','mgalan@ibc.com.mx                                           ',true,NULL,'','2024-08-11 00:08:51.000451','6869046622','27450','6869046405');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TOOLS AND METALS SUPPLY S DE RL DE CV                                           ','eleon@toolsmetals.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','627-04-74     ','27451','627-04-74     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COCINAS INSTITUCIONALES, S.A. DE C.V.                                           ','ventas@cocinasinstitucionales.net                           ',true,NULL,'','2024-08-11 00:08:51.000451','622-2123      ','27452','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'REVERTE EDICIONES, S.A DE C.V.                                                  ','atencionbibliotecas@reverte.com.mx                          ',true,NULL,'','2024-08-11 00:08:51.000451','(55)55-33-56-5','27453','(55)55-33-56-5'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MASIPEX S.A. DE C.V.                                                            ','jesusgarza@masipex.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','8183325657','27454','8183325657'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GOMEZ ALPIZAR LUIS ALEJANDRO ADAN                                               ','ventas@pantallas7arte.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','5596274385','27456','18004672918'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'QUIMICA VALANER, S.A. DE C.V.                                                   ','guadalajara@valaner.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','33-38-27-38-41','27459','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GUZMAN JAVIER HECTOR EMIR                                                       ','djmarcus1@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6461529428','27466','6461418675'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CONSTRUCTORA ELECTRICA HACAME, S. DE R.L. DE C.V.                               ','constructorahacame@yahoo.com.mx                             ',true,NULL,'','2024-08-11 00:08:51.000451','563-6410      ','27469','NEXT.152*13630'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FUNNY SMART PROMOCIONALES, S.A. DE C.V.                                         ','brimart1@prodigy.net.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','5513254990','27470','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RAGA IMPRESORA, S.A. DE C.V.                                                    ','ragaimpresora@yahoo.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6865571828','27475','6865555709');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LARSON IRRIGATION DE BAJA CALIFORNIA, S. DE R.L. DE C.V.                        ','e.murillo@larsonbajacalifornia.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','(646) 172-13-1','27476','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ROSENDO VELAZQUEZ RAMOS                                                         ','lubricantesbaja@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6461555934','27478','6461512991'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MORA ZAMORA  HILDA LETICIA                                                      ','cmorza@hotmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','6461769239','27479','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MIND SOLUTIONS S.A DE C.V.                                                      ','alvaro@flex-us.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','5542000042','27481','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SONNETT  S.A. DE C.V.                                                           ','fernandezhectorf@hotmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','6646346246','27484','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DELTA OHM, S.A. DE C.V.                                                         ','c.santillana@deltaohm.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','0155-1246-3121','27487','0155-4435-9478'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOAQUIN IVAN LUGO RIOS                                                          ','pegasoos2112@gmail.com                                      ',true,NULL,'  ','2024-08-11 00:08:51.000451','1773626','27491','1773626'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AUTOS HERMOSILLO S.A. DE C.V.                                                   ','jantonio_medina@gemso.com.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','6622892000','27492','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROVEEDORA DE INSUMOS PARA DIAGNOSTICO S.A. DE C.V.                             ','giovana.gama@pidsa.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','55288763','27494','55288763'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BAZALDUA OCAMPO GERMAN                                                          ','german.bazaldua@biomedicatech.com                           ',true,NULL,'  ','2024-08-11 00:08:51.000451','664-1202035   ','27496','664-1202035   ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'REVLUX S.A. DE C.V.                                                             ','k.sanay@rev-lux.com                                         ',true,NULL,'Kuotaro Sanay Robles','2024-08-11 00:08:51.000451','6461372261','27499','6461372261'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INNOVATIVE TRADE CENTER SA DE CV                                                ','innovativetrad@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','664-621-3009  ','27500','664-621-3009  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EL MATRAZ, S. A. DE C. V.                                                       ','contabilidad@elmatraz.com                                   ',true,NULL,'Alberto Antonio Rendon Rios','2024-08-11 00:08:51.000451','664-607-23-82 ','27501','664-607-23-82 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EL MATRAZ, S. A. DE C. V.                                                       ','contabilidad@elmatraz.com                                   ',true,NULL,'Alberto Antonio Rendon Rios','2024-08-11 00:08:51.000451','664-607-23-82 ','27501','664-607-23-82 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO ESPECIALIZADO DE ABARROTES S.R. L. DE C.V.                                ','gea2@prodigy.net.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','6461767460','27504','6461767460'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LASSTECH CORP S.A. DE C.V.                                                      ','hector.parada@lasstechcorp.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','614-410-9350  ','27505','614-410-9350  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MAS INSTRUMENTOS S.A DE C.V.                                                    ','nsoto@metrohm.mx                                            ',true,NULL,'','2024-08-11 00:08:51.000451','5554247350','27507','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERVICIOS INTEGRALES EN TELECOMUNICACIONES DEL NOROESTE, S. DE R.L. DE C.V.     ','irene.mendivil@sitn.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686 5643396   ','27508','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARCO ALEJANDRO PEREZ TEJADA REBOLLAR                                           ','radiocom_ventas@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','556-11-77     ','27510','8387658'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'METALINSPEC SA DE CV                                                            ','jpena@metalinsoec.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','81-81516351   ','27512','81-81516351   ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO COMPUTACION INTEGRAL S.A. DE C.V.                                         ','mquiroga@grupoebs.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6862616925','27514','564-60-59     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ASESORIA LOGISTICA PROYECTOS Y EQUIPO SA DE CV                                  ','sergio.gomez@alpesa.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','53698396','27517','53698396'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MUNDO EXPRESS DE LOGISTICA SA DE CV                                             ','logisticamundo@prodigy.net.mx                               ',true,NULL,'','2024-08-11 00:08:51.000451','664624-85-66  ','27518','664624-85-66  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TIENDAS EN CADENA S.A. DE C.V.                                                  ','nacionalzapateria@hotmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','6865541780','27521','6865540859'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LOPEZ OSCAR                                                                     ','isidrodz@yahoo.com.mx                                       ',true,NULL,'  ','2024-08-11 00:08:51.000451','6461787574','27522','6461787574'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CUATRO R GRUPO COMERCIAL, S.A. DE C.V.                                          ','raymundomunozr@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6646095097','27523','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GONZALEZ ANGUIANO LORENA                                                        ','jcassio@securitelalarmas.com                                ',true,NULL,'  ','2024-08-11 00:08:51.000451','556-0222      ','27524','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ICKROM S.A. DE C.V.                                                             ','cflores@ickrom.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','15555567067','27526','15555566313'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SANTA EMMA DISTRIBUIDORA SA DE CV                                               ','miguel_cardio@yahoo.com.mx                                  ',true,NULL,'Gerardo Alberto Macias ','2024-08-11 00:08:51.000451','6860609','27527','6860609'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AUTOPRODUCTOS DE LA COSTA S.A. DE C.V.                                          ','hmunoz@autoproductos.com.mx                                 ',true,NULL,'Luis Alberto Duron Jiménez','2024-08-11 00:08:51.000451','6865615777','27528','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AUTOPRODUCTOS DE LA COSTA S.A. DE C.V.                                          ','hmunoz@autoproductos.com.mx                                 ',true,NULL,'Luis Alberto Duron Jiménez','2024-08-11 00:08:51.000451','6865615777','27528','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AUDIO RADIOFRECUENCIA E INGENIERIA, S.A. DE C.V.                                ','aurisacv@prodigy.net.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','5555394327','27529','5555395770'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE DE JESUS CISNEROS RODRIGUEZ                                                ','sillasyescritorios@hotmail.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','6462042070','27530','6462042070'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GUERRERO OCHOA BEATRIZ                                                          ','hermesgroupmexico@gmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','580-80-85     ','27532','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BLANCA ALICIA CASTANEDA PEREZ                                                   ','blancacastaneda@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6642814957','27533','6642814957'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ACMAX DE MEXICO, S.A. DE C.V.                                                   ','v7@acmax.mx                                                 ',true,NULL,'','2024-08-11 00:08:51.000451','222-8918484   ','27535','222-8918484   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INNOVACIONES ACUICOLAS S.A. DE C.V.                                             ','innova@codemet.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','7612706','27536','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DETEC DISTRIBUIDORA, S.A DE C.V                                                 ','proyectos@detec.com.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','566-0080      ','27537','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SALVADOR RAMIRO MONTENEGRO                                                      ','ramiros1@prodigy.net.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6862528588','27538','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BERMUDES JASSO HECTOR MANUEL                                                    ','distribuidoracr@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','664-380-96-85 ','27539','664-380-96-85 ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LORED COMERCIO EXTERIOR S DE RL DE CV                                           ','sergioganelon@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','664-440-01-29 ','27541','664-440-01-29 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMPUTER FORMS S.A. DE C.V.                                                     ','comercializacion@computerforms.com.mx                       ',true,NULL,'','2024-08-11 00:08:51.000451','32844400','27546','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IMPRESION DIGITAL DIRECTA, S. DE R.L. DE C.V.                                   ','idd_pedidos@yahoo.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','664 6375503   ','27550','664 6769592   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IMPRESION DIGITAL DIRECTA, S. DE R.L. DE C.V.                                   ','idd_pedidos@yahoo.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','664 6375503   ','27550','664 6769592   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OPERADORA DE SERVICIOS Y PRODUCTOS DEL NORTE, S.A. DE C.V.                      ','alcala.carlos@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6865679107','27551','6861705469'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EQUIPOS MEDICOS Y DENTALES, S.A. DE C.V.                                        ','marcesadecv@live.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','6865522065','27552','6865522065'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LANCER ORTHODONTICS DE MEXICO, S.A. DE C.V.                                     ','rbartolini@lancerortho.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6865657500','27553','6865657501'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORA DE LLANTAS Y VEHICULOS, S.A. DE C.V. TREVIÑO MOTORS               ','contabilidad@trevinomotors.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','6865525101','27554','6865525102'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TEST SOLUTIONS DE MEXICO, S.A. DE C.V.                                          ','fernando.garcia@testsolutionsmexico.com                     ',true,NULL,'','2024-08-11 00:08:51.000451','6865619326','27555','6865619322'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NADIA GEORGINA CORVERA                                                          ','avalondentaltrade@gmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6865560139','27557','6862119636');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ELECTRICA ROMA S. DE R.L. DE C.V.                                               ','elecroma@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','6865674886','27558','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'KARINA CAUDILLO SOLIS                                                           ','karina_caudillo@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6868376097','27559','6861166671'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO CONFORT NACIONAL, S.A. DE C.V.                                            ','gabriela.machado@grupoconfort.com                           ',true,NULL,'Gerardo García Espinoza','2024-08-11 00:08:51.000451','6865555777','27560','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MANTENIMIENTO, CONTROL Y PROYECTOS, S.A. DE C.V                                 ','abdulruiz@mcpbaja.com.mx                                    ',true,NULL,'Fabiola Antonio Gaytan','2024-08-11 00:08:51.000451','8371993','27561','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'URBANIZACION Y RIEGO BAJA CALIFORNIA S.A. DE C.V.                               ','anunez@urbaca.com.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','6461735244','27567','6461934614  15'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ORLANDO JIMENEZ SOLIS                                                           ','chaco@orso.mx                                               ',true,NULL,'','2024-08-11 00:08:51.000451','6865616418','27568','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDGAR GONZALEZ SAN PEDRO                                                        ','sanpedro.edgar@gmail.com                                    ',true,NULL,'  ','2024-08-11 00:08:51.000451','686 1896711   ','27569','653 1033723   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERVICIOS INTEGRADOS EN SISTEMAS DE ENFRIAMIENTO                                ','ana.resendiz@sisesa.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6865666153','27570','6865666153'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIO JIMENEZ  SANCHEZ                                                          ','bombasylonasfacturacion@gmail.com                           ',true,NULL,'  ','2024-08-11 00:08:51.000451','6461740406','27571','6461740406'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'KOSMOS SCIENTIFIC DE MEXICO, S.A DE C.V                                         ','irma.cerda@kosmos.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','0181-8298-9716','27573','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FLORES ESCOBAR LAURO                                                            ','ventasmxl5@padicsa.com                                      ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-280-4800  ','27574','686-556-1871  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GONZALEZ SAN PEDRO EDGAR                                                        ','info@scaener.com                                            ',true,NULL,'  ','2024-08-11 00:08:51.000451','686189-6711   ','27575','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DEDUTEL EXPORTACIONES E IMPORTACIONES, S.A. DE C.V.                             ','ventas@dedutel.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','55 55761477   ','27576','5568225900'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRAJEDA GOMEZ JESUS ERNESTO                                                     ','alonso@apmicrotech.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','686 5662128   ','27580','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CM INGENIERIA Y PROYECTOS ELECTRICOS, S.A. DE C.V.                              ','administracion@cmingenieriamxl.mx                           ',true,NULL,'','2024-08-11 00:08:51.000451','(686)5660624  ','27581','(686)5660628  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ACONDICIONAMIENTO EN POTENCIA Y COMUNICACIONES, S.A. DE C.V.                    ','cristianereyes@bogard.com.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5203-2356','27583','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MYPINO S. DE RL.  DE CV.                                                        ','mypino@hotmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','16622165317','27585','16622163178'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'KARLA GABRIELA SANTACRUZ PRECIADO                                               ','ventaseda@aibcmx.com                                        ',true,NULL,'  ','2024-08-11 00:08:51.000451','6461205020','27586','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SUMINISTRO PARA USO MEDICO Y HOSPITALARIO, S.A DE C.V.                          ','eguerra@smh.com.mx                                          ',true,NULL,'','2024-08-11 00:08:51.000451','15556878720','27590','4.46E+11'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SKILL TECHNOLOGY S.A. DE C.V.                                                   ','info@skilltech.mx                                           ',true,NULL,'','2024-08-11 00:08:51.000451','55 55239979   ','27595','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BIOSCIENTIA DISTRIBUIDORA, S.A. DE C.V.                                         ','ventasmexicalli@bioscientia.com.mx                          ',true,NULL,'','2024-08-11 00:08:51.000451','15563079120','27596','6861676627'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TLCOM, S. DE R.L. DE C.V.                                                       ','soporte.tl@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6865800800','27602','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ESTEBAN PALMA MORALES                                                           ','scruz_cortes@yahoo.com.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','9931412112','27603','9931611553'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SOSA CAMAS MIGUEL ANGEL                                                         ','miguelsosa60@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','252 88 77     ','27604','686 1 38 90 36'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JAVIER RAMIREZ SANCHEZ                                                          ','shalomjavier7@gmail.com                                     ',true,NULL,'  ','2024-08-11 00:08:51.000451','607-19-35     ','27605','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CAMPA VALDEZ LUIS FRANCISCO                                                     ','surtho@hotmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','5593388','27607','5660759'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SUPERVY SISTEMAS, S.A. DE C.V.                                                  ','jmonroy@supervy.com.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5656-3863','27608','0155-5608-5300'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AVIT SOLUCIONES, S. DE R.L. DE C.V.                                             ','ventas@avitsol.com                                          ',true,NULL,'Jorge Fernando Ortega Castro','2024-08-11 00:08:51.000451','6869056344','27609','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TECNICA EN LABORATORIOS, S.A.                                                   ','cristinad@tecnicaenlaboratorios.com                         ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5574-5883','27610','0155-58574-113'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA ELORO, S.A.                                                    ','jimendez@jumex.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6865924278','27611','6861199243');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROMOCIONES IMPRESAS DE MEXICO, S.A. DE C.V.                                    ','marianna@tictoc.mx                                          ',true,NULL,'','2024-08-11 00:08:51.000451','6642909090','27612','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'H&J PRECISION TOOLS DE MEXICO, S.A. DE C.V.                                     ','mario.barrera@hjprecisiontools.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','6646270905','27617','6646270907'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MORVIL, S.A. DE C.V.                                                            ','ventas2.sum@morvil.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6865664102','27618','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MORVIL, S.A. DE C.V.                                                            ','ventas2.sum@morvil.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6865664102','27618','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ACTUALIZATE YA S.C. DE R.L. DE C.V.                                             ','ivan.montijo@actualizateya.com.mx                           ',true,NULL,'','2024-08-11 00:08:51.000451','6868412430','27624','6868412431'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CENTRO DE INVESTIGACION CIENTIFICA Y DE EDUCACION SUPERIOR DE ENSENADA BAJA CALI','jcastro@cicese.mx                                           ',true,NULL,'','2024-08-11 00:08:51.000451','6461750500','27625','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DSPPROJECTS, S. A. DE C. V.                                                     ','obugarin@dspprojects.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','33-38250667   ','27628','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IMPRESIONES DIGITALES SA DE CV                                                  ','contabilidad@mega-print.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','664 6343454   ','27631','664 6343454   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROVEEDOR DE LABORATORIOS,  S.A. DE C.V.                                        ','ruben@pro-lab.com.mx                                        ',true,NULL,'Rubén Torres ','2024-08-11 00:08:51.000451','33 3563-4826  ','27634','33 3636-0270  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'UNOTEC S. DE R.L. DE C.V.                                                       ','mhuante@unotec.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686 5 65-24-00','27638','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'REYES LUCERO MARIA ANGELICA                                                     ','smartonersupplies@gmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6169598','27643','2500229'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MEXICALI PAINT, S.A. DE C.V.                                                    ','benitojuarez@mexicalipaint.com                              ',true,NULL,'Fabian VEGA ','2024-08-11 00:08:51.000451','686 5670744   ','27646','5670303'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO INTERCOM MR & SUPPLIES, S DE RL DE CV                                     ','gaby.asesor@grupo-intercom.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','6646087671','27651','6643821571'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BIOADVANCED SYSTEMS, S.A. DE C.V.                                               ','biasys_chihuahua@biasys.com.mx                              ',true,NULL,'Fernanda Amilpa ','2024-08-11 00:08:51.000451','0155-5691-7875','27653','0155-2608-5624'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'METTLER TOLEDO S.A DE C.V.                                                      ','mt.mexico@mt.com                                            ',true,NULL,'Arturo Alcantara ','2024-08-11 00:08:51.000451','5519460900','27660','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AVANCE Y TECNOLOGIA EN PLASTICOS S.A DE C.V.                                    ','atpmexicali@avanceytec.com.mx                               ',true,NULL,'','2024-08-11 00:08:51.000451','5560663','27662','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GEISON JULIAN ISAZA POSADA                                                      ','librosymueblesshaddai@gmail.com                             ',true,NULL,'  ','2024-08-11 00:08:51.000451','204 42 60     ','27666','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE ALFREDO CARBALLO CARRILLO                                                  ','ventas2@cleandrymxli.com                                    ',true,NULL,'  ','2024-08-11 00:08:51.000451','6865671818','27667','6861701662'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HERNANDEZ CARRILLO RAUL                                                         ','labtronica@prodigy.net.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6646868913','27668','6646868913'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROVEEDORA DE INSUMOS ACUICOLAS S.A. DE C.V.                                    ','facturacion@proaqua.mx                                      ',true,NULL,'Daniel Cabrera ','2024-08-11 00:08:51.000451','6699540282','27670','6699540283');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BOBCAT EXPRESS, S. DE R.L. DE C.V.                                              ','moises@bobcatbaja.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','565-9900      ','27671','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COLOR ONE S.A. DE C.V.                                                          ','victorleor@colorone.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','(81) 80 07 89 ','27672','(811) 660 88 5'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SUMINISTRO Y VENTA DE EQUIPOS MEDICOS, S.A. DE C.V.                             ','suvemsa@prodigy.net.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','15553594113','27676','15553593069'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MOLINOS AZTECA Y JUPER, S.A. DE C.V.                                            ','luismanuel@molinosazteca.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','13336456308','27680','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PREDICTIVE ANALYTICAL SOFTWARE AND SOLUTIONS, S.A. DE C.V.                      ','nayhely.lozano@informese.co                                 ',true,NULL,'','2024-08-11 00:08:51.000451','(55)5682 8768 ','27681','(55)5682 1797 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MATERIALES TIJUANA, S.A. DE C.V.                                                ','jolupaso1@gmail.com                                         ',true,NULL,'Jorge Parra ','2024-08-11 00:08:51.000451','6268038','27685','6268038'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RICARDO SOLACHE TAPIA                                                           ','ventas@tiendadeequipomedico.com.mx                          ',true,NULL,'','2024-08-11 00:08:51.000451','18008087633','27686','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TELAS Y LINEAS EN REPRESENTACION S.A DE C.V                                     ','karla.ramos@tyler.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','81-83-40-3887 ','27687','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IMADINE, S.A. DE C.V.                                                           ','ventasgobierno@imadine.com.mx                               ',true,NULL,'','2024-08-11 00:08:51.000451','33-33-43-92-35','27688','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANA CECILIA RAMOS CALDERON                                                      ','serviciosinformaticos@prodigy.net.mx                        ',true,NULL,'','2024-08-11 00:08:51.000451','15526524903','27689','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANA CECILIA RAMOS CALDERON                                                      ','serviciosinformaticos@prodigy.net.mx                        ',true,NULL,'','2024-08-11 00:08:51.000451','15526524903','27689','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ADMINISTRACION PROFESIONAL DE SERVICIOS XOLUCIONA, S.A. DE C.V.                 ','gmatus@xoluciona.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','5551164259','27690','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ROBERTO ROSARIO  PREZA PONCE                                                    ','preza980@gmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','179-13-44     ','27691','CEL 117-17-41 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'POLRICOM S.A. DE C.V.                                                           ','bcequipos@bcequipos.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','0133  17 30 00','27693','0133 16 49 52 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TECNOLOGIAS Y SOLUCIONES TRIDIMENSIONALES SA DE CV                              ','mgallegos@tecsol3d.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','8183322125','27695','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INTELLIGY S.A. DE C.V.                                                          ','vcontreras@intelligy.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','01800-410-35-5','27696','01800-410-35-5'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CENTRAL DE ALARMAS Y SERVICIOS S. DE R.L. DE C.V.                               ','bgarcia@centraldealarmasmx.com                              ',true,NULL,'María Eugenia Valdez ','2024-08-11 00:08:51.000451','6865646082','27697','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CENTRO PAPELERO LEON VALDES Y ASOCIADOS S.A. DE C.V.                            ','central.papeleraleon@gmail.com                              ',true,NULL,'Maura Eleva ','2024-08-11 00:08:51.000451','6461741486','27699','6461786471'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ECHEVERRIA RODRIGUEZ MARIA DE LOS ANGELES                                       ','germancano@gmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','664-328-16-20 ','27700','664-328-16-20 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GLORIA ELIZABETH VILLAESCUSA MARQUEZ                                            ','pdmareda@prodigy.net.mx                                     ',true,NULL,'  ','2024-08-11 00:08:51.000451','178--89-05    ','27702','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUIS ALBERTO FLORES HERNANDEZ                                                   ','lasercomensenada@gmail.com                                  ',true,NULL,'  ','2024-08-11 00:08:51.000451','1736317','27703','CEL.  15171-80'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AVINA RAMIREZ ALEJANDRO                                                         ','ventas@cargadoresparalaptops.com.mx                         ',true,NULL,'  ','2024-08-11 00:08:51.000451','6865614936','27705','6861217893'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NAVA VALLADARES RAMON                                                           ','navapapeleria@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','680-83-05     ','27707','609-09-31     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARCO POLO MONTES OBESO                                                         ','rotulos.admon@gmail.com                                     ',true,NULL,'  ','2024-08-11 00:08:51.000451','6865669190','27709','6865643970'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EQUIP AND TECNOLOGY SISTEM, S.A. DE C.V.                                        ','sanchezvera.ets@outlook.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','15557307590','27710','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NORTH AMERICA BOOKS, S. A. DE C.V.                                              ','rosario@northamericabooks.com                               ',true,NULL,'Gabriel Falcon ','2024-08-11 00:08:51.000451','8183491118','27711','8183650198'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ESNA SOLUCIONES INTEGRALES S.DE R.L. DE C.V.                                    ','esna_tijuana@outlook.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6643784625','27712','6643784625'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORA INTERSISTEMAS S.A. DE C.V.                                        ','luis.garduno@dinsamex.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','276 2808 5276 ','27714','5276 3002     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MINOR OCHOA RICARDO                                                             ','minorata@prodigy.net.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','582-1416 Y 17 ','27715','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DESARROLLO COMERCIAL DEL NOROESTE S.A. DE C.V                                   ','tiendamexicali@decono.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','556-5441      ','27717','582-5076      ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DESARROLLO COMERCIAL DEL NOROESTE S.A. DE C.V                                   ','tiendamexicali@decono.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','556-5441      ','27717','582-5076      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DESARROLLO COMERCIAL DEL NOROESTE S.A. DE C.V                                   ','tiendamexicali@decono.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','556-5441      ','27717','582-5076      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OLOÑO ARZAC KAREN PAOLA                                                         ','pipactj@hotmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','664-104-55-62 ','27721','664-104-55-62 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JMG TECHNOLOGY, S.A. DE C.V.                                                    ','sharo@jmgtechnology.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686-582-3196  ','27722','686 2219961   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA DE TEXTILES, INSUMO Y TECNOLOGIA, S. DE R.L. DE C.V.           ','ventas@texitecmx.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','6862484377','27723','6861409574'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MEGAFARMA , S.A. DE C.V.                                                        ','asolis@megafarma.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','(55) 52938770 ','27725','5593552801'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALEJANDRIA DISTRIBUCION BIBLIOGRAFICA, S.A. DE C.V.                             ','adb@prodigy.net.mx                                          ',true,NULL,'','2024-08-11 00:08:51.000451','55 5616 1319  ','27726','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GASO EQUIPO E INSTALACION S.A. DE C.V.                                          ','orcar.arizpe@dyhmexicana.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','664 188 02 54 ','27727','8717228860'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LATIN AMERICA SYSTEM INTEGRATION S. DE R.L. DE C.V.                             ','mauriciob@vtpcorp.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6643851064','27728','6643851064'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MIRNA ACEVEDO VILLALOBOS                                                        ','ruedasybaleros@prodigy.net.mx                               ',true,NULL,'','2024-08-11 00:08:51.000451','6461725872','27729','6461174929');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'YANET BELTRAN QUIROZ                                                            ','arteimpreso1@hotmail.com                                    ',true,NULL,'  ','2024-08-11 00:08:51.000451','120-64-36     ','27730','CEL 193-9525  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MOTORES DE LA PENINSULA, S.A. DE C.V.                                           ','mgalindo@gmtijuana.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6642116585','27733','6642116530'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MACIEL GONZALEZ ROGELIO                                                         ','macro_electrica@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','658 5164304   ','27735','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ARANDA SISTEMAS Y EQUIPOS HIDRAULICOS S. DE R.L. DE C.V.                        ','rrosas@aranda.com.mx                                        ',true,NULL,'Juan José Sandoval ','2024-08-11 00:08:51.000451','5571500','27736','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TECZONE SUPPLIES ALL IN ONE, S. DE R.L. DE C.V.                                 ','sergiogarcia@teczonecomputer.com                            ',true,NULL,'Sergio García ','2024-08-11 00:08:51.000451','6862185048','27738','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MDA DESIGN S. DE R.L. DE C.V.                                                   ','mda_design@live.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686 5551739   ','27740','686 555 1935  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VALENZUELA ARCE ALBERTO                                                         ','a.valenzuela@grupoavatec.com                                ',true,NULL,'  ','2024-08-11 00:08:51.000451','5561707','27741','686-147-7027  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'KINTEL, S.A. DE C.V.                                                            ','david@kintel.com                                            ',true,NULL,'','2024-08-11 00:08:51.000451','55 5611 1090  ','27743','55 5611 2096  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FUROSEAL S.A. DE C.V.                                                           ','sergio.gonzalez@furoseal.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','23896980','27744','53896558'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INDUSTRIAS KER, S.A. DE C.V.                                                    ','ventas2@industriasker.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','8183478164','27748','81 81 8333189 ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SAMUEL CRUZ CORTES                                                              ','ipromexico@gmail.com                                        ',true,NULL,'  ','2024-08-11 00:08:51.000451','6461715913','27749','6461770413'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALEGRA BOX, S.A. DE C.V.                                                        ','info@alegra.mx                                              ',true,NULL,'','2024-08-11 00:08:51.000451','01 662-2-12-10','27752','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ADRIANA ITZELTH CATZIN CONTRERAS                                                ','jbenitez.benco@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6461173951','27756','6461565346'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LIBRERIA DE MEXICO  DEL NOROESTE S. DE R.L. DE C.V.                             ','lic.jesuspardo@yahoo.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','664 634-1654  ','27757','664 204-4056  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDUARDO LUIS PRIETO VALLES                                                      ','mexicoagreste@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6461208696','27758','6461904484'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BUFETE DE SOLUCIONES INTEGRALES, S.C.                                           ','cmora@bsigeonet.com.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','(55) 5589 3474','27759','5544 0652 EXT.'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INGENIERIA UNIFICADA, S. DE R,L. DE C,V,                                        ','aesparza@iuni.com.mx                                        ',true,NULL,'Armando Esparza Almaguen','2024-08-11 00:08:51.000451','664-975-4673  ','27763','664-838-7613  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TECNOLOGIAS COMPUTARIZADAS PARA MANUFACTURA, S.A. DE C.V.                       ','creditoycobranza@tcm.com.mx                                 ',true,NULL,'Juan Luna ','2024-08-11 00:08:51.000451','33 8995-0826  ','27764','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMPUBC DE MEXICO S.C                                                           ','gerardo@compubc.mx                                          ',true,NULL,'','2024-08-11 00:08:51.000451','686 171-46-86 ','27765','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RAMIREZ RODRIGUEZ ALMA LORENA                                                   ','carlosbazua@ymail.com                                       ',true,NULL,'  ','2024-08-11 00:08:51.000451','686 5683337   ','27767','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERVIN VARGAS  JANET                                                            ','jservinvargas@hotmail.com                                   ',true,NULL,'  ','2024-08-11 00:08:51.000451','6461184285','27768','6461789890'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JORGE ALBERTO FARIAS LOPEZ                                                      ','jfsoluciones@hotmail.com                                    ',true,NULL,'  ','2024-08-11 00:08:51.000451','555-73-62     ','27769','668 5 10-68-50'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IMPULSORA FARMACEUTICA VETERINARIA, SA DE CV                                    ','lesliemexicali@gmail.com                                    ',true,NULL,'Adrian Sánchez ','2024-08-11 00:08:51.000451','5928424','27770','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PENTACOM S.A. DE C.V.                                                           ','ventas@pentacom.mx                                          ',true,NULL,'Juan Guillermo Torres ','2024-08-11 00:08:51.000451','5556166585','27772','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PLAZA VARGAS SALVADOR                                                           ','cortesalmarosa@yahoo.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6646213483','27774','6646213483'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA INDUSTRIAL ESTADO GRANDE S. DE R.L. DE C.V                     ','daguila@cieg.mx                                             ',true,NULL,'','2024-08-11 00:08:51.000451','686-559-00-33 ','27776','686-226-06-99 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'D LIMEDSA DISTRIBUIDORA LIBROSBOOKS DE MATERIAL EDUCATIVO Y DIDACTICO, S.A. DE C','clientes@librosbooks.com.mx                                 ',true,NULL,'Rosalío Morales ','2024-08-11 00:08:51.000451','(656)251-43-36','27777','(656)251-43-37'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BAUTISTA DE LA ROSA FRANCISCO                                                   ','fbr_gaf4855@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','555-2-59-17-25','27778','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ABASTECEDORA FEMACO LAZARO CARDENAS S.A. DE C.V.                                ','abfemaco@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686 558 0800  ','27779','686 558 0800  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORA DE BALEROS DE MEXICALI S.A. DE C.V.                               ','ventas@dibamex.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','686-564-69-20 ','27780','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SATELSA, S.A. DE C.V.                                                           ','satelsa@satelsa.com.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','442-295-26-00 ','27781','442-295-26-01 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LIBRERIA DEL SOTANO COYOACAN S.A. DE C.V.                                       ','jgalicia@elsotano.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','01 55 53391300','27783','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EL NUEVO JAPON DE MEXICO S.A. DE C.V.                                           ','nuevojaponmx@prodigy.net.mx                                 ',true,NULL,'Juan Guillermo Kimura ','2024-08-11 00:08:51.000451','686-552-29-69 ','27784','686-5-52-45-20'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANA LUCIA RENTERIA LUNA                                                         ','gr-impresiones@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686 5- 65-54-8','27785','686 5- 65-54-8'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OMG INTERNATIONAL S.A. DE C.V.                                                  ','christian@omg.com.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','33 3616 6251  ','27787','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MOBILIARIO ACTUAL, S. A. DE C.V.                                                ','ventas2@git.mx                                              ',true,NULL,'','2024-08-11 00:08:51.000451','81-100-12-100 ','27788','81-100-12-102 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MEDELNOR, S.A. DE C.V.                                                          ','barja.services2017@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','686-552-27-87 ','27789','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROVEEDORA DE SEGURIDAD INDUSTRIAL DEL GOLFO S.A. DE C.V.                       ','said.villa@vallenproveedora.com.mx                          ',true,NULL,'','2024-08-11 00:08:51.000451','686-248-54-36 ','27790','686-592-14-47 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DIGITAL TOOLS WAREHOUSE S. DE R. L. DE C.V.                                     ','ensenada@digitaltool.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6646087939','27791','6461773530'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RADIOFISICA E INDUSTRIA S.A. DE C.V.                                            ','radsa.radiofisica@yahoo.com.mx                              ',true,NULL,'','2024-08-11 00:08:51.000451','5740-5978     ','27793','5912-0016     ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA COGAHER S.A DE C.V                                             ','hervazgruop@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686-566-96-97 ','27794','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DIDACTIC CITY S.A. DE C.V.                                                      ','didacticity@outlook.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','(55)6730-9556 ','27796','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FLOR ANGELI MADRIGAL COSSIO                                                     ','orthobajadental@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6646341440','27798','6644035623'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MEDIATEC S.A. DE C.V.                                                           ','licitaciones@media-tec.com.mx                               ',true,NULL,'','2024-08-11 00:08:51.000451','55114455','27799','55114455'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'APLICACIONES EN METROLOGIA S.A. DE C.V.                                         ','lizeth.colado@aplimet.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686-5-55-00-88','27801','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE ANTONIO CASTELLON OZUNA                                                    ','castellon77@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686-1-53-57-80','27802','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GEO INGENIERIA ALFVEN, S.A. DE C.V.                                             ','geoingenieriaalfven@hotmail.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','52-442-212-72-','27803','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SUSANA ORIGEL VILLALOBOS                                                        ','ventas3@miyasi.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686-564-01-44 ','27804','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ETICA ENSENADA S.A. DE C.V.                                                     ','apnetica@prodigy.net.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','646174-02-05  ','27809','6641771666'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA MATOCYANG, S.A. DE C.V.                                        ','cxpcman@gmail.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','6865524330','27810','6865541620');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FRANCISCO JAVIER GUTIERREZ SANDOVAL                                             ','musicarte2010@hotmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','646-174-05-57 ','27811','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DESARROLLOS NEM. BIZ S. DE R.L. DE C.V.                                         ','francisco.burgos@nem.biz                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686-5625911   ','27816','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PRODUCTOS METALICOS LA PIEDAD S.A. DE C.V.                                      ','ventaspacifico@metalicoslapiedad.com.mx                     ',true,NULL,'','2024-08-11 00:08:51.000451','352 52 6 80 88','27817','352 525 83 79 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GLOBAL VOIP DE MEXICO, S.A. DE C.V.                                             ','rparra@gbvoip.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','662-289-0350  ','27818','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GLOBAL VOIP DE MEXICO, S.A. DE C.V.                                             ','rparra@gbvoip.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','662-289-0350  ','27818','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CEDIVET DEL PACIFICO S. DE R.L. DE C.V.                                         ','cedivet.adan@gmail.com                                      ',true,NULL,'Claudia Vazquez ','2024-08-11 00:08:51.000451','686-221-77-75 ','27819','664-625-79-17 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JC3, S. DE R.L. DE C.V.                                                         ','jclozano@jc3.com.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','6643808190','27820','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BERMEJO GARCÍA SAULO                                                            ','ventas@begssolutions.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','222-247-24-90 ','27821','664-626-68-54 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LATAM SOFTWARE, S. DE R.L. DE C.V.                                              ','teresa.zarco@latamsoftware.com.mx                           ',true,NULL,'','2024-08-11 00:08:51.000451','555-5-14-44-22','27824','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BAJA & SON FARM S.A. DE C.V                                                     ','bajason13@gmail.com                                         ',true,NULL,'Luis Rafael Segundo Vejar Orei','2024-08-11 00:08:51.000451','686-5-76-52-75','27825','686-5-43-98-30');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PRONET SERVICIOS TI S. DE R.L. DE C.V.                                          ','info@pronetdemexico.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','662-210-51-13 ','27826','662-210-51-13 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MEDICAL BIOPHYSICS S.A. DE C.V.                                                 ','carlos@medicalbiophysics.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','3310438004','27827','3310438004'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RADIO TRANSFORMA DE MEXICO, S.A. DE C.V.                                        ','ruth@grupojl.com                                            ',true,NULL,'','2024-08-11 00:08:51.000451','55257036','27828','55111200'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ADVANCED SOLUCIONES DE TELECOMUNICACION, S.A. DE C.V.                           ','jtorres@astel.com.mx                                        ',true,NULL,'Jaime Torres ','2024-08-11 00:08:51.000451','01-333-3-43-08','27829','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RGS LIBROS, S.A. DE C.V.                                                        ','clara@lyesa.com                                             ',true,NULL,'Clara Rojas ','2024-08-11 00:08:51.000451','6666','27831','6666'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JESUS MEDINA RAMIREZ                                                            ','jesusmedinaram@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6868422006','27832','6262697497'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IMPRESION PROMOCIONAL DE LOGOS DE MEXICO S DE RL DE CV                          ','distribuidores1@impresionpromocional.com                    ',true,NULL,'','2024-08-11 00:08:51.000451','664-6-08-15-60','27833','686-1-31-62-22'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CEDACULT COMERCIALIZADORA EDITORIAL DE ARTE Y CULTURA S.A. DE C.V.              ','cedacult@yahoo.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','55354822','27834','55468538'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ROCIO CHAVEZ YOCUPICIO                                                          ','rociochavez.rcy@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','653-120-69-06 ','27835','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SOLUCIONES EN REDES DIGITALES  S.R.L. DE C.V.                                   ','patricia@soredi.mx                                          ',true,NULL,'Adán Hernández ','2024-08-11 00:08:51.000451','5149352','27836','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LIDIA CONTRERAS OCHOA                                                           ','lidyacontreras64@hotmail.com                                ',true,NULL,'  ','2024-08-11 00:08:51.000451','552-2787      ','27837','686-543-2396  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EBER ALONSO MENA CALDERON                                                       ','espacios@menatile.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6461205048','27838','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ASIATECH S.A. DE C.V.                                                           ','ack.ventas@gmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','222-2404410   ','27839','222-2404410   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NORMA GUADALUPE LEON CORRAL                                                     ','yalopez@ofi-tech.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686-566-96-12 ','27840','686-552-95-39 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MA. ANGELES HERNANDEZ VELAZQUEZ                                                 ','botiquinmxl@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686-568-08-18 ','27841','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SOSA HURTADO LETICIA                                                            ','ropahospitalariabc@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','686-210-2865  ','27842','686-906-7360  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIA VIRGINIA SEGOVIA LOPEZ                                                    ','serviciosdeingenieriabiomedica@yahoo.com                    ',true,NULL,'','2024-08-11 00:08:51.000451','686-108-59-91 ','27843','686-592-76-49 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ADVANCED ANALYTICAL SYSTEMS, S.A. DE C.V.                                       ','ventasgdl@aasystems.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','01 33 36503400','27844','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PANDA SECURITY MEXICO, S.A. DE C.V.                                             ','lorena.lugo@mx.pandasecurity.com.                           ',true,NULL,'','2024-08-11 00:08:51.000451','80002381','27845','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BRUNO VELASCO  VARGAS                                                           ','mardukelectronica@hotmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','176-23-86     ','27848','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CONTROL Y PROYECTO INDUSTRIAL, S.A. DE C.V.                                     ','controlyproyectos@prodigy.net.mx                            ',true,NULL,'','2024-08-11 00:08:51.000451','686-554-20-61 ','27849','6861640948'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SOTO URUETA JESUS                                                               ','woodco@hotmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','6461455690','27851','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MICRA NANOTECNOLOGIA, S.A. DE C.V.                                              ','m.gomez@micra.com.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','55 8502-5000  ','27852','55 8502-6000  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRACIELA  ALVARADO ALDANA                                                       ','comercial.confort@prodigy.net.mx                            ',true,NULL,'','2024-08-11 00:08:51.000451','6461777799','27853','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NUÑEZ GARCIA JOSE TRINIDAD                                                      ','trinimx@hotmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','6862719727','27854','6861490121'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GCM COMERCIAL, S.A. DE C.V.                                                     ','comercial@grupogcm.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','444-8240116   ','27855','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DOMINGUEZ BALDIZON HERBERTH JAVIER                                              ','gammaculturalupn@hotmail.com                                ',true,NULL,'  ','2024-08-11 00:08:51.000451','55-2876-2269  ','27856','999-33-55-191 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARLOS ALEJANDRO MIRAMONTES BENITEZ                                             ','refrivostok@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6462185362','27858','6462185362'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LANCER INTERNATIONAL DE MEXICO, S.A. DE C.V.                                    ','rbartolini@lancerortho.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6865657500','27863','6865657500'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NADIA ELIZABETH PEÑA LUNA                                                       ','ventascalzaindustrias@hotmail.com                           ',true,NULL,'','2024-08-11 00:08:51.000451','686-580-92-47 ','27865','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HORTENCIA MARTINEZ VAZQUEZ                                                      ','ensenadapc@gmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','1726281','27866','1253115'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ROSABEL GARDUÑO DE LA ROCHA                                                     ','dental_obregon@hotmail.com                                  ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-252-81-65 ','27867','686-225-04-02 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INTERNATIONAL MR5, S. DE R.L. DE C.V.                                           ','ventas@mrsinco.mx                                           ',true,NULL,'','2024-08-11 00:08:51.000451','664 344 04 10 ','27868','664 344 04 12 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IVG COMERCIALIZADORA, S.A. DE C.V.                                              ','ivazquez@ivg.com.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','81-4343-4353  ','27869','81-4340-2678  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JUAN ALBERTO GONZALEZ MENDOZA                                                   ','juan.gonzalez@elsauz.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686-543-13-75 ','27870','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PRO ATHLETICS S DE RL MI                                                        ','ventas@football.com.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','614-421-42-42 ','27872','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AGUILAR GOMEZ MARIA LETICIA                                                     ','ldmexicali@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','5560977','27873','152*14*80381  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RUBEN IGNACIO LINARES                                                           ','luis.chavez@grupoceli.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','55-6592-4560  ','27876','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EL SURTIDOR PARA VIVIENDA, S. DE R.L. DE C.V.                                   ','vladimir.gamiz@sumaco.com.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','6868394627','27877','6868399387'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARCO ANTONIO FLORES ZUNIGA                                                     ','inprosoluciones@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6462047192','27878','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OFICENTRO DE MEXICO, S.A. DE C.V.                                               ','mcardenas@compumak.com.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','8444144400','27879','8444144400'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AVITIA FUENTES MARIA ELENA                                                      ','agroindustrialesavitia@hotmail.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','646-128-3391  ','27880','668-116-0337  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CORONA ALVAREZ JOSE LUIS                                                        ','josecorona83@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6641134455','27881','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CHING PELLEGRINI JUAN EDUARDO                                                   ','eduardo-ching@hotmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6643939583','27882','6643939583'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VILLEGAS ZAPIEN JORGE THAIDE                                                    ','jvillegas@dragonet.com.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6862890733','27883','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MUSIC CLUB INTERNATIONAL, S. DE R.L. DE C.V.                                    ','gerenciatj@musicclub.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','664-681-80-65 ','27884','686-681-68-38 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AUREUS SOLUCIONES INTEGRALES PARA LABORATORIO, S.A. DE C.V.                     ','rrosales@aureusmexico.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','55-3300-61-31 ','27885','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NUEVO HORIZONTE EDITORES, S.A. DE C.V.                                          ','revistavozyvoto@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5524-55-8','27887','0155-5534-03-7'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA PEMA, S.A. DE C.V.                                             ','c.pematij@gmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','664-684-2383  ','27889','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMTEC SOLUCIONES INTEGRALES DE BAJA CALIFORNIA S DE R.L.                       ','ventas@comtec.com.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686-9054193   ','27891','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TECNIMAIZ DE BAJA CALIFORNIA S.P.R DE R.L.                                      ','tecnimaiz@gmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','5-64-35-22    ','27892','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TIENDAS ELECTRONICA SHOP S.A. DE C.V.                                           ','mexicalidelvalle@steren.com.mx                              ',true,NULL,'','2024-08-11 00:08:51.000451','582-67-73     ','27894','686-5559959   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TIENDAS ELECTRONICA SHOP S.A. DE C.V.                                           ','mexicalidelvalle@steren.com.mx                              ',true,NULL,'','2024-08-11 00:08:51.000451','582-67-73     ','27894','686-5559959   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PEGASO DEL NORTE S.A. DE C.V.                                                   ','mdjesusruiz@pcbox.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','16646231595','27896','16646231595'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'REAL GASES S. DE R.L. DE C.V.                                                   ','isacponce@realgases.com                                     ',true,NULL,'Víctor Hugo Reyes ','2024-08-11 00:08:51.000451','16646305551','27897','16646305551'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INSTRUMENTACION Y SERVICIO EN ANALITICA, S.A. DE C.V.                           ','psolis@is-analitica.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','5556796697','27899','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RENDON ASTRAIN RAMON                                                            ','direccion@comprra.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6557525','27901','6557525'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'REPRESENTACIONES QUIMICAS DEL NOROESTE S DE RL DE CV                            ','claudia.repquin@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686-556-68-17 ','27902','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'REPRESENTACIONES QUIMICAS DEL NOROESTE S DE RL DE CV                            ','claudia.repquin@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686-556-68-17 ','27902','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SMART AND FINAL DEL NOROESTE, S.A. DE C.V                                       ','ventasmexicali@smartnfinal.com.mx                           ',true,NULL,'Humberto Ortiz ','2024-08-11 00:08:51.000451','5571741','27904','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SMART AND FINAL DEL NOROESTE, S.A. DE C.V                                       ','ventasmexicali@smartnfinal.com.mx                           ',true,NULL,'Humberto Ortiz ','2024-08-11 00:08:51.000451','5571741','27904','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SMART AND FINAL DEL NOROESTE, S.A. DE C.V                                       ','ventasmexicali@smartnfinal.com.mx                           ',true,NULL,'Humberto Ortiz ','2024-08-11 00:08:51.000451','5571741','27904','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HERNANDEZ MENESES JOSE LUIS                                                     ','vichi_equiplaboratory@yahoo.com.mx                          ',true,NULL,'','2024-08-11 00:08:51.000451','2222458665','27905','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GILBERTO GIL VALENZUELA                                                         ','constpro@prodigy.net.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686-1-39-65-15','27906','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SOCIEDAD PROMOTORA PABLO DE TARSO S DE RL DE CV                                 ','eduardohersymac2@outlook.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','3331-65-95-80 ','27907','3336-33-37-40 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JUAN MANUEL NAVARRO GOMEZ                                                       ','sellomatic2@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6869051381','27909','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AGO LITOGRAFICA S.A. DE C.V.                                                    ','agolitografica@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6865560508','27910','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA Y DISTRIBUIDORA DE LA FRONTERA, S.A DE R.L. DE C.V.            ','comercializadoradelafrontera@prodigy.net.mx                 ',true,NULL,'','2024-08-11 00:08:51.000451','6865653705','27911','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE JESUS MORENO TERAN                                                         ','jmoreno_mvz@hotmail.com                                     ',true,NULL,'  ','2024-08-11 00:08:51.000451','5-61-67-42    ','27912','686-5-69-72-61'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RUBEN GUTIERREZ OSEGUEDA                                                        ','rgutierrez@grupoired.com                                    ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-1-19-85-89','27913','2-74-14-95    ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'D Y H MEXICANA S. A. DE C.V.                                                    ','jorgec@dyhmexicana.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','8717228860','27915','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JUAN RUBEN LOPEZ CRUZ                                                           ','acrimas@hotmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','6461803560','27916','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SYS SPORTS DE MEXICALI, S. DE R.L. DE C.V.                                      ','sys.sports.mexicali@gmail.com                               ',true,NULL,'Héctor Fernando Valenzuela ','2024-08-11 00:08:51.000451','962-00-10     ','27918','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MIGUEL OCAÑA JASSO                                                              ','gemanat@hotmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','6642282934','27919','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OM DENTAL S DE R.L. DE C.V.                                                     ','orthobajadental@hotmail.com                                 ',true,NULL,'Flor Angeli Madrigal Cossio','2024-08-11 00:08:51.000451','664-634-14-40 ','27920','664-634-14-41 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'QUIMICAL S.A. DE C.V.                                                           ','emma.sandoval@quimical.mx                                   ',true,NULL,'Guadalupe García ','2024-08-11 00:08:51.000451','686-561-00-25 ','27921','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RANCHO LOS JOSESES, S. DE R.L. DE C.V.                                          ','rancholosjoseses@hotmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','685652344','27922','6865652344 EXT'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUIS ALBERTO RASCON GARCIA                                                      ','distribuidora.carlumi@outlook.com                           ',true,NULL,'','2024-08-11 00:08:51.000451','2-84-27-36    ','27924','686-9-46-44-08'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'P.M.A DE SINALOA DE S.A DE C.V.                                                 ','ventas.acuacultura@hotmail.com                              ',true,NULL,'Jesús Fernando Letamendi ','2024-08-11 00:08:51.000451','3331654560','27925','3331654560'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GERMEX PROJECTS INNOVATION S.A. DE C.V.                                         ','guve@germexprojects.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','68250101','27926','68250101');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORA E IMPORTADORA DE RADIODIFUSION, S.A. DE C.V.                      ','alfonso.dirsa@radiomejor.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','5557827755','27927','5557827736'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EMPORIO AUTOMOTRIZ DE TIJUANA S.A. DE C.V.                                      ','carlos.loza@vw-emporio.com.mx                               ',true,NULL,'','2024-08-11 00:08:51.000451','6342444','27931','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AGUIRRE FUENTES ALEJANDRO                                                       ','aaguirre_fuentes@hotmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','664 364 36 45 ','27933','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDUARDO IBARRA LEON                                                             ','ibarra.aquasermen@hotmail.com                               ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-271-74-30 ','27936','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDITORIAL EL MANUAL MODERNO S.A. DE C.V.                                        ','noemi.morales@manualmoderno.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','5552651134','27938','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ENA ELIZABETH BALMACEDA                                                         ','ariel.quezadap@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6461071933','27939','6461752122'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AGROINDUSTRIAS ALLENDE, S. DE R.L.M.I.                                          ','agroallende@prodigy.net.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','826 268 3392  ','27940','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LOPEZ AMADOR AIDE YOLANDA                                                       ','lz@odpmexico.com.mx                                         ',true,NULL,'  ','2024-08-11 00:08:51.000451','18007881540','27941','18007881540'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DANTE JESUS CHAVEZ GUILLEN                                                      ','grupocg@hotmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','01-55-1285-61-','27942','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PET-LAND GRUPAC, S.A. DE C.V.                                                   ','lesliemexicali@gmail.com                                    ',true,NULL,'Adrian Sánchez ','2024-08-11 00:08:51.000451','662-321-42-96 ','27943','592-84-24     ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANTONIO HURTADO NUÑEZ                                                           ','portacool3@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','5682423','27944','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TELEMATICA Y SISTEMAS AVANZADOS S.A. DE C.V.                                    ','ventas@telsa.com.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','55-5740-2142  ','27945','55-5740-4630  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RODOLFO CAMARENA OROZCO                                                         ','rudycamarena26@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686-557-39-17 ','27946','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ECO VISION VENTURES MX, S. DE R.L. DE C.V.                                      ','compras@ecovisionventures.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','6643079868','27947','6646099287'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GEBESA NACIONAL, S.A. DE C.V.                                                   ','joseluis.rico@gebesa.com                                    ',true,NULL,'Abraham Boyardo ','2024-08-11 00:08:51.000451','6869460634 CEL','27951','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HERIBERTO GAMEZ RIVERA                                                          ','heriberto_gr@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686-221-61-07 ','27954','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PEARSON EDUCACION DE MEXICO, S.A. DE C.V.                                       ','roberto.sanchez@pearson.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','5553870700','27961','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SALAZAR FIERRO FRANCISCO                                                        ','ing.salfi@gmail.com                                         ',true,NULL,'  ','2024-08-11 00:08:51.000451','664 628 63 59 ','27962','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LOPEZ JARA JUAN ANTONIO                                                         ','mueblesmetalicosindustriales@hotmail.com                    ',true,NULL,'  ','2024-08-11 00:08:51.000451','664-307-48-24 ','27963','664-307-48-24 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GUILLERMO MONTAÑO LOPEZ                                                         ','karate-oke@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6861350027','27970','6862209444');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DE LA CRUZ VILLELA HECTOR MANUEL                                                ','alexa.dany@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6865622157','27971','6862163187'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RICARDO URBANO GONZALEZ                                                         ','urbano.ricardo@hotmail.com                                  ',true,NULL,'  ','2024-08-11 00:08:51.000451','6461170442','27973','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CONTROLES INDUSTRIALES MECATRONICA S.A. DE C.V.                                 ','benjamin.flores@mecathronica.com.mx                         ',true,NULL,'','2024-08-11 00:08:51.000451','664383-98-92  ','27974','664-331-74-80 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUZ ESTHER BELTRAN GONZALEZ                                                     ','bajaprinting@hotmail.com                                    ',true,NULL,'  ','2024-08-11 00:08:51.000451','6865683919','27977','6865683919'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LETICIA MUÑOZ ESTRADA                                                           ','tiservicesmxl@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6862527638','27978','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MODELOS ANATOMICOS S.A. DE C.V.                                                 ','ventas@modelosatomicos.com.mx                               ',true,NULL,'','2024-08-11 00:08:51.000451','33-3615-0747  ','27979','33-3616-7405  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUZ DEL CARMEN CRAWSTON VILLELA                                                 ','dclasspremiaciones@gmail.com                                ',true,NULL,'  ','2024-08-11 00:08:51.000451','5543059','27980','6862644960'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO INTEGRADOR DE SOLUCIONES TECNOLOGICAS 3, S. DE R.L DE C.V                 ','scabello@gist3.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686-5561715   ','27981','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'KOPY ONE DE MEXICO S.A DE C.V                                                   ','servicios@kopyone.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6865574457','27982','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VALENZUELA RIVAS S.A. DE C.V.                                                   ','jorge@valenzuelarivas.com                                   ',true,NULL,'Jorge Valenzuela ','2024-08-11 00:08:51.000451','686-565-48-03 ','27983','686-565-49-03 ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HORACIO ELIAS PALMA MIGUEL                                                      ','horacio.palma@codigoc4.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','2538170','27984','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TRATAMIENTOS TERMICOS REFRIGERACION S. DE RL DE CV                              ','tratamientostermicos@hotmail.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','6865560680','27985','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANGULO GUTIERREZ MARIA GUADALUPE                                                ','inca.ventas.mxl@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6865540550','27986','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROYECTOS URBANISTICOS TMG, S.A. DE C.V.                                        ','roberto_chavez@kidscolors.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','4499162626','27987','4491401920'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VICTOR HUGO VACA BARRIGA                                                        ','alarmaspremier@prodigy.net.mx                               ',true,NULL,'','2024-08-11 00:08:51.000451','686-567-16-63 ','27989','686-567-15-12 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO INSTRUMENTA S.A. DE C.V.                                                  ','mfcontreras@msn.com                                         ',true,NULL,'Martín Fernando Contreras ','2024-08-11 00:08:51.000451','55-5658-4534  ','27990','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CADGRAFICS S.A. DE C.V.                                                         ','rodrigo.gomez@cadgrafics.com.mx                             ',true,NULL,'','2024-08-11 00:08:51.000451','0155-20 00 25 ','27991','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JORGE ALBERTO PEREZ CAÑEZ                                                       ','jperez486084@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686-222-4555  ','27992','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PEREZ CORDOBA AURELIO EDUARDO FRANCISCO                                         ','kingeniero.perez@gmail.com                                  ',true,NULL,'  ','2024-08-11 00:08:51.000451','6646084109','28000','6645571385'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ABASTECEDORA TECNOLOGICA ESPECIALIZADA, S.A DE C.V.                             ','alejandratorres@abatec.com.mx                               ',true,NULL,'','2024-08-11 00:08:51.000451','36201214','28001','36201215');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ROFLO GYM, S.A. DE C.V.                                                         ','marcelo@roflogym.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','(81)1759-3509 ','28002','(81)1774-6977 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DIAZ PEREZ FERNANDO                                                             ','fernando@indessin.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','15557571672','28003','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VITAMEX DE OCCIDENTE S.A. DE C.V.                                               ','arriagal@vitamexdeoccidente.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','3336414308','28007','18008482639'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BADILLO ZAPATA DANIEL                                                           ','danielbad00@hotmail.com                                     ',true,NULL,'  ','2024-08-11 00:08:51.000451','CEL. 646 148 2','28011','6461482543'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORA MAYORISTA DE ORIENTE S.A DE C.V                                   ','claudia.dimayo@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','564-09-43     ','28013','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DIGIPRODUCT S. DE R.L. DE C.V.                                                  ','marlett.salinas@digiproduct.com                             ',true,NULL,'Javier Arturo Ramírez ','2024-08-11 00:08:51.000451','664-971-05-55 ','28014','664-971-05-55 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MRO GLOBAL PROCUREMENT, S.A. DE C.V.                                            ','ventas@mro-global.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','81-8030-9460  ','28015','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LAURA PATRICIA GUTIERREZ GARCIA                                                 ','ventas@solutecgroup.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','8-41-26-53    ','28016','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'YUMA ENGINEERING SC                                                             ','fernando.vonraesfeld@yuma.mx                                ',true,NULL,'Fernando Von Rasfeld ','2024-08-11 00:08:51.000451','442-290-87-92 ','28017','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RAMIREZ MEDINA OSCAR ANTONIO                                                    ','oscar.ramirez@instrumentacionbc.com                         ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-280-16-07 ','28019','686-284-18-59 ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SALVADOR ARMANDO BECERRA LOZORNIO                                               ','emilia_rojas@distribuidoragaxel.com                         ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-9628835   ','28020','6861786374'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'J. JESUS SILVA MARTINEZ                                                         ','prolume-electrica@hotmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','6461772274','28022','6461772274'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MONDRAGÓN GALAVIZ FRANCISCO ELOY                                                ','fmrefrigeracion@live.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686-280-6332  ','28023','6861475276'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BCA IT SOLUTIONS S. DE R.L. DE C.V.                                             ','oliver.acosta@bcaitsolutions.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','664-615-78-41 ','28024','664-615-78-41 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ARMANDO TELLEZ REYES                                                            ','contacto@dijuris.com                                        ',true,NULL,'  ','2024-08-11 00:08:51.000451','5553566881','28025','5553566891'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CUBRETEX DE MEXICO S.A. DE C.V.                                                 ','cubretextj@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6642792413','28026','6642792413'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ID SOLUCIONES INTEGRADAS S.A DE C.V.                                            ','aflores@idsolucionesintegradas.com                          ',true,NULL,'Alma Leticia Floremeyer ','2024-08-11 00:08:51.000451','8183786520','28027','8183786520'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TELETEC DE MEXICO, S.A.P.I. DE C.V.                                             ','amendoza@teletec.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','33 1202 2125  ','28030','33-1202-2126  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GETHZEMANI GUERRERO  SEVERIANO                                                  ','maquiza.ensenada@gmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','646 120-87-37 ','28031','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BAXA, PROVEDURIA Y SERVICIOS, S. DE. R.L. DE C.V.                               ','baxaproveduriayservicios@hotmail.com                        ',true,NULL,'','2024-08-11 00:08:51.000451','6865646222','28032','6861063625');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HECTOR LOPEZ ZAMORA                                                             ','ing.nlopez@gmail.com                                        ',true,NULL,'  ','2024-08-11 00:08:51.000451','686 569-71-09 ','28033','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CESAR MANUEL MARTINEZ OCHOA                                                     ','cmtzochoa@icloud.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','(664)618-7139 ','28035','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DETROIT DIESEL ALLISON DE MEXICO, S. DE R.L. DE C.V.                            ','ecano@canorsa.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','15541552590','28037','15541552590'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IMPALA COMUNICACION GRAFICA S.A. DE C,V                                         ','ventas@laredoimpresores.com                                 ',true,NULL,'Lizbeth Morales ','2024-08-11 00:08:51.000451','9-05-10-16    ','28038','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO INDUSTRIAL COVO S.A. DE C.V.                                              ','grupo_covo@yahoo.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','01-55-52196790','28039','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ROGALLTECH S.A, DE C.V.                                                         ','rogalltech1@outlook.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','045-55-5906-62','28040','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IBARRA CALDERA ROSA ICELA                                                       ','ventas@iacop.com.mx                                         ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-842-30-30 ','28043','686-842-30-31 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ARTURO GUEVARA GONZALEZ                                                         ','dunia.barcenas@hotmail.com                                  ',true,NULL,'  ','2024-08-11 00:08:51.000451','6865544165','28044','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TUBERIAS Y VALVULAS DEL NOROESTE, S.A. DE C.V.                                  ','izaura.alvarez@tuvanosa.com                                 ',true,NULL,'Jaime Agustin García ','2024-08-11 00:08:51.000451','6865610057','28045','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TUBERIAS Y VALVULAS DEL NOROESTE, S.A. DE C.V.                                  ','izaura.alvarez@tuvanosa.com                                 ',true,NULL,'Jaime Agustin García ','2024-08-11 00:08:51.000451','6865610057','28045','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FEMA AUTOMOTRIZ, S.A. DE C.V.                                                   ','almac@fema.com.mx                                           ',true,NULL,'','2024-08-11 00:08:51.000451','16646827000','28047','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA  PLM                                                           ','comercializadoraplm-martina@hotmail.com                     ',true,NULL,'','2024-08-11 00:08:51.000451','686 201 1599  ','28049','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SALUCOM SA DE CV                                                                ','mcleyva@medicom.com.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','664 6478169   ','28050','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MANILAP S.A. DE C.V.                                                            ','manilap1@yahoo.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','01-449-274-16-','28051','01-449-911-76-'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIA BEATRIZ LOPEZ COSSIO                                                      ','ventas@electricamega.com.mx                                 ',true,NULL,'  ','2024-08-11 00:08:51.000451','5-68-34-01    ','28052','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LOPEZ ROMAN ARMIDA ALICIA                                                       ','otcmedical@hotmail.com                                      ',true,NULL,'  ','2024-08-11 00:08:51.000451','2900884','28054','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TALAMANTES VALLES CARLA  MARIA                                                  ','carla@giga-red.ner                                          ',true,NULL,'','2024-08-11 00:08:51.000451','6461762718','28055','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SOLUCIONES GLOBALES DE MEXICO S.A. DE C.V.                                      ','david.gil@sg-mexico.com                                     ',true,NULL,'Sergio Katzenstein ','2024-08-11 00:08:51.000451','6646157784','28056','6646157784'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GUTIERREZ OROZCO FERNANDO                                                       ','fgutierrez@labmicrocmi.com.mx                               ',true,NULL,'','2024-08-11 00:08:51.000451','664688-22-12  ','28057','664688-22-12  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ELECTRONICOS EMERI DE MEXICO S.A. DE C.V.                                       ','facturacion@electronicosmeri.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','6646828026','28058','6646828026');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ORTEGA SALAS MIGUEL ANGEL                                                       ','miguel.ventek@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6642326376','28059','6642326376'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERGIO LOPEZ MONTOYA                                                            ','altagen@hotmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686-153-06-52 ','28060','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AUTOZONE DE MEXICO S DE RL DE CV                                                ','samuel.torres@autozone.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','(686) 681 7662','28061','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NUCAMENDI GARCIA ARTURO                                                         ','proinlab@outlook.com                                        ',true,NULL,'  ','2024-08-11 00:08:51.000451','6643395527','28062','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FRIDA FERNANDA CRUZ VALTIERRA                                                   ','asclepiusmedik@outlook.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686-174-16-18 ','28067','686-255-311-86'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RAUL VELAZQUEZ ALEMAN                                                           ','todo.officemxli@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','5-64-05-34    ','28068','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SIGASA MEXICO S.A. DE C.V.                                                      ','contabilidad@sistemasdegas.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','566-42-67     ','28069','566-85-03     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INGENIERIA AVANZADA DE GUADALAJARA S.A. DE C.V.                                 ','optikap@yahoo.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','3336205426','28070','3333432456'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DATATECHNIC MEXICO S. DE R.L. DE C.V.                                           ','facturas@datatechnic.com.mx                                 ',true,NULL,'Fracisco Emmanuel Simancas Al','2024-08-11 00:08:51.000451','686-841-60-48 ','28072','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DATATECHNIC MEXICO S. DE R.L. DE C.V.                                           ','facturas@datatechnic.com.mx                                 ',true,NULL,'Fracisco Emmanuel Simancas Al','2024-08-11 00:08:51.000451','686-841-60-48 ','28072','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO MARCASY S.A. DE C.V.                                                      ','diego@marcasy.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','664-104-0006  ','28078','664-104-0006  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARGARITA IRENE HUARACHA UNG                                                    ','margarita@comerciomh.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686-556-99-69 ','28079','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BPI CONSULTING SERVICES, S.A. DE C.V.                                           ','jorge.angeles@bpi-consultores.com                           ',true,NULL,'','2024-08-11 00:08:51.000451','686-256-1078  ','28080','614-423-5871  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MONITOREO Y ANALISIS ENERGETICO S.C. DE C. DE R.L. DE C.V.                      ','cquintero@maesolution.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686-252-59-87 ','28081','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DESERTICA AUTOMOTRIZ S.A. DE C.V.                                               ','mestephan@fordbc.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','682-70-00     ','28083','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INSTITUTO DE CAPACITACION EN EMERGENCIAS MEDICAS LATINOAMERICA SC               ','fvalero@icemlat.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','018-183-00-66-','28084','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CONSTRUCTORA Y PERFORADORA LINCE, S.A. DE C.V.                                  ','cplince@gmail.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','686-946-87-85 ','28086','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARTIN LOPEZ CUEVAS                                                             ','mlrefri2003@yahoo.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686-554-5841  ','28087','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FOSS CENTRO AMERICA S.A. DE C.V.                                                ','dgomez@foss.com.mx                                          ',true,NULL,'','2024-08-11 00:08:51.000451','5556622623','28088','56622919'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HERRERA MURILLO ANA ELIZABETH                                                   ','oselventas_mariano@hotmail.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','6649788879','28089','6649788879');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ACABADOS Y ALMACENES CALETTE S.A. DE C.V.                                       ','acabadosyalmacenescalette@hotmail.com                       ',true,NULL,'','2024-08-11 00:08:51.000451','6646387296','28090','6646387296'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RUFFO NUNO CLAUDIA ANDREA                                                       ','problocks.sauzal@hotmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','6461565450','28091','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JACKSON SHERMAN STILL                                                           ','jalt@lacasadelamascota.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','582-3566      ','28092','555-5470      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LCT DIDACTICOS S.A. DE C.V.                                                     ','mariteacher@lctdidacticos.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','55 3640 4430  ','28094','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PRODUCTOS AUXILIARES PARA LA INDUSTRIA LANI S.A. DE C.V.                        ','prailsa09@prodigy.net.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686-562-67-72 ','28095','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PAOLA ALEJANDRA  DURAN CERVANTES                                                ','paulcdlopez@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','664 438- 6685 ','28096','664 438 9713  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RASCON PEREZ DIANA CAROLINA                                                     ','distribuidora.carlumi@outlook.es                            ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-946-44-08 ','28098','686-284-27-36 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARTINEZ SOTO YOANA CRISTINA                                                    ','anaoy@hotmail.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','686-258-85-88 ','28099','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANALYTICAL CONTROL, S. A. DE C. V.                                              ','analyticalcontrol@yahoo.com.mx                              ',true,NULL,'','2024-08-11 00:08:51.000451','55 5250 1328  ','28100','55 5254 6637  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALFONSO TREJO MEZA                                                              ','alfonso@hpc.mx                                              ',true,NULL,'  ','2024-08-11 00:08:51.000451','5553685058','28102','5553685058');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GOALTECH ENGINEERING SOLUTION S. DE R.L. DE C.V.                                ','ana.laura@goal-tech.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','614-481-43-39 ','28103','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MEDICA AVANZADA S.A. DE C.V.                                                    ','rosaarciniega@medicaavanzada.com                            ',true,NULL,'Rosa María Arciniega ','2024-08-11 00:08:51.000451','6641045327','28104','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CORPORACION ANALITICA INTEGRAL S.A. DE C.V.                                     ','icasasola@canitec.com.mx                                    ',true,NULL,'Braulio Reyes Bernal','2024-08-11 00:08:51.000451','55300586','28105','55192678'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CAMPOS ROJAS JAVIER ALEJANDRO                                                   ','alexcampos@telenax.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','984-109-26-87 ','28106','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TRATAMIENTOS TERMICOS DEL NOROESTE S.A. DE C.V.                                 ','tratamientostermicos@hotmail.com                            ',true,NULL,'Alejandro Suárez Mendez','2024-08-11 00:08:51.000451','556-06-80     ','28107','554-32-32     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FRANCO REY CINTIA GUADALUPE                                                     ','productomedicodelnoroeste@hotmail.com                       ',true,NULL,'','2024-08-11 00:08:51.000451','686-253-52-37 ','28108','686-252-49-35 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DOMINGUEZ CISNEROS KENIA LIZBET                                                 ','operacionessanitarias@hotmail.com                           ',true,NULL,'','2024-08-11 00:08:51.000451','664-978-55-07 ','28111','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EURODENTAL SA DE CV                                                             ','contacto@clvmexico.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','222 2407047   ','28113','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDOR COMPUTACIONAL DECO SA DE CV                                        ','claudia.quintero@grupodeco.mx                               ',true,NULL,'Ruth Esther Camargo ','2024-08-11 00:08:51.000451','11636596','28114','35476107'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO OCEANOGRAFICO MEXICO GS, S. A. DE C. V.                                   ','gerardogarciasilva@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','442 299 3373  ','28115','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PRODUCTS AND ENGINEERING AUTOMATIONS S.R.L. DE C.V.                             ','noe@peautomations.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6461205040','28116','6642816287'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INSTRUMENTACION ANALITICA Y CIENTIFICA S.A. DE C.V.                             ','sduenez@iacsa.com.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','81-8191-07-54 ','28117','81-8191-07-56 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ESTABLO EL CORRAL DE LA PACHECA S.P.R DE R.L                                    ','arubiom73@gmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686-254-29-68 ','28118','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MENESES TOPETE JOAQUIN ORLANDO                                                  ','miguel.valdivia@sherwin-flex.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','686-566-99-25 ','28119','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NAKOMSA KOMFORT AMBIENTAL S.A. DE C.V.                                          ','ventas@nakomsa.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','0155-21654447 ','28120','0155-53084814 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ESPINOZA SAUCEDO KARLA JOSEFINA                                                 ','ventas@iksoluciones.com                                     ',true,NULL,'  ','2024-08-11 00:08:51.000451','6646607610','28122','6646607610'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JAVA OFFICE SUPPLIES DE MEXICO S. DE R.L. DE C.V.                               ','javadistribuidora@hotmail.com                               ',true,NULL,'Melissa Vazquez ','2024-08-11 00:08:51.000451','6646341272','28125','6646341272'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARQUEZ BECERRA OFELIA                                                          ','grupopremex@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686-566-15-16 ','28126','686-566-33-60 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SPERANTUS SA DE CV                                                              ','carlos.urbina@sperantus.com                                 ',true,NULL,'César Arriola ','2024-08-11 00:08:51.000451','664-647-5788  ','28129','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CAMINO DEL SOL AUTOMOTRIZ DE TIJUANA, S. DE R.L. DE C.V.                        ','ezavala@toyotatijuana.com.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','664 103 6699  ','28131','045 664 176 01');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SELMEC EQUIPOS INDUSTRIALES S.A DE C.V                                          ','tsantam@selmec.com.mx                                       ',true,NULL,'Teseo Ramón Santana ','2024-08-11 00:08:51.000451','5128-1700     ','28132','5122-1200     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DANIA JAEN RODRIGUEZ LLAMAS                                                     ','reforma@comexensenada.com                                   ',true,NULL,'  ','2024-08-11 00:08:51.000451','156-02-50     ','28134','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIAL GANADERA DE QUERETARO S.A. DE C.V.                                    ','admon@comercialganadera.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','442-212-09-38 ','28135','442-214-41-77 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MADRIGAL ACOSTA JUAN CARLOS NORBERTO                                            ','robotica@madrigalelectronics.com                            ',true,NULL,'  ','2024-08-11 00:08:51.000451','6646855967','28138','6646855967'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MIGUEL RICARDO PLIEGO URRUTIA                                                   ','informes@mipco.mx                                           ',true,NULL,'  ','2024-08-11 00:08:51.000451','55-41675980   ','28139','55-36479384   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AUTOS PREMIER DE ORIENTE, S.A. DE C.V.                                          ','fespinoza@hyundaipremiertj.com.mx                           ',true,NULL,'ALFREDO CORRAL ORMART','2024-08-11 00:08:51.000451','6649692929','28140','6641036835'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'REFRI-TEC DE TIJUANA S.A. DE C.V.                                               ','jesuseloubet@hotmail.com                                    ',true,NULL,'Jesús Ernesto Loubed Bojorquez','2024-08-11 00:08:51.000451','664-622-2243  ','28141','664-622-2243  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LOPEZ ARECHIGA E HIJOS, S.C.                                                    ','tony@lopezarechiga.com                                      ',true,NULL,'José Antonio López ','2024-08-11 00:08:51.000451','6865548285','28142','6861513138'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LIBRERIA DE PORRUA HERMANOS Y COMPAÑIA, S.A. DE C.V.                            ','mayoreo.adm@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','01 33 38123301','28143','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'3D MARKET S DE R.L. DE C.V.                                                     ','ventas@3dmarket.mx                                          ',true,NULL,'','2024-08-11 00:08:51.000451','442-290-86-70 ','28144','442-213-79-36 ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RAMIREZ HERNANDEZ FELIPE                                                        ','igaskw28@hotmail.com                                        ',true,NULL,'  ','2024-08-11 00:08:51.000451','6461927354','28145','6862115322'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TSI ARYL S.DE. R.L. DE C.V.                                                     ','tijuana@qualisys.mx                                         ',true,NULL,'Alejandro Lozano ','2024-08-11 00:08:51.000451','662-2183292   ','28147','6622183292'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TD&S, S.A. DE C.V.                                                              ','jsierra@tdental.mx                                          ',true,NULL,'','2024-08-11 00:08:51.000451','(81) 8104-45-1','28148','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NESTOR SALCEDO JACOME                                                           ','sajanedist@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','646 199-52-13 ','28149','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INCORE TEC S.A. DE C.V.                                                         ','ventas_incoretec@hotmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','6642151682','28150','6642151682'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MOLINA RIOS ADRIAN                                                              ','carlos.ofimundo@gmail.com                                   ',true,NULL,'  ','2024-08-11 00:08:51.000451','686 580 60 94 ','28151','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VALDES VIDAL CAROLINA                                                           ','antoniomaldonadop@gmail.com                                 ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-555-10-19 ','28153','686-221-4377  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDICIONES ARTIS S.A. DE C.V.                                                    ','ediartis@yahoo.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','551-108-06-78 ','28154','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VALDEZ REYES JOSUE ISAI                                                         ','aeromodrc83@gmail.com                                       ',true,NULL,'  ','2024-08-11 00:08:51.000451','568-4419      ','28155','686219-6000   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'B&NET S.R.L. DE C.V.                                                            ','israel.tovar@bynet.com.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','(33) 31350786 ','28156','(33) 36322801 ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRANADOS NEVAREZ OMAR ENRIQUE                                                   ','contabilidad_aseemed@hotmail.com                            ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-567-56-30 ','28157','686-567-53-99 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ASEEMED S. DE R.L. DE C.V.                                                      ','contabilidad_aseemed@hotmail.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','686-567-56-30 ','28158','686-567-53-99 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FAAM DE MEXICO, S.A. DE C.V.                                                    ','alejandro.rodriguez@faam.com.mx                             ',true,NULL,'Juan Antonio Jiménez ','2024-08-11 00:08:51.000451','1054-79-26    ','28159','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PRAXAIR MEXICO, S. DE R.L. DE C.V.                                              ','adolfo_campoy@praxair.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686 555 88 07 ','28164','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ORTIZ WILSON MANUEL ARTURO                                                      ','manuel@willit.mx                                            ',true,NULL,'','2024-08-11 00:08:51.000451','6646213839','28166','6646213839'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CENTRO DE ROBOTICA, ESPACIAL, ASTRONOMICA Y TECNOLOGIA EDUCATIVA SC             ','createarobot@gmail.com                                      ',true,NULL,'Carlos César Apodaca ','2024-08-11 00:08:51.000451','6646805680','28167','6642612956'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MADRIGAL REYES ADRIANA ELIZABETH                                                ','comercializacionydistribucionam@outlook.com                 ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-242-65-65 ','28169','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PREMIER SYSTEMS & TECHNOLOGY S.A. DE C.V.                                       ','ltejada@premiersnt.com                                      ',true,NULL,'María del Rosario Romero ','2024-08-11 00:08:51.000451','6643970472','28170','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ESTABLO MORELIA S. DE R.L. DE C.V.                                              ','establomorelia1@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686-229-00-55 ','28172','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DYNAMIC HPS  SA DE  CV                                                          ','ventas@dynamichps.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','(81) 8370-6574','28173','(81) 8370-6584');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MPS HUMARAN Y ASOCIADOS S.A. DE C.V.                                            ','mpshumaran@gmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','664609-66-70  ','28174','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LG ABASTECIMIENTOS Y SERVICIOS PETROLEROS S.A. DE C.V.                          ','ricardo@lgabastecimientos.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','664973-90-14  ','28175','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GUILLERMO VELEZ SANTILLAN                                                       ','mosagmo@hotmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','(644)121 0313 ','28176','(644) 4171 777'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ENRIQUE JOSE ASIN DE FRIAS                                                      ','luces_led@outlook.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6461773591','28178','6461381903'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ROBLES ULLOA SERGIO                                                             ','srobles@tecnova.mx                                          ',true,NULL,'','2024-08-11 00:08:51.000451','01664-621-54-8','28179','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MEDIA TENSION S.A. DE C.V.                                                      ','cnavarro@mediatension.com.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','686-290-57-06 ','28180','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MEDIA TENSION S.A. DE C.V.                                                      ','cnavarro@mediatension.com.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','686-290-57-06 ','28180','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NUTRICION MEDICA Y TECNOLOGIA S.A. DE C.V.                                      ','martha.mendozanmt@gmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','01-777-318-21-','28181','01-777-318-90-'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INOCHEM  S.A. DE C.V.                                                           ','ventas@inochem.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','5558464878','28182','5513152423'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FERNANDO ANASTACIO LEGGS LOPEZ                                                  ','ventas@bajabiotech.com.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6461168720','28185','6461839983');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MEDIGROUP DEL PACIFICO S.A. DE C.V.                                             ','sergio.flores@medigroup.com.mx                              ',true,NULL,'Lamberto Ponce ','2024-08-11 00:08:51.000451','6861364338','28186','686-551-01-81 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MEDIGROUP DEL PACIFICO S.A. DE C.V.                                             ','sergio.flores@medigroup.com.mx                              ',true,NULL,'Lamberto Ponce ','2024-08-11 00:08:51.000451','6861364338','28186','686-551-01-81 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MACO S.A.                                                                       ','maconsa60@prodigy.net.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686-552-20-84 ','28187','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MERTT INDUSTRIAL SERVICES S.A. DE C.V.                                          ','admon.mertt@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6461776846','28188','6461512616'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GUTIERREZ REYNOSO SAMUEL                                                        ','syacaomputadoras@hotmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','686-565-04-93 ','28189','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PAUL OJEDA OLEA                                                                 ','ruben.pacheco@grupopvh.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6862900736','28190','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GREGORIO BARRERA VAZQUEZ                                                        ','ensenadayacht@hotamail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6461445088','28193','6461367832  64'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PARIS AUTOMOTRIZ SA DE CV                                                       ','carmen.lizarraga@renaultculiacan.com.mx                     ',true,NULL,'','2024-08-11 00:08:51.000451','6677156677','28194','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDENRED MEXICO, SA DE CV                                                        ','gobierno@edenred.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','5.26E+11','28195','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ROJO LIQUIDO SA DE CV                                                           ','alejandro.hernanez@rojoliquido.com.mx                       ',true,NULL,'','2024-08-11 00:08:51.000451','5551163452','28196','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUNA PADILLA NORMA SUSANA                                                       ','a@timbre.com                                                ',true,NULL,'  ','2024-08-11 00:08:51.000451','6642285052','28197','6642285052'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HANNAPRO, S.A. DE C.V.                                                          ','ventas15@hannainst.com.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','55 5649 1185  ','28198','55 4320 4812  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ERNESTO LLAMAS LEAL                                                             ','ellamasleal@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6161019093','28199','616166221'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA INTERNACIONAL CRUSO, S.A. DE C.V                               ','oficina@sicruso.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','6646301974','28200','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CASTRO ZAZUETA ALEJANDRO                                                        ','casgrafic@hotmail.com                                       ',true,NULL,'  ','2024-08-11 00:08:51.000451','6462771112','28201','6462771112'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GOMEZ PRADO XOCHITL                                                             ','tijatecsa@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6643134451','28202','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CESAR VALENZUELA CAMARGO                                                        ','cesarvalenz@outlook.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6461362483','28204','6461362483'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LA FORTALEZA ASSET S DE RL DE CV                                                ','ventas@lafortaleza.com.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','5-54-89-00    ','28205','554-89-02     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CAMIONES DEL NOROESTE S.A. DE C.V.                                              ','arnulfo.coronado@caminosa.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','653-5-17-04-27','28206','653-5-17-01-67'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CAMIONES DEL NOROESTE S.A. DE C.V.                                              ','arnulfo.coronado@caminosa.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','653-5-17-04-27','28206','653-5-17-01-67');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARRILLO GALLARDO NOE                                                           ','noecgn@netscape.net                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686-2-88-24-14','28207','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TECNOLOGIAS PARA LA VIDA S. DE R.L. DE C.V.                                     ','tecnologiasparalavida@gmail.com                             ',true,NULL,'Héctor Manuel Acosta ','2024-08-11 00:08:51.000451','552-38-28     ','28208','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GLOVEMAX S.A. DE C.V.                                                           ','glovemax@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686-565-29-88 ','28209','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CIRCULO ADN, S.A. DE C.V.                                                       ','circuloadn@gmail.com                                        ',true,NULL,'Antonio Canales ','2024-08-11 00:08:51.000451','55-5601-72-21 ','28210','55-5604-63-93 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TECNO LAB S.A. DE C.V.                                                          ','gisell@tecno-labmex.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','5555868510','28214','55555869214'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OROPEZA INGENIEROS S.A. DE C.V.                                                 ','dcerda@oropezaingenieros.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','33-36334121   ','28215','33-38363150   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CALEB  ABRAHAM RODRIGUEZ MUNOZ                                                  ','arodriguez@energialternativa.com.mx                         ',true,NULL,'  ','2024-08-11 00:08:51.000451','6469478483','28216','6469478483'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COM INSTRUMENTACION Y TECNOLOGIA S.A. DE C.V.                                   ','atencion_clientes6@comintec.com.mx                          ',true,NULL,'','2024-08-11 00:08:51.000451','55-58-23-47-63','28217','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SYSTELECTRO, S.A. DE C.V.                                                       ','systel@systelectro.com                                      ',true,NULL,'José Roberto Aguirre Muñoz','2024-08-11 00:08:51.000451','55-5639-05-83 ','28219','55-5639-05-84 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VALLE LOPEZ JOSE ALBERTO                                                        ','alberto.valle@sketch3dmx.com                                ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-161-3153  ','28221','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FCO JAVIER  CASIQUE SANDOVAL                                                    ','decjavis@hotmail.com                                        ',true,NULL,'  ','2024-08-11 00:08:51.000451','176-21-66     ','28223','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUIS ARTURO MORENO HERMOSILLO                                                   ','lamina-laser@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6865640648','28229','6869457908'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LOPEZ MARTINEZ JOSE DE JESUS                                                    ','juanmperez38@hotmail.com                                    ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-554-07-66 ','28230','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LITRA S.A. DE C.V.                                                              ','blopez@clarvi.com                                           ',true,NULL,'José Rubén Gaytan Valdivia','2024-08-11 00:08:51.000451','5-80-01-77    ','28231','5-61-95-87    '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'METROLOGIA Y EQUIPO DE LABORATORIO PARA CONSTRUCCION, S.A. DE C.V.              ','metrologiadavi@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','43355200','28232','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BAQUI AUTOMOTRIZ, S.A. DE C.V.                                                  ','mario.sanchez@toyotahermosillo.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','6622597900','28234','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ROA RIVERA ROGELIO JUAN                                                         ','rroa@hotmail.com                                            ',true,NULL,'','2024-08-11 00:08:51.000451','686-251-09-75 ','28238','686-119-14-60 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ROSALES OLIVARES JORGE ALBERTO                                                  ','proyectos@nutriequipo.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','0133-36-28-38-','28241','045-33-31-89-9'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PADILLA LICEAGA JORGE                                                           ','padilla_007@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','55667368','28246','0'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ESTHER ALICIA FLORES MARTINEZ                                                   ','floresdist19@hotmail.com                                    ',true,NULL,'  ','2024-08-11 00:08:51.000451','6461284654','28250','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO OPERATIVO EMPRESARIAL S.C.                                                ','goe.direcciongeneral@hotmail.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','664-607-38-28 ','28256','664-607-38-28 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMPUTADORAS Y SISTEMAS INTERNACIONALES S.A. DE C.V.                            ','jcorona@comsis.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','664-634-1608  ','28257','664-634-1608  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALBERTO LOZANO GUTIERREZ                                                        ','lozano1967@hotmail.com                                      ',true,NULL,'  ','2024-08-11 00:08:51.000451','6461773566','28259','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'URIAS SOLORZANO IVAN GABRIEL                                                    ','sistemasdeenfriamientobaja@gmail.com                        ',true,NULL,'','2024-08-11 00:08:51.000451','686-290-92-41 ','28261','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HERNANDEZ FUENTES MARTHA PATRICIA                                               ','cruphi@gmail.com                                            ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-2-61-60-66','28262','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SANCHEZ GARCIA JUAN MANUEL                                                      ','contacto.iimqm@gmail.com                                    ',true,NULL,'  ','2024-08-11 00:08:51.000451','739-1020045   ','28263','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AYALA CASTANEDA ALBERTO                                                         ','ventas@geocad.com.mx                                        ',true,NULL,'  ','2024-08-11 00:08:51.000451','667-714-30-17 ','28264','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'WORLDPOINT MEXICO CORPORATION                                                   ','licitaciones@worldpoint.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','0155-26147653 ','28265','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARCO AURELIO AGUILAR GARCIA                                                    ','ragaimpresora@yahoo.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6865574443','28266','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NISSAN AUTO SONORA, S.A. DE C.V.                                                ','rfranco@granauto.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','16621091900','28267','6622790910');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CLAUDIA GABRIELA VILLASEÑOR CORRAL                                              ','sellomatic2@hotmail.com                                     ',true,NULL,'  ','2024-08-11 00:08:51.000451','6869051381','28268','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JAPAY, S.A. DE C.V.                                                             ','lpena@japay.com                                             ',true,NULL,'','2024-08-11 00:08:51.000451','6672430384','28269','5553370614'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SUPER AUTOS, S.A. DE C.V.                                                       ','jsave@superautospremier.com.mx                              ',true,NULL,'','2024-08-11 00:08:51.000451','6621090200','28270','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSÉ SEFAMI MISRAJE                                                             ','recepcion2@pasodegato.com                                   ',true,NULL,'  ','2024-08-11 00:08:51.000451','555-688-9232  ','28271','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALANIZ ZARAGOZA ALBERTO                                                         ','agroquimicosalza@hotmail.com                                ',true,NULL,'  ','2024-08-11 00:08:51.000451','6865800607','28272','6865922707'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GARCIA ANDRADE VICTORIA                                                         ','viga.servicios@yahoo.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','582-2444      ','28273','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AGRICOLA AUTOMOTRIZ, S.A. DE C.V.                                               ','linacruz28@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6622598900','28274','6622763233'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'KOREAN AUTOMOTRIZ S.A. DE C.V.                                                  ','jesus.molina@gruposolana.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','6622897300','28275','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMPONENTES ELECTRONICOS Y DISPOSITIVOS ESPECIALES S.A. DE C.V                  ','oscar.guerrero@cedesa.com.mx                                ',true,NULL,'Alejandro López ','2024-08-11 00:08:51.000451','44-2212-2012  ','28276','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BARRETO FLORES LUIS FERNANDO                                                    ','luis@bajaplastics.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','1-57-18-63    ','28277','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EVELIN MAGALI AVILA HERNANDEZ                                                   ','kebanafloreria@hotmail.com                                  ',true,NULL,'  ','2024-08-11 00:08:51.000451','6865522480','28278','6861142812'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIA MINERVA MORENO MEDRANO                                                    ','enar.t@hotmail.com                                          ',true,NULL,'  ','2024-08-11 00:08:51.000451','686 2515542   ','28279','686 1062483   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BERNARD CHONG JIMENEZ                                                           ','bernardsartmart@gmail.com                                   ',true,NULL,'  ','2024-08-11 00:08:51.000451','6865544759','28280','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LILIANA DELGADO SUAREZ                                                          ','impnor@gmail.com                                            ',true,NULL,'  ','2024-08-11 00:08:51.000451','6461763508','28281','6461772750'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JUAN ANTONIO PRECIADO CASTAÑON                                                  ','eventostop@yahoo.com.mx                                     ',true,NULL,'  ','2024-08-11 00:08:51.000451','6865590819','28282','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GLORY GLOBAL SOLUTIONS MEXICO                                                   ','daniela.mattes@mx.glory-global.com                          ',true,NULL,'Mauricio Gutiérrez ','2024-08-11 00:08:51.000451','55 55910511   ','28283','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RAMIREZ RODRIGUEZ RAMIRO                                                        ','ttmpapeleria@hotmail.com                                    ',true,NULL,'  ','2024-08-11 00:08:51.000451','565-6303      ','28284','566-7417      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RAMACO CONSTRUCCION, SERVICIOS Y ASESORIA, S. DE R.L DE C.V                     ','ramacoserviciosyasesoria@yahoo.com.mx                       ',true,NULL,'','2024-08-11 00:08:51.000451','686118-8962   ','28285','686265-0540   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CONSTRUCTORA TRES DE SEPTIEMBRE, S.A DE C.V.                                    ','c.3septiembre@yahoo.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686565-4990   ','28286','686216-1469   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MADERERIA LA RANCHERITA S.A. DE C.V.                                            ','cesar.medrano@larancherita.org.mx                           ',true,NULL,'Sandra Orozco ','2024-08-11 00:08:51.000451','5-57-30-70    ','28288','5-55-45-95    ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MAQUINARIA INDUSTRIAL CABRERA, S.A DE C.V.                                      ','jreyes@maincasa.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','01-33-3811-112','28289','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MAURO SANCHEZ GUERRERO                                                          ','mauro@ladyfashion.mx                                        ',true,NULL,'  ','2024-08-11 00:08:51.000451','4.55E+11','28290','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INGENIUM GRUPO EMPRESARIAL S.A. DE C.V.                                         ','gerencia@ingeniumgrupo.com                                  ',true,NULL,'Diana Alicia García Fernández','2024-08-11 00:08:51.000451','686-8413022   ','28292','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SALAZAR BRITO VICENTE ANTONIO                                                   ','admon-roysin@prodigy.net.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','5-67-75-50    ','28293','567-75-68     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'APPLE HOUSE DE MEXICO S.A. DE C.V.                                              ','mario@areamac.com                                           ',true,NULL,'Mario Tamayo ','2024-08-11 00:08:51.000451','5555652553','28294','5552365692'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUIS FERNANDO OROZCO GONZALEZ                                                   ','luisensbc@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6461770725','28295','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ACCESORIOS Y SUMINISTROS PARA LABORATORIO, S.A DE C.V.                          ','aslab@aslab.com.mx                                          ',true,NULL,'','2024-08-11 00:08:51.000451','0155-43333-229','28298','0155-4333-2292'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MOTRIX, S.A. DE C.V.                                                            ','agutierrez@motrix.com.mx                                    ',true,NULL,'Errol Roberto Villa ','2024-08-11 00:08:51.000451','554-8122      ','28299','554-8123      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MIRIAM GUADALUPE GARCIA HERNANDEZ                                               ','kuerissimo2007@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','4777634191','28300','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIA DE LOURDES DAVALOS GUZMAN                                                 ','lulu_davalos@hotmail.com                                    ',true,NULL,'  ','2024-08-11 00:08:51.000451','6862250476','28301','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GNODE, S.A. DE C.V.                                                             ','fernando@gnode.mx                                           ',true,NULL,'Fernándo Gutiérrez Santacurz','2024-08-11 00:08:51.000451','0133-3342-8477','28302','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MICRO BIOS S.A. DE C.V                                                          ','samuru24@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','5555243199','28303','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'KIT UNIFORMES, S.A. DE C.V.                                                     ','kituniforms1@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6646301735','28304','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ARMANDO VANEGAS TAPIA                                                           ','leticiatapia.eventos01@gmail.com                            ',true,NULL,'  ','2024-08-11 00:08:51.000451','6641751694','28305','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EMPRESAS CALIGRAFF, S.A DE C.V.                                                 ','caligraff@prodigy.net.mx                                    ',true,NULL,'Mario Enrique Elizondo ','2024-08-11 00:08:51.000451','01 818 3862746','28306','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ESPINOZA FERRUSQUILLA PAMELA                                                    ','maxima.publicidad@live.com                                  ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-561-2244  ','28307','686-347-7976  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NWECOTECH, S.A.P.I. DE C.V.                                                     ','cmarin@printpartners.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686-559-0033  ','28308','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALANIZ ZARAGOZA MARIA MERCEDES                                                  ','malaniz200@gmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686-216-1145  ','28309','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ISAAC DANIEL CORONADO ORTEGA                                                    ','isaac@marketingonline.com.mx                                ',true,NULL,'  ','2024-08-11 00:08:51.000451','686 5565921   ','28310','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIA LETICIA MONROY LARA                                                       ','lmonroy_2000@yahoo.com                                      ',true,NULL,'  ','2024-08-11 00:08:51.000451','646 185-16-13 ','28311','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PORTO DE MEXICO, S.A. DE C.V.                                                   ','sales@portomex.com                                          ',true,NULL,'Luis Felipe Devia ','2024-08-11 00:08:51.000451','646-126-6562  ','28312','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DVPRO, S.A. DE C.V.                                                             ','info@dvpro.tv                                               ',true,NULL,'José Antonio Moreno ','2024-08-11 00:08:51.000451','(33) 15932547 ','28313','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LOSETAS Y AZULEJOS, S.A DE C.V                                                  ','mayra@pisosyrecubrimientos.com                              ',true,NULL,'Florentino Pereira ','2024-08-11 00:08:51.000451','686-565-6566  ','28314','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AGUAVIDA CORPORACION, S. DE R.L. DE C.V.                                        ','alejandroleal@aguavida.com.mx                               ',true,NULL,'','2024-08-11 00:08:51.000451','686-552-2020  ','28315','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TECNOLOGIA E INSTRUMENTACION ANALITICA, S.A. DE C.V.                            ','marlene.martinez@tecanalitic.com.mx                         ',true,NULL,'','2024-08-11 00:08:51.000451','844-431-0566  ','28316','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JORGE ALBERTO AVELAR RUIZ                                                       ','atondoroberto@gmail.com                                     ',true,NULL,'  ','2024-08-11 00:08:51.000451','664 6740296   ','28317','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CORRALES FERNANDEZ GABRIEL                                                      ','gabrielcorrales0@gmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686-2-88-93-16','28318','686-288-6316  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIÑEZ RAMIREZ ALBERTO                                                         ','multiservicios.marinez@gmail.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','686-167-3067  ','28319','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO CONSULTOR DE MERCADOS, S.C.                                               ','administracion@exploraie.com                                ',true,NULL,'Jesús Sánchez ','2024-08-11 00:08:51.000451','5545917','28320','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HIGUERA BELTRAN ADLANDRA                                                        ','origel@miyasi.com.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686-564-0144  ','28321','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IMAGINA USB,S.A. DE C.V.                                                        ','david.balcazar@imaginausb.com                               ',true,NULL,'Ricardo López ','2024-08-11 00:08:51.000451','52118640','28323','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PEDRO ANTONIO GAXIOLA DELGADO                                                   ','pedro.gaxiola@hotmail.com                                   ',true,NULL,'  ','2024-08-11 00:08:51.000451','6869467796','28324','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GOMEZ LIERA ISRAEL                                                              ','ing.minard@gmail.com                                        ',true,NULL,'  ','2024-08-11 00:08:51.000451','6461315830','28325','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MANJARREZ IMPRESORES SA DE CV                                                   ','gaspar@manjarrezimpresores.com.mx                           ',true,NULL,'','2024-08-11 00:08:51.000451','667-712-95-57 ','28327','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JORGE ADALBERTO JUAREZ SAURI                                                    ','intercopymx@hotmail.com                                     ',true,NULL,'  ','2024-08-11 00:08:51.000451','6865560075','28328','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ELIU MEDRANO CID                                                                ','eliucidd@gmail.com                                          ',true,NULL,'  ','2024-08-11 00:08:51.000451','6865666768','28329','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIA GUADALUPE CID FABILA                                                      ','cidimpresiones@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6865666768','28330','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ESPINOZA GONZALEZ MAURA GRISELDA                                                ','raulmurillo@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6461980298','28332','6461208479'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IVAN GARCIA GUZMAN                                                              ','contacto@gamuzzi.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','4771555442','28333','4777139598'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE ANTONIO ARREGUIN RODRIGUEZ                                                 ','contacto@precisamarketing.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','5523331','28334','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIA GUADALUPE CID FABILA                                                      ','cidimpresioness@gmail.com                                   ',true,NULL,'  ','2024-08-11 00:08:51.000451','5666768','28335','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANABEL CORTEZ BURCIAGA                                                          ','anacb_258@hotmail.com                                       ',true,NULL,'  ','2024-08-11 00:08:51.000451','(686)264-04-43','28336','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO NISSIN, S.C. DE R.L. DE C.V.                                              ','rdelapena@outlook.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','5689950','28337','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VALENCIA REYES KARINA ESPERANZA                                                 ','silosdeaguabc@hotmail.com                                   ',true,NULL,'  ','2024-08-11 00:08:51.000451','6461725399','28338','6461991299'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INVENTIVE POWER, S.A.P.I. DE C.V.                                               ','administracion@inventivepower.com.mx                        ',true,NULL,'Angel Alejandro Mejia ','2024-08-11 00:08:51.000451','0133-1371-3125','28339','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MORENO NAVARRO ALBA JUDITH                                                      ','albajmn9@gmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','686-241-2804  ','28340','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PREMIUM AUTOMOTRIZ, S.A. DE C.V.                                                ','bverdugo30@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6622361000','28341','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUISA FERNANDA DELGADO URIAS                                                    ','videotec.mxli@hotmail.com                                   ',true,NULL,'  ','2024-08-11 00:08:51.000451','6862121224','28342','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HIDROSISTEMAS BAJA, S. DE R.L. DE C.V.                                          ','rgarcia@hb.com.mx                                           ',true,NULL,'','2024-08-11 00:08:51.000451','8410302','28344','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ASM INTERNATIONAL, S.A. DE C.V.                                                 ','ventas@asm.world                                            ',true,NULL,'','2024-08-11 00:08:51.000451','33-3001-9800  ','28346','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MICRO 20 DE MONTERREY, S.A. DE C.V.                                             ','patricia@micro20.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','81-8335-0055  ','28347','81-8335-0068  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PIÑA ALCALA JOSE FERNANDO                                                       ','sellosregional@yahoo.com.mx                                 ',true,NULL,'  ','2024-08-11 00:08:51.000451','686 1143369   ','28348','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RFID&ENERGY, S.A. DE C.V.                                                       ','priscila@somohanousa.com                                    ',true,NULL,'Sandra De La Fuente ','2024-08-11 00:08:51.000451','55-3861-6208  ','28349','64-4408-2101  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LAURA ISABEL INFANTE MARTINEZ                                                   ','facturacion@condemedia.com                                  ',true,NULL,'  ','2024-08-11 00:08:51.000451','686 1577121   ','28350','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE LUIS ANDRADE GARCIA                                                        ','joseluisandradegarcia@hotmail.com                           ',true,NULL,'  ','2024-08-11 00:08:51.000451','2740576','28351','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SARO TOOL SUPPLY S DE RL DE CV                                                  ','jdelatorre@saro-tool.com                                    ',true,NULL,'José Salvador De La Torre ','2024-08-11 00:08:51.000451','664-625-0202  ','28352','664-625-0205  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SUMILAB, S.A. DE C.V.                                                           ','mexicali@sumilab.com.mx                                     ',true,NULL,'Francisco Favela ','2024-08-11 00:08:51.000451','6863607017','28353','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SUMINISTROS TECNOLOGICOS ON-DEMAND, S.A. DE C.V.                                ','ventas@stondemand.com                                       ',true,NULL,'Pedro de Jesús Vazquez ','2024-08-11 00:08:51.000451','55-3536-4040  ','28354','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MA DE LOS ANGELES ANDRADE MORENO                                                ','mandradeva@gmail.com                                        ',true,NULL,'  ','2024-08-11 00:08:51.000451','8382973','28355','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERGIO ARTURO BRISEÑO LOPEZ                                                     ','brimart1@prodigy.net.mx                                     ',true,NULL,'  ','2024-08-11 00:08:51.000451','55013254990','28357','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RUBEN ACUÑA SANDOVAL                                                            ','contacto@enesponja.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','686-564-3723  ','28358','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE FABRICIO MOZQUEDA ROSAS                                                    ','contabilidad.ax@gmail.com                                   ',true,NULL,'  ','2024-08-11 00:08:51.000451','564-3919      ','28359','567-7180      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MULTIFLEXO, S.A. DE C.V.                                                        ','multiflexo.admon@gmail.com                                  ',true,NULL,'César Murillo ','2024-08-11 00:08:51.000451','568-7492      ','28360','568-7039      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INFORMATICA ALTAIR MEXICO, S. DE R.L. DE C.V.                                   ','rgarza@altair.com                                           ',true,NULL,'Ottmar Kappes ','2024-08-11 00:08:51.000451','55-5658-6808  ','28361','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE LUIS SALCIDO MONTIJO                                                       ','altavisionvideo@gmail.com                                   ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-580-9080  ','28362','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ASPERSORAS AVITIA S.A DE C.V.                                                   ','oficinasq@aspersorasavitia.com                              ',true,NULL,'Erika Leticia ','2024-08-11 00:08:51.000451','6161651609','28364','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMUNICACION ACTIVA VILLASANA, S.A. DE C.V.                                     ','claudia@grupomegacom.com                                    ',true,NULL,'Pedro García Villasana','2024-08-11 00:08:51.000451','568-23-82     ','28365','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CLAUDIA CECILIA MARTINEZ NAVARRETE                                              ','cm.graficos@yahoo.com                                       ',true,NULL,'  ','2024-08-11 00:08:51.000451','686 244-13-05 ','28366','686 251 53 45 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ROSENDO ARTEAGA DUEÑAS                                                          ','chendusino@gmail.com                                        ',true,NULL,'  ','2024-08-11 00:08:51.000451','686 114-42-04 ','28367','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARITZA HIGUERA MORALES                                                         ','maritzahiguera12@hotmail.com                                ',true,NULL,'  ','2024-08-11 00:08:51.000451','558-77-77     ','28368','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARTCO, S. DE R.L. DE C.V.                                                      ','melissa@cartco.mx                                           ',true,NULL,'Enrique González ','2024-08-11 00:08:51.000451','686-568-9200  ','28370','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA TECNOMETRICA, S.A. DE C.V.                                     ','contacto@tecnometrica.com.mx                                ',true,NULL,'Jesús Martín Caballero ','2024-08-11 00:08:51.000451','81-8370-5416  ','28371','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERSIA IMPRESIONES, S.A. DE C.V.                                              ','comersia@gmail.com                                          ',true,NULL,'Eduardo Isaac Pérez ','2024-08-11 00:08:51.000451','0155 56621872 ','28372','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MA. BEATRIZ TORRES ALVARADO                                                     ','hh_image48@yahoo.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','55 1272-1474  ','28373','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'QUIMICA MEXICANA INDUSTRIAL, S.A. DE C.V.                                       ','quimisa_mex@nch.com                                         ',true,NULL,'Medardo Pavon ','2024-08-11 00:08:51.000451','0155-5516-3300','28374','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALMA ESTELA GOMEZ GARCIA                                                        ','firenze_flo@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686-566-2036  ','28376','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO DE INSTRUMENTACION Y MEDICION INDUSTRIAL DE MEXICO, S.A. DE C.V.          ','amedina@gimim.com                                           ',true,NULL,'Oscar Salazar ','2024-08-11 00:08:51.000451','0155-5634-0402','28377','0155-5633-0084'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FABIOLA MARTINEZ PAYAN                                                          ','ldgfabby@gmail.com                                          ',true,NULL,'  ','2024-08-11 00:08:51.000451','561-74-80     ','28378','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ESMERALDA ELENA SILVESTRE ABOYTES                                               ','alsian_eventos@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686 562-00-17 ','28379','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VICTOR IMPORTACIONES INDUSTRIALES, S.A. DE C.V.                                 ','tlopez@vicsa.com.mx                                         ',true,NULL,'Tomas López Robles','2024-08-11 00:08:51.000451','217-1454      ','28380','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROVEEDORA DE CONTROL ELECTRICO Y MECANICO, S. DE R.L. DE C.V.                  ','msalcedo@procemsa.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686-563-3688  ','28381','686-488-0637  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARCO ANTONIO FLORES ZAMORA                                                     ','ventasmcdistributions@gmail.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','686-202-5212  ','28382','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ISMAEL DE LA TORRE MARTINEZ                                                     ','unigrafix_bc@hotmail.com                                    ',true,NULL,'  ','2024-08-11 00:08:51.000451','557-8544      ','28384','686-137-2019 C'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JUAN MANUEL REYES MANZO                                                         ','reymansiys@gmail.com                                        ',true,NULL,'  ','2024-08-11 00:08:51.000451','564-49-64 / 55','28386','686 216- 99 65'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FELIX BEAS RODRIGUEZ                                                            ','dulces.bambi@gmail.com                                      ',true,NULL,'  ','2024-08-11 00:08:51.000451','561-17-00     ','28387','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LIZARRAGA ESEBERRE MARIA ADELINA                                                ','artiled_@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','664-176-32-12 ','28389','664-6071596   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO INDUSTRIAL MEXLAB, S.A. DE C.V.                                           ','lvirrueta@grupomexlab.com                                   ',true,NULL,'Jorge Corona ','2024-08-11 00:08:51.000451','01800-1114-343','28390','33-3634-2364  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SALVADOR GUERRERO SANTOYO                                                       ','salvador_17gs@hotmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6862113408','28391','6865771317  64'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CESAR HUMBERTO VILLARREAL LEAL                                                  ','cesar@electrosolar.mx                                       ',true,NULL,'  ','2024-08-11 00:08:51.000451','6461758064','28392','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TIBA MEDICA S.A. DE C.V.                                                        ','tibamedica@yahoo.com.mx                                     ',true,NULL,'José Cruz Contreras ','2024-08-11 00:08:51.000451','664-682-42-77 ','28393','664-682-42-77 ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LORENA CHAVEZ RODRIGUEZ                                                         ','aplicacionesgraficas1@yahoo.com.mx                          ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-559-0145  ','28395','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AQUAMAR DE ENSENADA S.A. DE C.V.                                                ','aqua.mar@live.com                                           ',true,NULL,'Luis Avila ','2024-08-11 00:08:51.000451','6461740045','28396','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TRANSMISIONES Y EQUIPOS INDUSTRIALES, S.A. DE C.V.                              ','cobranza@teisa.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5687-7514','28397','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CORPORATIVO BALCAZAR, S.A. DE C.V.                                              ','corporativobalcazar@hotmail.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','582-33-09     ','28398','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ABRAHAM LOPEZ PEÑUELAS                                                          ','abrahamlopez64@gmail.com                                    ',true,NULL,'  ','2024-08-11 00:08:51.000451','653-151-8436  ','28399','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ROGELIO LOPEZ DIAZ                                                              ','rogelio.ld@gmail.com                                        ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-139-6894  ','28400','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MANUEL ALFONSO GUERRERO URQUIDEZ                                                ','mr_magu02@yahoo.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','5821769','28401','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BAJA PACK, S.A. DE C.V.                                                         ','lverdugo@bajapack.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686-108-3010  ','28402','664 6212136   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PRODUCTOS INSTITUCIONALES DEL NOROESTE, S. DE R.L. DE C.V.                      ','ventas@janisource.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','664 607 72 75 ','28404','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OVM EXPERTOS CONSULTORES, SC                                                    ','contabilidad.acor@hotmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','582-60-60     ','28405','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OMAR GENARO MATUZ ARMENTA                                                       ','arquisupply@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686-841-4059  ','28406','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SOTELO TORRES RAFAEL                                                            ','rafaelsotelo.t@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','5510412884','28407','5510412884'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NORTWEST CO S, DE R.L. DE C.V.                                                  ','credito.cobranza@nexuspaqueteria.com                        ',true,NULL,'','2024-08-11 00:08:51.000451','6865534191','28408','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COLOR SG, S.A. DE C.V                                                           ','colorsg@yahoo.com.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','554-49-60     ','28409','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EQUIPOS Y CONSUMIBLES DE OCCIDENTE, S.A. DE C.V.                                ','victorlopez@ecomexico.net                                   ',true,NULL,'José Guadalupe López ','2024-08-11 00:08:51.000451','01800-714-0539','28410','0133-3616-2021'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VISION AUTOMOTRIZ DE SINALOA, S.A. DE C.V.                                      ','cobranza@hondavision.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','667 7131555   ','28411','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE JUAN LOPEZ TRUJILLO                                                        ','alo.diseno.8@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','261 82 44     ','28412','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'REYNALDO CONTRERAS TRUJILLO                                                     ','rey.cot@hotmail.com                                         ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-561-6088  ','28415','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TESTEQUITY DE MEXICO S.R. L.  DE C.V.                                           ','salomon.gonzalez@testequity.com                             ',true,NULL,'Druary Shadrick ','2024-08-11 00:08:51.000451','6564067861','28416','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'KAIMAN ENTRETENIMIENTO, S.A. DE C.V.                                            ','vanessa@kaiman.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','15591170305','28417','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NEOCITEC, S.A. DE C.V.                                                          ','ventas@neocitec.com.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5686-8571','28418','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HUGO ALEJANDRO VELOZ SOTO                                                       ','hugoveloz@vivetech.com.mx                                   ',true,NULL,'  ','2024-08-11 00:08:51.000451','0133-1981-9150','28419','0133-1981-9151'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FLORESMEYER, S.A.                                                               ','francisco@floresmeyer.com.mx                                ',true,NULL,'Francisco Floresmeyer ','2024-08-11 00:08:51.000451','55 55157661   ','28420','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'STOCK INFORMATICO, S.A. DE C.V.                                                 ','ventas@stock.com.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','614 4112700   ','28421','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ADMINISTRADORA DE SERVICIOS MR, SA DE CV                                        ','karolina.aguirre@cim-mexico.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','557-31-30     ','28424','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SILVIA OROPEZA OLMOS                                                            ','las1001@hotmail.com                                         ',true,NULL,'  ','2024-08-11 00:08:51.000451','5526401','28425','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GONZALO CURIEL GUTIERREZ                                                        ','impresos_modernos@hotmail.com                               ',true,NULL,'  ','2024-08-11 00:08:51.000451','5803558','28426','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IDEA 360 PUBLICITY, SA. DE C.V.                                                 ','peligrosospunk@gmail.com                                    ',true,NULL,'ALEJANDRO ROSSO GONZALEZ','2024-08-11 00:08:51.000451','52 8183721041 ','28427','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MORENO OLIVARES ANA MARÍA                                                       ','anammoreno2014@hotmail.com                                  ',true,NULL,'  ','2024-08-11 00:08:51.000451','554-69-66     ','28428','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DAVID ADRIAN VAZQUEZ SUAREZ                                                     ','divadnairda@hotmail.com                                     ',true,NULL,'  ','2024-08-11 00:08:51.000451','261-70-02     ','28429','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'THELMA YUDITH  HIGUERA LOPEZ                                                    ','banquetes.sauceda@hotmail.com                               ',true,NULL,'  ','2024-08-11 00:08:51.000451','555-87-76     ','28431','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROYECTOS Y ACRILICOS, S. DE R.L. DE C.V.                                       ','proyectos_acrilicos@hotmail.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','905-66-96     ','28432','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MANUEL DE JESUS RODRIGUEZ FLORES                                                ','silabservicio@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','662 6885864   ','28433','4.57E+11'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BRENDA NEREIDA VELARDE LEON                                                     ','kathausmx2@hotmail.com                                      ',true,NULL,'  ','2024-08-11 00:08:51.000451','5633531','28434','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AIDA MARGARITA ANGULO JUAN                                                      ','des-in@outlook.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','2 51-18-93    ','28435','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARLOS ALBERTO  VENTURA DE LA PAZ                                               ','carlos.ventura.solar@gmail.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','2737351463','28436','2717027545'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MC AUDIOPRODUCCIONES, SA. DE C.V.                                               ','mcproaudio@yahoo.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','664 6487823   ','28438','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DESARROLLOS INMOBILIARIOS, CONSTRUCCION Y DISEÑO, S.A. DE C.V.                  ','wilberthpavon@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','2553910','28439','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SILVIA ALEJANDRA COVARRUBIAS RODARTE                                            ','fiestasimperiales@hotmail.com                               ',true,NULL,'  ','2024-08-11 00:08:51.000451','8412897','28440','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROCABLES DE MEXICO S.R.L. DE C.V.                                              ','jestrada@procables.com.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','5555109033','28441','6865560029');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NANOG BIOTEC SA DE CV                                                           ','info@nanogbiotec.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','0133 19 55 71 ','28442','2001 35 35    '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RAMOS SALAZAR CARLOS ALBERTO                                                    ','tcolo@hotmail.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','686-161-70-67 ','28443','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BRAZIL GEORGINA CAMACHO DUCOING                                                 ','backstage_solution@yahoo.com                                ',true,NULL,'  ','2024-08-11 00:08:51.000451','686 5649885   ','28444','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JUAN CARLOS JIMENEZ RODRIGUEZ                                                   ','eduardocardoza@ecomuebles.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','6865572918','28446','6865574062'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE GUADALUPE DURAN ASCENCIO                                                   ','duranascencio@hotmail.com                                   ',true,NULL,'  ','2024-08-11 00:08:51.000451','686 5514581   ','28448','686 2167644   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GABRIEL NUÑEZ ROMERO                                                            ','ieaensenada@gmail.com                                       ',true,NULL,'  ','2024-08-11 00:08:51.000451','6644137982','28449','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INSTRUMETRONIX  S.A. DE C.V.                                                    ','dbustillos@instrumetronix.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','6462051348','28450','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LARUS TECHGROUP S.A DE C.V.                                                     ','david.gil@grupolarus.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6643864474','28451','6646093200'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SOLUCIONES INFORMATICAS SRTEI S.A. DE C.V.                                      ','lchavez@sertei.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','664-614-432-12','28452','664-614-432-12'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PINTURAS REM DE MEXICALI, S.A. DE C.V.                                          ','miguelarias@comexmexicali.com                               ',true,NULL,'Elías Revah ','2024-08-11 00:08:51.000451','686-559-34-05 ','28453','686-248-2000  ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RODRIGUEZ RODRIGUEZ ALBERTO                                                     ','elingebeto@live.com                                         ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-905-63-50 ','28454','686-160-87-22 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CUSTOMER CENTRICITY SA DE CV                                                    ','jmonsalve@centri-cx.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','551-374-25-38 ','28455','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIA EUGENIA ZAVALA JACINTO                                                    ','depositodentalbc@gmail.com                                  ',true,NULL,'  ','2024-08-11 00:08:51.000451','664-625-7523  ','28456','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDGAR FIGUEROA GARCIA                                                           ','daf.atencionaclientes@gmail.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','565-22-21     ','28457','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CAMACHO ESPINOZA MONICA                                                         ','disacomp@live.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','686-563-63-02 ','28458','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NDI.COM.MX SA DE CV                                                             ','webex@nextdata.com.mx                                       ',true,NULL,'Víctor Roman Segura ','2024-08-11 00:08:51.000451','01-442-153-14-','28459','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MIRANDA MORTERA Y COMPAÑIA S.A DE C.V                                           ','soporte@mirandacia.com                                      ',true,NULL,'Juan Rodolfo Miranda ','2024-08-11 00:08:51.000451','(33) 36 45 48 ','28460','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SALINAS MELGOZA ANA ELEANE                                                      ','ravt@babeldgt.com                                           ',true,NULL,'  ','2024-08-11 00:08:51.000451','0155 84 21 65 ','28461','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MOEBIAN SA DE CV                                                                ','dlcervantes@moebian.com.mx                                  ',true,NULL,'Manuel Mendoza Obregón','2024-08-11 00:08:51.000451','(55) 56155028 ','28462','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GASTROCALI, S.A. DE C.V.                                                        ','palominosmexicali@gmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','554-46-46     ','28463','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GONZALEZ GARCIA DAVID                                                           ','vieri56@gmail.com                                           ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-216-04-80 ','28464','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MA. ROUMALDA VERDUGO ANGULO                                                     ','banquetesalexia@hotmail.com                                 ',true,NULL,'  ','2024-08-11 00:08:51.000451','646 149-41-54 ','28465','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CAMIONES VENCE, S.A. DE C.V.                                                    ','karlalopez@vencemexicali.com.mx                             ',true,NULL,'','2024-08-11 00:08:51.000451','561-80-39     ','28466','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ART CRIS, SC                                                                    ','artcrissc@hotmail.com                                       ',true,NULL,'Adolfo Orozco ','2024-08-11 00:08:51.000451','565-62-69     ','28468','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TRINIDAD JOSE TORRES LEDESMA                                                    ','salem583@hotmail.com                                        ',true,NULL,'  ','2024-08-11 00:08:51.000451','686 2 13-90-81','28469','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARAVEL VALENZUELA MARIA ROSA ALICIA                                            ','ashpi.proyectos@gmail.com                                   ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-567-25-76 ','28470','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANA GABRIELA ROMERO TORRES                                                      ','mysgr@outlook.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','664 250-01-79 ','28471','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO COMERCIALIZADOR ROCMEX DE BAJA, S. DE R.. DE C.V.                         ','gpo.rocmex@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','5560348','28472','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DENTAL TRADE SA DE CV                                                           ','m_bravo@borgatta.com.mx                                     ',true,NULL,'Inocente García ','2024-08-11 00:08:51.000451','55-51-33-63-63','28473','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OFFSHORE DEVELOPMENT SERVIES, SA. DE C.V.                                       ','graciela.serrano@softwareone.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','(55) 66365600 ','28474','(55) 317252   ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ESTRELLA COMERCIALIZADORA Y SERVICIOS, S.A. DE C.V.                             ','pesparza@grupoestrella.com.mx                               ',true,NULL,'Efrain Martínez ','2024-08-11 00:08:51.000451','664 6836720   ','28477','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GESTION E INNOVACION ESTRATEGICA SC                                             ','jorge.gonzalez@innova-estrategia.mx                         ',true,NULL,'Jorge Armando González ','2024-08-11 00:08:51.000451','0133-38252254 ','28479','0133-38252383 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LIBROS CINCO CONTINENTES S.A. DE C.V.                                           ','libroscincocontinentes@prodigy.net.mx                       ',true,NULL,'Arnoldo Juan Romero ','2024-08-11 00:08:51.000451','5552520282','28481','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ELECTRONICA INFINITA,S.A. DE C.V.                                               ','creditoycobranza@infinite.com.mx                            ',true,NULL,'','2024-08-11 00:08:51.000451','81-8110-8000  ','28482','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MAQUINARIA DE ESTRATEGIAS CREATIVAS, S.A. DE C.V.                               ','contacto@precisamarketing.com                               ',true,NULL,'Jorge Antonio Arreguin Rodríguez','2024-08-11 00:08:51.000451','559-23-26     ','28483','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMPRESORES Y MAQUINARIA S.A. DE C.V.                                           ','fdiaz@cymaq.mx                                              ',true,NULL,'Ramiro Cabazos ','2024-08-11 00:08:51.000451','(81)-5000-5300','28484','CEL 664 360 03'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDICIONESAKAL MEXICO SA DE CV                                                   ','info.mx@akal.com                                            ',true,NULL,'Oscar Fuentes ','2024-08-11 00:08:51.000451','(0155)56588426','28485','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MORA GRIJALVA CLARISA                                                           ','guillermomendivil@markeva.com.mx                            ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-220-3013  ','28486','686-2-19-35-55'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARLOS JACOB RAMIREZ MUÑOZ                                                      ','crammun@gmail.com                                           ',true,NULL,'  ','2024-08-11 00:08:51.000451','664 6424691   ','28487','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PARRA DUARTE NARCISO                                                            ','outis10@gmail.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','686-1-135096  ','28488','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EQUIPO INDUSTRIAL Y SUMINISTROS MEDICOS S DE R.L. DE C.V.                       ','eism-04@hotmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','298-05-60     ','28489','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SISTEMAS MODERNOS DE OFICINA DE MEXICALI S.A. DE C.V.                           ','nmora@sistemasmodernos.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','565-62-67     ','28491','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA CARHUE S. DE R.L. DE C.V                                       ','luis@valko.mx                                               ',true,NULL,'','2024-08-11 00:08:51.000451','665-110-83-55 ','28492','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RAUL RAMSES GARCIA VIZCARRA                                                     ','elrapidomexicali@hotmail.com                                ',true,NULL,'  ','2024-08-11 00:08:51.000451','686 2605082   ','28494','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FRANCISCO ALVARADO ASTORGA                                                      ','biopat.labs@gmail.com                                       ',true,NULL,'  ','2024-08-11 00:08:51.000451','6461732041','28495','6461732148'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'KOCHI DE CALIDAD, S.A. DE C.V.                                                  ','kowimexicali@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','5682311','28496','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SISTEMAS INTEGRALES Y ALARMAS DEL NOROESTE, S. DE R.L. DE C.V.                  ','sia.seguridadmxli@gmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','2 90-69-10    ','28497','2 90-68-85    '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'WOLTERS KLUWER HEALTH PROFESSIONAL AND EDUCATION MEXICO, S.A. DE C.V.           ','jacobo.murillo@wolterskluwer.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','CEL.(55)373390','28498','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SAN FELIPE DISPOSAL, S.A. DE C.V.                                               ','sanfelipe.disposal@yahoo.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','686 121-10-04 ','28499','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HORACIO QUINTERO MEJIA                                                          ','lastraprints@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','946-05-08     ','28501','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CYBERPUERTA S.A. DE C.V.                                                        ','l.sandoval@abasteo.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','3389950731','28502','(33) 47 800 90'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FLOW INDUSTRIAL SUPPLY S.A. DE C.V.                                             ','rafael.contreras@flowindustrial.com.mx                      ',true,NULL,'','2024-08-11 00:08:51.000451','686-557-6921  ','28503','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARSALAB  S.A. DE C.V.                                                          ','manuel.rodriguez@carsalab.com                               ',true,NULL,'Socorro Guadalupe Carranza ','2024-08-11 00:08:51.000451','6622410003','28504','6643159249'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GARCIA PEREZ HERLINDA ORALIA                                                    ','lindagarciaperez@yahoo.com.mx                               ',true,NULL,'  ','2024-08-11 00:08:51.000451','686 2 25-52-90','28505','5 77-10-30    '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUCIONES CIFUENTES SA DE CV                                               ','administracion@cifuentesdist.com.mx                         ',true,NULL,'María Martha Gutiérrez ','2024-08-11 00:08:51.000451','54-23-43-01   ','28507','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FAAM SERVICES S.A DE C.V                                                        ','jorgericardo.rodriguez@famm.com.mx                          ',true,NULL,'','2024-08-11 00:08:51.000451','10547926','28508','55648565'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO PRECISION CONTROL S.A. DE C.V.                                            ','cmorales@grupopc.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','664-626-2469  ','28509','664-626-2469  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ELECTRO ILUMINACIÓN RAMÍREZ S.A. DE C.V.                                        ','ventas.tijuana@electroiluminacionramirez.com.mx             ',true,NULL,'','2024-08-11 00:08:51.000451','667-754-6337  ','28510','664-647-54-98 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AUTOWELT, S.A. DE C.V.                                                          ','jhiguera@bmwculiacan.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6678465151','28511','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AG&O DE MEXICO S.A. DE C.V.                                                     ','olivia.mayen@agodemexico.com                                ',true,NULL,'Olivia Mayen ','2024-08-11 00:08:51.000451','5556651726','28514','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SANCHEZ POSADAS HECTOR                                                          ','ventas@ventilacionivei.mx                                   ',true,NULL,'  ','2024-08-11 00:08:51.000451','01-55-22-27-34','28515','01-55-68-41-67'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LEON DAVID ROBLES PRIETO                                                        ','tarjetasplasticasdemexico@gmail.com                         ',true,NULL,'  ','2024-08-11 00:08:51.000451','8711937019','28517','8711938301'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RICARDO VILLALOBOS PACHECO                                                      ','ricardo.papeleriaferrer@hotmail.com                         ',true,NULL,'','2024-08-11 00:08:51.000451','5522612','28518','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BAJO PRESION S.A. DE C.V.                                                       ','presionbajo@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6865522900','28519','686310 12 12  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AUTOMATIZACION INTELIGENTE DE MEXICO SA DE CV                                   ','contacto@pcbrapido.com                                      ',true,NULL,'Fernando Manuel González ','2024-08-11 00:08:51.000451','442-2209943   ','28520','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JAVIER FRANCISCO  CORTEZ BARAJAS                                                ','ing.cortezjavier@gmail.com                                  ',true,NULL,'  ','2024-08-11 00:08:51.000451','6869465841','28521','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LAURA MABEL ESPINOZA JIMENEZ                                                    ','bajadelicatering@gmail.com                                  ',true,NULL,'  ','2024-08-11 00:08:51.000451','686 1513140   ','28522','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LAURENTIUS, S.A. DE C.V.                                                        ','laurenty@prodigy.net.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','55300232','28523','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SURMAN AUTOMOTRIZ, S.A. DE C.V.                                                 ','vicky.quiroz@surman.com                                     ',true,NULL,'Virginia Amparo Quiroz Zamora','2024-08-11 00:08:51.000451','662 213 33 30 ','28524','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'J & J PLASTICOS RECYCLING S.R.L. DE C.V.                                        ','bpbadm@hotmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','66567692266','28525','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERVICIOS CREATIVOS PROFESIONALES, S. DE R.L. DE C.V.                           ','deandastudios@homail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','554-73-33     ','28527','554-43-52     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FOCUS INVESTIGACION S DE RL DE CV                                               ','carmen.damian@focus.com.mx                                  ',true,NULL,'Juan Carlos Ochoa Bermudez','2024-08-11 00:08:51.000451','664-634-29-30 ','28528','664-634-28-15 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TORRES GARCIA HECTOR ALFONSO                                                    ','togasenalamientos@yaho..com.mx                              ',true,NULL,'  ','2024-08-11 00:08:51.000451','686-582-60-90 ','28529','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JORGE ALBERTO TREVIÑO BUCHARD                                                   ','axxessomc@gmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','566-96-96     ','28530','566096-06     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORAS DE PAPELERIAS GAMA, S.A. DE C.V.                                 ','jgaxiola@suministrosgama.com.mx                             ',true,NULL,'','2024-08-11 00:08:51.000451','664-105-1980  ','28531','250-1999      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JESUS DAVID HERNANDEZ TORRES                                                    ','hernandez.torres.david@gmail.com                            ',true,NULL,'  ','2024-08-11 00:08:51.000451','0155 2254-76-1','28533','0155 5926-41-5'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIA LUISA HERNANDEZ OCHOA                                                     ','alho_05@hotmail.com                                         ',true,NULL,'  ','2024-08-11 00:08:51.000451','686 566-52-00 ','28535','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CUAUHTEMOC AGUSTIN GONZALEZ GRANADOS                                            ','fotografiagonzalez1@hotmail.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','686 5 85-25-43','28536','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'REPRESENTACIONES INTERNACIONALES EN EQUIPO PARA LABORATORIO, S.A. DE C.V.       ','ventas2@rielsa.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','55-5119-6282  ','28538','55-5119-6280  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIAL CALAFIA, S.A. DE C.V.                                                 ','comercialcalafia@gmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','563-24-01     ','28539','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANDRES ADALBERTO FLORES MARQUEZ                                                 ','andresflores.app@gmail.com                                  ',true,NULL,'  ','2024-08-11 00:08:51.000451','567-16-73     ','28541','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CHAVEZ MARTINEZ NASHE LLY                                                       ','mnashda@outlook.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686-5-10-5795 ','28543','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SANDRA IVETTE AMADOR SANDEZ                                                     ','sandra@publianuncios.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6461209929','28546','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OSCAR MAURICIO ADAME ALMONTE                                                    ','leon@elmercadoenlinea.com                                   ',true,NULL,'  ','2024-08-11 00:08:51.000451','565-61-00     ','28547','565-61-07     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SMART MOBILITY ENTERPRISE DE MEXICO, S. DE R.L. DE C.V.                         ','jgaribay@smeconsulting.com.mx                               ',true,NULL,'','2024-08-11 00:08:51.000451','664 6155300   ','28548','664 1738084   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ROHDE & SCHWARZ DE MEXICO, S DE RL DE CV                                        ','armin.markert@rohde-schwarz.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','01-55 8503 991','28549','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERVICIO,INSTALACION,MANTENIMIENTO Y ASESORIA DE EQUIPOS DE ACCESABILIDAD, S.A. ','jlsoltero@simaaccesibilidad.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','0155 27-89-75-','28550','0155 59-72-25-'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ROMERO ALVA LUIS ARMANDO                                                        ','distribucionesluar@gmail.com                                ',true,NULL,'  ','2024-08-11 00:08:51.000451','0155-5914-5910','28552','04455-6792-192'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JORGE MANUEL ACEVEDO PAYAN                                                      ','manuel@mundoaudiovisual.com.mx                              ',true,NULL,'','2024-08-11 00:08:51.000451','664 6861521   ','28554','664 6862681   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GURROLA RODRIGUEZ HECTOR RENE                                                   ','creditoycpmax@outlook.es                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686561-1276   ','28555','580-9369      ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BECKMAN COULTER DE MEXICO, S.A. DE C.V.                                         ','jcchong@beckman.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','15591832800','28556','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARTHA ERIKA SAUCEDO GONZALEZ                                                   ','erymsa@gmail.com                                            ',true,NULL,'','2024-08-11 00:08:51.000451','15559427019','28557','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DHG RADIOCOMUNICACION S DE RL DE CV                                             ','dhg.comunicaciones@gmail.com                                ',true,NULL,'Denisse Hernández ','2024-08-11 00:08:51.000451','556-56-10     ','28558','556-51-38     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DAMIAN EFREN ACOSTA ZARATE                                                      ','olenorlop@yahoo.com.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6861066129','28559','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MAYRA GUADALUPE GONZALEZ MADRIGAL                                               ','imprenta_ambra@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','664 6374063   ','28560','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'YANIRA SOTELO MONTAÑO                                                           ','ingsotelom@gmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686 2904171   ','28561','686 2276677   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALEJANDRO ROMO NAVARRO                                                          ','aromo@drmembranas.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686 566 57 74 ','28564','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CINETEC EQUIPOS TECNICOS PARA CINE Y TV S.A. DE C.V                             ','curd@cinetec.com.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','55-55165-00-84','28565','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MAQUINARIA Y PROCESOS PULVEX S.A. DE C.V.                                       ','manuel@pulvex.mx                                            ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5657-9133','28566','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INTEGRACION DE SOLUCIONES EMPRESARIALES DE MEXICO, S.A. DE C.V.                 ','hugo.murillo@isemtecnologias.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','5669066','28568','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PRIEGO ALMONTE ENRIQUE                                                          ','almontp@gmail.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','5-67-11-75    ','28569','686-254-04-75 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AGUILERA BARBOZA JESUS ALFREDO                                                  ','alfredo_aguilerab@hotmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','686-230-1318  ','28570','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ICIWEB MEXICO SA DE CV                                                          ','jsoto@iciweb.com.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','55-21560917   ','28571','55-21561199   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GENOVA ELIZABETH MALDONADO MURILLO                                              ','genovadevor@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6461768945','28572','6461768945'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ADN SINTETICO SAPI DE CV                                                        ','ventas@t4oligo.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','01 462 606 92 ','28573','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BEATRIZ ADRIANA MURGUIA MEDINA                                                  ','averdugo@mobilab.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6444140304','28574','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SOMOHANO EXPRESS, S.A. DE C.V.                                                  ','aguerrero@somohano.com.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','01(55) 5211481','28575','01(55) 5211481'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SOLUCIONES PUNTO SINGULAR, S.A. DE C.V.                                         ','nadya.banda@2cgrp.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','01(81) 83-03-3','28576','01 (81) 83-03-'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERGIO MIRNDA POZOS                                                             ','smiranda@nci.com.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','01(55)56718683','28577','01(55)55138973'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ESTRATEGIAS Y SOLUCIONES EN IT, S.A. DE C.V.                                    ','inavarro@estrasol.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','01(33)30306969','28578','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARGA FACIL, S.A. DE C.V.                                                       ','rosa.suenaga@cargafacil.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','01(33) 3812828','28579','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BIOCARE MEDICAL REPRESENTANTE SA DE CV                                          ','mcbiocaremexico@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','(55) 56 77 95 ','28580','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BOM SERVICIOS INTEGRALES, S.C.                                                  ','personal.acor@hotmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686 582-60-60 ','28581','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARVEL ELECTRONICS S DE RL DE CV                                                ','ventas2@marvel-mx.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686-566-77-38 ','28582','686-566-77-35 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALVAREZ SAMANIEGO HEIDI KRISTEL                                                 ','hk.lv@live.com                                              ',true,NULL,'','2024-08-11 00:08:51.000451','4.47E+11','28583','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PATRICIA MARIBEL LOPEZ MEDINA                                                   ','vtas.startup@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','16461770413','28584','16461770413'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SOLUCIONES TECNOBIOMEDICA S. DE R.L. DE C.V..                                   ','german.bazaldua@tecno-biomedica.com                         ',true,NULL,'','2024-08-11 00:08:51.000451','6646609943','28585','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORA INTERNACIONAL DE REVISTAS S.A. DE C.V.                            ','dirsaservicios@prodigy.net.mx                               ',true,NULL,'','2024-08-11 00:08:51.000451','5556116725','28587','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALDWIN JOSE LUIS CEDENO SANCHEZ                                                 ','contacto@tertulianet.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','5569946734','28589','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MECALUX MEXICO SA DE CV                                                         ','tcustome@mecalux.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','6472200','28590','6472200');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CLIMA Y MANTENIMIENTO DEL NOROESTE SA DE CV                                     ','gabriel.rodriguez@climaymn.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','6865825600','28592','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LAZARO PARRA HOMERO                                                             ','ferdenth@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','664-972-55-64 ','28593','664-972-55-64 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SALAS HERALDEZ MARIA DE LOURDES                                                 ','lusalas87@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686-211-96-99 ','28594','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'REYNA ORTEGA ARMANDO                                                            ','mexicali@uarrieta.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6862-51-22-40 ','28595','686-333-14-22 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GORTAZAR ARVAYO JOSE MANUEL                                                     ','manuel@fergordental.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686-905-88-11 ','28596','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CAPIZ GOMEZ ALEJANDRO                                                           ','capiz.electromedica@gmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','6861741548','28599','6865808903'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROMAGRO INTERNACIONAL SA DE CV                                                 ','promagro@gmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','33-36386200   ','28600','33-36378884   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TECNOLOGIA MEDICA INTERAMERICANA S.A. DE C.V.                                   ','informes@grupotecnomed.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','01 55 55 19 72','28602','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BEGS SOLUTIONS S.A. DE C.V.                                                     ','saulo@begssolutions.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','12222472490','28603','12222472490'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE ALFREDO SOTO ESCALANTE                                                     ','click.ventas@prodigy.net.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','567-50-44     ','28604','567-52-28     ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GILBERTO LOPEZ MONARREZ                                                         ','ingenieria_foranea@outlook.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','6462409330','28605','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RODOLFO DANIEL GALLARDO OROPEZA                                                 ','las1001@hotmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','5526401','28608','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CDM COMUNICACION INTEGRAL DEL NOROESTE S DE RL DE CV                            ','cdmcom@yahoo.com.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686553-81-69  ','28610','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OPERADORA NACIONAL E INTERNACIONAL DE PRODUCTOS ODONTOLOGICOS, SA DE CV         ','go@onipo.com.mx                                             ',true,NULL,'','2024-08-11 00:08:51.000451','33-3124-05-42 ','28615','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GIOVANNI LISSETTE DE PAZ RIVERA                                                 ','ricardo.depaz@inmimex.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','248 481 7056  ','28616','55 46 13 22 61'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'METRIX LABORATORIOS S.A. DE C.V.                                                ','eugenia_f@metrixlab.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','5555148152','28617','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INDUSTRIAL FERRETERA DE MEXICALI, S.A. DE C.V.                                  ','infermex1@gmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686 564-69-70 ','28618','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AUTOMOTORES BALTICOS DE HERMOSILLO, S.A. DE C.V.                                ','dalbornoz@mazdahermosillo.com.mx                            ',true,NULL,'','2024-08-11 00:08:51.000451','6622898510','28619','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VIDAL TORRES YADIRA ESTELA                                                      ','sellomatic1@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','664-104-12-65 ','28620','664-681-46-52 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROVEEDORA VPV, SA                                                              ','vital12@hotmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','5-55-66-22    ','28621','5-82-33-99    ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE ISRAEL PADILLA MARTIN                                                      ','i_josp@yahoo.com                                            ',true,NULL,'','2024-08-11 00:08:51.000451','6671464035','28622','6671464035'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LEON JUAREZ MARIA ADRIANA                                                       ','arsistemstj@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','664-4516001   ','28623','664-4516001   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INDUSTRIAS BIOQUIM, S.A. DE C.V.                                                ','carlos.marron@grupocomsa.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','686-552-5050  ','28624','6862700965'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ZARAGOZA FRANCISCO JAVIER                                                       ','franciscojzxml@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686-218-81-31 ','28627','686-255-30-79 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ORGANIZACION TECNICA DEL CONOCIMIENTO, S.A. DE C.V.                             ','ventas2@otcmexico.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','01 55 21564675','28628','0155-2156-4810'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CHAVEZ GARCIA MARIO ENRIQUE                                                     ','mwsm@outlook.es                                             ',true,NULL,'','2024-08-11 00:08:51.000451','5518980256','28629','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'4E POWER AND FUELS, S. DE R.L.                                                  ','4e.facturacion@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','464-113-09-65 ','28630','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARDOZO AMADOR RODRIGO                                                          ','syscardozo@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','686-107-99-22 ','28631','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARMEN MOTORS BAJA CALIFORNIA, S.A. DE C.V.                                     ','mham@carmenmotors.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686 564-64-21 ','28632','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SIETE CINCO SERVICIOS, S. DE R.L. DE C.V.                                       ','eco2000mauricio@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686 216-77-77 ','28633','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORA RODVAL S.A. DE C.V.                                               ','juanatonio@distribuidorarodval.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','8183470236','28634','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GARCIA SANDOVAL ANGELICA                                                        ','ventas@5m-solutions.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6646294069','28635','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VIDRIERIA Y REACTIVOS S.A. DE C.V.                                              ','ventas11@viresa.com.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','14499136077','28637','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA K MOX, S.A. DE C.V.                                            ','montserrar.samano@kmox.com.mx                               ',true,NULL,'','2024-08-11 00:08:51.000451','55-5604-2654  ','28638','55-5688-4092  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PACIFIC DISTRIBUTION CENTER S.A. DE C.V.                                        ','ventas5@padicsa.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','664-1036376   ','28640','664-1036376   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MEISON MEDICAL, S.A. DE C.V.                                                    ','alexis.padilla@medicalbuy.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','55-67-833309  ','28641','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RUGERIO MONROY CHRISTOPHER GEOVANNY                                             ','christopher.rugerio@spingmed.mx                             ',true,NULL,'','2024-08-11 00:08:51.000451','55-7013-8604  ','28642','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VILLARREAL MAGANA ARTURO OSVALDO                                                ','facturacion@vical.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','0133-3801-1020','28643','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INTERFASE TECNOLÓGICA Y DE COMUNICACIONES, S.A. DE C.V.                         ','ymeza@intecom.mx                                            ',true,NULL,'','2024-08-11 00:08:51.000451','686 946-36-13 ','28644','686 568-23-91 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BLUEMEKY,S.A. DE C.V.                                                           ','facturacion@bluemeky.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','664 1585923   ','28645','664 3806011   ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INES SELENE ACEVEDO MEZA                                                        ','simaequipoyaccesorios@gmail.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','6461209592','28646','6461361774'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'QUIJANO MONTOYA MARTHA GABRIELA                                                 ','urev@prodigy.net.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','55-5815-4649  ','28647','55-4601-5167  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO EMPRESARIAL DZMUNDY, S.A.  DE C.V.                                        ','dzmundy@dzmundy.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','55397295','28648','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DIGIMEDIC GROUP, S.A. DE C.V.                                                   ','digimedicmx@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','55231569','28649','55 55231569   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GONZALEZ R AUTOMOTRIZ, S.A. DE C.V.                                             ','nachorogel@gonzalez.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6621937271','28650','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TRIVET, S. DE R.L. DE C.V.                                                      ','trivet2003@yahoo.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686-111-7114  ','28651','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PTV AMERICA LATINA S.A. DE C.V.                                                 ','marlene.onofre@ptval.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','55-63850900   ','28652','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'J. JESUS SARABIA GUTIERREZ                                                      ','jsarabiagtz@icloud.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6461924908','28654','6461924908'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COLORIS, S. DE R.L. DE C.V.                                                     ','contabilidad@coloris.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','566-0630      ','28656','566-0620      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARÍA DEL PILAR GARCÍA CORREA                                                   ','tecpres_2014@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','427-289-1241  ','28657','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MONTAJES TECNOLÓGICOS DE GUADALAJARA, S.A. DE C.V.                              ','montajes_tecnologicos@hotmail.com                           ',true,NULL,'','2024-08-11 00:08:51.000451','333-174-3766  ','28658','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CRUZ LOPEZ JAVIER                                                               ','ingenieriabaja@yahoo.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6861155652','28661','6861183032'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'YOLANDA FLORES JACOBO                                                           ','yolanda@aceroarte.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','55-5220-0158  ','28662','55-2487-3194  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ESTRATEC, S.A. DE C.V.                                                          ','ken.ohara@estratec.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','55-5980-1200  ','28663','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO LAUFTON, S.A. DE C.V.                                                     ','berarmendariz@laufton.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','614-458-1986  ','28665','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TECNOLOGÍA EN INSTRUMENTACIÓN AMBIENTAL Y CLIMÁTICA, S.A. DE C.V.               ','orozco.tiacsa@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','55-6726-9949  ','28666','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TECNICENTRO ROYAL, S.A. DE C.V.                                                 ','tersa_bjuarez@grupotersa.com.mx                             ',true,NULL,'','2024-08-11 00:08:51.000451','686-557-9002  ','28668','686-221-3513 C'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SILVERA CIENCIA E INGENIERÍA SA DE CV                                           ','cortes.areli@outlook.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5355-2378','28670','045-55-3169-33'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GERARDO ARTURO OCHOA QUEVEDO                                                    ','geraochoaq@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','686-946-7757  ','28671','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUIS ENRIQUE TRUJILLO SALINAS                                                   ','electromex2837@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','562-6494      ','28672','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ENRIQUE ISAAC ARAIZA SORIA                                                      ','abrianafica2015@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6461757028','28674','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE LUIS LOPEZ LOPEZ                                                           ','jlaanylibros@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','0155-7159-1203','28675','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MIRIAM RAZO HIGUERA                                                             ','servifiestaens@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6461776107','28676','6461767003'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SISTEMAS Y SERVICIOS PROFESIONALES SC                                           ','fbecerra@syspro.mx                                          ',true,NULL,'','2024-08-11 00:08:51.000451','6646309861','28677','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OLAGUEZ MERAZ RAFAEL                                                            ','rafaelolaguez0@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686 1892955   ','28678','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MEGAMED SA DE CV                                                                ','danielhdz@megamed.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','5555328022','28679','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ORTIZ RUVALCABA PERLA SELENE                                                    ','limpieza_luna@hotmail.com                                   ',true,NULL,'  ','2024-08-11 00:08:51.000451','664-258-89-73 ','28680','664-258-89-73 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FELIPE PINALES MONTIEL                                                          ','felipe_pinales@live.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686-178-1600  ','28681','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TEST TECHNOLOGY TECNOLOGIA DE PRUEBA Y MEDICION S.A. DE C.V.                    ','ventas@testtechnology.com.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','2224312816','28684','2222229484'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PAPELERA AZTECA DE MEXICALI, S. DE R.L. DE C.V.                                 ','paty.guerrero@papeleraazteca.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','686561-25-31  ','28685','686 561-08-71 ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE ABEL LOPEZ ALVAREZ                                                         ','solucioneskenary@hotmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','616 1662055   ','28692','616 1662055   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NAVEGACION Y RASTREO S.A.DE C.V.                                                ','ventas@gpsstock.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','33 3673 8490  ','28694','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JESUS ABRAHAM ZUÑIGA FRANCO                                                     ','mfimbresmx@aztools.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6462045840','28695','6462045840'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'U. G. S. INTERNATIONAL S.A. DE C.V.                                             ','skalarugs@gmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','55 5540 3656  ','28696','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANGIMA COMERCIALIZADORA, S. DE R.L. DE C.V.                                     ','nahel_10@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','664 385-73-38 ','28697','686 2 45 95 57'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JUAN CARLOS OROZCO PEREZ                                                        ','orozco.j.carlos@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6462101723','28698','6461205688'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VERONICA AGUSTIN DOMINGUEZ                                                      ','vagustindo@gmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5884-5183','28699','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIELLA MARTINEZ GUTIERREZ                                                     ','contacto@mgtours.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','554-75-74     ','28700','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VSM PRODUCCIONES, S. DE R.L. DE C.V.                                            ','vsm_audio@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','5561791','28701','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OCEAN MEDIC, S.A. DE C.V.                                                       ','oceanmedic04@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','12222371037','28703','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JAVIER AARON ZEVADA RAMIREZ                                                     ','atc.transmisiones@gmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','5663329','28704','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VIRGINIA AMAYA CIREROL                                                          ','taller-amaya@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686 568-30-63 ','28705','686-105-8023  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JUAN CARLOS  LOPEZ CISNEROS                                                     ','juancarlos@seimar.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','646 1725925   ','28706','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FERNANDO RIVERA LOPEZ                                                           ','diana_ventas@servicopy.com.mx                               ',true,NULL,'','2024-08-11 00:08:51.000451','686-567-2623  ','28707','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DOPSA, S.A. DE C.V.                                                             ','suscripciones@estepais.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5658-2326','28708','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERVICIOS INDUSTRIALES DE INVESTIGACION Y SEGURIDAD PRIVADA, S.A. DE C.V.       ','gerenteadministrativo@siisseguridad.com                     ',true,NULL,'','2024-08-11 00:08:51.000451','664 6341612   ','28709','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ISRAEL ESTUDILLO ZAMORA                                                         ','copyserviciosdeensenada@hotmail.com                         ',true,NULL,'','2024-08-11 00:08:51.000451','6461781914','28710','6461781327'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LAURENTINO LASTRA ALARCON                                                       ','lastraaprints@hotmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686 946-05-08 ','28711','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MENDOZA JIMENEZ YARITZA                                                         ','yarimj6@gmail.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','364-95-46     ','28712','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DOCU XPERTS S.A. DE C.V.                                                        ','credito@docuxperts.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','682-46-45     ','28713','682-46-45     ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'UNIVERSIDAD DE GUADALAJARA                                                      ','laura.topete@redudg.udg.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','0133-3124-2222','28716','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALEX SERVICIO AUTOMOTRIZ, S.A. DE C.V.                                          ','alex-automotriz@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686 252 24 83 ','28717','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ARGENIS OMAR GARCIA VEGA                                                        ','humbertomorales57@hotmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','6461096604','28720','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE ALBERTO GAMBOA CORELLA                                                     ','a.gamboacorella@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','567-9383      ','28722','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JORGE ELLIOTH MIRANDA DIAZ                                                      ','md.refrigeracion@gmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686-243-2311  ','28723','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ONX SISTEMAS DE INFORMACION, S.A. DE C.V.                                       ','hsanchez@onxsys.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','0181-1492-4390','28724','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HCG TECHNOLOGIES, S.A. DE C.V.                                                  ','hans@hcg-tech.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','0155-4084-7275','28725','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERVANDO FAVIAN BRETON PIÑA                                                     ','staff_eventos@hotmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','273-8617      ','28726','686-151-7414  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TORRES SANTILLAN GUADALUPE                                                      ','imprenta_ideasgraficas@hotmail.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','634-80-05     ','28730','634-80-05     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARCIA MONICA BARRAZA GRIJALVA                                                  ','contabilidad@cuatromxl.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','5544402','28733','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COLORAMA INTERNACIONAL, S.A DE C.V.                                             ','coloranadomos@prodigy.net.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','664 681 21 07 ','28734','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MIR SIGNS, S. DE R.L. DE C.V.                                                   ','facturaslonasmir@gmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','5653636','28735','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALEJANDRA SOLTERO GODINEZ                                                       ','laminadosbaja@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6461735932','28736','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GILBERTO CIRO ERNESTO GARZA PRUD HOMME                                          ','gpg0514@gmail.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','646 109 1832  ','28738','646 1752013   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CONTRERAS HERNANDEZ HUGO ARMANDO                                                ','hugo@scsd.com.mx                                            ',true,NULL,'','2024-08-11 00:08:51.000451','664-277-96-76 ','28740','664-277-96-76 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RAUL VILLALON RENTERIA                                                          ','rvillalonr72@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686 119-30-84 ','28744','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JORGE LUIS ESPINOZA CORDOVA                                                     ','luispinoza88@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','686 122 8204  ','28745','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JESUS ALEJANDRO RAMOS FLORES                                                    ','psvlagranja@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','592-2346      ','28748','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'WALTER MONICO HERRERA NAVEJAS                                                   ','jorge.arambula@sigob.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686-115-1358  ','28750','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MEXTAPE, S. DE R.L. DE C.V.                                                     ','ingrid@mextape.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','580-9634      ','28751','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARLOS RAMIREZ AGUIRRE                                                          ','crarepresentaciones@hotmail.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','556-15-15     ','28753','555-46-79     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERGIO LEONEL SANDOVAL REYES                                                    ','ssrcom@hotmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','6643788205','28754','6646909351'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CASINO DE MEXICALI, AC                                                          ','rrangel@casinodemexicali.com.mx                             ',true,NULL,'','2024-08-11 00:08:51.000451','554 10 61     ','28758','553 58 80     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JINLAN CHEN                                                                     ','kevinmelany@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','564 56 18     ','28759','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JIN HU XIAO                                                                     ','kevinmelany@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','567 77 18     ','28760','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HUGO ISRAEL VEGA GUERRERO                                                       ','kadu@live.com                                               ',true,NULL,'','2024-08-11 00:08:51.000451','6461765959','28762','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DAVID BALCAZAR BARRERA                                                          ','centraldeextinguidores@outlook.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','582 33 09     ','28764','838 75 20     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FERNANDEZ BORRELL RAUL DANIEL                                                   ','aidpensenada@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6461085379','28766','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BRENDA VANESSA PEREZ GRIJALVA                                                   ','casgrafic@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','2482117','28767','2483278'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'REGALADO JIMENEZ IVON IDANIA                                                    ','quimicos_delcentro@hotmail.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','3316124379','28780','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARLOS FABIAN JIMENEZ CASTILLO                                                  ','c.castillo@traductorial.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','222-233-4196  ','28781','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SISTEC POWER BAJA, S. DE R.L. DE C.V.                                           ','sistecpower@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686-566-5888  ','28782','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AL - TEC SOLUCIONES PARA CROMATOGRAFÍA, S.A. DE C.V.                            ','hcamara@alltechmexico.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','55 55245065   ','28796','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROMOTORA TURISTICA LA SIESTA, S.A. DE C.V.                                     ','siesta_factura@yahoo.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','568-20-01     ','28798','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DIEGO RAMON BONILLA GARCIA                                                      ','ventasdrbg@gmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686-187-2294  ','28799','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VICTOR VELAZQUEZ REYNA                                                          ','velazquez.victor@uabc.edu.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','6641182263','28800','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GABRIEL GUTIERREZ TERRAZAS                                                      ','agricultura_gabrielgutierrez@hotmail.com                    ',true,NULL,'','2024-08-11 00:08:51.000451','6861172524','28961','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RODRIGO RODRIGUEZ IRIBE                                                         ','roalautoservicio@hotmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','566-58-79     ','28801','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MATERIALIZA TU MARCA, S. DE R.L. DE C.V.                                        ','adelina@embroidme.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','567-33-24     ','28802','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SLC CONSULTORIA,S.C.                                                            ','avaldes@solucionescons.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','664 380 6197  ','28803','664 1271316   ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CENTRAL DE ALARMAS  BAJALARM S. DE R.L. DE C.V.                                 ','cobranza@bajalarm.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6461783074','28806','6461740043'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MIGTI INDUSTRIAL SUPPLY, SA DE CV                                               ','ventas2@migtiindustrial.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','194-4104      ','28807','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CRISTIAN ANTONIO LIZARRAGA GOMEZ                                                ','contacto@smartercool.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','557-02-91     ','28810','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORA QUIMICA Y HOSPITALARIA GAP, S.A. DE C.V.                          ','ilya.nevarez@grupogapmexico.com.mx                          ',true,NULL,'','2024-08-11 00:08:51.000451','3318129903','28811','662-471-5814  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INFORMACIÓN CIENTIFICA INTERNACIONAL MTY, S.A. DE C.V.                          ','mty@iciweb.com.mx                                           ',true,NULL,'','2024-08-11 00:08:51.000451','8118161488','28812','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ERIKA VARGAS FLORES                                                             ','impulsopublicidad2@hotmail.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','658-516-3400  ','28813','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIA IRENE AMEZCUA AGUILAR                                                     ','newpalace2002@hotmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','568-4018      ','28814','568-4974      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INSTRUMENTS NANOTECH, S.A. DE C.V.                                              ','centetl@instrumentsnanotech.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','0155-4320-1445','28815','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FOUR SOLUTIONS, S. DE R.L. DE C.V.                                              ','foursolutionsmexico@gmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','664-608-0244  ','28816','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUIS ALBERTO ARREDONDO GUTIERREZ                                                ','ld.entertainment.co@gmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','664-234-9684  ','28817','664110-6174   ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GOPAC SOLIGIONES INTEGRALES, SA DE CV                                           ','ventas@gopac.com.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','3880-9500     ','28821','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CIRCULO LLANTERO, S.A. DE C.V.                                                  ','xjavier@circulollantero.com.mx                              ',true,NULL,'','2024-08-11 00:08:51.000451','566-82-64     ','28822','566-84-45     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARLOS JAVIER DAVILA HERNANDEZ                                                  ','carlos4465@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','524-56-40     ','28824','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GILBERTO LOPEZ                                                                  ','despacho.preisser@gmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','646 173 9608  ','28825','646 1851073   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ENTRETENIMIENTO SINIESTRO, S.A. DE C.V.                                         ','pablo.silva@canicula.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','8186036142','28826','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CAMPESTRE CENTRO, S. DE R.L. DE C.V.                                            ','antonio.beltransalas@gmail.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','686-561-1761  ','28827','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JUAN MANUEL AVILA GONZALEZ                                                      ','sonidolatino1609@hotmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','686-113-14-23 ','28831','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LEONARDO MORENO GARCIA                                                          ','leonardomoreno321@yahoo.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','664 2908012   ','28833','664 1835457   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO RA, S. DE R.L. DE C.V.                                                    ','robertog.alfaro@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686 148-14-81 ','28834','686 148-14-81 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TIENDAS SORIANA, S.A. DE C.V.                                                   ','secretaria234@soriana.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','838-22-53     ','28835','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INTEGRA TEC BAJA  S.A DE C.V.                                                   ','compras@itsolutionsmx.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6461763162','28837','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OSCAR IGNACIO HURTADO ORTUÑO                                                    ','contacto@tiendalaluna.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','252-24-53     ','28839','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INEPO TEKIPANOA MOBILAB, S.A. DE C.V.                                           ','mobilab@prodigy.net.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','644 4-14-03-04','28840','644 4-31-09-02'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO IMPRESORA SAN ANDRES, S.A. DE C.V.                                        ','rpacheco@sanandres.com.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','567-05-01     ','28842','567-07-27     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GOMEZ RODRIGUEZ ESPERANZA                                                       ','elparaiso_delasfrlores@hotmail.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','6461726880','28844','6461200123'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ESPARTAN, S. DE R.L. DE C.V.                                                    ','javier@centraldealarmasmx.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','5669500','28846','5646082'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROMOTORA TURISTICA EL FAROLITO, S.A. DE C.V.                                   ','admonterraza@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','905-13-29     ','28847','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RODRIGUEZ MORENO MIGUEL ALBERTO                                                 ','vidrieria.br@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6461481455','28849','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CYNTHIA EMILIA NUÑEZ CAMACHO                                                    ','equiposdelnoroeste@hotmail.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','557-66-99     ','28850','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GUILLERMO FREGOSO JIMENEZ                                                       ','jimenezfregoso@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686 133-72-48 ','28855','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDITORIAL MARCO POLO, S.A DE C.V.                                               ','ventas@edmarcopolo.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','15556583317','28856','15556598190'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIO EDUARDO GOMEZ ESPARZA                                                     ','essenza.ens@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','646 2052726   ','28858','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MENDOZA LUNA ELIASIB BIRZAYIT                                                   ','cibergeeks.asesores@gmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','6461163467','28860','6462053007'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MA.TERESA VERA CAMACHO                                                          ','tere@grupobocatti.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','664 1 105014  ','28864','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VISION HOTELERA, S.A. DE C.V.                                                   ','crodriguez@araizahoteles.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','564-11-00     ','28865','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ARMANDO LOPEZ VILLANUEVA                                                        ','godonando@gmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','6461756555','28866','6461254466'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GARCIA CASIO BRAULIO MARCEL                                                     ','fiestasgc@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','623-9972      ','28867','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ARELI BETZAIDA LEON LOPEZ                                                       ','sseguri-tec.admon1@hotmail.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','580-74-60     ','28870','686317-88-77  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JULIO CESAR BARAJAS MENDIVIL                                                    ','ventas2@sdimex.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','3 26 42 76    ','28871','686 542 15 71 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'UNITEL COMUNICACIONES, S.A. DE C.V.                                             ','omarg@grupounitel.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','664 682 74 44 ','28872','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDGARD ROMERO FLORES                                                            ','info@terranoble.mx                                          ',true,NULL,'','2024-08-11 00:08:51.000451','646 174 72 53 ','28874','646 160 38 79 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARLOS VALENZUELA BENAVIDES                                                     ','oskarescalante@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','664 204 59 79 ','28875','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SIMON FRAGOSO GONZALEZ                                                          ','simonfragoso@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','646 176 1081  ','28879','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INSTITUTO ESPECIALIZADO EN LA COR INTELIGENCIA, S.C.                            ','contacto@corente.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','01(33) 3164085','28880','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ERASMO SANDOVAL SIORDIA                                                         ','sandovalerasmo@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686-243-69-29 ','28881','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LEONEL PEREDA RODRIGUEZ                                                         ','leonel@alprasystems.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686-119-6866  ','28882','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RAMON LEON LERMA                                                                ','rleonsos@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686 1091605   ','28886','68605565343'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MAQUINADOS Y TERMINACIONES S.A DE C.V.                                          ','atencion@maquinadosyterminaciones.com                       ',true,NULL,'','2024-08-11 00:08:51.000451','6461769677','28887','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUIS LIONEL ARREGUIN SILVA                                                      ','luis.arreguin@fixture3d.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686-292-45-49 ','28888','686-290-2624  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AMADOR BARTOLINI MIGUEL OSWALDO                                                 ','fmaensenada@yahoo.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6462052903','28889','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SUMINISTROS MRO, S. DE R.L. DE C.V.                                             ','admon@suministrosmro.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','592-0038      ','28890','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ROCIO POLAN WONG GARCIA                                                         ','moxomo54@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686-185-3633  ','28891','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE LUIS DUEÑAS ASTORGA                                                        ','genetec@prodigy.net.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','646-171-6283  ','28892','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMPARATECA SAPI DE C.V.                                                        ','alberto.villa@spartangeek.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','5551277990','28893','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HIRAM VALENZUELA DOMINGUEZ                                                      ','frenos.unicos@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','646 1768110   ','28894','646 1768044   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIA MARCELA LUGO OCHOA                                                        ','luggisimofacturacion@gmail.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','6461511945','28895','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GARCIA LOPEZ YAZMINA ELIZABETH                                                  ','megaimpresiones.eda@gmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','6462051543','28896','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARISSA LEON POZO                                                               ','laholandesacobach@gmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','646 1771965   ','28897','646 1772577   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'B&I TRADERS S.DE.R.L.DE C.V.                                                    ','zulma@bajaimport.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','647-5942      ','28898','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'UNIFORMES BORDAXPRESS,S.A DE C.V.                                               ','bordaxpressmexicali@hotmail.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','6868412017','28900','8412525');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INNOVATION PROJECTS & ADVERTISING, S.A. DE C.V.                                 ','sialmendarez85@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6646039359','28901','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ORDAZ LEON MARIO                                                                ','griselda@grupokym.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','685-2111      ','28902','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ACUARIO MERCANTIL DE BAJA CALIFORNIA, S.A. DE C.V.                              ','guillermo@acuariomercantil.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','552-4141      ','28903','5524620'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RESTAURANT ESTERO BEACH, S. DE R.L. DE C.V.                                     ','luislobo@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','646 176-62-45 ','28904','646 146-26-28 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INDUSTRIAS CERTANIUM, SA DE CV                                                  ','supervision1.tijuana@metatron.com.mx                        ',true,NULL,'','2024-08-11 00:08:51.000451','044 664 215 16','28906','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RAFAEL MANUEL RODRIGUEZ RIOS                                                    ','rafaelrr7@gmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686-563-3808  ','28907','686-187-4151  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OSCAR REYES OJEDA                                                               ','almajudithsarabia@hotmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','686-162-6339  ','28908','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BAROCIO  LEON OSCAR ALCIDES                                                     ','obarocio@gmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','6461780714','28910','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HECTOR SANTIAGO ACOSTA                                                          ','nsantyago@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','566-78-08     ','28913','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDUARDO VALENCIA WADE                                                           ','valerobi@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686-555-6808  ','28914','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARLOS ANDRES GONZALEZ PEREZ                                                    ','cgonzalez@emtech.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686-333-3911  ','28915','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PC CONSULTING, S. DE R.L. DE C.V.                                               ','pcconsulting@pcmxl.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','557-76-16     ','28916','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ERIC LOPEZ DE LA CRUZ                                                           ','enar.t@hotmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','6861062483','28920','6862515542'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DELTA LAB SUPPLY, SA DE CV                                                      ','montes32@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','684-1174/684-2','28922','684-2205      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INODEM SA DE CV                                                                 ','servicios@inodem.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6461753134','28923','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BOGGEANO LUNA OSCAR                                                             ','gladiatr@prodigy.net.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6461735726','28926','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HERNANDEZ LIMON LUIS CARLOS                                                     ','enlace.tijuana@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','664 166 6603  ','28928','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NETJER NETWORKS MEXICO, S.A. DE C.V.                                            ','morian.diaz@netjernetworks.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','55 10541184   ','28929','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EPOLYGLAS SA DE CV                                                              ','ventas1@epolyglas.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','55 57054836   ','28930','55 57054961   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'D´NIETO DESING, S.A. DE C.V.                                                    ','bcanamar@dnieto.com.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','01818-18348829','28933','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RAUL HERNANDEZ VILLARREAL                                                       ','villarealfiestas@hotmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','686-563-3080  ','28935','686-274-1146  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SARABIA MOLINA FRANCISCA BEATRIZ                                                ','fide@prographik.net                                         ',true,NULL,'','2024-08-11 00:08:51.000451','378-1740      ','28936','201-1760      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FERDINANDO PRIEGO ALMONTE                                                       ','tallergraficomx@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686-567-1175  ','28937','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MANUEL ESAU GAYTAN MONTENEGRO                                                   ','manuel.gaytan@uabc.edu.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6862610864','28938','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ENRIQUE ANTONIO PEIMBERT LIMON                                                  ','peimbert_r@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','686-121-0671  ','28939','905-8389      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GARCIA PAMARES JAVIER                                                           ','javier_pamanes@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6461402552','28940','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TERESA MERCEDES LUNG JIMENEZ                                                    ','dragontere2014@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','664 283-00-85 ','28941','624-18-80     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EFREN VALDIVIA SANCHEZ                                                          ','efrenvaldivia1@yahoo.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686-157-8339  ','28942','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SCHOOLMART, S.A. DE C.V.                                                        ','carlos@oficemart.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','558-7874      ','28943','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LOPEZ MARTINEZ JOSE DE JESUS                                                    ','jesuslopez@punto3d.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','4776763230','28945','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'POLEN AUDIOVISUAL, S. DE R.L. DE C.V.                                           ','info@polenaudiovisual.org                                   ',true,NULL,'','2024-08-11 00:08:51.000451','664 700 81 92 ','28947','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MAPE+TZIN, SA DE CV                                                             ','mapetzinmc@mapetzin.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','01-55-7159-811','28948','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RAMIREZ VILLAGOMEZ CARLOS                                                       ','electrico.carlosramirez@gmail.com                           ',true,NULL,'','2024-08-11 00:08:51.000451','646976392','28949','6461766767'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MUNDO PEREZ NATALIA LOURDES                                                     ','natilla.mundo@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6461033316','28950','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BIOSANBOS, S. DE R.L. DE C.V.                                                   ','jperezgbarc@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5638-1043','28952','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DIFFRACTIA MEXICO S DE RL DE CV                                                 ','angel.sanz@diffractia.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','55- 5207 5291 ','28953','044- 55 4799 5'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ENEDINA GOMEZ GUTIERREZ                                                         ','sgaije@hotmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','(33) 38341399 ','28954','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GONZALEZ SALGADO OSCAR GUSTAVO                                                  ','elgranevento@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6461200440','28957','6461200885'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIA DE LA LUZ ANDRADE GARCIA PELAEZ                                           ','tradand@gmail.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5554-0190','28960','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PRIMO GASCA DOMINGUEZ                                                           ','lupitasotayfacturas@hotmail.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','664 623-86-68 ','28964','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FRANCISCO JAVIER GASTELUM CANEZ                                                 ','rentafiestas1989@hotmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','1770702','28967','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CM EQUIPOS Y SOPORTE, S.A. DE C.V.                                              ','atencionalcliente@izzi.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','18001205000','28970','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CABLEMAS TELECOMUNICACIONES, S.A. DE C.V.                                       ','mespinob@izzi.mx                                            ',true,NULL,'','2024-08-11 00:08:51.000451','81001205000','28971','686 2 52-01-80'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARCELA FREGOSO CARDOSO                                                         ','marfre65@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','564-9287      ','28972','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JESUS OCTAVIO RUBALCABA VELASCO                                                 ','facturasruvel@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686-905-8523  ','28973','686-115-5393  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE GERARDO PEREZ CALDERON                                                     ','j.g.pc@hotmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','686-542-06-19 ','28974','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO MEXICANO DE SEGUROS, S.A. DE C.V.                                         ','jesus.burgos@gmx.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6646835464','28975','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MICRO SYSTEMS DE MEXICO COMPUTADORAS Y PROGRAMACION, S.A. DE C.V.               ','roberto.camacho@msm.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','01 (33) 3616-2','28976','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RENAIES AC                                                                      ','algomez_001@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','01 55 21309302','28977','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MIRIAM TALAVERA NAVA                                                            ','miriam_ensenada@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','646 1565105   ','28978','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SURTIDORA PECO S DE RL DE CV                                                    ','abelmoreno@grupokym.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','646 176 32 95 ','28979','646 177 01 55 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LABORATORIO AMBIENTAL SIGMA, S. DE R.L. DE C.V.                                 ','sigmalab03@sigmalab.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','664-647-5208 E','28981','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA MOGA, S.A. DE C.V.                                             ','carmen@comercializadoramoga.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','686-566-6329  ','28984','686-566-6409  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EQUIPOS RIBE DE ENSENADA  S.A DE C.V.                                           ','equiposribe@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6461560402','28990','6461560402'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PEDRO MIGUEL MONTES DE LA CRUZ                                                  ','administracion@polair.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686-566-9826  ','28991','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JUAN CARLOS QUINTERO GARCIA                                                     ','comercialcamir@yahoo.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686-123-7370  ','28992','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AGENCIA ADUANAL ESQUER LUKEN, S.C.                                              ','teresa.barragan@esquerluken.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','686 567-90-00 ','28993','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROSOR PROGRAMA DE ORIENTACIÓN AL SORDO, AC                                     ','prosordo@gmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','6641857814','28994','6642461696'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMPAÑIA HOTELERA LUCERNA, S.A DE C.V.                                          ','ventas4.mxl@lucerna.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','5647000','28995','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GONZALEZ GALLO DENTAL ENTERPRISE S.A. DE C.V.                                   ','rvdentalgallo@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','664-505-49-40 ','28996','664-505-49-40 ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PATRICIA GONZALEZ BAILON                                                        ','baitty7a@gmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','6861602315','28997','5 66-14-10    '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROYECTARQ INTEGRADORA OCCIDENTE, S. DE R.L. DE C.V.                            ','gerenciaoccidente@proyectarq.com.mx                         ',true,NULL,'','2024-08-11 00:08:51.000451','(33) 3271 65 3','29001','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORA CUMMINS DE BAJA S. DE R.L. DE C.V.                                ','monica.perez@cumminsbaja.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','664 647 3338  ','29002','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LOURDES LORENA MADRID SANCHEZ                                                   ','uniformesprecon@outlook.es                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686 334-97-58 ','29003','686 326-46-82 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUIS ENRIQUE BALTAZAR EQUIZ                                                     ','luisbaltazarfacturas@hotmail.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','555-67-49     ','29004','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'YEAMUEL SOTO LOPEZ                                                              ','yeamuel@bricks-store.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','12222897726','29005','12221698505'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HINOJOSA MENDOZA MIGUEL ANGEL                                                   ','ledlife.eco@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','661-26-23     ','29007','661-26-23     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BIODIST, S.A. DE C.V.                                                           ','ernestoc@biodist.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','0133-3642-4293','29009','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RUBEN ANGEL ALONSO TAMAYO                                                       ','info@rubentamayo.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','568-4377      ','29010','686-203 95 26 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HECTOR ALBERTO JUVERA VELASQUEZ                                                 ','hectorjuvera@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','840-50-44     ','29012','8-40-50-44    ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IBARRA RAMOS ROSA MA. GPE.                                                      ','armafiestasfacturas@gmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','6461772075','29014','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MICHELLE DONNA GRAHAM                                                           ','michelledgraham@outlook.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686-838-1358  ','29015','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FUTUFARMA S A DE C V                                                            ','ventas.mexicali@ndcentral.net                               ',true,NULL,'','2024-08-11 00:08:51.000451','664 448 3554  ','29016','686-100-92-25 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SKN DISTRIBUIDORA DE BAJA CALIFORNIA S. DE R.L. DE C.V.                         ','skn-materiales@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','646 1207665   ','29017','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MUEBLERIAS ROMANO, S. DE R.L. DE C.V.                                           ','muebleriasromano@hotmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','686-567-4333  ','29018','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMITES INTERINSTITUCIONALES PARA LA EVALUACION DE LA EDUCACION SUPERIOR, A.C.  ','coordinacion.general@ciees.edu.mx                           ',true,NULL,'','2024-08-11 00:08:51.000451','01 55 500-5030','29020','01-55-56165210'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RIVERA HOLGUIN LUZ                                                              ','swipelimpiatodo@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','290-3659      ','29021','290-3659      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INSTITUTO DE INGENIERIA Y SALUD OCUPACIONAL S.A.S. DE C.V.                      ','jalopez@iiso.com.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','3701659','29022','6569618'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GLOBAL C2FT SOLUTIONS S.A. DE C.V.                                              ','cvillegas@globalaesolutions.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','118-6331      ','29023','118-63-31     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EQUIPOS E INSUMOS ODONTOLOGICOS S. DE R.L. DE C.V.                              ','depositodentalgomezfarias@hotmail.com                       ',true,NULL,'','2024-08-11 00:08:51.000451','2900265','29024','2900269');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ELECTRO CONTROLES DEL NOROESTE, S.A. DE C.V.                                    ','mcastro@ecn.com.mx                                          ',true,NULL,'','2024-08-11 00:08:51.000451','0166-2215-6450','29025','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DAFNE BERENICE CHAVEZ MARTINEZ                                                  ','medicaw@outlook.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686-576-5603  ','29026','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CENTRO DE TECNOLOGIAS DE LA INFORMACION DE BAJA CALIFORNIA, AC.                 ','admin@bicenter.mx                                           ',true,NULL,'','2024-08-11 00:08:51.000451','664 3806000   ','29027','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA JASS DE COMPRESORES, S.A. DE C.V.                              ','ventasagobierno@compresoresjass.com                         ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5731-6863','29028','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MER COMMUNICATION SYSTEMS DE MEXICO, S.A. DE C.V.                               ','ventas@sistemasmer.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','0155-57056106 ','29031','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE FERNANDO GALLO RANGEL                                                      ','ventas@cir-mex.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5243-1063','29032','0155-5674-6504'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CIENTIFICA VELA QUIN S. DE R.L. DE C.V.                                         ','gerencia@velaquim.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','55-56071311   ','29035','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDGAR RODOLFO COVARRUBIAS QUINTANA                                              ','edcov81@gmail.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','229-61-18     ','29037','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SI VALE MEXICO, S.A. DE C.V.                                                    ','apietrasanta@sivale.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5141-6400','29038','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LILIA ARIADNE BUSTAMANTE GUEVARA                                                ','verenicerguez@hotmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686 553-69-35 ','29040','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VAMASA, S.A. DE C.V.                                                            ','clopez@vamasa.com.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','01800-849-8434','29041','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ZULEMA ELIZABETH VARGAS GARZON                                                  ','zule1407@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686-255-39-23 ','29042','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERVICIOS E INSUMOS INSTITUCIONALES DEL NOROESTE DE MEXICO, S. DE R.L. DE C.V.  ','administracion@siinmex.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686-554-5450  ','29043','686-554-5453  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RAUL ARMANDO CANO DELFINO                                                       ','milycake@gmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','566-03-03     ','29044','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MAURICIO GASCA ESTRADA                                                          ','neidos@hotmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','686 2 61-52-44','29046','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NAVARRO AGUILAR MANUEL ALONSO                                                   ','enasa9@prodigy.net.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6461740775','29047','6461782364'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BENITO ALBERTO BERISTAIN TOMITA                                                 ','paola.beristain@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','646-138-7368  ','29048','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ELEVADORES FUJIZY DE MEXICO S.A. DE C.V.                                        ','lic.ontiveros@fujizymexico.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','664 736 5860  ','29049','664 736 5861  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MENDEZ JIMENEZ MARIA DEL CARMEN                                                 ','servilimpiezadecalidad@hotmail.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','646 204 30 40 ','29050','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INTERASTRO S.A. DE C.V.                                                         ','sanangel@sbkmexico.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','5567197791','29053','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BLUE TAXI COMPANY, S.A. DE C.V.                                                 ','tuchefer@prodigy.net.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','8112570900','29054','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ARACELI RUIZ MARTINEZ                                                           ','viajestoscana@hotmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686 333-13-23 ','29056','686 333-12-84 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TOMAS DE JESUS COLMENARES CASTRO                                                ','tomas@ogmagroup.net                                         ',true,NULL,'','2024-08-11 00:08:51.000451','6646405924','29057','6646405924'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MAYIMEX S.A. DE C.V.                                                            ','anahi.noguez@mayimex.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','55846464','29059','38732327'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JANNA DANIELA TORRES NOVELO                                                     ','reynaldoventas@grupolighting.com.mx                         ',true,NULL,'','2024-08-11 00:08:51.000451','53391470','29060','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BEATRIZ AMALIA ARJONA RYDALCH                                                   ','armadav@prodigy.net.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','646 1772402   ','29061','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'REDES Y ASESORIAS 7R, S. DE R.L. DE C.V.                                        ','facturacion@red-7.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','563-53-67     ','29062','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JUANA ELIZABETH PEDROZA MARTINEZ                                                ','officentro_papeleria@hotmail.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','1725011','29114','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'KONECTA DE MEXICO, S. DE R.L. DE C.V.                                           ','cobranza@konecta.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686 557-28-08 ','29064','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OFIMUEBLE DE BAJA CALIFORNIA S.A. DE C.V.                                       ','flora.torrero@gebesa.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','664-20849-07  ','29065','664-20849-07  ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RENE CARMONA GALLEGOS                                                           ','rcarmonag17@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686 158-54-84 ','29066','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HERNANDO TORRES MANRIQUEZ                                                       ','compu-print@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686 564-30-10 ','29067','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GONZALEZ VILLAVICENCIO JOSE MARIA                                               ','chemagov@gmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','6461519801','29068','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'A.S. HVAC, S.A. DE C.V.                                                         ','dfok@ashvac.mx                                              ',true,NULL,'','2024-08-11 00:08:51.000451','686-567-0710  ','29071','686-567-1736  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AMERICAN TRUST REGISTER, SC                                                     ','luiscarlos@americantrust.com.mx                             ',true,NULL,'','2024-08-11 00:08:51.000451','5 2367383     ','29074','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GLOBAL MECHINICAL INSTALACIONES S. DE R.L. DE C.V.                              ','global@globalmechanical.com.mx                              ',true,NULL,'','2024-08-11 00:08:51.000451','686 841 03 00 ','29075','686 841 03 00 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'YURIDIA MARLET JAIME CASTILLO                                                   ','marletcastillo2017@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','653-515-3059  ','29076','6862648981'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DENTADEC, S.A. DE C.V.                                                          ','lgarcia@dentadec.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5545-4520','29078','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'QUIMICA TECH S.A. DE C.V.                                                       ','erika.martinez@quimicatech.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','614 415 11 24 ','29080','614 410 18 09 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ENEDINA DEL CARMEN SANCHEZ REYES                                                ','contabilidad@precisamarketing.com                           ',true,NULL,'','2024-08-11 00:08:51.000451','5523331','29082','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CORPORACION DE ALIMENTOS DE MEXICALI, S.A. DE C.V.                              ','claudia.flores@lcoral.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','564-5490  EXT ','29083','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AVANZA DE BAJA, S. DE R.L. DE C.V.                                              ','ventas@avanzallantas.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686-561-8520  ','29084','686-561-8530  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SISTEMAS Y SERVICIOS PARA TOPOGRAFÍA, S.A. DE C.V.                              ','gabrielafregoso@systop.com.mx                               ',true,NULL,'','2024-08-11 00:08:51.000451','55 3095 4444 E','29085','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROMOTORA DE EVENTOS Y SERVICIOS DE MEXICALI, S.A. DE C.V.                      ','ventas.salonazteca@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','554-17-81     ','29086','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANGEL MANUEL LEYVA ESPINOZA                                                     ','fantasialeyva@hotmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686 234 98 14 ','29087','686 234 9350  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ROGELIO IVAN AREVALO DIAZ                                                       ','carpimundomxl@hotmal.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686 185-68-53 ','29088','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CENTURY 3D, S. DE R.L. DE C.V.                                                  ','chernandez@century3d.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','0155-7693-6451','29090','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MITSUE HILDA MARTINEZ YTO                                                       ','camisetasmitsue@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686-557-0257  ','29091','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARTHA LUISA VELEZ SALOMON                                                      ','g.alvarado@semillasrc.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','658-514-1188  ','29093','686-562-0208  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUIS FERNANDO MONGE NAVARRO                                                     ','mememonge@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','566-73-81     ','29094','686 271-59-20 ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MIGUEL ANGEL HERNANDEZ ALVAREZ                                                  ','mike.hernandez@cooltesters.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','9991592706','29095','8449622017'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ASESORES EN CONSTRUCCION Y EXTENSION AGRICOLA, S.A. DE C.V.                     ','franciscoherbe@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','595-9521102   ','29096','646-1794697   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MERCK S.A. DE C.V.                                                              ','carolina.mendoza@merckgroup.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','21221600','29099','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERGIO LOYA NUÑEZ                                                               ','loyasautoelectrico@hotmail.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','646 1725593   ','29100','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ZIHOMARA ISELA CASTILLO MAYORAL                                                 ','administracion@naptech.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686-567-3605  ','29101','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FORMULARIOS QUERETARO S.A. DE C.V.                                              ','ventas@formulariosqueretaro.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','4421247722','29102','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INNOVACION ORTO DENTAL, S.A. DE C.V.                                            ','novaden.orto@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','01(33) 2016 60','29103','01-33 1584 268'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PAOLA ANGELICA BARBARA OCHOA                                                    ','ideeeventos@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','5582304','29106','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BIOTEKNO S.A. DE C.V.                                                           ','alejandro.melo@biotekno.com.mx                              ',true,NULL,'','2024-08-11 00:08:51.000451','(55) 51 19 36 ','29107','(55) 51 19 39 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TECNOLOGIA BAJO EL SOL S. DE R.L. DE C.V.                                       ','araceli.o@sombrateck.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686-554-6877  ','29109','664-331-5864  ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AGRICOLA PROAGRO, S.P.R. DE R.L. DE C.V.                                        ','hramirez@agricolaproagro.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686-555-9816  ','29111','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DIXON METAL, S.A. DE C.V.                                                       ','dixonmetalbajio@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','0133-3658-3117','29113','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CAMPEROS LOPEZ LUIS ENRIQUE                                                     ','fianzasjcpg@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6646831633','29116','6646831633'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BARRIOS GARCÍA OCTAVIO                                                          ','amujica_wrk@gmx.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','6195131890','29120','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DIAZ GONZALEZ JULIO CESAR                                                       ','jdiazcompus@yahoo.com.                                      ',true,NULL,'','2024-08-11 00:08:51.000451','1740801','29123','1740801'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JONATHAN RICARDO ILLESCAS CAMPOS                                                ','jonathan@coregaming.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6462448853','29127','6461853291'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NAUM LUGO RIOS                                                                  ','maun_587@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','646 1462018   ','29129','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROBIOLAB TECHNOLOGY PRODUCTOS BIOTECNOLOGICOS PARA LABORATORIOS DE ALTA TECNOLO','info@probiolab.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','01 777-434-262','29131','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GONZALEZ TORRES SAUL                                                            ','saulg127@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','6461375039','29132','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RAMIREZ ESQUIVEL ARTURO RAMSES                                                  ','slcarturo66@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','664-357-30-41 ','29133','664-357-30-41 ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SEGURIDAD PRIVADA BRAVO TACTICA B.C SC                                          ','rhadmbravo@gmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686 1710783   ','29134','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JORGE ALEJANDRO ZAVALETA BOJORQUEZ                                              ','ing.jorge.zavaleta@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','661-1111389   ','29136','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CENGAGE LEARNING EDITORES SA DE CV                                              ','ramon.orduna@cengage.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','551500-6000   ','29138','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SPRINGER NATURE CUSTOMER SERVICE CENTER LLC                                     ','david.mourino@springer.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','5.26E+11','29139','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PEDRO LANDEROS LOPEZ                                                            ','landeros_pedro@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686 1455956   ','29140','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TANIA MONTSERRAT FLORES ROJAS                                                   ','humbertomorales57@hotmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','6461096604','29141','6461096604'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANALITEK, S.A. DE C.V.                                                          ','rscott@analitek.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','0181-8104-0267','29142','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ELIBRO, S.A.  DE C.V.                                                           ','adriana@elibro.mx                                           ',true,NULL,'','2024-08-11 00:08:51.000451','5544220897','29143','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CHAM CASTRO MARIO                                                               ','m_cham@hotmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','6461208439','29144','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROVEEDORA DE MATERIALES DEL PACIFICO S.A. DE C.V.                              ','promapasadecv@hotmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','646 1757514   ','29147','646 1757515   ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OPERADORA DE EVENTOS Y RESTAURANTES DE MEXICALI, S.A. DE C.V.                   ','alejandro.daniel1@hotmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','686 8383127   ','29148','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SKS ENTERPRISE TECHNOLOGIES, S.A. DE C.V.                                       ','david@sks.com.mx                                            ',true,NULL,'','2024-08-11 00:08:51.000451','664-6157116   ','29149','333-9564458   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ROSA MARIA YUKIKO NISHIKAWA ACEVES                                              ','yukiko@iken.com.mx                                          ',true,NULL,'','2024-08-11 00:08:51.000451','6461760235','29151','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VAZQUEZ TELLEZ EDUARDO                                                          ','lalotellez6@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6643297590','29152','6641831304'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DIANA ELIZABETH SALCEDO DE LA CRUZ                                              ','rcorona@proagro.mx                                          ',true,NULL,'','2024-08-11 00:08:51.000451','686','29153','591-1414      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'KARINA MARIN CORONEL                                                            ','sergiosan3@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','686-277-6217  ','29154','686-269-1524  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MONICA DANIELA GONZALEZ ROCHA                                                   ','gerencia@cuatromxl.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','554-44-02     ','29155','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CONSINFO, S.C.                                                                  ','pmespinosa@consinfo-sc.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','0155-2614-1771','29156','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AXA SEGUROS, S.A. DE C.V.                                                       ','mariaguadalupe.beltran@axa.com.mx                           ',true,NULL,'','2024-08-11 00:08:51.000451','5571010','29157','5577777'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ASOCIACION LATINOAMERICANA DE ARCHIVOS                                          ','mvmorgan@agn.gob.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','51339900','29158','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LAURO ALBERTO CARRILLO PRECIADO                                                 ','lalberto-1959@hotmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686 558-47-37 ','29159','686 510-19-21 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ASOCIACION MEXICANA DE FACULTADES Y ESCUELAS DE MEDICINA A. C.                  ','amfem2012@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','55 56 87 93 23','29160','55 86 82 94 82'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INSTITUTO POLITECNICO NACIONAL                                                  ','rogonzalez@ipn.mx                                           ',true,NULL,'','2024-08-11 00:08:51.000451','5729-6000     ','29161','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TOTAL PLAY TELECOMUNICACIONES SA DE CV                                          ','jorge.hernandezf@totalplay.com.mx                           ',true,NULL,'','2024-08-11 00:08:51.000451','(55) 75748700,','29162','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TOTAL PLAY TELECOMUNICACIONES SA DE CV                                          ','jorge.hernandezf@totalplay.com.mx                           ',true,NULL,'','2024-08-11 00:08:51.000451','(55) 75748700,','29162','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AUTOTRANSPORTE ESPECIALIZADO DE MAQUILA S.A. DE C.V.                            ','grupoatem@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','646 1829087   ','29165','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CONSORCIO AMBIENTAL, S.C.                                                       ','facturacion@consorcioambiental.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','686-553-6723  ','29166','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'UNIVERSIDAD AUTONOMA DE SINALOA                                                 ','gloria_jean12@hotmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','667 715-59-22 ','29167','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARLOS MANUEL GARCIA RANGEL                                                     ','garciar.carlos@outlook.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686-264-0118  ','29170','686-170-2022  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARACOL, CENTRO CIENTIFICO Y CULTURAL A.C.                                      ','gerenteoperaciones@caracol.org.mx                           ',true,NULL,'','2024-08-11 00:08:51.000451','646 1770897   ','29171','646 1521993   ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RAFAEL GARCIA ARCE                                                              ','trasladosuniversalestj@hotmail.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','6862734862','29173','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FRANCISCO JAVIER GUTIERREZ CARRALES                                             ','grupoindustrialfranja@hotmail.com                           ',true,NULL,'','2024-08-11 00:08:51.000451','686-253-8444  ','29175','686-333-0139  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MODULO SOLAR, S.A. DE C.V.                                                      ','fabrica@modulosolar.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','516-8235      ','29176','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INSUMOS DE HIGIENE Y PROTECCION, S. DE R.L. DE C.V.                             ','fernando.santoyo@corporativomexico.com.mx                   ',true,NULL,'','2024-08-11 00:08:51.000451','686-568-4214  ','29181','552-2244      '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORA COMERCIAL ZOGBI, S.A. DE C.V.                                     ','jramos@dczogbi.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','55 56013004   ','29185','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CONTENUR, S.A. DE C.V.                                                          ','antoniocoronel@contenur.com.mx                              ',true,NULL,'','2024-08-11 00:08:51.000451','15555763922','29186','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FRANCISCO JAVIER CAMARENA RODRÍGUEZ                                             ','psb.imprenta@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','664-543-5475  ','29189','664-779-6616  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BROM Y ASOCIADOS, S.A. DE C.V.                                                  ','gerenciaventas@bromyasociados.com.mx                        ',true,NULL,'','2024-08-11 00:08:51.000451','0155 53741665 ','29191','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OPERADORA GASTRONOIMCA JADE, S. DE R.L. DE C.V.                                 ','direccion.jade@bco.com.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','561-85-69     ','29192','552-25-68     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CORPORATIVO REAL, S. DE R.L. DE C.V.                                            ','brebollar@pandaimagen.com.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','5559839','29193','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JEFTE GADIEL DIAZ AGUILAR                                                       ','djefte@gmail.com                                            ',true,NULL,'','2024-08-11 00:08:51.000451','6461424418','29194','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HERNANDEZ JASSO ROBERTO                                                         ','facturas.jassoh@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','646 1765115   ','29196','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIA MARIVEL SANDOVAL AGUAYO                                                   ','marivel-aguayo@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686288-5204   ','29197','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO OSCAVEMA, S. DE R.L. DE C.V.                                              ','contabilidad@mcm-industries.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','664 6241347   ','29198','664 6241367   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'UNIVERSIDAD AUTONOMA DE SAN LUIS POTOSI                                         ','libreria@uaslp.mx                                           ',true,NULL,'','2024-08-11 00:08:51.000451','01444 826 23 0','29199','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ISIS VENECIA GONZALEZ CAMACHO                                                   ','backstage_solution@yahoo.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','686 564-98-85 ','29200','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OPERADORA FIVZA, S. DE R.L. DE C.V.                                             ','jvargas@fivza.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','6865826200','29203','686-261-0308  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LOZA PÉREZ FRANCISCO JAVIER                                                     ','javier.loza@uabc.edu.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6642023122','29204','6642023122'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROVEEDORA DE LABORATORIOS DEL NOROESTE, S.A. DE C.V.                           ','marco.prolabo@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686-488-7493  ','29205','686-305-1070  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ORNAMENTAL LIFE S. DE R.L. DE C.V.                                              ','ornamentallife@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','646 103 05097 ','29207','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ILC HOLDINGS S.A.P.I. DE C.V.                                                   ','jreyes@inklaser.mx                                          ',true,NULL,'','2024-08-11 00:08:51.000451','6461780800','29208','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DORADO LLAMAS RAUDEL                                                            ','dorasol@prodigy.net.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6461727249','29209','6461315007'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SANTIESTEBAN MENDOZA LUIS EMIR                                                  ','emirsam14@gmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','664 302 61 67 ','29210','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROVEEDORA GALSA, S.A. DE C.V.                                                  ','gerentegalsa.mexicali@dagal.com.mx                          ',true,NULL,'','2024-08-11 00:08:51.000451','6531329371','29211','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AGUIRRE CORTES JOSE FRANCISCO                                                   ','jaguirre@bajasteam.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','664 2023317   ','29213','664 2026688   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'REKNER, S.A. DE C.V.                                                            ','cinthya.araujo@rekner.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','0183-2418-1750','29214','0183-8317-9473'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SHEYLA GABRIELA MIRAMONTES COSIO                                                ','banquetes.sauceda@hotmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','686 5558776   ','29215','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RUDAMETKIN SOTO SANTIAGO                                                        ','angeles_rr29@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','646 1770734   ','29217','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARRILLO GARCIA GAUDENCIO                                                       ','contabilidad@distribuidoralarcarr.com                       ',true,NULL,'','2024-08-11 00:08:51.000451','646 1736720   ','29218','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MONTERRUBIO CHIAPA SERGIO                                                       ','smchiapa@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','646 1747447   ','29219','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ABRAHAM ALEJO SOTO GAMIÑO                                                       ','factsoga02@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','686 269-67-79 ','29220','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MANRIQUEZ ZAMORA JESUS MANUEL                                                   ','facturajesus45@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','664 1393549   ','29221','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NAVARRETE LIZARRAGA NADIA LUCIA                                                 ','anillosyplacas_rml@hotmail.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','686 5655799   ','29222','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GENERADORES DE ENERGIA DEL NOROESTE S.A. DE C.V.                                ','creditoycobranza@star-gas.com.mx                            ',true,NULL,'','2024-08-11 00:08:51.000451','664 2116766   ','29224','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORA DE PRODUCTOS ORGANICOS DEL NOROESTE S.A. DE C.V.                  ','facturas@mercadoselroble.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','646 1768115   ','29225','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'KUME IMPORTACIONES S.A. DE C.V.                                                 ','tijuana@kume.com.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','664 647 35 58 ','29228','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HERNÁNDEZ CORREA ALEJANDRO                                                      ','alex_cocina@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6651033168','29229','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUX SALVO S.A. DE C.V.                                                          ','g.rizo@luxsalvo.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686-564-8404  ','29230','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARTHA GUADALUPE VELAZQUEZ DIAZ                                                 ','mkcubillas@redpack.com.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686 558-32-08 ','29232','686 558-32-05 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JULIO ARMANDO BAÑUELOS CARRILLO                                                 ','juba70@hotmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','686-106-0937  ','29235','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VIDRIERA Y FERRETERA SONORA S. DE R.L. DE C.V.                                  ','vidrierasonora@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','646 1764242   ','29240','646 1771488   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RUFFO SANCHEZ MARCO ANTONIO                                                     ','mruffo82@gmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','646 2259580   ','29242','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GAS SILZA S.A. DE C.V.                                                          ','bgomez.r@tomza.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','646 15630 03  ','29243','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RODRIGUEZ CHARLES MARIO ALBERTO                                                 ','rodriguez.carnicería@hotmail.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','646 1764290   ','29247','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GUADALUPE ANTONIO QUIJADA HERNANDEZ                                             ','refaccionescentenario@live.com.mx                           ',true,NULL,'','2024-08-11 00:08:51.000451','6585162640','29248','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'REPRESENTACIONES MEXICANAS DE MAQUINARIA Y EQUIPO, S.A. DE C.V.                 ','ventas@repmex.com.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5280-9203','29251','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NUNEZ MORENO MARCELINO                                                          ','marceieev2@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','646 2274636   ','29253','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LIBREROS GARCIA JOSE LUIS                                                       ','libreros_facturacion@hotmail.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','646 172 53 67 ','29254','646 1764735   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MIGUEL SAENZ KOBEL                                                              ','airesdelvallekobel@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','686-327-9209  ','29256','686-542-6509  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INSTITUTO FEDERAL DE TELECOMUNICACIONES                                         ','atencion@ift.org.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','15550154000','29257','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BERTHA ALICIA PLATA DIAZ                                                        ','biosyntek@prodigy.net.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','33 3609 9708  ','29259','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LAMADRID MARTINEZ CARLOS ALBERTO                                                ','acercate@icros.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','646 1740196   ','29260','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LIERA GRIJALVA CESAR ALBERTO                                                    ','ingcesarliera@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','646 1079073   ','29262','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ZAZUETA BELTRAN GUADALUPE                                                       ','karina_beltran29@hotmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','331 12616703  ','29263','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INSTITUTO TECNOLOGICO Y DE ESTUDIOS SUPERIORES DE MONTERREY                     ','pagos@iar.mx                                                ',true,NULL,'','2024-08-11 00:08:51.000451','(81)8864-2620 ','29264','18003864769'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EQUIPOS LACTEOS LAGUNA, S.A. DE C.V.                                            ','manuel.sanchez@equiposlacteos.com.mx                        ',true,NULL,'','2024-08-11 00:08:51.000451','871-717-5394  ','29265','871-718-9389  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IMPRESORA Y EDITORIAL S.A. DE C.V.                                              ','adramirez@frontera.info                                     ',true,NULL,'','2024-08-11 00:08:51.000451','664 6229900   ','29266','646 1772940   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VICTOR MENDOZA                                                                  ','victorboscmusic@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','17609704422','29268','17609704422'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LOPEZ MAGDALENO RENE                                                            ','napautocarecenterensenada@hotmail.com                       ',true,NULL,'','2024-08-11 00:08:51.000451','646 120 57 11 ','29270','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ISACC SEVERO AGUILAR BARRIOS                                                    ','rentalasminas@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','646 1553269   ','29271','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VIZCARRA CORRAL VERONICA                                                        ','vizcarra09@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','646 766875    ','29272','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MDPI AG                                                                         ','biling@mdpi.com                                             ',true,NULL,'','2024-08-11 00:08:51.000451','41616837734','29273','41616837734'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARDENAS TEJEDA LAURA ELENA LORENA                                              ','catering_organieventos@hotmail.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','646 1565307   ','29274','646 1760572   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DIARIO OFICIAL DE LA FEDERACION                                                 ','dof@segob.gob.mx                                            ',true,NULL,'','2024-08-11 00:08:51.000451','(55) 50933200 ','29275','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA Y SERVICIOS KARKEY DE BAJA CALIFORNIA S. DE R.L DE C.V.        ','ventaskarkey@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','567-19-19     ','29278','346-93-62     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INSTRUMENTOS CIENTIFICOS Y CONSUMIBLES DE MÉXICO, S.A. DE C.V.                  ','administracion@instrumentos-cientificos.com.mx              ',true,NULL,'','2024-08-11 00:08:51.000451','644-169-7241  ','29279','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JUAN ANTONIO SAVIN COVARRUBIAS                                                  ','savat03@hotmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686 271-50-35 ','29280','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MERCHANT DE MÉXICO S.A. DE C.V.                                                 ','kevinm_merchant@outlook.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6340606','29282','664-203-0075  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GILBERTO LIERA GARCIA                                                           ','gliera@msn.com                                              ',true,NULL,'','2024-08-11 00:08:51.000451','646 138 2280  ','29283','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARLOS JESUS GARCIA GARCIA                                                      ','banquetes.vatels@gmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6461491813','29286','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ATIS MEXICO, S. DE R.L. DE C.V.                                                 ','jhernandez@atisauto.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','664-201-2337  ','29289','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROMOTODO MEXICO, S.A. DE C.V.                                                  ','dsepulveda@cie.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','0155 26296900 ','29291','EXT 57020     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CRISTINA MALACARA MERCADO                                                       ','cristinamalacara@live.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6461317898','29293','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FRANCISCO LUNA ESPINOZA                                                         ','acordova@missionmexico.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','664 3683274   ','29294','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MAYORAMSA, S.A. DE C.V.                                                         ','maycul@mayoramsa.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','6677602878','29295','6677603340'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VEGA MENDEZ HECTOR                                                              ','orgaez@gmail.com                                            ',true,NULL,'','2024-08-11 00:08:51.000451','646 172 1221  ','29298','646 1769485   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'QARTUPPI S DE RL DE CV                                                          ','adm@qartuppi.com                                            ',true,NULL,'','2024-08-11 00:08:51.000451','2164016','29299','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VEGA ALVA EMILIA                                                                ','antonioromero@pro-lav.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6461985377','29300','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROVEEDORA ESPECIALIZADA DE MEDICAMENTOS, S.A. DE C.V.                          ','ventasgobierno@provem.com.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','0155-2652-1880','29302','0155-2652-1881'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INDUSTRIA LLANTAS, S. DE R.L. DE C.V.                                           ','melissa.llaisa@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686-580-9299  ','29303','686-580-8044  ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'KINO GAS DEL NOROESTE, S.A. DE C.V.                                             ','irodriguez@grupopagasa.com.mx                               ',true,NULL,'','2024-08-11 00:08:51.000451','686-580-2800  ','29304','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ABSALON DIAZ JORGE ALBERTO                                                      ','jorge.absalon@hotmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6461740733','29305','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ARACELI ROMAN ROSAS                                                             ','diasanservicios@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686 592-90-25 ','29306','686 238-03-88 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NAUVOO ENTERPRISES, S. DE R.L. DE C.V.                                          ','nauvooenter@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686-562-0676  ','29307','686-167-5272  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INNOVACION MOTORS,S.A. DE C.V.                                                  ','ovega@kiabaja.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','6869009500','29313','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO CORPORATIVO PROMOCIONAL, S.A. DE C.V.                                     ','sergio@gcp.com.mx                                           ',true,NULL,'','2024-08-11 00:08:51.000451','01 55 53564455','29314','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FUNDACION MEXICO - PAIS MARITIMO A. C.                                          ','libromarensenada@gmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','646 156 51 38 ','29317','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JASSO CARDENAS  MIGUEL ANGEL                                                    ','ventas@grappa.com.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','6641690092','29320','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CASA SEGOVIA THOMPSON SA DE CV                                                  ','thompsonaburtoadriana@gmail.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','646 176 2810  ','29321','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANA GABRIELA DE ANDA SALIVIE                                                    ','marcela.camacho@solutecgroup.com.mx                         ',true,NULL,'','2024-08-11 00:08:51.000451','686-841-2653  ','29323','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PINTACCS, S.A. DE C.V.                                                          ','lazarocardenas@pintaccs.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','5668806','29324','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUIS EDUARDO NORIEGA ESTUPIÑAN                                                  ','luiseduardo.noriega532@gmail.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','686-163-5807  ','29325','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FORES CENTRO DE NEGOCIOS, S. DE R.L. DE C.V.                                    ','contabilidad.acor@hotmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','686 582-60-60 ','29326','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HAFID GUILLERMO MONTAÑO DUARTE                                                  ','facturas.montano@hotmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','5660296','29329','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANUNCIO XPRESS, S. DE R.L. DE C.V.                                              ','anuncioax@gmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','567-71-80     ','29330','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO SKYNOV DE MÉXICO, S.A.S. DE C.V.                                          ','gruposkinov@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686-163-5807  ','29334','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARTIN ZAMUDIO FIGUEROA                                                         ','zamudio.cajasfuertes@hotmail.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','251-85-51     ','29335','543-49-41     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CERTUIT SOFTWARE, S. DE R.L. DE C.V.                                            ','contacto@certuit.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686 5660961   ','29339','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ISRAEL RAMIRO RIVERA HERNANDEZ                                                  ','impresionesrivera@hotmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','646 1770676 Y ','29340','646 1154127   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VAZQUEZ LIRA JORGE DANIEL                                                       ','ideapublimexicali@gamail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','6862510493','29402','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JR. GERMAN MEZA CORONA                                                          ','ventas@synapsispharma.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686-556-0037  ','29341','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AP INDUSTRIAL, S.A. DE C.V.                                                     ','alberto@ap-industrial.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686-842-0575  ','29342','686-117-9664  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SARA MERCADO NARVAEZ                                                            ','goyos.sa@gmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5712-8335','29343','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMPU GLOBAL SOLUTIONS, S.A. DE C.V.                                            ','agustin.rivera@compustar.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','664-647-0030  ','29344','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'UNISER UABC, A.C.                                                               ','josue@celexbc.com.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','8418291 EXT.30','29345','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MULTINACIONAL DE SEGURIDAD INDUSTRIAL S. A. DE C. V.                            ','mbriceno@gruposte.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','81 84780473   ','29348','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CEPRA SERVICIOS, S.A DE C.V.                                                    ','jrivero@cepra.com.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','53405700','29352','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUCIANA MUÑOZ BERMUDEZ                                                          ','terrible_cachano@hotmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','686-221-4060  ','29353','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OCTAVIO OROZCO ALATORRE                                                         ','rosela@plantassolares.com.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','612-123-0303  ','29355','612-128-5800  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FRANCISCO VALADEZ PEREZ                                                         ','valperfran@hotmail.com                                      ',true,NULL,'  ','2024-08-11 00:08:51.000451','251 38 53     ','29358','686 116 66 87 ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IMAGINARTE ESTUDIOS S. DE R.L. DE C.V.                                          ','imaginartecontabilidad@gmail.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','646 1518778   ','29359','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IMPRESOS DE MEXICALI, S. DE R.L. DE C.V.                                        ','impresosdemexicali@hotmail.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','686 5 66-62-44','29360','686 5 66-60-72'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIO ORTEGA MARTIN DEL CAMPO                                                   ','facturacion@impresionengrande.com                           ',true,NULL,'','2024-08-11 00:08:51.000451','686 5574242   ','29363','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'UNIVERSIDAD AUTONOMA DE NAYARIT                                                 ','programadelfin@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','(311) 2118800 ','29365','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CONSEJO MEXICANO DE ESTUDIOS DE POSGRADO , A.C.                                 ','comepoasist@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','(5255) 6102382','29366','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TERESITA GARCIA MERCADO                                                         ','isametalmecanica@hotmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','272 7036747   ','29367','12721476226'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARPAS Y EQUIPOS TIJUANA, S. DE R.L.                                            ','hugo@eventostijuana.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','608-16-74     ','29368','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SEBASTIAN SALAZAR VILLAVICENCIO                                                 ','djsalazarsound@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6861188027','29371','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TERESITA GARCIA MERCADO                                                         ','isametalmecanica@hotmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','12721476226','29372','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARLOS ARTURO RAMIREZ BELTRAN                                                   ','onceanrecords_mxl@hotmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','6865665389','29373','6862434961');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NORFEL TECHNOLOGIES S. DE R.L. DE C.V.                                          ','administrador@norfeltech.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','6647224539','29374','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SUSANA EVANGELINA CARRILLO ALVARADO                                             ','sussy_21@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','6462107528','29375','6462102789'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DESARROLLADOR GASTRO-BAJA DE MEXICO, S. DE R.L. DE C.V.                         ','oficinapraga@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6646340379','29376','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERVICIOS MEDICOS DENTALES E IMAGEN S.A DE C.V.                                 ','admin@dentalimage.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','684-86-80     ','29379','684-86-80     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ACOSTA MENDOZA CARLOS HOMERO                                                    ','kidjohnny1@gmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','664-195-36-90 ','29380','664-195-36-90 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DEFINICION TOTAL, S.A. DE.C.V.                                                  ','roberto@digitaservicio.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','15552118505','29383','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'UNITED PARCEL SERVICE DE MEXICO                                                 ','normajimenez@ups.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','664 6478109   ','29385','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JESUS ALVARADO CHAVEZ                                                           ','jachcipeleones@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','8402246','29386','5574020'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MICLAN S.A. DE C.V.                                                             ','administracion@miclan.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6462066817','29387','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'YUEFENG TAN                                                                     ','kevinmelany@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686 568 21 62 ','29388','686 568 45 93 ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BODEGAS F. RUBIO Y CIA. S.A. DE C.V.                                            ','cvazquez@grupolamesa.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','664 6891208 EX','29389','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MESTAS ARTHUR JORGE                                                             ','catalina.olmos@suavisal.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6865523471','29390','6865523471'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NRW CHEMIE MEXICANA S. DE R.L. DE C.V.                                          ','epalafox@nrwchemie.com.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6622608988','29392','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NARANJO LOPEZ ANDREA VIANNEY                                                    ','administracion@iemsalud.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6646842442','29399','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO MFZ S.A. DE C.V.                                                          ','fabiogaxiola@grupomfz.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','81- 23160220  ','29401','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LJV SPORT S.A DE C.V.                                                           ','emunoz@ljvsport.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','81 83875510   ','29404','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SIPRO RECUBRIMIENTOS ESPECIALIZADOS S. DE R.L DE C.V  DE                        ','contacto@siprorecubrimientos.com.mx                         ',true,NULL,'','2024-08-11 00:08:51.000451','6865683454','29407','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALFONSO R. BOURS S.A. DE C.V.                                                   ','danitza.leon@arbours.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','5925251','29408','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALMA DELIA QUINTANA PRECIADO                                                    ','ventasvedda@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','4.57E+11','29409','6622259937'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARLOS ARMANDO QUINTERO KOTRY                                                   ','jespinoza@refrigeracionesquintero.com                       ',true,NULL,'','2024-08-11 00:08:51.000451','6865668808','29410','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JUAN CARLOS MARTINEZ GALVAN                                                     ','velariasbc@ymail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','646 1170557   ','29411','646 2068813   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ARELLANO ARAMBULA GABRIEL                                                       ','gaarellanoo@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6461298286','29412','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIA ANGELICA AGUEROS GARCIA                                                   ','pinturaslm.dupont@hotmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','5661972','29413','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE ALBERTO GONZALEZ VIVANCO                                                   ','reconstructoragova@hotmail.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','6865614268','29415','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'I-TECNOLOGIAS DE APOYO, S. DE R.L. DE C.V.                                      ','i.tecnologiasdeapoyo@gmail.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','4151030274','29416','14151522689'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ENVIGO RMS S.A. DE C.V.                                                         ','angel.guerrero@idminingenieria.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','661-17251     ','29417','661-17251     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CUAUTLE TECUAPETLA MARIA AMELIA ESTHER                                          ','angel.guerrero@idminingenieria.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','6617251','29419','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JARED ROJAS CERVANTES                                                           ','jared.rojas@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686265679','29420','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'YOLANDA DEL CARMEN HERNANDEZ SANCHEZ                                            ','lbortoni@agritech.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','8189941750','29423','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ARCHIPIELAGO, A.C.                                                              ','alaleph@archipielago.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','56221904','29424','52778182');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DEMETRIO DELGADO MORA                                                           ','demmor4@gmail.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','76534070','29425','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'REFRIGERACION Y ACCESORIOS S.A. DE C.V.                                         ','sucursal-mexicali@reacsa.com.mx                             ',true,NULL,'','2024-08-11 00:08:51.000451','5587012','29426','5587043'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO VASANA S.A. DE C.V.                                                       ','vero.vasana@outlook.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','15558845183','29430','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDITORIAL ALGARABIA, S.A. DE C.V.                                               ','suscripciones@algarabia.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','54480430 EXT 1','29431','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NELLY SUZETTE DUARTE HERNANDEZ                                                  ','gigi.duarteh@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','5243481','29432','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ESTRATEGIA TRIBUTARIA , S.A. DE C.V.                                            ','victoria.jimenez@dfiscal.net                                ',true,NULL,'','2024-08-11 00:08:51.000451','222 2323205   ','29433','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TERRAZO CAZARES EDGAR DANIEL                                                    ','edterraz01@gmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','NO TIENE      ','29434','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BAJA PISOS INDUSTRIALES SA DE CV                                                ','bajapisosindustriales@hotmail.com                           ',true,NULL,'','2024-08-11 00:08:51.000451','646 172 5006  ','29435','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'KUME DEL CARIBE S.A. DE C.V.                                                    ','facturacionkumecaribe@gmail.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','55 30 62 03   ','29436','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SINOPTIC MIKRO S.A. DE C.V.                                                     ','facturacion@sinopticamikro.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','3338340460','29439','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANA GEORGINA CAZAREZ PERALTA                                                    ','mantenimiento.indutrial10@hotmail.com                       ',true,NULL,'','2024-08-11 00:08:51.000451','6861235127','29443','6865445429'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HCM INDUSTRIES,S. DE R.L.DE.CV.                                                 ','admin@quickprints.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','622-29-81     ','29444','634-04-33     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COLOR EXPRESS DE MEXICO, S.A. DE C.V.                                           ','martinmontano64@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','66227521','29446','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MIGUEL AGUIRRE SOTO                                                             ','ventas.inagrind@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','3487846959','29449','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INDUSTRIAS AGROPLASTICAS DE ENSENADA, S.A. DE C.V.                              ','ventasiapesa@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','646 1774105   ','29450','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SANCHEZ SALAS JUAN ROBERTO                                                      ','juan.sanchez.thinkin@gmail.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','5529093232','29451','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INDUSTRIAS DE COPIADO S.A DE C.V.                                               ','ventas@copyseminuevas.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','608-7654      ','29452','664-252-6198  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DSOFT, S.A. DE C.V.                                                             ','ventas@dsoft.mx                                             ',true,NULL,'','2024-08-11 00:08:51.000451','55567703812','29453','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CONSTRUCASA EXPRES S.A. DE C.V.                                                 ','m.mora@expotile.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','6.54E+11','29455','68601571827'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OSCAR RENE SAAVEDRA EQUIZ                                                       ','salonteotihhuacan@hotmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','6862166954','29457','6865556749');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMPAÑIA INSTITUCIONAL DE MUEBLES DE ACERO, S.A. DE C.V.                        ','gilberto_villeda@servinox.com.mx                            ',true,NULL,'','2024-08-11 00:08:51.000451','(55)72610206  ','29458','(55)72613562  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DE LA TORRE SALCEDO JAVIER                                                      ','wilfredosorialopez@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','6461549085','29460','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BERUN MATTRESS, S. DE R.L. DE C.V.                                              ','recepcion@colchoneraberun.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','6616134066','29462','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MAYORISTAS EN MATERIAL ELECTRICO DEL PACIFICO S.A. DE C.V.                      ','gerencia.tijuana@mepsamayoristas.com.mx                     ',true,NULL,'','2024-08-11 00:08:51.000451','664-524-9390  ','29463','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JESUS ALFONSO MONTES VARGAS                                                     ','reyser2008@prodigy.net.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6861181569','29464','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RODRIGO COTA SOTO                                                               ','rodrigocotasoto@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','21220','29466','6861412316'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AXTEL, SAB. DE C.V.                                                             ','jhernandezf@axtel.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6642887572','29469','6641621057'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDUEXPERTS, S. DE R.L. DE C.V.                                                  ','bhernandez@serviciosrc.org                                  ',true,NULL,'','2024-08-11 00:08:51.000451','5556270210','29470','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE REYES IBARRA RAMIREZ                                                       ','onoffjosereyes@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','646 244 8132  ','29472','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AVANZADA EN SOLUCIONES TICS, S.A DE C.V.                                        ','manuelvalerio@sotics.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','664-607-9010  ','29474','607-0410      ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AG ENGINEERING, S.A. DE C.V.                                                    ','araujo@theageng.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','(55) 55556032 ','29475','(55) 29559400 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ROSS ALVAREZ REPRESENTACIONES S.A. DE C.V.                                      ','fobtijplazario@aeromexico.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','664-6849268   ','29476','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MOVIMIENTO ARTÍSTICO, S.C.                                                      ','pagos@altiplano.pro                                         ',true,NULL,'','2024-08-11 00:08:51.000451','33-3821-0776  ','29477','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DULCE MARIA FERNANDA TOVAR CHAVEZ                                               ','equipamientosal100@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','33-3590-7631  ','29478','CEL33-1448-962'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JUAN RAMON CHAN AQUINO                                                          ','ventas@xailna.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','55-8421-6690  ','29479','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AARON CERVANTES LOPEZ                                                           ','gtdenergia@yahoo.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','664-621-0965  ','29480','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AMTEC CONSULTORIA Y TECNOLOGIA AMBIENTAL, SAS                                   ','amtecmx@gmail.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','686-221-6794  ','29481','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SISTEMAS EN ZOOTECNIA S.A. DE C.V.                                              ','ventas@senzoo.mx                                            ',true,NULL,'','2024-08-11 00:08:51.000451','36736837','29482','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JESUS RAYMUNDO BETANCOURT YANEZ                                                 ','mx6392@hotmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','686-177-0513  ','29484','686-304-1900  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDUARDO VALLE SALDAÑA                                                           ','valle86.compras@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686-841-2296  ','29485','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ENTERPRISE SOURCE CAPITAL DE MEXICO, S.A. DE C.V.                               ','finanzasmx@esourcecapital.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','55-8442-6011  ','29486','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PVH DISTRIBUCION, S.A. DE C.V.                                                  ','adolfocambre@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686-269-2782  ','29487','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SOLUCIONES AUDIOVISUALES, S. DE R.L. DE C.V.                                    ','administracion@savmx.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','664 6342181   ','29488','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SUAREZ RAMIREZ JORGE LUIS                                                       ','jl-vidiros@hotmail.com                                      ',true,NULL,'  ','2024-08-11 00:08:51.000451','646 174 70 84 ','29489','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE MANUEL OROZCO ESCOBEDO                                                     ','m.oroz@hotmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','646 1354984   ','29490','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BOTE ZUÑIGA LUIS MIGUEL                                                         ','facturacion.bote@gmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','5524275','29491','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'REVOR AUTOMOTRIZ, S.A. DE C.V.                                                  ','carlos.parra@peugeottersa.com.mx                            ',true,NULL,'','2024-08-11 00:08:51.000451','6865645231','29492','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ASOCIACION DE LA INDUSTRIA MAQUILADORA Y DE EXPORTACION DE TIJUANA A.C          ','jchimal@indextijuana.org.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6861487','29493','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RODOLFO RICARDO GARCIA RUIZ                                                     ','cubo.mantenimiento@gmail.com                                ',true,NULL,'  ','2024-08-11 00:08:51.000451','664-345-4970  ','29497','664-283-8264  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LASSO SAINZ LUIS ENRIQUE LEONARDO                                               ','depositobcdent@outlook.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','646 2449617   ','29499','044 646 190561');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDITORIAL FONTAMARA, S.A. DE C.V.                                               ','ventas@fontamara.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5659-7117','29500','0155-5659-7978'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CASTRO SANTIAGO ALEXANDER                                                       ','acastro19@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','1303303','29501','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DIKEN HERMOSILLO, S.A. DE C.V.                                                  ','javier.luna@dikeninternational.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','686-556-1313  ','29503','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GETCETERA IMPORT AND EXPORT                                                     ','jlmezquita@getcetera.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','664-123-2580  ','29504','664-11-4012   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SALVADOR GUTIERREZ                                                              ','ericg@maderasunion.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','686-555-9913  ','29505','686-555-9030  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LLANTAS Y SERVICIOS RAVI, S. DE R.L. DE C.V.                                    ','contabilidadravi@outlook.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','664-682-7953  ','29506','664-682-7954  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SECURITEL ENERGIA Y COMUNICACIONES, S.A.S.                                      ','clientessecuritel@gmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686-556-0222  ','29507','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JONATHAN CARVAJAL COTO                                                          ','machineprintmx@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','664-713-7046  ','29508','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALAN ALIOT ZUÑIGA CHARLES                                                       ','printh.mxli@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686-568-3637  ','29509','686-280-3766  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARLOS DAVID FRAGOZO ATONDO                                                     ','rodamientos03@hotmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686-561-7571  ','29510','686-561-8310  ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SILVIA VAZQUEZ MUÑOZ                                                            ','campos.enrique@uabc.edu.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686-157-0703  ','29511','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTEC DISTRIBUCION Y SERVICIOS DE TECNOLOGIA, S.A. DE C.V.                     ','angelica@distecbc.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686-564-3855  ','29512','686-564-5910  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RICARDO CONDE FELIX                                                             ','conde.prod@gmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686-252-2323  ','29513','686-152-2404  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SAS INSTITUTE, S. DE R.L. DE C.V.                                               ','contracsmx@sas.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5000-3800','29514','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LLANTAS Y SERVICIOS ESPECIALIZADOS VR ARGO, S.A. DE C.V.                        ','nevarezcentrollantero@gmail.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','664-634-2696  ','29515','664-634-2697  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GUERRA RIVAS GUILLERMO                                                          ','grafikens@live.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','6462042318','29516','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARYSOL GARCIA FLORES                                                           ','marysolgarcia.f@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6461513449','29521','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDUCATIONAL TRAINING DE MEXICO, S.C.                                            ','lourdes.padilla@eduseminars.mx                              ',true,NULL,'','2024-08-11 00:08:51.000451','01800-122-0816','29522','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VICENTE MAYORAL MORENO                                                          ','musikaljireh@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686-566-7371  ','29523','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALBERTO VALDEZ CONTRERAS                                                        ','apevse@yahoo.com                                            ',true,NULL,'','2024-08-11 00:08:51.000451','57405652','29524','57401980');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ROBERTO RESENDIZ JUAREZ                                                         ','tpmequipos@gmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','0113-83-4423  ','29527','0113-834990   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'REDPACK, S.A. DE C.V.                                                           ','mquintero@redpack.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686-106-5431  ','29528','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA VENECIA, S.A. DE C.V.                                          ','comercializadora.venecia@gmail.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','665-521-3387  ','29529','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RUBEN RICARDO TELLES HERNANDEZ                                                  ','ventas@retroservcios.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','3602822','29531','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE JUAN ARENAS VELEZ                                                          ','ja646539@gmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','664-352-9909  ','29532','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AVA TECNOLOGIA INTEGRAL, S. DE R.L. DE C.V.                                     ','a.valenzuela@grupoavatec.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','686-556-1707  ','29536','686-147-70-27 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DORA ALICIA QUINTERO PONCE                                                      ','dalicia@ingeniaimagen.com.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','686-567-4609  ','29537','686-555-8964  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MANUEL EVODIO CORNEJO ARVIZU                                                    ','receptor@maconetworks.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686-566-0089  ','29538','686-121-8444  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SALVADOR RAMIREZ ARELLANO                                                       ','puchys31@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','556-87-00     ','29539','686 543 11 13 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TYSCOM, S.A.S.                                                                  ','ventas@tyscom.com.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686-552-9235  ','29540','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MIGUEL ENRIQUE LEYVA LOPEZ                                                      ','cesarpvv18@gmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686-562-5248  ','29541','686-115-8164  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NAVEGANTES DE LA COMUNICACION GRAFICA, S.A. DE C.V.                             ','navegantes0009@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','555-253-2019  ','29542','555-243-2427  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SOLUCIONES ARQUITECTONICAS Y URBANAS SUSTENTABLES, S.A. DE C.V.                 ','arturo.ordonez@sol-arq.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','614-410-3097  ','29543','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDUARDO HERNANDEZ JUAREZ                                                        ','contacto@edubi.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5782-9796','29544','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CHRISTIAN ANTONIO CACHO MARTINEZ                                                ','direccion@cuspidegroup.com.mx                               ',true,NULL,'','2024-08-11 00:08:51.000451','01800-788-0402','29545','686-567-1767  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EXPORTADORA VAFRAC DE BAJA CALIFORNIA S.A. DE C.V.                              ','saullarios@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6646953489','29546','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SANDRA LUZ CONTRERAS SANCHEZ                                                    ','grun.organic@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','646 1196089   ','29547','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMPAÑIA EMBOTELLADORA DEL FUERTE S.A. DE C.V.                                  ','ncarrillo@cef.com.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','664-627-6700  ','29548','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JENYT ESPINOZA ARREOLA                                                          ','jenytea@hotmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','664-503-4025  ','29549','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NATIONAL SOFT DE MEXICO S. DE R. L. DE C.V.                                     ','norma.gomora@nationalsoft.com.mx                            ',true,NULL,'','2024-08-11 00:08:51.000451','555-689-3329  ','29550','555-689-2915  ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'WILL SOLUTIONS S. DE R.L. DE C.V.                                               ','manuel@willit.mx                                            ',true,NULL,'','2024-08-11 00:08:51.000451','664-906-1398  ','29551','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PEDRO CASTILLO HERNANDEZ                                                        ','pedrochz.68@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','664-303-1576  ','29552','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BAJAMETRICS S.C.                                                                ','karladiaz.uee@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','646 1 48 17 89','29553','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROMEX EXTINTORES S.A. DE C.V.                                                  ','promexbcn@promexextintores.com.mx                           ',true,NULL,'','2024-08-11 00:08:51.000451','661-121-0404  ','29554','661-121-0395  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AXI EQUIPOS Y COCINAS INDUSTRIALES S.A. DE C.V.                                 ','vtstj3@axiequipos.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','664-210-2788  ','29555','664-449-6204  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ESTEBAN CUEN DAHER                                                              ','info@dentalcuen.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','664-685-1114  ','29556','664-308-8624  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LEONARDO ARTURO RIOS VALDENEBRO                                                 ','ddentalleo@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','664-183-9345  ','29557','664-521-8328  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AARON ALFONSO VALENZUELA FLORES                                                 ','aaron@valencanopiesinc.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','664-683-4460  ','29558','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARLOS ADRIAN ALVAREZ MERCADO                                                   ','marcy_05@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','664-368-3228  ','29559','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GASTROEQUIPOS INDUSTRIALES, S.A. DE C.V.                                        ','gventas@gastroequipos.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6865668561','29560','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EL SANTUARIO DIEGUEÑO, S. DE R.L DE C.V.                                        ','contabilidad@rumbos.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','665 5212640   ','29561','EXT 101       '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CHRISTIAN RENE VALENZUELA ORTEGA                                                ','agetrox@gmail.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','6862166070','29562','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PRO DEPOT, S.A. DE C.V.                                                         ','raitmb@gmail.com                                            ',true,NULL,'','2024-08-11 00:08:51.000451','0450686 187 08','29563','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARLOS ALARICK RENDON ANGULO                                                    ','alaryye@hotmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','6648024702','29566','6649767335'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDUARDO MARTINEZ MORENO                                                         ','multimedico.equipo@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','664-508-6544  ','29567','619-630-1797  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'REYNA CAROLINA MUÑOZ HERNANDEZ                                                  ','dentaldepot1808@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686-158-2662  ','29569','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INSTITUTO ANGLO MEXICANO DE CULTURA, A.C.                                       ','gloria.hernandez@theanglo.org.mx                            ',true,NULL,'','2024-08-11 00:08:51.000451','0155-7316-1630','29570','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'UNIFORMES DE TAMPICO, S.A. DE C.V.                                              ','mexicali@unitam.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686-6216-9454 ','29571','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JR EQUIPOS CIENTIFICOS S.A. DE C.V.                                             ','maribel.vizueth@nanometrics.com.mx                          ',true,NULL,'','2024-08-11 00:08:51.000451','555-362-1714  ','29573','477-654-4711  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DIEGO RICARDO CASTILLO ARZOLA                                                   ','teslaelectrica@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686 582-52-76 ','29576','686 1-16-26-60');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TERESA DE JESUS ALCARAZ SANCHEZ                                                 ','todoconstructoratj@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','664-151-3650  ','29578','664-151-3653  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUIS ENRIQUE ORRANTIA FLORES                                                    ','raulsanchezdiazlima@gmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','664-625-97-62 ','29580','664-411--39-19'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HECTOR MAQUEDA JASSO                                                            ','corporativoextremo@hotmail.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','686-183-8463  ','29582','686-133-3233  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MATERIALES NUNGARAY, S. DE R.L .DE C.V.                                         ','fabiola@materialesnungaray.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','686 580-97-89 ','29584','686 580-17-76 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RICARDO ESPINOZA FONCERRADA                                                     ','picolinasa@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','686582-41-34  ','29585','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE LUIS CHAVEZ IZABAL                                                         ','estudiossesentaynueve@gmail.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','6869450029','29586','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERVICIOS Y EQUIPOS PARA LA INVESTIGACION MEDICA, S.A. DE C.V.                  ','direccion@seim-mty.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','8121382258','29587','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GENERACION DE SISTEMAS PARA EL ESPECTACULO, S. DE R.L. DE C.V.                  ','info@genesist.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5789-1280','29588','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GLIDEWELL MEXICO S DE RL DE CV                                                  ','facturaciontj@glidewelldental.mx                            ',true,NULL,'','2024-08-11 00:08:51.000451','664-380-6218  ','29589','664-380-6275  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VASQUEZ DE LA SOTA FRIDA                                                        ','fridadelasota@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6462107999','29590','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INDUSTRIAL SIVORY, S.A. DE C.V.                                                 ','industrialsivory@gmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','664-680-4490  ','29591','664-680-5535  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IMAGINA PROMOTION GROUP, S.A. DE C.V.                                           ','info@imaginausb.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','55539921','29594','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'APLICACION INTEGRAL DE COMUNICACIONES S.A. DE C.V.                              ','felipe.jimenez@aidco.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','664-629-0011  ','29596','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE LUIS MENDOZA FERNANDEZ                                                     ','coyma99@yahoo.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','567-06-65     ','29597','686 153 61 50 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANEL ALEJANDRA OLIVAS ZAVALA                                                    ','raltamirano@uabc.edu.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686 288-51-68 ','29600','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GUSTAVO RODRIGUEZ CABRALES                                                      ','gustavorodriguez0171@hotmail.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','646 1170732   ','29601','646 1180581   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ARTURO TEJADA MIRANDA                                                           ','copyzoom_servicios@hotmail.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','686-554-72-01 ','29605','664-590-4864  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARISOL FONSECA VAZQUEZ                                                         ','jcgaytandental@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','0155-7026-9531','29606','0155-5308-0030'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VIANEL GUILLEN SEPULVEDA                                                        ','vianel_guillen@outlook.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6861516584','29607','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA DE SERVICIOS POR MAR Y TIERRA PARA EL DESARROLLO SA DE CV      ','victor@contenedorens.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','646 131 08 21 ','29608','646 226 7627  ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROYECTOS DE REFRIGERACION Y OBRA TERMICA S. A. DE C. V.                        ','info@protermica.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','646 1740794   ','29609','044 646 185071'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERVICIO PROFESIONAL DE LIMPIEZA SA DE CV                                       ','carlos.marron@grupocomsa.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','646 1205652   ','29610','686 179 72 47 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMPUTERS & NETWORKS DISTRIBUTOR S.A. DE C.V.                                   ','hernan.cervantes@compunetmexico.com                         ',true,NULL,'','2024-08-11 00:08:51.000451','664-622-4483  ','29611','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FREDI LOPEZ FREGOSO                                                             ','tdp.ceram@gmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','664-126-1291  ','29613','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDGAR GERARDO AVALOS GALLARDO                                                   ','edgarag87@gmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686-120-0090  ','29615','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISEÑOS FINOS CORPORATIVOS, S.A. DE C.V.                                        ','infoventas@renatasaga.com.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','18114770787','29617','18114770788'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GEN INDUSTRIAL, S.A. DE C.V.                                                    ','iguzman@pasa.mx                                             ',true,NULL,'','2024-08-11 00:08:51.000451','580 22 22 EXT.','29619','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JAVIER SANCHEZ FUENTES                                                          ','javiersanchezfu@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','646-947-5184  ','29623','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LINA HEALTH PROVIDERS, S.A. DE C.V.                                             ','roy.paz@linainc.com.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','8113251788','29625','8113251790'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HUGO ALBERTO HERNANDEZ ALVARADO                                                 ','publikme.publicidad@gmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','686 4 07-18-04','29626','686 2 35-85-36');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRAFITCOLOR, S.A. DE C.V.                                                       ','impremexmarlene@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','554-4165      ','29628','284-03-95     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RAMIREZ TORRES ANA FERNANDA                                                     ','info@tisam.com.mx                                           ',true,NULL,'','2024-08-11 00:08:51.000451','646 190 50 61 ','29629','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'QUIHUIS CITAL DANIEL                                                            ','biobreak.ventas@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','66 231 44 81  ','29630','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERGIO RUELAS INZUNZA                                                           ','yayita79@gmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','686-551-9668  ','29632','686-110-1985 C'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INNOVATION ON DEMAND, S DE RL DE CV                                             ','iodinnovation@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','818-286-3420  ','29633','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EQUIPOS PARA INVESTIGACION Y CIENCIA, S.A. DE C.V.                              ','ventas@epicsa.com.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','0133-3804-0753','29634','0133-1655-7056'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RICARDO VALENCIA YANEZ                                                          ','vidarbiotech@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','646 116 6655  ','29635','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALTARES INMOBILIARIA, S.A. DE C.V.                                              ','altaresinmobiliaria@telmexmail.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','686-564-3108  ','29636','686-216-3494  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'5MINDS SOLUTIONS S. DE R.L. DE C.V.                                             ','lucy.angulo@5m-solutions.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','664 629 4069  ','29637','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MONICA MORENO MEDRANO                                                           ','enar.t@hotmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','2 51-55-29    ','29638','686 1-06-24-83');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ADRIANA GARCIA TELLO                                                            ','sergio@morfointernational.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','664-624-4133  ','29641','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARKETING MEDICINAL, S.A. DE C.V.                                               ','alexisquijas@marketingmedicinal.com                         ',true,NULL,'','2024-08-11 00:08:51.000451','686-564-9092  ','29642','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RICARDO NUÑEZ SARLAT                                                            ','soporte.emerick@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','646120 83 27  ','29643','646 137 2722  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COORDINADOS DE CARGA PAQUETEXPRESS, S. DE R.L. DE C.V.                          ','ssarabia@paquetexpress.com.mx                               ',true,NULL,'','2024-08-11 00:08:51.000451','686-566-8588  ','29644','686-201-8555  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'5MINDS SOLUTIONS S. DE R.L. DE C.V.                                             ','lucy.angulo@5m-solutions.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','664-629-4069  ','29646','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OMAR ORTIZ FLORES                                                               ','delia.ros3@gmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686 4052314   ','29647','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OLYMPUS AMERICA DE MEXICO SA DE CV                                              ','representante.legal@olympus.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','55 9000 2255  ','29650','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CODELED  S DE RL DE CV                                                          ','deco.ventas14@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','646 177 1362  ','29653','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'XIMA PROYECTOS Y REDES DE BC, S. DE R.L DE C.,V,                                ','idelacruz@officeone.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6649001966','29655','6642084745'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PISIS ALARMAS, S.A. DE C.V.                                                     ','pisisalarmas@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','567-34-30     ','29657','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INTEGRACION DE SISTEMAS SAV, S. DE R.L. DE C.V.                                 ','justo@smartav.mx                                            ',true,NULL,'','2024-08-11 00:08:51.000451','686-109-3803  ','29658','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARLOS GUADALUPE CASTRO PEREZ                                                   ','carloscastroluna@outlook.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','686  2-38-46-5','29660','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROYECTO FRONTERIZO DE EDUCACION AMBIENTAL, AC                                  ','pfea.iveliz@gamil.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','664-6300590   ','29661','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HIDROSISTEMAS BAJA, S. DE R.L. DE C.V.                                          ','rchavez@tesligths.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686 841-03-02 ','29662','686 242-96-98 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JAIME LEPE HERNANDEZ                                                            ','equiposfl@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686 558 63 79 ','29666','686 557 67 49 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AURORA NATALY MOLINA MARTINEZ                                                   ','llanteraivan@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686-523-2879  ','29667','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUZ MIREYA FLORES RAMIREZ                                                       ','letrerosyarticulos@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','686 171 51 89 ','29669','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OFFICE FURNITURE MANUFACTURING, S. DE R.L. DE C.V.                              ','joseluis@mueblesofm.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','522-0550      ','29670','686-183-0765  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LA CASA DE LOS PINTORES SA DE CV                                                ','lacasadelospintores11@hotmail.com                           ',true,NULL,'','2024-08-11 00:08:51.000451','6463500000','29671','6463500003'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HT INSPIRES THE BEST  S.A. DE C.V.                                              ','gerenciaoperativa@htinspires.com.mx                         ',true,NULL,'','2024-08-11 00:08:51.000451','664-607-3796  ','29672','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARKEVA INDUSTRIAL, S.A. DE C.V.                                                ','felectronica@markeva.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686-220-3013  ','29674','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HOSPITALIDAD Y EVENTOS LA BAJA, S.A. DE C.V.                                    ','ventas.salonazteca@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','686 554-17-81 ','29675','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'METALES PLASTICOS ARANDA, S. DE R.L. DE C.V.                                    ','metalplasticos@yahoo.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686-568-2015  ','29677','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JULIAN IGNACIO MONTAÑO GARCIA OVIES                                             ','julianimontano@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686 2 69-00-09','29678','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ARALBA SOLUCIONES COMERCIALES, S.A. DE C.V.                                     ','jorge.alarcon@aralba.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686-561-0061  ','29680','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ARTEMIO RODRIGUEZ ORNELAS                                                       ','eripac@yahoo.com                                            ',true,NULL,'','2024-08-11 00:08:51.000451','6461170748','29681','6461170748'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIA SOCORRO DATHOLLI DE CIRIZA SOSA                                           ','direccion@dibbiotek.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','5568372385','29682','5554720012'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMPAÑIA MERCANTIL DEL NORTE SA DE CV                                           ','jorge@delpalacio.org                                        ',true,NULL,'','2024-08-11 00:08:51.000451','646174-06-19  ','29683','6461740619'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BLANCA PATRICIA PALACIOS GARCIA                                                 ','proyectos@interfaztore.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','1553917503','29686','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GENERAL DE APARATOS ANALÍTICOS MÉDICOS, SA DE CV                                ','gaamsa.ventas@prodigy.net.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','3333652119','29687','3333652120');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANA KAREN URDAPILLETA PEREZ                                                     ','administracion@diffesa.com.mx                               ',true,NULL,'','2024-08-11 00:08:51.000451','646 211 75 00 ','29688','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDUARDO ARIEL FLORES VALENCIA                                                   ','ariel@afax.com.mx                                           ',true,NULL,'','2024-08-11 00:08:51.000451','686-216-9476  ','29689','686-563-3108  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ADN INTELLIGENT S DE RL DE CV                                                   ','adn.intelligent@adnpharma.com.mx                            ',true,NULL,'','2024-08-11 00:08:51.000451','722 902 7904  ','29690','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'H2O TEK S.A. DE C.V.                                                            ','shernandez@h2otek.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','81 8346 7510  ','29691','81 8346 7534  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AMADOR BONILLA MORALES                                                          ','abonillabc61@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686-119-0489  ','29692','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DIAR ELECTRICA, S.A DE C.V.                                                     ','sucmxl@electricadiaz.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686 551-67-06 ','29694','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE LUIS CASTAÑOS ZAPIEN                                                       ','fusionorientalexpress@gmail.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','686 543-15-87 ','29702','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ESTUDIO TECTONICA S. DE R.L. DE C.V.                                            ','administracion@tectonica.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','664-208 7927  ','29703','664-374-3955  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MAYAKS S.A. DE C.V.                                                             ','mayaks1@hotmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','664-627-9298  ','29704','664-627-9767  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DIMEYRA, S.DE R.L DE C.V                                                        ','licitaciones@dimeyra.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','667 753 16 41 ','29705','667 753 74 74 ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ROSA ELENA ARZAC QUIJADA                                                        ','pipactj@hotmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','664-104-5562  ','29706','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SEGU-MEX, DE B.C., S. DE R.L. DE C.V.                                           ','seguridad.mexicali@hotmail.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','686 268-90-29 ','29710','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MC-PROSOUND, S. DE R.L. DE C.V.                                                 ','mcproaudio@yahoo.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6649003768','29713','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERVICIOS DE LOGISTICA Y DESARROLLO DEL NORTE, S.A DE C.V.                      ','contacto@locseg.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','81 25584025   ','29714','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOLLY HAUL,S.A.P.I. DE C.V.                                                     ','nsandoval@jhl.mx                                            ',true,NULL,'','2024-08-11 00:08:51.000451','5 004-8424 EXT','29716','41699862'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INVETT, S.A. DE C.V.                                                            ','ventas@invett.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','13338265160','29717','686 393-55-95 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CESAR RENE BAIZ LACY                                                            ','baiz66@hotmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','686-123-0203  ','29719','686-561-4156  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RIGOBERTO CRUZ OCHOA                                                            ','botas_lasierra@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686-561-3801  ','29720','686-111-8421  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANGELICA BERENICE SANAY COTA                                                    ','isidrodz@yahoo.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','66 178 6920   ','29721','646 1787574   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OMAR HURTADO JUSTO                                                              ','ventas@hursoft.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','55 15113116   ','29723','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROVEEDORA CACHANILLA DEL NOROESTE, S.A. DE C.V.                                ','proveecachamxl@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686 5652274   ','29724','686 1 131551  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NAYLA ABRIL MENDIVIL DELGADO                                                    ','contabilidad.acor@hotmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','686 582-60-60 ','29725','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LABOTECA INTERNATIONAL LAB SUPLLIES SAPI DE CV                                  ','ventas@laboteca.com.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','55 56955393   ','29728','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'WILLY & DAVID INGENIERIA S DE RL DE CV                                          ','wanddingenieria@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6462167310','29729','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ESTANCIA INN, S.A. DE C.V.                                                      ','eventos@estanciainn.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6651423853','29730','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FRANCISCO JAVIER ALMAZAN ORTEGA                                                 ','almazana@prodigy.net.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','664-680-6455  ','29731','664-161-2812  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERVICIOS MEDICOS DENTALES E IMAGEN, S.C.                                       ','info@riolabmx.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','664-684-8680  ','29734','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERGIO GARCÍA ZAMORA                                                            ','garzasoccer@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686-212-5321  ','29737','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CIE TECNOLOGIAS DEL SURESTE SA DE CV                                            ','info@hobbytuxtla.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','961 223 66 57 ','29738','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERGIO CISNEROS AMEZQUITA                                                       ','sergiocisnerosa@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686 114-56-55 ','29739','686 842-39-65 ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CONSTRUCCIONES MODULARES DINAMICAS, S.A. DE C.V.                                ','mmejia@construccionesdinamicas.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','52739035','29740','4.46E+11'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INERCY SOFTWARE, S. DE R.L. DE C.V.                                             ','erik.alejo@inercy.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686-144-0504  ','29744','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MAYRA MARIBEL ROSALES RUIZ                                                      ','mayribelriosuiz@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686 1907743   ','29748','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIBEL DEL SOCORRO LOPEZ ZAMORA                                                ','tornillosalvarado@gmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6461770770','29749','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIA VICTORIA TORRES TOLEDO                                                    ','campo#1sfbc@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6862489763','29750','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LAURA HUERTA FUENTES                                                            ','fijodent_outlet@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','664-973-1096  ','29751','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DANIEL ALEJANDRO NAVARRO CARBALLO                                               ','dnavarro@soportemxli.net                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6863167380','29752','686 2713108   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MAC ANALITICA S.A DE C.V.                                                       ','fnieto@mac-analitica.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','5524870566','29753','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANGEL ERNESTO LIRA JIMENEZ                                                      ','lira.angel@uabc.edu.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','686 2270133   ','29754','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JUAN ENRIQUE CHAVEZ CORRALES                                                    ','ocotillofonda@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686 5544259   ','29758','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CIAS. PERIODISTICAS DEL SOL DEL PACIFICO, S.A. DE C.V.                          ','olganevarez@lavozdelafrontera.com.mx                        ',true,NULL,'','2024-08-11 00:08:51.000451','553 45 45 EXT.','29760','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CIAS. PERIODISTICAS DEL SOL DEL PACIFICO, S.A. DE C.V.                          ','olganevarez@lavozdelafrontera.com.mx                        ',true,NULL,'','2024-08-11 00:08:51.000451','553 45 45 EXT.','29760','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GALK INGENIERIA Y SUMINISTROS, S.A.S. DE C.V.                                   ','axel.rendon@galk.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','0155-5266-2032','29762','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HECTOR PARENTE MENDIVIL                                                         ','autoserviciocricri@hotmail.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','686-523-2075  ','29763','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NORTHWEST STARH  DE MEXICO S DE RL DE CV.                                       ','northe@hotmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','NO TIENE      ','29765','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TURNITIN MEXICO, S. DE R.L DE C.V.                                              ','mguerrero@turnitin.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','81 88512891   ','29766','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MAXIMO PARENTE OSUNA                                                            ','refa.grillo@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686-523-2153  ','29767','686-523-2076  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NUTRIMENTOS MEXICANOS, S.A. DE C.V.                                             ','ventas@nutrimex.com.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','686-561-0031  ','29768','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DESARROLLO DE SOFTWARE MONOBITS, S. DE R.L. DE. C.V.                            ','administracion@monobits.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686 251-94-79 ','29769','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PATHWAYS TECNOLOGIA INDUSTRIAL, S. DE R.L. DE C.V.                              ','walterc.ponce@pathways.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686-592-1463  ','29770','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIA ELENA RIVERA VALENZUELA                                                   ','cuentas.delsol@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686-563-8924  ','29771','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TECNOLOGIA ECOLOGICA SOFISTICADA DE AGUA, S.A.                                  ','rflores@cieessa.org                                         ',true,NULL,'','2024-08-11 00:08:51.000451','55-1993-4663  ','29774','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SCIENTMEX, S.A. DE C.V.                                                         ','danielvillatoro@scientmex.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','01-81-2239-402','29775','01-81-2239-402'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRISEL GUADALUPE BARRIO ALVARADO                                                ','grisel.easier@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','5558074566','29776','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'KARLA EDITH GONZALEZ NAVARRO                                                    ','tierracalida.libros@gmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','686 5660555   ','29777','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JM INDUSTRIAL TECHNOLOGY, S.A. DE C.V.                                          ','yanet.natividad@jmi.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','55-3548-0322  ','29778','55-3548-0321  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OPTIMA BAJA, S.A. DE C.V.                                                       ','pbeltran@suzukimexicali.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686 514-84-83 ','29779','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GUILLERMO ROA RODRIGUEZ                                                         ','iac1025@yahoo.com.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','53699477','29781','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'K C RENTAS SA DE CV                                                             ','wpreciado@kcrentas.com.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','664 120 40 92 ','29782','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FERNANDO ORTEGA CERVANTES                                                       ','dakap3d@gmail.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','686-192-03-80 ','29783','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ENERGIA ALTERNATIVADE BAJA CALIFORNIA S.A.S. DE C.V.                            ','arodriguez@energiaalternativa.com.mx                        ',true,NULL,'','2024-08-11 00:08:51.000451','6469478483','29784','6469478483'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BLANCA GLADYS SIQUEIROS GONZALEZ                                                ','pblcontabilidad@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6643868198','29785','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OPERBES, S.A. DE C.V.                                                           ','dbustos@izzi.mx                                             ',true,NULL,'','2024-08-11 00:08:51.000451','15552612000','29786','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ONSTAR DE MEXICO, S. DE R.L. DE C.V.                                            ','ventas_onstar@gm.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','18000834994','29787','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JSZAD REFACCIONES, S. DE R.L. DE C.V.                                           ','centenarioplusrefacciones@outlook.com                       ',true,NULL,'','2024-08-11 00:08:51.000451','686-523-0146  ','29789','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VIDEOSTAFF, S.A. DE C.V.                                                        ','info@videostaff.com.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','(55) 1107-6395','29790','(55) 5523-1182'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CRAFT INSTRUMENTOS CIENTIFICOS, S.A.                                            ','craft@prodigy.net.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','55-5319-8302  ','29791','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MANUEL ANTONIO HERNANDEZ CRUZ                                                   ','saalgadovazquez@yahoo.com.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','6461199279','29794','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARTHA PATRICIA JAQUES PACHECO                                                  ','nvorefugio@outlook.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','686 568-54-44 ','29795','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CONSEJO NACIONAL DE ACREDITACION EN INFORMATICA Y COMPUTACION, A.C.             ','conaic_@hotmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','55 5615-7489  ','29796','55 5611-2133  ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CONSEJO NACIONAL PARA LA ENSEÑANZA Y LA INVESTIGACION DE LAS CIENCIAS DE LA COMU','presidencia@coneicc.org.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','449-910-8475  ','29797','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RAUL GOMEZ VALENZUELA                                                           ','equiposdeoficinadimura@hotmail.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','6865535175','29800','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LT PROSAD S.A. DE C.V.                                                          ','raul.trujillo@ltsistemas.com.mx                             ',true,NULL,'','2024-08-11 00:08:51.000451','2224038010','29801','2224830579'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NASA TECNOLOGIA SC                                                              ','eaceves@nasa.com.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','52 818 3-47-77','29802','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EGOS BI S.A. DE C.V.                                                            ','egonzalez@egosbi.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','811 41-30-65  ','29804','8125282397'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SOLTEKONLINE  S.R L. DE C.V.                                                    ','cuitlahua@soltekonline.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','646 2047381   ','29805','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUKE SUPPLIES S DE R.L. DE C.V.                                                 ','msalgado@lukesupplies.com.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','646 1766559   ','29809','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NANOELECTRONICA, S.A. DE C.V.                                                   ','mexicalinovena@steren.com.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','686 905 80 25 ','29810','686 841 56 63 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FERNANDA SERNA PALACIOS                                                         ','serna.fda@gmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686-259-82-97 ','29811','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ARTIFICIOS MEDIA, S.A. DE C.V.                                                  ','artificiosmedia@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686-5633096   ','29812','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SATHYA ALEJANDRO TAPIA ORTEGA                                                   ','alx.tapia.ortega@gmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6862277493','29814','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIA EUGENIA LIZARRAGA GARIBALDI                                               ','d_cmexicali@yahoo.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686 568 13 52 ','29815','686 153 20 76 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BIOLIFE TECHNOLOGIES S.A DE C.V.                                                ','informes@blteq.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','442 245 65 59 ','29818','442 245 6704  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE LUIS JASSO CANTABRANA                                                      ','jmquimi@hotmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686-567-3084  ','29819','686-565-1320  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MA. SOCORRO RODRIGUEZ TEJEDA                                                    ','maritza@comercialdeconfort.com.mx                           ',true,NULL,'','2024-08-11 00:08:51.000451','646 137 0720  ','29820','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INDUSTRIAS FRI-MAR, S.A. DE C.V.                                                ','jaime.gonzalez@frimar.com.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','625-587-7199  ','29821','625-587-7176  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EMMANUEL MARTINEZ FONSECA                                                       ','lafavorita.gdl@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','332-675-0240  ','29822','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ARLETTE ILIANA GAXIOLA SANTOS                                                   ','veterinaria.cuauhtemoc@gmail.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','686-567-4775  ','29823','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALGAS MARINAS S.A. DE C.V.                                                      ','rmarcos@grupoalgamar.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6466881235','29824','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARLOS ALBERTO DOMINGUEZ DURAN                                                  ','eventos_ds@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','686-240-1069  ','29825','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TECNOLOGIA CLINICA ESPECIALIZADA, S.A. DE C.V.                                  ','martha.mendozanmt@gmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','777-318-9063  ','29826','800-7011-481  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DENTAL GOMEZ FARIAS, S.A. DE C.V.                                               ','djimenez@gomezfarias.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','777-318-5926 E','29828','55713121 EXT 2'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NORA LILIANA QUINTERO HEREDIA                                                   ','noralilianaquinteroheredia@gmail.com                        ',true,NULL,'','2024-08-11 00:08:51.000451','6861257509','29829','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JUAN CARLOS SALAS ASTENGO                                                       ','j.carlosalas@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686 9 45-45-56','29833','686 1 98-01-66'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IGNACIO CARREON SOLIS                                                           ','icarreonsolis@hotmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','272-1163814   ','29834','272-1848055   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RAMON ALFREDO TOLENTO HERNANDEZ                                                 ','mvztolento@gmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686 157-14-59 ','29836','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ADAN TORRES CURIEL                                                              ','trbirrigation2018@hotmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','646 151 6609  ','29837','646 117 4383  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERVICIOS INGENIERIA MANOFACTURA Y AUTOMATIZACION, S.A. DE C.V.                 ','jtorres@simarefrigeracion.com.mx                            ',true,NULL,'','2024-08-11 00:08:51.000451','686-567-0800  ','29839','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EXIQUIO CAMACHO LUTZ                                                            ','exiquiocamacholutz1982@gmail.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','6861739611','29840','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUIS RUBEN VAZQUEZ OROZCO                                                       ','factu.rubenvaquez@gmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6862650288','29841','5549588');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIO ALBERTO LEON VALDEZ                                                       ','mxl.indigo@gmil.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686 1 118828  ','29842','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROVEEDORA COMERCIAL DEL NORTE S.A.  DE C.V                                     ','contacto@proconsamexico.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','81 81109439   ','29843','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ADTECH DENTAL LAB S. DE R.L.                                                    ','laboratorioadtech.tj@gmail.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','664-210-7643  ','29844','664-227-0617  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARLOS CATALAN VARGAS                                                           ','ioserigrafia@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','646 1019248   ','29845','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IRMA YOLANDA GUTIERREZ RUIZ                                                     ','rmcom1@prodigy.net.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6865824300','29846','68605555990'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VELAB MICROSCOPIOS S.A. DE C.V.                                                 ','ventas@velab.com.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','55-56568878   ','29847','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RICARDO ISRAEL MIRELES CASTILLO                                                 ','ricardo.mireles@sseres.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686 1 19 63 96','29849','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'REGISTRO Y MONITOREO, S.A. DE C.V.                                              ','diana.lucas@pentacom.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','5555505604','29853','5556166585'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'POWERTEC INGENIERIA, S.A. DE C.V.                                               ','homero.garcia@powertec-ingenieria.com.mx                    ',true,NULL,'','2024-08-11 00:08:51.000451','81-8370-8059  ','29854','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANA MARTINEZ VALENCIA                                                           ','contabilidad@cuatromxl.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','5 54 44 02    ','29855','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DANIEL GARCIA MORENO                                                            ','lic.danielgm@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6864 05 86 60 ','29856','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TERRASAT CARTOGRAFIA SA DE CV                                                   ','contacto@terrasat.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','5556587310','29858','5556587310'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JONATHAN ROSAS MOLINA                                                           ','winmacs@gmail.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','686-202-1234  ','29859','686-333-2326  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALMA PATRICIA TOVAR AVILA                                                       ','ptovar@solimarsoluciones.com.mx                             ',true,NULL,'','2024-08-11 00:08:51.000451','664-637-67-50 ','29860','664-387-94-32 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VISIONES Y ESTRATEGIAS DEL NAINARI, S. DE R.L. DE C.V.                          ','biaqua.auxadm@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686-477-4662  ','29861','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ADOLFO FELIX GARCÍA                                                             ','servieventos_felix@hotmail.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','686-559-3074  ','29864','686-178-1453  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MENGLING ZENG                                                                   ','erickbuelna80@hotmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6868380151','29865','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALMA GABRIELA PEREZ LEYVA                                                       ','sportsexpress05@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686 479-80-63 ','29866','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VANGUARDIA TECNOLOGIA Y REPRESENTACIONES, S.A. DE C.V.                          ','cesarlopez@grupovantec.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','662522040','29867','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MECATRONIC DE MEXICO S DE R.L. DE C.V.                                          ','gerardo@mecatronic.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','664-200-1569  ','29868','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BIOTECFRON, S.A. DE C.V.                                                        ','info@biotecfron.mx                                          ',true,NULL,'','2024-08-11 00:08:51.000451','77-7434-2628  ','29873','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROVEEDOR INTERNACIONAL DE COCINAS, S.A. DE C.V.                                ','ivega@provinco.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686-564-6856  ','29876','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FELIX JAVIER CARBALLO LEZAMA                                                    ','materialesalfa.ens@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','6461976216','29878','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'APHOUSE DE MEXICO, S.A. DE C.V.                                                 ','mario@aphouse.mx                                            ',true,NULL,'','2024-08-11 00:08:51.000451','5552365693','29879','5552365692'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUIS FERNANDO OCHOA BERMUDEZ                                                    ','luisf8a@hotmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686-946-5517  ','29884','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE FRANCISCO VARGAS GARZON                                                    ','fvargas@vsupplycorp.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6868411731','29887','6861118963'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GB NETWORKS, S.A. DE C.V.                                                       ','vruvalcaba@gbnetworks.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686 552-27-38 ','29888','686 177-38-22 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BAZUA RAMIREZ CARLOS SAUL                                                       ','cabamdistribuidora@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','6861755549','29889','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NORMA YAHAIRA MORGAN GALENO                                                     ','norma-morgan-g@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','646 134-69-63 ','29890','646 204-17-73 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INGENIERIA Y REDES INFOCA, S.A  DE C.V.                                         ','jorge.ayala@ingenieriainfoca.com.mx                         ',true,NULL,'','2024-08-11 00:08:51.000451','5616924560','29891','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SATELLITE PHONE STORE, S. DE R.L. DE C.V.                                       ','omar@satellitephonestore.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','6469770689','29892','6469770689'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TRAZABILIDAD INTEGRAL S.A DE C.V.                                               ','info@chipparamascotas.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','55 50353207   ','29893','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IAMET D SE RL DE CV                                                             ','eduardo.rivera@iamet.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6643709343','29894','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BH EXERCYCLE DE MEXICO, S.A. DE C.V.                                            ','juan.samano@bh.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','444-824-00-29 ','29895','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ABRAHAM ALEJANDRO CAMPOS NAYA                                                   ','deportesamerica1970@hotmail.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','686 5 54-13-02','29896','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GABRIEL MAURICIO LAYVA CASTILLO                                                 ','leyvacastillo@aol.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','55781628','29897','55883889'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MITSUI DE MEXICO S DE RL DE CV                                                  ','j.alcala@mitsui.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','5552840500','29900','5552840516'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DEPSYM S.A DE C.V                                                               ','proyectos@depsym.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','5583741453','29902','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OVINOCULTURA DE SINGUILUCAN SPR DE RL                                           ','jjram58@msn.com                                             ',true,NULL,'','2024-08-11 00:08:51.000451','7757552937','29903','7751447295'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'POLIZAS DE MANTENIMIENTO S. DE R.L. DE C.V.                                     ','administracion@polair.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','5669826','29906','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HM DECORACION Y DISEÑO DE INTERIORES, S. DE R.L. DE C.V.                        ','hmdecoraciondeinterioreas@gmail.com                         ',true,NULL,'','2024-08-11 00:08:51.000451','686 906-25-79 ','29907','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JORGE EDUARDO BARCELO CARRILLO                                                  ','ventas2@frazepaint.com.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686 554-4848  ','29908','686 554-4848  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MENDEZ LOPEZ KELVIN                                                             ','kelvin_mendez@hotmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6861350094','29909','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CESAR ELIGIO CHACON ALVARADO                                                    ','chacon.creativo@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','646 140 6372  ','29910','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MELISSA ACUÑA VILLELA                                                           ','homecleanserviciosintegrales@gmail.com                      ',true,NULL,'','2024-08-11 00:08:51.000451','686 557 24 08 ','29911','686 292 78 32 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERV INDUSTRIAL SA DE CV                                                        ','cotizaciones3@serv-industrial.com.mx                        ',true,NULL,'','2024-08-11 00:08:51.000451','81 83 72 83 79','29912','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JAVIER QUIROZ ALMARAZ                                                           ','qmconsultores4@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','55 22455732   ','29913','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DIAZ CARO ARMANDO                                                               ','armando.diaz@mx-energia.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6869469669','29914','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SOLUCIONES TECNOLOGICAS CC, S. DE R.L. DE C.V.                                  ','cesar@soluciones.cc                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686 567-36-61 ','29916','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARMEN MIDORI HIRATA CARLOS                                                     ','midoridg@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','6861865936','29917','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CHEMICAL CREATIVE DE MÉXICO, S. DE R.L. DE C.V.                                 ','chemical_creative@hotmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','686-565-0233  ','29918','686-564-5341  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'KARINA SUELLEN RUBIO FLORES                                                     ','kr.crsoluciones@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','646 121 8155  ','29919','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BRISA VIRIDIANA GOMEZ PINO                                                      ','brisagomez@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6862432364','29920','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE ARMANDO RUIZ MARTINEZ                                                      ','suministrosrr@outlook.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6863517412','29921','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARTIN ANGUIANO VELAZQUEZ                                                       ','contacto@baja-fab.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','2529540','29922','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CHARTI TECHNIC, S.A.P.I. DE C.V.                                                ','francisco@floresmeyer.com.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','55 55 15 76 61','29923','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'UNIVERSIDAD AUTONOMA DE NUEVO LEON                                              ','lucero.cavazos@uanl.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','83294021','29925','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SARA VICTORIA PEREA MILLAN                                                      ','rafaelpintor@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6861907441','29926','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TOVAR ALFOMBRAS Y ACABADOS, S. DE R.L. DE C.V.                                  ','tovaralfombrasyacabados@hotmail.com                         ',true,NULL,'','2024-08-11 00:08:51.000451','686 556 77 18 ','29927','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LOURDES MONSERRAT MEZA TREJO                                                    ','lmezatrejo64@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6861524085','29928','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA CULTURAL Y EDUCATIVA S.A. DE C.V.                              ','al@c-ce.com.mx                                              ',true,NULL,'','2024-08-11 00:08:51.000451','55 21564475   ','29930','55 21563458   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERVICIOS SANITARIOS Y ECOLOGICOS DE MEXICALI, S.A DE C.V.                      ','diasanservicios@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6864885708','29931','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARLOS EDUARDO REYES CASTRO                                                     ','factura@soundfest.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6869465655','29932','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'WILBERT RUBIO PECASSO                                                           ','trebliw.pecasso@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','646-102-0172  ','29933','646-205-1294  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIA ISABEL CARREÑO GALAVIZ                                                    ','gusgerindustrial@outlook.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','6865559000','29935','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BIORGANIX MEXICANA S.A DE C.V.                                                  ','biorganix@biorganix.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','844 488 26 27 ','29938','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MEMBRANAS PLASTICS INTERNACIONALES, S.A DE C.V.                                 ','ivan.c@megaplast.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686 115 11 17 ','29939','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BUFETE DE INGENIERIA BIPO SC                                                    ','israelmxli@yahoo.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6865775786','29940','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ELIZABETH DEL ROSARIO CRUZ MORALES                                              ','vigitron_dsc@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','646 176 00 22 ','29941','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FRANCISCO JAVIER JURADO HERNANDEZ                                               ','contacto@disenosweb.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','614 177 7474  ','29942','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARVIS CALDERAS S. DE R.L. DE C.V.                                              ','mayra.ruiz@carviscalderas.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','557-5060      ','29943','686/116-5153  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RICARDO GUZMAN GOMEZ                                                            ','hoycia99@gmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','686 5140094   ','29944','686 1193176   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'3DIZAMOS TUS IDEAS S.A. DE C.V.                                                 ','lesly@3delta.com.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','55 18 01 75 87','29945','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE RAMON AHUMADA LOPEZ                                                        ','higueralmada1@hotmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6863907058','29948','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CONTRERAS RIVERA OSCAR                                                          ','creditoycobranzamaster@outlook.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','6862371159','29949','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RED OTT MEXICO, A.C.                                                            ','marisol@redott.mx                                           ',true,NULL,'','2024-08-11 00:08:51.000451','5558189201','29952','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SALVADOR SALCIDO GARCIA                                                         ','uniformesjazmin1@hotmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','686 290-22-57 ','29953','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROCESOS Y SERVICIOS DEL VALLE S DE RL DE CV                                    ','psvmxl@gmail.com                                            ',true,NULL,'','2024-08-11 00:08:51.000451','6869468002','29958','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO MORAVI, S.A. DE C.V.                                                      ','sarai.romero@grupomoravi.com.mx                             ',true,NULL,'','2024-08-11 00:08:51.000451','664 626 68 04 ','29959','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CORPORATIVO PROVEEDOR DE EQUIPOS Y SERVICIOS PARA LABORATORIO SA DE CV          ','pflores@copresel.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','2221796572','29960','5564131692');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DAFNE VARGAS DIAZ                                                               ','jesusnava@gmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686 252-42-81 ','29961','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARLOS ENRIQUE RAMIREZ ARREDONDO                                                ','inshospb@outlook.coom                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686 5545882   ','29967','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ROVA SPORTS, S. DE R.L. DE C.V.                                                 ','admon@rovasports.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','3318177070','29968','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TERRERROS ORTIZ MARIA BLANCA VIRGINIA                                           ','proveedormedico@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686 565-27-94 ','29969','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDGAR ADRIAN MEDEL ESPINOZA                                                     ','emedel670@gmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','6862643999','29971','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ENERGIA Y CONFORT DEL NOROESTE S DE RL DE CV                                    ','karla.energiayconfort@gmail.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','5565362','29972','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FANNY TELMA VERGARA DIAZ                                                        ','fvergara@fioreexpert.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','3 3339686925  ','29973','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MINDFLEX, S.A. DE C.V.                                                          ','rgarza@mindflex.mx                                          ',true,NULL,'','2024-08-11 00:08:51.000451','(664) 282 9217','29974','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ENVASES MV, S. DE R.L. DE C.V.                                                  ','ventasenvasesmv@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686 566-91-66 ','29975','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DENOGAL S.A. DE C.V.                                                            ','fdenogal@gmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','664 207 23 55 ','29978','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FRANCISCO JAVIER GONZALEZ ROSAS                                                 ','arasolutions.sales@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','6461377239','29979','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ADQUISICION Y DISTRIBUCION DE EMPAQUES Y HERRAMIENTAS INDUSTRIALE, S. DE R.L. DE','ventas-ad-industrial@hotmail.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','686 261-72-32 ','29980','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DAFROS MULTISERVICIOS R V H, S.A. DE C.V.                                       ','gaguilar@dafros.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','5552642782','29984','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BENJAMIN GARCÍA MONTOYA                                                         ','gamoben@yahoo.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','6861810210','29985','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RANCHO AMACA SPR DE RL                                                          ','rancho.amaca@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6865234630','29987','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANA VALERIA COBOS DUEÑAS                                                        ','pinturasmarvak@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6461077856','29988','6462762530'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RANCHO BAL-MAR S.P.R.  DE R.L                                                   ','imacrijes18a@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6862799465','29989','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VERBIS ET ARS SAS DE CV                                                         ','ravt@babeldgt.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','5584216528','29990','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BIOACTMEX, S. DE R.L. DE C.V.                                                   ','fernando@bamexindustries.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','6865561569','29992','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FRANCISCO MACIAS GAMBOA                                                         ','maciasmxli@gmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','6865663144','29997','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INDUSTRIAL DISTRIBUIDORA NANSA, S.A DE C.V                                      ','raul.marquez@industrialnansa.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','686-561-8844  ','29999','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ELSA FONSECA SANCHEZ                                                            ','fonsecaelsa@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','5222553','30000','5569229'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ZLH SOLUCIONES S. DE RL CV                                                      ','christian.garcia@zlhsoluciones.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','664 7585910   ','30001','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RUBEN LEON UREÑA                                                                ','apontecomercializadora@gmail.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','646 272 64 44 ','30003','646 203 49 20 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INSUMOS Y ACCESORIOS CIENTIFICOS S.A. DE C.V.                                   ','iacsadf@yahoo.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','5526151873','30005','5556664149'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INSTALACIONES BIOCLIMATICAS, S.A.S DE C.V.                                      ','instalacionesbioclimaticas@gmail.com                        ',true,NULL,'','2024-08-11 00:08:51.000451','686 221-44-10 ','30006','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BOTTEGA GRAFICA  S.R.L. DE C.V                                                  ','contacto@bottegagrafica.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','5643815','30008','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SNL, S. DE R.L. DE C.V.                                                         ','jchavez@gn-corp.com.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','664 647 8200  ','30009','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SNL, S. DE R.L. DE C.V.                                                         ','jchavez@gn-corp.com.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','664 647 8200  ','30009','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SOLUCIONES EN IMPRESION E INSTALACION S.A. DE C.V.                              ','admonllanito.print@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','664-607-1680  ','30013','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GABRIELA DE LA PAZ ZAMORANO                                                     ','planchaverde@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6646974165','30014','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BERENICE HARO PERDOMO                                                           ','estratega@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6862250794','30015','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AM EDITORES S.A DE C.V.                                                         ','ecastillo@ameditores.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','5552580279','30016','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA E IMPORTADORA DE PRODUCTOS QUIMICOS, S.A. DE C.V.              ','jfgonzalez@cipquim.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','55-57-86-1744 ','30017','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FLORESKA VILLA GUERRERO SA DE CV                                                ','apuebla.floreska@outlook.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','714 1462166   ','30018','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JAV MINERALES Y NUTRIENTES SA DE CV                                             ','javmn@prodigy.net.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','6622184039','30019','6622189108'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LABEQUIM SA DE CV                                                               ','jpltres@yahoo.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','6647487227','30020','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA LAJES  S.A DE C.V                                              ','luis.valdez@muevetec.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','5562365498','30021','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BERTHA SILVIA CELAYA BURRUEL                                                    ','facturas@procoat.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686 252-02-43 ','30022','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JESUS JAREK OROZCO MARTINEZ                                                     ','tallergrafico1720@gmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6862550843','30023','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ELECTRONEON S DE RL DE C.V                                                      ','facturacion.electroneon@gmail.com                           ',true,NULL,'','2024-08-11 00:08:51.000451','6865809595','30024','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CYC VETERINARIA S.A DE C.V                                                      ','fvcasaycampo@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6865925792','30025','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ELIZABETH GUERRERO MORENO                                                       ','elizabethguerreromoreno@gmail.com                           ',true,NULL,'','2024-08-11 00:08:51.000451','686 1883340   ','30027','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OXFORD UNIVERSITY PRESS MEXICO                                                  ','guadalupe.vargas@oup.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','5555924277','30029','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMPUCAD SA DE CV                                                               ','karen.almaraz@compucad.com.mx                               ',true,NULL,'','2024-08-11 00:08:51.000451','3336169415','30030','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TROPICAL HONEY COMPANY, S.A. DE C.V.                                            ','planta@tropicalhoney.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','999-135-5706  ','30031','999-246-9006  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE ANGEL CASTILLO CASTILLO                                                    ','llanteraelmoreno@hotmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','686-840-9912  ','30032','686-221-2769  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JUAN ALBERTO ÁLVAREZ TORRES                                                     ','hogarelegante@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686 2 02-22-12','30034','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PRODUCTORA GONMIR, S.P.R. DE R.L. DE C.V.                                       ','jesusadolfo@gmlegal.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','686-305-0794  ','30035','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MICHELLE GODOY MUÑOZ                                                            ','michellegm@live.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','6642331527','30037','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DAMIREP, S. DE R.L. DE C.V.                                                     ','ventas.damirep@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6862518058','30038','312-144-5113  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SUNBIRD, S.A. DE C.V.                                                           ','servicio@sunbirdict.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','55-2165-4505  ','30039','55-1914-8988  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALMA ANGELINA LOPEZ VALENZUELA                                                  ','distribuidoralopez.mxli@gmail.com                           ',true,NULL,'','2024-08-11 00:08:51.000451','686 272-33-52 ','30040','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AGUSTIN LOPEZ AVILA                                                             ','santiagopulido56@gmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6863932629','30041','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JESUS JAUREGUI OLIVARES                                                         ','jjauregui_o@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6862339223','30043','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TACTICAL SOLUTIONS BODY ARMOR, S.A DE C.V.                                      ','tacticalsolutionsmxl@hotmail.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','686 554-86-38 ','30044','686 117-72-89 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDDY GUADALUPE LOPEZ MONREAL                                                    ','macfacturacion24@gmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686164-0330   ','30045','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JUSTO ALBERTO DUEÑEZ OJEDA                                                      ','justojrduenez@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686-946-1810  ','30046','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MANUEL FRANCISCO AYALA BERUMEN                                                  ','vetelrodeof1@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','661-6135207   ','30048','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'KEVIN RODRIGUEZ HEREDIA                                                         ','kevin.rohk@gmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','6861511539','30049','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIA ELENA REYES REYNOSO                                                       ','zame5508@gmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','6861858500','30050','6865234041'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'E-ELECTRONICS AND OPTICAL, S.A DE C.V.                                          ','toolsenlinea@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6862242499','30052','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JESUS ABRAHAM DIMAS MARTINEZ                                                    ','anajulia@vimetel.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686280-2150   ','30054','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EFFEPIZETA DE MEXICO, S DE RL DE CV                                             ','arturo.cante@fpz.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','3336343215','30056','3312043574'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PASCUAL ESTRADA VALADEZ                                                         ','taller.timesa@yahoo.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6461494187','30057','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SUMINISTROS DE VALORES, S.A. DE C.V.                                            ','admon@suministrosdevaloreas.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','81 10946630   ','30058','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FILEMON MACIAS REYES                                                            ','mmonservices@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','686 406-86-08 ','30059','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BRENDA OFELIA RODRIGUEZ MARQUEZ                                                 ','fraga778@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','6865650004','30063','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FABIOLA MARQUEZ MONTOYA                                                         ','fabye.14@gmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','664-327-1461  ','30065','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SIS IMPULSORA TECNOLOGICA S.A. DE C.V.                                          ','omar@sistemax.net                                           ',true,NULL,'','2024-08-11 00:08:51.000451','664-624-0000  ','30066','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BRAMPIEL, S.A.  DE C.V.                                                         ','brampiel@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','3315240127','30067','33120001645'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARCO ANTONIO BAUTISTA RUIZ                                                     ','marcobautistaruiz@gmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','248-1004-311  ','30068','248-1861-520  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ROXANA VANESSA GONZALEZ FERREYRA                                                ','rvgferreyra@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','664-805-6660  ','30069','664-370-2003  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDEN GADIEL GARCIA RIOS                                                         ','lobinasonorense@hotmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','662-167-5717  ','30074','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PABLO DANIEL RODRIGUEZ RINCON                                                   ','danniee_5@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686-174-9438  ','30075','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AGENCIA BR DE S DE RL DE CV                                                     ','electricidad_agenciabr@hotmail.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','6461976312','30076','6462725681'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BGF CONSTRUCCIONES, S. DE R.L. DE C.V.                                          ','benitogf1@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686-569-8238  ','30077','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VENTA Y REPARACION DE EQUIPO BIOMEDICO BIOMAIN, S. DE R.L. DE C.V.              ','edgarag87@gmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686-120-0090  ','30078','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIA MONSERRAT MARTINEZ LEON                                                   ','monymonsse@hotmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','653-119-0882  ','30079','653-849-5359  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SOLUCION EN VOZ Y DATOS DE MEXICALI, S. DE R.L. DE C.V.                         ','ventas@svdmexicali.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','686-327-0238  ','30080','686-105-6536  ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AMBSIL, S.A. DE C.V.                                                            ','gerenciamxl@ambientessil.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','686-251-0975  ','30081','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EQUIPESCA DE OBREGON SA DE CV                                                   ','dojeda@equipesca.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','6121499488','30082','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LAURA LIZETTE ROSALES ROSALES                                                   ','clean.off.mxli1@outlook.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6862214824','30083','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RAFAEL CARMONA FLORES                                                           ','ruvalcabas@outlook.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6862224094','30084','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RICARDO TAPIA PALOMERA                                                          ','alma.berrelleza@goaxp.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6469771155','30085','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FERNANDO REYNA CHAVEZ                                                           ','gerencia@maquijalmex.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','33-1663-8145  ','30089','33-1405-6527  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JULIO CESAR MARTINEZ CABRERA                                                    ','implementosbc@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686-318-9968  ','30090','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AIA PURITEC S RL DE CV                                                          ','rcanino@aiapuritec.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','646 947 5564  ','30091','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VANGUARDIA ACUARISTICA S.A. DE C.V.                                             ','cobranza@vanguardia-acuaristica.com                         ',true,NULL,'','2024-08-11 00:08:51.000451','33-31-45-28-60','30093','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDICIONES COMUNICACION CIENTIFICA, S.A. DE C.V.                                 ','contacomunicacioncientifica@gmail.com                       ',true,NULL,'','2024-08-11 00:08:51.000451','55-5696-6541  ','30094','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VIANCA MARIA OCON ACOSTA                                                        ','otechnology20@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686-168-1275  ','30095','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PEDRO HURTADO RIVERA                                                            ','sbonilla@bicom.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686-477-7974  ','30096','686-262-5275  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOEL MONTEJANO VELASCO                                                          ','jelmontejano@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','646 2868461   ','30098','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PC BEYOND S.A. DE C.V.                                                          ','ventas@pcbeyond.net                                         ',true,NULL,'','2024-08-11 00:08:51.000451','2263 4617, 196','30101','8378 4576     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LABORATORIO DE ANALISIS CLINICOS Y PATOLOGIA VETERINARIA DE LA LAGUNA, S.C.     ','lacpvlaguna@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','87-1715-7318  ','30102','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SEMILLAS Y GRANOS AGROPECUARIOS R Y N, S.P.R. DE R.L.                           ','semillasygranos15@hotmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','658-514-4546  ','30103','686-134-5679  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DYCELAB, S.A. DE C.V.                                                           ','contacto@dycelab.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','55-8880-4060  ','30106','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ISAAC COLMENARES MORAN                                                          ','maquinadosicmi@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','686-568-9165  ','30108','686-271-8105  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SUNWISE, S.A.P.I. DE C.V.                                                       ','eric@sunwise.io                                             ',true,NULL,'','2024-08-11 00:08:51.000451','8110-805-118  ','30110','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ESTRUCTURAS Y ACABADOS ASEPTICO EFICIENTES, S.A. DE C.V.                        ','sayala@superficies-eficientes.com                           ',true,NULL,'','2024-08-11 00:08:51.000451','686-553-3875  ','30111','686-277-2569  ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RED ACELERADA DEL NOROESTE, S. DE R.L. DE C.V.                                  ','red_facturas@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6862285958','30112','6862566221'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RAFAEL PADILLA ROMO                                                             ','grafoz@prodigy.net.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6865677969','30115','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JK SERVICIOS, S.A. DE C.V.                                                      ','clientesmxl@jkservicios.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686-562-6279  ','30116','686-562-6292  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SHELLY HAYDEE VILLA SANCHEZ                                                     ','shellyhvilla@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','33 1053 0564  ','30119','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GABRIEL GERARDO RODRIGUEZ CORTEZ                                                ','gabriel.rodriguez.cortez@gmail.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','686-170-4133  ','30121','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SANDRA PAULINA ESTAVILLO MEDINA                                                 ','dv-distribuidora@hotmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','686-479-8131  ','30122','686-479-8126  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANGOK CORPORATE SERVICES DE MEXICO, SC                                          ','mary.gonzalez@angokcorp.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686554-52-24  ','30123','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARLOS AUGUSTO MACIAS PEÑA                                                      ','liccarlosmacias333@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','686-261-3569  ','30125','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HORTENCIA GUADALUPE MITRE FELIX                                                 ','maqelectrica@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6461781037','30127','6462108507'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DANIEL ALBERTO DIAZ GUZMAN                                                      ','danyguzman70@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6461747744','30128','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EQUIVER SA DE CV                                                                ','contacto@equiver.com.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','52 5212 0652  ','30135','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERVICIOS ESPECIALIZADOS PARA LABORATORIOS CLINICOS E INDUSTRIALES, SA DE CV.   ','administración@selci.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','3336631408','30137','3336632593'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JUAN FRANCISCO KING TONELLA                                                     ','kikoking@gmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','686 5433417   ','30138','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ELEARNING SOLUTIONS COMPANY, S. DE R.L. DE C.V.                                 ','patricia.cravea@netexlearning.com                           ',true,NULL,'','2024-08-11 00:08:51.000451','55-4164-3337  ','30141','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERGIO IVAN GALLARDO GONZALEZ                                                   ','tractopartestijuana.conta@gmail.com                         ',true,NULL,'','2024-08-11 00:08:51.000451','686-838-2134  ','30143','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SUNET TECNOLOGIAS AVANZADAS, S. DE R.L. DE C.V.                                 ','orlando.antunrez@sunet.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686-516-4757  ','30144','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IT GRUPO TECNOLOGICO S. DE R.L. DE C.V.                                         ','ventas@inovatec.mx                                          ',true,NULL,'','2024-08-11 00:08:51.000451','664-380-36-90 ','30146','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROCESOS RTY, S.A. DE C.V.                                                      ','yesenia.innovations@yahoo.com.mx                            ',true,NULL,'','2024-08-11 00:08:51.000451','664-216-08-93 ','30147','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MICROBIOLOGIA APLICADA S.A. DE C.V.                                             ','alejandra.rodriguez@microbiologia.com.mx                    ',true,NULL,'','2024-08-11 00:08:51.000451','333-665-1001  ','30148','EXT 204       '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE MANUEL MIRAMONTES SANCHEZ                                                  ','refrigeracion.co@hotmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','686-564-9717  ','30149','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RAUL ESTRADA GONZALEZ                                                           ','me_de_bc@yahoo.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','6646855228','30156','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ULTRACONGELACION, CONGELACION, REFRIGERACION Y AIRE ACONDICIONADO DE MEXICO, S.A','ucraam@gmail.com                                            ',true,NULL,'','2024-08-11 00:08:51.000451','55-1517-1121  ','30159','55-3643-2727  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EMMANUELLE RUELAS GOMEZ                                                         ','cyberruelas@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686-143-1004  ','30160','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IMPULSORA VETERINARIA PADISA, S.A. DE C.V.                                      ','armando.padilla@padisa.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','81-1481-4644  ','30161','81-2352-2800  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARLOS ALBERTO CASTRO LUNA                                                      ','carloscastroluna@outlook.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','686-238-4653  ','30164','686-556-1089  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIA ELENA LOPEZ COCHRAN                                                       ','servicom_ens@hotmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6462119272','30166','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JUAN CARLOS LOPEZ ONTIVEROS                                                     ','management@bboxcontainers.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','686-415-5132  ','30168','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIO Y SERVICIO PROFESIONAL SHAYADAB, S. DE R.L. DE C.V.                    ','magvacomercializadora@gmail.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','686-544-5444  ','30169','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JESUS DANIEL TORRES MEDINA                                                      ','torresmed66@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686-262-9862  ','30173','686-123-2189  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VIMIFOS, S.A. DE C.V.                                                           ','bcontreras@vimifos.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','644-410-9500  ','30174','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GERARDO AVILA PEREZ                                                             ','avgerard@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686-551-4219  ','30175','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SIDI CONSULTORES, S.A. DE C.V.                                                  ','administracion@sidiconsultores.com.mx                       ',true,NULL,'','2024-08-11 00:08:51.000451','81-1160-9474  ','30176','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANAYELI HERNANDEZ TORRES                                                        ','infojbxalapa@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','228 3180358   ','30182','228221777'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SCAEE SISTEMAS DE CONTROL Y AUTOMATIZACION SA DE CV                             ','contacto@scaee.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','644-415-3975  ','30189','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JAVIER URIBE DE PAZ                                                             ','javieruribedepaz@yahoo.com.mx                               ',true,NULL,'','2024-08-11 00:08:51.000451','55-5660-5146  ','30190','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EMPRECORP, S.C. DE C. DE R.L. DE C.V.                                           ','emprecorp2@gmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','686-552-2755  ','30191','686-196-9535  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IMPULSORA CULTURAL Y TECNOLOGICA, S.A. DE C.V.                                  ','ifigueroa@impulsoracultural.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','3339543723','30192','3320014545'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ESCIRE, S.A.                                                                    ','administracion@escire.net                                   ',true,NULL,'','2024-08-11 00:08:51.000451','2224479304','30193','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'KARLA GISELA HERNANDEZ HUERTA                                                   ','karlix.huerta@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','555-909-4352  ','30194','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INFORMACION BIBLIOTECAS Y SISTEMAS AVANZADOS, S.A. DE C.V.                      ','ventas@escire.mx                                            ',true,NULL,'','2024-08-11 00:08:51.000451','222-226-77-61 ','30195','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PUBLIREX MEXICALI, S.A. DE C.V.                                                 ','edith.pimentel@publirex.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6865526429','30196','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'M-C TODO PARA LABORATORIOS S. DE R.L. DE C.V.                                   ','vianey@mcrepresentaciones.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','664-686-5583  ','30197','664-971-0458  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ATL DIAGNOSTICOS, S.A. DE C.V.                                                  ','atlgdl@atlsadecv.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','(33) 3616-2469','30198','3616-9730     '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'KARLA JEANETTE RAMIREZ MUÑOZ                                                    ','comercialsteeldemexico@gmail.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','646 263 7740  ','30199','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INGENIERIA GEOFISCA Y SISTEMAS SA DE CV                                         ','ventas@igsmex.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','5550866187','30200','5550866188'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DANIEL RICARDO OROZCO PADILLA                                                   ','dorozco@orvamexico.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6644379107','30203','6465748366'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SAFADOS, S.A DE C.V.                                                            ','direccion@safados.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6862214259','30204','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OSCAR JONY GARCIA SANTIAGO                                                      ','oscar.garcia@ecgm.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','686-245-4288  ','30205','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ESPINOZA GUERRERO GUADALUPE                                                     ','sherwinvista21@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6465961828','30206','6461035944'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARLOS ADRIAN DIAZ CAMPAS                                                       ','3puntoscolorurbano@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','6861969292','30208','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANA SARAI HERNANDEZ RUBIO                                                       ','hr.etiquetas@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','664-280-9431  ','30211','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CLIMATIZACION Y TECNOLOGIA DE ENFRIAMIENTO DEL NOROESTE, SA DE CV               ','fernandonavarro@climatechmx.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','686-567-53-88 ','30212','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROTECH MEDICAL SUPPLY, S.A. DE C.V.                                            ','contabilidad@protechmedical.mx                              ',true,NULL,'','2024-08-11 00:08:51.000451','760-595-7046  ','30213','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PUNTO DE CLAVE PUBICIDAD INTELIGENTE, S. DE R.L. DE C.V.                        ','abril@puntoclavepublicidad.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','686 5643587   ','30215','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GLOBAL TELECOMUNICATION GROUP S.A. DE C.V.                                      ','cjuarez@global-tg.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','222 271 6206  ','30216','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BITS DESARROLLO E INGENIERIA IT, SC                                             ','vulcero@bits.com.nx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','6144333867','30217','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MANUEL MAXIMILIANO GALINDO CARRILLO                                             ','electricafase@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','(686) 567-6811','30218','6862169286'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JESUS ALMODOVAR FELIX                                                           ','jalmodovr@outlook.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686 138 43 35 ','30220','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DIMUPA, S. DE R.L. DE C.V.                                                      ','ventas.dimupa@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686 580-21-06 ','30221','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EB INTERNACIONAL, S.A. DE C.V.                                                  ','tienda@ebodm.com                                            ',true,NULL,'','2024-08-11 00:08:51.000451','664 637-4514  ','30222','664 637-3033  ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARLOS ERNESTO INDA  GONZALEZ                                                   ','puntoyseguido@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686 565-35-29 ','30223','686 141-80-41 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE RAMON GARCIA OVALLES                                                       ','jrgarcia.scmi@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686-265-2899  ','30225','686-114-6008  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE RAMON GARCIA ATTOLICO                                                      ','jrgarcia.scmi@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686-265-2899  ','30226','686-114-6008  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISEÑO Y EDIFICACION SUSTENTABLE, S.A. DE C.V.                                  ','dis.ed.sustentable@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','83354283','30227','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CLIMAS Y ENERGIAS ALTERNAS, S. DE R.L. DE C.V.                                  ','ramirotec55@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6865617444','30229','6865616666'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TECNOLOGIA DE DISEÑO INTEGRAL, S.A. DE C.V.                                     ','contacto@tditecnologia.com.mx                               ',true,NULL,'','2024-08-11 00:08:51.000451','551-828-5172  ','30231','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COLORPLUS3D S DE R.L. DE C.V.                                                   ','ventasmexico@colorplus3d.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','8000033123','30236','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AYRE DE MEXICO, S.A. DE C.V.                                                    ','ayre@ayre.com.mx                                            ',true,NULL,'','2024-08-11 00:08:51.000451','686-554-50-26 ','30237','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'KARLA IVETTE GONZALEZ CASTRO                                                    ','ki.castro@perfilesuniformes.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','646-176-4696  ','30238','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JESUS ANTONIO URIAS CINCO                                                       ','tonycinko@gmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','6860576-88-95 ','30239','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VAKMO TECHNOLOGIES, S.A. DE C.V.                                                ','vakmo.ventas@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6861637588','30240','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CAPABILITY BOOSTERS, S.A. DE C.V.                                               ','dodriguez@cpboosters.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','55 15902672   ','30242','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TOPIGS NORSVIN MÉXICO, S.A. DE C.V.                                             ','oficinass@topigsnorsvin.com.mx                              ',true,NULL,'','2024-08-11 00:08:51.000451','3787826200','30244','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARTIN DE JESUS YAÑEZ  CHIRINO                                                  ','martinjchirino@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','5527584616','30245','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALEJANDRO MORALES BECERRA                                                       ','contabilidad@soluciones-inteligentes.com                    ',true,NULL,'','2024-08-11 00:08:51.000451','686 554-30-25 ','30246','686 121-23-08 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALEJANDRO RAFAEL ROJAS  SOLER                                                   ','arojas@satinet.mx                                           ',true,NULL,'','2024-08-11 00:08:51.000451','686946-6538   ','30247','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARLA DANIELA LOPEZ GARCIA                                                      ','ohdamnitdanny@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6861121286','30248','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERVICIO Y VENTA DE INSUMOS MÉDICOS ESPECIALIZADOS, S.A. DE C.V.                ','valonso@sevime.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','6862083603','30249','5555895120'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARCELO MOLINA GIL                                                              ','distconocimientoycultura@gmail.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','55-4352-3746  ','30250','55-8652-2851  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EVA CAROLINA CONTRERAS SANCHEZ                                                  ','eva.contreras@uabc.edu.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6864152305','30253','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORA COVADESK, S.A. DE C.V.                                            ','luis.arias@bcequipos.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','3319922514','30254','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EASEUS                                                                          ','info@checkout.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','0-00          ','30255','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'YUSBIZARETH CORONADO CERVANTES                                                  ','centraldeextinguidores@outlook.com                          ',true,NULL,'','2024-08-11 00:08:51.000451','6868387520','30256','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MIGUEL ANGEL LUELMO LIZARRAGA                                                   ','overtime.mxl@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','686 153-23-91 ','30257','686 347-76-81 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BIO RESEARCH  IMPORTACIONES, S.A. DE C.V.                                       ','rita@ebioresearch.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','55 55 32 56 49','30259','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROMOTORA AGROPECUARIA DEL NOROESTE, S. DE R.L. DE C.V.                         ','rcorona@proagro.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','6865911582','30260','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MICROANALISIS S.A. DE C.V.                                                      ','ventas@microanalisis.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','555-660-9828  ','30266','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'STEREOREY MEXICO, S.A.                                                          ','arubio@mvs.com                                              ',true,NULL,'','2024-08-11 00:08:51.000451','686 5580099   ','30268','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROYECTOS E INTEGRACIONES TECNOLOGICAS S.A. DE C.V.                             ','alejandro.peralta@proitsa.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','557-022-2150  ','30269','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARLOS ARMANDO VINDIOLA GONZALEZ                                                ','vindiolaferreteria@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','6161652415','30270','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PABLO DANIEL LASTRA MERCADO                                                     ','macacci@outlook.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','6865664961','30272','6861352090'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BUSCA TODO.COM, S. DE R.L. DE C.V.                                              ','veronica.guerrero@buscacorp.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','664 2002213   ','30274','664 191 6808  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VANESSA SAAVEDRA  NAVARRETE                                                     ','centrodeeducacioncontinuaening@gmail.com                    ',true,NULL,'','2024-08-11 00:08:51.000451','6862994033','30275','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE ALEJANDRO ANGULO VILLAVICENCIO                                             ','karenzazueta.dvmardecortez@gmail.com                        ',true,NULL,'','2024-08-11 00:08:51.000451','6121697853','30277','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TODOS LOS LIBROS, S.A. DE C.V.                                                  ','felipe@tllibros.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','8113784125','30280','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALIGN DE MEXICO, S. DE R.L. DE C.V.                                             ','omaldonado@aligntech.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','5541807025','30281','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GAIA SANA SPR DE RL                                                             ','infogaiasana@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','7712192049','30282','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RADIOTELEVISORA DE MEXICALI, S.A. DE C.V.                                       ','jhnaguloa@radiopolis.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6865574007','30283','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TRP SUPERTIENDAS, S. DE R.L. DE C.V.                                            ','ventasmxli@trptiendas.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6865809589','30285','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BLANCA FLOR CANO YAÑEZ                                                          ','bcano50@yahoo.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','6863548052','30288','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'KARLA DANIELA GALLEGOS VILLARREAL                                               ','colorincoloradomxli@gmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','6865654244','30289','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BIOSPACE LATIN AMERICA, S. DE R.L. DE C.V.                                      ','karla.perez@inbody.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','5550250147','30290','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CONSTRUCCIONES ELECTROMECANICAS ROJO S. DE R.L. DE C.V.                         ','construcciones.rojo@hotmail.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','6461734525','30291','6461734526'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA Y DISTRIBUIDORA MB, S.A. DE C.V.                               ','america.aguila@medicalbuy.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','5584253451','30293','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TESLA AUTOMOBILES SALES AND SERVICE MEXICO, S. DE R.L. DE C.V.                  ','mgonzalezguerra@tesla.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','5281 41704099 ','30296','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'REFACCIONES Y ACCESORIOS LOUBET SA DE CV                                        ','ventasensenada@loubet.com.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','6461772455','30299','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HASHEMLAB INDUSTRIAL S. DE R.L. DE C.V.                                         ','saul.salgado18@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6643648686','30300','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALEJANDRA GARRIDO SANTOS                                                        ','alejandra@literalia.mx                                      ',true,NULL,'','2024-08-11 00:08:51.000451','554 4305124   ','30302','554 0565668   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE CARLO MACEDO CARRANCO                                                      ','cmacedo@uabc.edu.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','6864213899','30303','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JORGE LUIS SOTO SOLANO                                                          ','dimedmx@hotmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686 5697474   ','30305','686 5653220   ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ADRIANA LOPEZ ZAVALA                                                            ','basculasyservicios.mxl@gmail.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','6862011536','30307','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FARMACIA Y VETERINARIA DEL VALLE DE MEXICALI, S. DE R.L. DE C.V.                ','rcorona@proagro.mx                                          ',true,NULL,'','2024-08-11 00:08:51.000451','686 520 05 11 ','30309','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ISRAEL LICONA CONTRERAS                                                         ','bajaindustriales@gmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','664 370 2992  ','30311','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CLEAN EXPRESS DE BAJA CALIFORNIA                                                ','info@cleanexpressbc.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6461773198','30312','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PATRICIA BRAVO ROMO                                                             ','productosswipe2011@hotmail.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','68605564466','30313','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'OTH INTERNATIONAL, S. DE RL. D C.V.                                             ','ventas@oth.com.mx                                           ',true,NULL,'','2024-08-11 00:08:51.000451','686 1046677   ','30314','686 3101595   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VIVIANA DELFIN VAZQUEZ                                                          ','javier.trujillo@dsiintegra.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','686 253 8197  ','30315','686250 95 18  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FAVELAB S.A. DE C.V.                                                            ','ventas1.mxl@favelab.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6863607017','30316','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SVE SOLUCIONES S.A. DE C.V.                                                     ','sve.soluciones@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','442-438-3322  ','30317','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SANTOS MEZA HERAS                                                               ','ing.santosmeza@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6865729104','30318','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE ALONSO FUKUY MARTINEZ                                                      ','rocio.f@thog.com.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686 554-46-27 ','30319','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LEONARDO EUFEMIO REYES ZAVALA                                                   ','leonardoreyeszavala@gmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','613 113 36 05 ','30320','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CSG TECNOLOGÍA, S. DE R.L. DE C.V.                                              ','ventas@csgtecnologia.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6865274907','30321','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TH&O GROUP, S.A. DE C.V.                                                        ','rocio.f@thog.com.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686554-46-27  ','30322','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUFAC COMPUTACION SA DE CV                                                      ','charly_almaraz@lufac.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','5556785051','30326','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE SAFAR BOUERI                                                               ','anelgalindo71@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','5527413512','30329','5550883774'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INSUMOS CERVECEROS DEL SURESTE, S.A. DE C.V.                                    ','fatima.silva@beermex.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','3322649616','30330','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MACHINEWORLD, S. DE R.L. DE C.V.                                                ','ventasmxl@kaercher-center-mw.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','686 631 76 31 ','30335','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUIS ANGEL GARCIA ZAMORA                                                        ','luis_angelz28@hotmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','686 110 40 23 ','30336','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PRODYSERVMA SA DE CV                                                            ','gerenteventas@prodysolutions.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','664 4847097   ','30338','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CESAR AGUSTIN RAMOS MARAVEL                                                     ','ashpi.proyectos@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','(686)567-25-76','30340','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HOLA INNOVACION S.A. DE C.V.                                                    ','tzean@metrocarrier.com.mx                                   ',true,NULL,'','2024-08-11 00:08:51.000451','333-540-4748  ','30341','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'TELEFONIA POR CABLE S.A. DE C.V.                                                ','gsanchez@metrocarrier.com.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','339-690-00-40 ','30342','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'UNWTO THEMIS FOUNDATION                                                         ','tedqual@unwtoacademy.org                                    ',true,NULL,'','2024-08-11 00:08:51.000451','376802600','30344','376829955'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HI-TEC CNC MEXICO, S.A. DE C.V.                                                 ','servicio_nte@haas.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','55 41259100   ','30346','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HECTOR ISIDRO CORELLA VEGA                                                      ','hector@amantebrew.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686 554 40 60 ','30347','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'APICANTU SPR DE RL                                                              ','apicantu@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','6461542532','30349','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO EDUCATIVO MINERVA, S. DE R.L. DE C.V.                                     ','ventas.minervalibros@gmail.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','33 38521651   ','30350','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERGIO ANDRE ROMAN MORALES                                                      ','sroman@romsaindustrial.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6861383117','30351','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INGENIEROS ARQUITECTOS Y TECNICOS DE LA CONSTRUCCION, S.A. DE C.V.              ','iateco94@hotmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','6865547092','30352','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SYSCOLIN COMUNICACION Y SISTEMAS S.A. DE C.V.                                   ','asalinas@syscolin.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','664-622-4119  ','30356','664-440-8951  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BAJA PRINTER AND COMPUTER, SAS DE CV                                            ','jjaramillo@bajaprinterandcomputer.com                       ',true,NULL,'','2024-08-11 00:08:51.000451','6868431418','30357','6861120564'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOAQUIN ARMANDO CARDENAS URQUIDEZ                                               ','ventas@k-100.tech                                           ',true,NULL,'','2024-08-11 00:08:51.000451','6642349299','30358','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CATALINA NAVIDAD GUERRERO MARTINEZ                                              ','cubosigns.ventas@gmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6863707018','30359','6865617418'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'BRI BIORESEARCH, S.A. DE C.V.                                                   ','info@ebioresearch.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','55325649','30361','5554562457'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INTEGRACIÓN DE AREAS FUNCIONALES S.A. DE C.V.                                   ','info@isupply.com.mx                                         ',true,NULL,'','2024-08-11 00:08:51.000451','664-871-2730  ','30363','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DULCE YAZMIN RODRIGUEZ HERRERA                                                  ','ventas.mypa@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6462392029','30365','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FARIAS CASTRO NEREIDA ZIUMARA                                                   ','nereidafariasc@gmail.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','6462101656','30367','6461517269'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RODGAL MEDICO DENTAL, S.A. DE C.V.                                              ','direccion@rodgal.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','5557187204','30368','5528123273'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUIS ALEJANDRO GARZON GUTIERREZ                                                 ','aguatogomxl@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6862486876','30369','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE CARMEN NUÑEZ VINDIOLA                                                      ','jcforrajes7@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6862884570','30370','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'KAREN MICHELL ARAUJO CASTILLO                                                   ','cleaningsolutionmxl@gmail.com                               ',true,NULL,'','2024-08-11 00:08:51.000451','6861519339','30371','6863085343'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'V2 SERVICES, S. DE R.L. DE C.V.                                                 ','mmora@vlex.com                                              ',true,NULL,'','2024-08-11 00:08:51.000451','55 41697136 EX','30372','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INDUSTRIAS ESPECIALIZADAS OLIVA, S. DE R.L. DE C.V.                             ','info@ieso.com.mx                                            ',true,NULL,'','2024-08-11 00:08:51.000451','686 5 68-90-02','30374','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JOSE ALBERTO AGUIAR GUZMAN                                                      ','estrategaid@hotmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6865547070','30375','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'HECTOR RODRIGO SANCHEZ BAUTISTA                                                 ','hectorsanchezbautista@gmail.com                             ',true,NULL,'','2024-08-11 00:08:51.000451','9512365545','30376','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUIS ANGEL ZAMBADA ESPINOZA                                                     ','shito_138@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6865703306','30377','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JAVIER CIBRIAN CASTRO                                                           ','rossyberber@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6861800756','30381','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUCIONES Y REPRESENTACIONES ARRO, S . DE R.L. DE C.V.                     ','dist.arro@gmail.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','664 676 3012  ','30382','664 127 3515  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MAYRA JANETH AGUILLON QUINTERO                                                  ','sdsymas@gmail.com                                           ',true,NULL,'','2024-08-11 00:08:51.000451','6861944829','30383','6861052397');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'IRMA MARTINEZ HIDALGO                                                           ','irma.mhidalgo@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','5536519937','30384','5553866609'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CAROLINA VENTURA MELENDREZ                                                      ','venturamelendrezc@gmail.com                                 ',true,NULL,'','2024-08-11 00:08:51.000451','6862451086','30385','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO IMASU, S.A. DE C.V.                                                       ','mireya@grupoimasu.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','8183457884','30386','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MARIANA DENISSE CORTES MONTES                                                   ','hidrosservicios@gmail.com                                   ',true,NULL,'','2024-08-11 00:08:51.000451','6461730641','30389','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JESUS HERBEY HERNANDEZ RAYAS                                                    ','herbey.hernandez@uabc.edu.mx                                ',true,NULL,'','2024-08-11 00:08:51.000451','6862435534','30390','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MELISSA ABIGAIL REA JIMENEZ                                                     ','melissa.rea@uabc.edu.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','686 946 93 88 ','30392','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SICA MEDICION SA DE CV                                                          ','samaraf@sicamedicion.com.nx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','123123123','30393','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SERVICIOS CUTTER MEXICO, S.A. DE C.V.                                           ','cosorio@cutter.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','55 5336 04 18 ','30394','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'FERNANDO CARDENAS ESCOBAR                                                       ','fernando@segmex.mx                                          ',true,NULL,'','2024-08-11 00:08:51.000451','6861486220','30400','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CLAUDIA ANNEL PORTILLO FERNANDEZ                                                ','atencionpubd@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','5540021345','30402','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'AWALAB DE MEXICO S.A. DE C.V.                                                   ','televentas5@awalabdemexico.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','7646880942','30403','EXT 105       '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CARMEN GUADALUPE CORRALES FELIX                                                 ','carmen.corralesf@gmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','6862586610','30404','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMPULAND LA SOLUCION, S.A. DE C.V.                                             ','sugheyt@compulandmx.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6865149489','30405','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ANTHONY JOAN GUTIERREZ PATATUCHI                                                ','sensor.alarmas.ens@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','6461329987','30407','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'REDES SEGURAS BAJA, S. DE RL. DE C.V.                                           ','yanira.gonzalez@bajanet.lat                                 ',true,NULL,'','2024-08-11 00:08:51.000451','686 564-53-47 ','30411','686 216-10-03 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'VINAS PASINI S.A. DE C.V.                                                       ','vinaspasini@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','6461553189','30412','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO SATA , S.A. DE C.V.                                                       ','ventasgps@gruposata.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6865547511 EXT','30413','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EL ULTIMO GEEK, S.A. DE C.V.                                                    ','cristina@edvolution.io                                      ',true,NULL,'','2024-08-11 00:08:51.000451','55043984300','30414','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ARMANDO LEGASPY GALLARDO                                                        ','a.legaspy95@gmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','2281040853','30416','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'RICARDO HERRERA SANTAMARIA                                                      ','inycrediseno@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6862807710','30427','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PRESTA FUERZA DE HIDALGO S. C.                                                  ','nuhusehe@gmail.com                                          ',true,NULL,'','2024-08-11 00:08:51.000451','7715660477','30428','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'INSTITUTO NACIONAL PARA EL DESARROLLO Y LA CAPACITACION CORPORATIVA, S.C.       ','organismocertificador@indecc.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','664-6341840   ','30429','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MAPORRUA, S.A. DE C.V.                                                          ','maporrua@maporrua.com.mx                                    ',true,NULL,'','2024-08-11 00:08:51.000451','55 555 04225  ','30430','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'NIKON MEXICO S.A. DE C.V.                                                       ','sergio.tinoco@nikon.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','553-829-9321  ','30431','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMERCIALIZADORA SUNCATCHER DEL NORTE SAS                                       ','fco@suncatcher.com.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686592-68-25  ','30432','686113-62-82  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MA. MONICA GONZALEZ MENDOZA                                                     ','projektaevento@hotmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','664-674-5111  ','30434','664-6287667   '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'EDITORIAL DIKAIA, S.A DE C.V.                                                   ','guadalupe.vargas@dikaia.com.mx                              ',true,NULL,'','2024-08-11 00:08:51.000451','33 13 33 41 47','30436','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ICON INGENIERIA Y CONSTRUCCIONES DE BC. S.A.  DE C.V.                           ','iconcontabilidad@gmail.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','664-103-5066  ','30437','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CAPYMET S.A. DE C.V.                                                            ','ventqas.mexicali@capymet.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','686-2808933   ','30438','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUIDORA RAUL ARTEAGA, S.A. DE C.V.                                        ','ventas@dirasa.com.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','777 3174711   ','30439','777 3174522   ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DAVID FERNANDEZ HERNANDEZ                                                       ','sivorybaja66@gmail.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','664-680-4490  ','30440','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'MELVYS JERALDINY OLVERA HERNANDEZ                                               ','jonathan.espinoza118@hotmail.com                            ',true,NULL,'','2024-08-11 00:08:51.000451','6861097094','30441','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DISTRIBUCION TOPOGRAFICA DE MEXICO S.A. DE C.V.                                 ','olivia@dtmtopografia.com                                    ',true,NULL,'','2024-08-11 00:08:51.000451','667 7440910   ','30442','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'LUIS FERNANDO LOPEZ GONZALEZ ARANDA                                             ','flopez@rosferambiental.com.mx                               ',true,NULL,'','2024-08-11 00:08:51.000451','6562295172','30444','3326869895'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'CORPORATIVO MEDICA W S. DE R.L. DE C.V.                                         ','corporativo.medica@gmail.com                                ',true,NULL,'','2024-08-11 00:08:51.000451','6865572748','30447','6865917628'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SAMUEL ULISES LÓPEZ MORGADO                                                     ','samuel.tjentj@gmail.com                                     ',true,NULL,'','2024-08-11 00:08:51.000451','664-277-8804  ','30449','664-357-3502  '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'COMEDORES DE HOSPITALIDAD Y SERVICIO S.A. DE C.V.                               ','ventastj2@chsmx.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','664-180-8912  ','30451','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JESUS ENRIQUE NUÑEZ MENDEZ                                                      ','teyse2009@hotmail.com                                       ',true,NULL,'','2024-08-11 00:08:51.000451','686 333  0147 ','30457','686 333 01 49 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'REYNET SERVICES, S.A. DE C.V.                                                   ','erasmo.posada@reynet.com.mx                                 ',true,NULL,'','2024-08-11 00:08:51.000451','8180409409','30458','8180887031'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ESPERANZA ROMERO REAL                                                           ','facturasjoseluisdiaz@gmail.com                              ',true,NULL,'','2024-08-11 00:08:51.000451','646 205 0939  ','30459','              ');
-INSERT INTO supplier (active,created_by,created_date,last_modified_by,last_modified_date,address,company_description,company_name,email,enable,owner_names,owner_surname,register_date,supplier_cel_number,supplier_code,supplier_phone_number) VALUES
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'PROTETCO, S.A. DE C.V.                                                          ','julio.miranda@protetco.com                                  ',true,NULL,'','2024-08-11 00:08:51.000451','55 5559 2061  ','30460','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GRUPO RULEMA, S. DE R.L. DE C.V.                                                ','ventas@grulema.mx                                           ',true,NULL,'','2024-08-11 00:08:51.000451','686 554 41 41 ','30462','686 166 01 63 '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'JEANETT CONCEPCION ASCENCIO GUIDO                                               ','jenycony03@gmail.com                                        ',true,NULL,'','2024-08-11 00:08:51.000451','6461077384','30463','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ARMANDO MARGUERI GARCIA                                                         ','amk_dia@yahoo.com.mx                                        ',true,NULL,'','2024-08-11 00:08:51.000451','6862269731','30468','6861791091'),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'SISTEMAS DE IMPRESION MODERNAS, S.C. DE C. DE R.L. DE C.V.                      ','contabilidad@coloris.mx                                     ',true,NULL,'','2024-08-11 00:08:51.000451','6865660620','30475','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'GABRIEL FALCON AGUIRRE                                                          ','gfalcon@alphabooks.mx                                       ',true,NULL,'','2024-08-11 00:08:51.000451','8112153301','30477','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DP3 MEXICALI, S.A. DE C.V.                                                      ','infomxl@rupodp3.com                                         ',true,NULL,'','2024-08-11 00:08:51.000451','686 251 31 84 ','30480','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'DC LEARNING, S.A. DE C.V.                                                       ','gerencia@dclearning.com.mx                                  ',true,NULL,'','2024-08-11 00:08:51.000451','55 6802 8891  ','30481','              '),
-	 (true,NULL,NULL,NULL,NULL,NULL,NULL,'ALRA CONSTRUCCIONES, S.A. DE C.V.                                               ','alra.const@outlook.com                                      ',true,NULL,'','2024-08-11 00:08:51.000451','6646864854','30482','              ');
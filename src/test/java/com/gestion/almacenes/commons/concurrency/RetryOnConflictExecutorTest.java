@@ -0,0 +1,96 @@
+package com.gestion.almacenes.commons.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class RetryOnConflictExecutorTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private RetryOnConflictExecutor retryOnConflictExecutor;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    retryOnConflictExecutor = new RetryOnConflictExecutor(meterRegistry, 3, 0, 0);
+  }
+
+  @Test
+  void retriesConflictsUntilTheOperationSucceeds() {
+    AtomicInteger attempts = new AtomicInteger();
+
+    String result = retryOnConflictExecutor.execute("test", () -> {
+      if (attempts.incrementAndGet() < 3) {
+        throw new OptimisticLockingFailureException("conflicto");
+      }
+      return "ok";
+    });
+
+    assertEquals("ok", result);
+    assertEquals(3, attempts.get());
+    assertEquals(2, this.count(RetryOnConflictExecutor.METRIC_CONFLICTS));
+    assertEquals(2, this.count(RetryOnConflictExecutor.METRIC_RETRIES));
+    assertEquals(0, this.count(RetryOnConflictExecutor.METRIC_EXHAUSTED));
+  }
+
+  @Test
+  void throwsTheConflictWhenAttemptsAreExhausted() {
+    AtomicInteger attempts = new AtomicInteger();
+
+    assertThrows(OptimisticLockingFailureException.class,
+        () -> retryOnConflictExecutor.execute("test", () -> {
+          attempts.incrementAndGet();
+          throw new OptimisticLockingFailureException("conflicto");
+        }));
+
+    assertEquals(3, attempts.get());
+    assertEquals(3, this.count(RetryOnConflictExecutor.METRIC_CONFLICTS));
+    assertEquals(2, this.count(RetryOnConflictExecutor.METRIC_RETRIES));
+    assertEquals(1, this.count(RetryOnConflictExecutor.METRIC_EXHAUSTED));
+  }
+
+  @Test
+  void doesNotRetryOtherErrors() {
+    AtomicInteger attempts = new AtomicInteger();
+
+    assertThrows(IllegalStateException.class,
+        () -> retryOnConflictExecutor.execute("test", () -> {
+          attempts.incrementAndGet();
+          throw new IllegalStateException("error");
+        }));
+
+    assertEquals(1, attempts.get());
+    assertEquals(0, this.count(RetryOnConflictExecutor.METRIC_CONFLICTS));
+  }
+
+  @Test
+  void doesNotRetryInsideAnOpenTransaction() {
+    AtomicInteger attempts = new AtomicInteger();
+
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    try {
+      assertThrows(OptimisticLockingFailureException.class,
+          () -> retryOnConflictExecutor.execute("test", () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflicto");
+          }));
+    } finally {
+      TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    // El reintento le corresponde a quien abrio la transaccion
+    assertEquals(1, attempts.get());
+  }
+
+  private double count(String metric) {
+    return meterRegistry.find(metric).tag("operation", "test").counters().stream()
+        .mapToDouble(counter -> counter.count()).sum();
+  }
+
+}
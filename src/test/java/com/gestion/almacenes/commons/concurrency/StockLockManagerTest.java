@@ -0,0 +1,158 @@
+package com.gestion.almacenes.commons.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.gestion.almacenes.commons.concurrency.StockLockManager.StockLocks;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+
+class StockLockManagerTest {
+
+  private static final int STOCKS = 20;
+  private static final int THREADS = 16;
+  private static final int EXECUTIONS = 400;
+
+  /**
+   * Cientos de ejecuciones concurrentes con stocks superpuestos pedidos en cualquier orden: todas
+   * terminan (sin deadlock) y los saldos finales cuadran (sin actualizaciones perdidas)
+   */
+  @Test
+  void concurrentExecutionsKeepBalancesWithoutDeadlock() throws Exception {
+    StockLockManager stockLockManager = new StockLockManager(8, 5000);
+    int[] balances = new int[STOCKS];
+    int[] expected = new int[STOCKS];
+    List<List<StockKey>> executions = new ArrayList<>();
+    for (int i = 0; i < EXECUTIONS; i++) {
+      List<StockKey> stockKeys = new ArrayList<>();
+      ThreadLocalRandom.current().ints(4, 0, STOCKS).distinct().forEach(stock -> {
+        stockKeys.add(new StockKey(1, stock));
+        expected[stock]++;
+      });
+      Collections.shuffle(stockKeys);
+      executions.add(stockKeys);
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+    for (List<StockKey> stockKeys : executions) {
+      futures.add(executor.submit(() -> {
+        start.await();
+        try (StockLocks stockLocks = stockLockManager.lock(stockKeys)) {
+          for (StockKey stockKey : stockKeys) {
+            // Lectura y escritura separadas para que una carrera pierda actualizaciones
+            int balance = balances[stockKey.productId()];
+            Thread.yield();
+            balances[stockKey.productId()] = balance + 1;
+          }
+        }
+        return null;
+      }));
+    }
+    start.countDown();
+    for (Future<?> future : futures) {
+      future.get(30, TimeUnit.SECONDS);
+    }
+    executor.shutdown();
+
+    assertArrayEquals(expected, balances);
+  }
+
+  @Test
+  void stocksInTheSameStripeShareOneLock() throws Exception {
+    StockLockManager stockLockManager = new StockLockManager(1, 100);
+    StockKey stockKey = new StockKey(1, 1);
+
+    // Con una sola franja dos stocks distintos comparten el mismo bloqueo y se toma una vez
+    try (StockLocks stockLocks = stockLockManager.lock(List.of(stockKey, new StockKey(2, 2)))) {
+      assertThrows(CannotAcquireLockException.class, () -> this.lockInOtherThread(
+          stockLockManager, stockKey));
+    }
+
+    // Al cerrar se liberan todos los bloqueos
+    this.lockInOtherThread(stockLockManager, stockKey);
+  }
+
+  @Test
+  void lockTimesOutAndReleasesTheLocksAlreadyTaken() throws Exception {
+    StockLockManager stockLockManager = new StockLockManager(256, 50);
+    StockKey busy = new StockKey(1, 1);
+    StockKey free = this.keyInOtherStripe(busy);
+
+    try (StockLocks stockLocks = stockLockManager.lock(List.of(busy))) {
+      long started = System.nanoTime();
+      assertThrows(CannotAcquireLockException.class,
+          () -> this.lockInOtherThread(stockLockManager, busy, free));
+      assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) >= 50);
+    }
+
+    // El bloqueo tomado antes de fallar fue liberado
+    this.lockInOtherThread(stockLockManager, free);
+  }
+
+  @Test
+  void lockRereadsStockKeysUnderTheLock() {
+    StockLockManager stockLockManager = new StockLockManager(256, 50);
+    StockKey added = new StockKey(1, 2);
+    List<StockKey> stockKeys = new ArrayList<>(List.of(new StockKey(1, 1)));
+    AtomicInteger reads = new AtomicInteger();
+
+    // En la segunda lectura aparece un stock nuevo, se vuelve a bloquear con todos
+    try (StockLocks stockLocks = stockLockManager.lock(() -> {
+      if (reads.incrementAndGet() == 2) {
+        stockKeys.add(added);
+      }
+      return List.copyOf(stockKeys);
+    })) {
+      assertEquals(3, reads.get());
+      assertThrows(CannotAcquireLockException.class,
+          () -> this.lockInOtherThread(stockLockManager, added));
+    }
+  }
+
+  private void lockInOtherThread(StockLockManager stockLockManager, StockKey... stockKeys)
+      throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      executor.submit(() -> stockLockManager.lock(List.of(stockKeys)).close())
+          .get(5, TimeUnit.SECONDS);
+    } catch (ExecutionException exception) {
+      throw (Exception) exception.getCause();
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Busca un stock que caiga en otra franja, usando el propio bloqueo para comprobarlo
+   */
+  private StockKey keyInOtherStripe(StockKey stockKey) throws Exception {
+    StockLockManager probe = new StockLockManager(256, 1);
+    try (StockLocks stockLocks = probe.lock(List.of(stockKey))) {
+      for (int productId = 2; ; productId++) {
+        StockKey candidate = new StockKey(1, productId);
+        try {
+          this.lockInOtherThread(probe, candidate);
+          return candidate;
+        } catch (CannotAcquireLockException exception) {
+          // Misma franja, se prueba con el siguiente
+        }
+      }
+    }
+  }
+
+}
@@ -0,0 +1,87 @@
+package com.gestion.almacenes.commons.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.gestion.almacenes.commons.util.PagePojo;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+class MessageConverterConfigTest {
+
+  private final MessageConverterConfig messageConverterConfig = new MessageConverterConfig();
+
+  @Test
+  void binaryConvertersAnswerTheirMediaTypes() {
+    assertTrue(messageConverterConfig.cborHttpMessageConverter(Jackson2ObjectMapperBuilder.json())
+        .getSupportedMediaTypes().contains(MediaType.APPLICATION_CBOR));
+    assertTrue(messageConverterConfig.smileHttpMessageConverter(Jackson2ObjectMapperBuilder.json())
+        .getSupportedMediaTypes().contains(new MediaType("application", "x-jackson-smile")));
+  }
+
+  /**
+   * Una pagina de stocks debe leerse igual que en JSON y ocupar menos bytes
+   */
+  @Test
+  void binaryFormatsKeepTheContentInFewerBytes() throws IOException {
+    PagePojo<Map<String, Object>> page = this.stockPage(200);
+    byte[] json = this.write(new MappingJackson2HttpMessageConverter(
+        Jackson2ObjectMapperBuilder.json().build()), page);
+
+    for (AbstractJackson2HttpMessageConverter converter : List.of(
+        messageConverterConfig.cborHttpMessageConverter(Jackson2ObjectMapperBuilder.json()),
+        messageConverterConfig.smileHttpMessageConverter(Jackson2ObjectMapperBuilder.json()))) {
+      byte[] binary = this.write(converter, page);
+
+      assertTrue(binary.length < json.length,
+          converter.getClass().getSimpleName() + ": " + binary.length + " >= " + json.length);
+      assertEquals(this.read(new MappingJackson2HttpMessageConverter(
+              Jackson2ObjectMapperBuilder.json().build()), json),
+          this.read(converter, binary));
+    }
+  }
+
+  private PagePojo<Map<String, Object>> stockPage(int size) {
+    List<Map<String, Object>> content = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      Map<String, Object> stock = new LinkedHashMap<>();
+      stock.put("id", i);
+      stock.put("amountInStock", i * 1.5);
+      stock.put("storehouseId", i % 4);
+      stock.put("storehouseName", "Almacen central " + (i % 4));
+      stock.put("productId", i);
+      stock.put("productCode", "PRD-" + i);
+      stock.put("productName", "Producto de prueba " + i);
+      stock.put("unitMeasurementName", "Unidad");
+      stock.put("lastModifiedDate", LocalDate.of(2024, 1, 1).plusDays(i).toString());
+      content.add(stock);
+    }
+    return new PagePojo<>(content, false, 0, size, 5, size * 5L);
+  }
+
+  private byte[] write(AbstractJackson2HttpMessageConverter converter, Object body)
+      throws IOException {
+    MockHttpOutputMessage message = new MockHttpOutputMessage();
+    converter.write(body, converter.getSupportedMediaTypes().get(0), message);
+    return message.getBodyAsBytes();
+  }
+
+  private Object read(AbstractJackson2HttpMessageConverter converter, byte[] body)
+      throws IOException {
+    MockHttpInputMessage message = new MockHttpInputMessage(body);
+    message.getHeaders().setContentType(converter.getSupportedMediaTypes().get(0));
+    return converter.read(Map.class, message);
+  }
+
+}
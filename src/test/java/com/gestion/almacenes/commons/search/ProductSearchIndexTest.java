@@ -0,0 +1,98 @@
+package com.gestion.almacenes.commons.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.gestion.almacenes.commons.util.ProductSuggestionPojo;
+import com.gestion.almacenes.entities.Product;
+import com.gestion.almacenes.repositories.ProductRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ProductSearchIndexTest {
+
+  private ProductRepository productRepository;
+  private ProductSearchIndex productSearchIndex;
+
+  @BeforeEach
+  void setUp() {
+    productRepository = mock(ProductRepository.class);
+    productSearchIndex = new ProductSearchIndex(productRepository);
+    // Sin transaccion activa los cambios se aplican de inmediato
+    productSearchIndex.put(this.product(1, "TOR-001", "Tornillo hexagonal", "Acero inoxidable"));
+    productSearchIndex.put(this.product(2, "TUE-002", "Tuerca hexagonal", null));
+    productSearchIndex.put(this.product(3, "CAF-003", "Café molido", "Paquete de 500 g"));
+  }
+
+  @Test
+  void searchToleratesTyposAndPartialLastWord() {
+    assertEquals(List.of(1), this.ids(productSearchIndex.search("tornilo", 5)));
+    assertEquals(List.of(1), this.ids(productSearchIndex.search("torn", 5)));
+  }
+
+  @Test
+  void searchIgnoresCaseAccentsAndSeparators() {
+    assertEquals(List.of(3), this.ids(productSearchIndex.search("CAFE", 5)));
+    assertEquals(List.of(3), this.ids(productSearchIndex.search("caf_003", 5)));
+    assertEquals(List.of(1), this.ids(productSearchIndex.search("inoxidáble", 5)));
+  }
+
+  @Test
+  void searchRanksCodePrefixBeforeNameMatches() {
+    List<ProductSuggestionPojo> suggestions = productSearchIndex.search("hexagonal", 5);
+    assertEquals(2, suggestions.size());
+    // Mismo puntaje, se ordena por codigo
+    assertEquals(List.of(1, 2), this.ids(suggestions));
+    assertEquals(suggestions.get(0).getScore(), suggestions.get(1).getScore());
+
+    suggestions = productSearchIndex.search("tue", 5);
+    assertEquals(2, suggestions.get(0).getId());
+    assertTrue(suggestions.get(0).getScore() > 1);
+  }
+
+  @Test
+  void searchRespectsLimitAndIgnoresEmptyQueries() {
+    assertEquals(1, productSearchIndex.search("hexagonal", 1).size());
+    assertEquals(List.of(), productSearchIndex.search("  ", 5));
+    assertEquals(List.of(), productSearchIndex.search("hexagonal", 0));
+  }
+
+  @Test
+  void putReplacesAndRemoveDeletesTheProduct() {
+    productSearchIndex.put(this.product(1, "PER-001", "Perno", null));
+    assertEquals(List.of(), this.ids(productSearchIndex.search("tornillo", 5)));
+    assertEquals(List.of(1), this.ids(productSearchIndex.search("perno", 5)));
+
+    productSearchIndex.remove(2);
+    assertEquals(List.of(), this.ids(productSearchIndex.search("tuerca", 5)));
+  }
+
+  @Test
+  void repeatedUpdatesCompactTheIndexInMemory() {
+    for (int i = 0; i < 500; i++) {
+      productSearchIndex.put(this.product(1, "TOR-001", "Tornillo " + i, null));
+    }
+
+    assertEquals(List.of(1), this.ids(productSearchIndex.search("tornillo 499", 5)));
+    assertEquals(List.of(2), this.ids(productSearchIndex.search("tuerca", 5)));
+    assertEquals(List.of(3), this.ids(productSearchIndex.search("cafe", 5)));
+    verifyNoInteractions(productRepository);
+  }
+
+  private Product product(Integer id, String code, String name, String description) {
+    Product product = new Product();
+    product.setId(id);
+    product.setCode(code);
+    product.setName(name);
+    product.setDescription(description);
+    return product;
+  }
+
+  private List<Integer> ids(List<ProductSuggestionPojo> suggestions) {
+    return suggestions.stream().map(ProductSuggestionPojo::getId).toList();
+  }
+
+}
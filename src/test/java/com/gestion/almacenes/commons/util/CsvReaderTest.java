@@ -0,0 +1,46 @@
+package com.gestion.almacenes.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CsvReaderTest {
+
+  @Test
+  void readsSimpleRecordsAndEmptyFields() throws IOException {
+    CsvReader csvReader = new CsvReader(new StringReader("code;name;\nP-1;;Caja\n"), ';');
+
+    assertEquals(List.of("code", "name", ""), csvReader.readRecord());
+    assertEquals(List.of("P-1", "", "Caja"), csvReader.readRecord());
+    assertNull(csvReader.readRecord());
+  }
+
+  @Test
+  void readsQuotedFieldsWithSeparatorsQuotesAndLineBreaks() throws IOException {
+    CsvReader csvReader = new CsvReader(
+        new StringReader("\"a,b\",\"dijo \"\"hola\"\"\",\"linea 1\nlinea 2\"\nfin,x"), ',');
+
+    assertEquals(List.of("a,b", "dijo \"hola\"", "linea 1\nlinea 2"), csvReader.readRecord());
+    assertEquals(List.of("fin", "x"), csvReader.readRecord());
+    assertNull(csvReader.readRecord());
+  }
+
+  @Test
+  void acceptsWindowsLineEndingsAndTracksRecordLines() throws IOException {
+    CsvReader csvReader = new CsvReader(
+        new StringReader("a,b\r\n\"c\nd\",e\r\nf,g"), ',');
+
+    assertEquals(List.of("a", "b"), csvReader.readRecord());
+    assertEquals(1, csvReader.getLineNumber());
+    assertEquals(List.of("c\nd", "e"), csvReader.readRecord());
+    assertEquals(2, csvReader.getLineNumber());
+    assertEquals(List.of("f", "g"), csvReader.readRecord());
+    assertEquals(4, csvReader.getLineNumber());
+    assertNull(csvReader.readRecord());
+  }
+
+}
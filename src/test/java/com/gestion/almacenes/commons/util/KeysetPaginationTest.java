@@ -0,0 +1,99 @@
+package com.gestion.almacenes.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.gestion.almacenes.commons.exception.ValidationErrorException;
+import com.gestion.almacenes.entities.Product;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery;
+
+class KeysetPaginationTest {
+
+  private JpaSpecificationExecutor<Product> repository;
+  private ScrollPosition[] requested;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    repository = mock(JpaSpecificationExecutor.class);
+    requested = new ScrollPosition[1];
+    FetchableFluentQuery<Product> query = mock(FetchableFluentQuery.class, RETURNS_SELF);
+    when(query.scroll(any())).thenAnswer(invocation -> {
+      requested[0] = invocation.getArgument(0);
+      return Window.from(List.of(), index -> ScrollPosition.keyset(), false);
+    });
+    when(repository.findBy(any(Specification.class), any(Function.class))).thenAnswer(
+        invocation -> invocation.<Function<FetchableFluentQuery<Product>, Object>>getArgument(1)
+            .apply(query));
+  }
+
+  @Test
+  void nextCursorDecodesToTheLastRowKeys() {
+    Map<String, Object> keys = new LinkedHashMap<>();
+    keys.put("code", "P-10");
+    keys.put("id", 25);
+    Window<Product> window = Window.from(List.of(new Product(), new Product()),
+        index -> ScrollPosition.forward(index == 1 ? keys : Map.of("code", "P-01", "id", 3)),
+        true);
+
+    PagePojo<Product> page = KeysetPagination.fromWindow(window, 2);
+    assertFalse(page.isLast());
+    assertEquals(-1, page.getTotalElements());
+
+    KeysetPagination.scroll(repository, Product.class, null, 2, "code", "asc",
+        page.getNextCursor());
+    KeysetScrollPosition position = (KeysetScrollPosition) requested[0];
+    assertEquals(keys, position.getKeys());
+    // El id vuelve con el tipo del campo de la entidad
+    assertEquals(Integer.class, position.getKeys().get("id").getClass());
+  }
+
+  @Test
+  void lastWindowHasNoCursor() {
+    Window<Product> window = Window.from(List.of(new Product()),
+        index -> ScrollPosition.forward(Map.of("id", 1)), false);
+
+    PagePojo<Product> page = KeysetPagination.fromWindow(window, 10);
+    assertTrue(page.isLast());
+    assertNull(page.getNextCursor());
+  }
+
+  @Test
+  void emptyCursorStartsFromTheFirstRow() {
+    KeysetPagination.scroll(repository, Product.class, null, 10, "id", "desc", " ");
+
+    assertTrue(((KeysetScrollPosition) requested[0]).isInitial());
+  }
+
+  @Test
+  void invalidCursorIsRejected() {
+    assertThrows(ValidationErrorException.class, () -> KeysetPagination.scroll(repository,
+        Product.class, null, 10, "code", "asc", "no es un cursor"));
+
+    // Cursor generado para otro orden: no tiene el campo code
+    Window<Product> window = Window.from(List.of(new Product()),
+        index -> ScrollPosition.forward(Map.of("id", 1)), true);
+    String cursor = KeysetPagination.fromWindow(window, 1).getNextCursor();
+    assertThrows(ValidationErrorException.class, () -> KeysetPagination.scroll(repository,
+        Product.class, null, 10, "code", "asc", cursor));
+  }
+
+}
@@ -0,0 +1,28 @@
+package com.gestion.almacenes.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class SpecificationFilterTest {
+
+  @Test
+  void normalizeSearchTextUsesTheSameMappingAsTheDatabase() {
+    // Mismo resultado que translate(lower(...)) de supplier.search_text (V17)
+    assertEquals("aaaaaeeeeiiiiooooouuuunc",
+        SpecificationFilter.normalizeSearchText("áàâäãéèêëíìîïóòôöõúùûüñç"));
+    assertEquals("aaaaaeeeeiiiiooooouuuunc",
+        SpecificationFilter.normalizeSearchText("ÁÀÂÄÃÉÈÊËÍÌÎÏÓÒÔÖÕÚÙÛÜÑÇ"));
+    // Los caracteres que la base de datos no reemplaza se mantienen
+    assertEquals("søren ýr", SpecificationFilter.normalizeSearchText("Søren Ýr"));
+  }
+
+  @Test
+  void normalizeSearchTextComposesAccentsAndCollapsesSpaces() {
+    // Tildes como caracteres combinados (NFD), se componen antes de reemplazarlas
+    assertEquals("jose nunez",
+        SpecificationFilter.normalizeSearchText("  Jose\u0301   NU\u0301N\u0303EZ "));
+    assertEquals("", SpecificationFilter.normalizeSearchText(null));
+  }
+
+}
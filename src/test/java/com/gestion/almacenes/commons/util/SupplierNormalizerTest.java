@@ -0,0 +1,48 @@
+package com.gestion.almacenes.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.gestion.almacenes.entities.Supplier;
+import org.junit.jupiter.api.Test;
+
+class SupplierNormalizerTest {
+
+  @Test
+  void normalizeCleansTextEmailAndPhones() {
+    Supplier supplier = new Supplier();
+    supplier.setSupplierCode("  PRV-01 ");
+    supplier.setCompanyName("Distribuidora \t  del\nSur");
+    supplier.setOwnerNames(" Ana  Maria ");
+    supplier.setEmail("  Ventas@Example.COM ");
+    supplier.setSupplierPhoneNumber("(591) 2-245 678");
+    supplier.setSupplierCelNumber("+591 712-34567");
+
+    SupplierNormalizer.normalize(supplier);
+
+    assertEquals("PRV-01", supplier.getSupplierCode());
+    assertEquals("Distribuidora del Sur", supplier.getCompanyName());
+    assertEquals("Ana Maria", supplier.getOwnerNames());
+    assertEquals("ventas@example.com", supplier.getEmail());
+    assertEquals("5912245678", supplier.getSupplierPhoneNumber());
+    assertEquals("+59171234567", supplier.getSupplierCelNumber());
+  }
+
+  @Test
+  void normalizeTurnsBlankValuesIntoNulls() {
+    Supplier supplier = new Supplier();
+    supplier.setAddress("   ");
+    supplier.setCompanyDescription("");
+    supplier.setEmail(" \t ");
+    supplier.setSupplierPhoneNumber("--");
+
+    SupplierNormalizer.normalize(supplier);
+
+    assertNull(supplier.getAddress());
+    assertNull(supplier.getCompanyDescription());
+    assertNull(supplier.getEmail());
+    assertNull(supplier.getSupplierPhoneNumber());
+    assertNull(supplier.getOwnerSurname());
+  }
+
+}
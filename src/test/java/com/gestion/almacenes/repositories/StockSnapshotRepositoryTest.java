@@ -0,0 +1,114 @@
+package com.gestion.almacenes.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.gestion.almacenes.entities.Stock;
+import com.gestion.almacenes.entities.StockMovement;
+import com.gestion.almacenes.entities.StockSnapshot;
+import com.gestion.almacenes.entities.Storehouse;
+import com.gestion.almacenes.repositories.projections.StockAsOfProjection;
+import com.gestion.almacenes.services.StockSnapshotService;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Calculo del stock a una fecha a partir de las fotos y los movimientos. Usa la misma base de
+ * datos que el resto de las pruebas; cada prueba se deshace al terminar.
+ */
+@SpringBootTest
+@Transactional
+class StockSnapshotRepositoryTest {
+
+  private static final LocalDateTime DAY = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+  @Autowired
+  private StockSnapshotRepository stockSnapshotRepository;
+
+  @Autowired
+  private StockMovementRepository stockMovementRepository;
+
+  @Autowired
+  private StockRepository stockRepository;
+
+  @Autowired
+  private StorehouseRepository storehouseRepository;
+
+  @Autowired
+  private StorehouseTypeRepository storehouseTypeRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private StockSnapshotService stockSnapshotService;
+
+  private Storehouse storehouse;
+  private Stock stock;
+
+  /**
+   * Movimientos +50 (dia 1), -20 (dia 2) y +70 (dia 3) con una foto de 50 al inicio del dia 2;
+   * el stock actual es 100
+   */
+  @BeforeEach
+  void setUp() {
+    storehouse = new Storehouse();
+    storehouse.setCode("TEST-AS-OF");
+    storehouse.setName("Almacen de prueba");
+    storehouse.setStorehouseType(storehouseTypeRepository.findAllByActiveIsTrue().get(0));
+    storehouse = storehouseRepository.save(storehouse);
+
+    stock = stockRepository.save(Stock.builder().storehouse(storehouse)
+        .product(productRepository.findAll().get(0)).amountInStock(100D).build());
+
+    this.movement(DAY.plusHours(10), 50D, 50D);
+    this.movement(DAY.plusDays(1).plusHours(10), -20D, 30D);
+    this.movement(DAY.plusDays(2).plusHours(10), 70D, 100D);
+    stockSnapshotRepository.saveAndFlush(StockSnapshot.builder().stockId(stock.getId())
+        .storehouseId(storehouse.getId()).productId(stock.getProduct().getId())
+        .amountInStock(50D).snapshotDate(DAY.plusDays(1)).build());
+  }
+
+  @Test
+  void asOfBeforeTheFirstSnapshotSubtractsMovementsBackwards() {
+    assertEquals(0D, this.amountAsOf(DAY.plusHours(9)));
+    assertEquals(50D, this.amountAsOf(DAY.plusHours(12)));
+  }
+
+  @Test
+  void asOfAfterASnapshotAddsTheFollowingMovements() {
+    assertEquals(50D, this.amountAsOf(DAY.plusDays(1)));
+    assertEquals(30D, this.amountAsOf(DAY.plusDays(1).plusHours(12)));
+    assertEquals(100D, this.amountAsOf(DAY.plusDays(3)));
+  }
+
+  @Test
+  void movementsAfterASnapshotAreDatedAfterIt() {
+    stockSnapshotService.takeSnapshot();
+    LocalDateTime snapshotDate = stockSnapshotRepository.findAll().stream()
+        .filter(snapshot -> snapshot.getStockId().equals(stock.getId()))
+        .map(StockSnapshot::getSnapshotDate).max(LocalDateTime::compareTo).orElseThrow();
+
+    assertTrue(stockMovementRepository.lockForMovements().isAfter(snapshotDate));
+    assertEquals(100D, this.amountAsOf(snapshotDate));
+  }
+
+  private void movement(LocalDateTime movementDate, Double delta, Double balance) {
+    stockMovementRepository.saveAndFlush(StockMovement.builder().orderProductId(0)
+        .stockId(stock.getId()).delta(delta).balance(balance).movementDate(movementDate)
+        .build());
+  }
+
+  private Double amountAsOf(LocalDateTime asOf) {
+    List<StockAsOfProjection> stocks = stockSnapshotRepository.findStockAsOf(storehouse.getId(),
+        asOf);
+    assertEquals(1, stocks.size());
+    return stocks.get(0).getAmountInStock();
+  }
+
+}
@@ -0,0 +1,107 @@
+package com.gestion.almacenes.servicesImpls;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.gestion.almacenes.commons.enums.PageCountEnum;
+import com.gestion.almacenes.commons.util.PagePojo;
+import com.gestion.almacenes.entities.Stock;
+import com.gestion.almacenes.entities.Storehouse;
+import com.gestion.almacenes.repositories.ProductRepository;
+import com.gestion.almacenes.repositories.StockRepository;
+import com.gestion.almacenes.repositories.StorehouseRepository;
+import com.gestion.almacenes.repositories.StorehouseTypeRepository;
+import com.gestion.almacenes.repositories.projections.StockProjection;
+import com.gestion.almacenes.services.StockService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Las consultas del stock deben resolverse con las proyecciones, sin consultas adicionales por
+ * almacen, producto o unidad de medida. Usa la misma base de datos que el resto de las pruebas;
+ * cada prueba se deshace al terminar.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class StockServiceImplQueryCountTest {
+
+  @Autowired
+  private StockService stockService;
+
+  @Autowired
+  private StockRepository stockRepository;
+
+  @Autowired
+  private StorehouseRepository storehouseRepository;
+
+  @Autowired
+  private StorehouseTypeRepository storehouseTypeRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+  private Stock stock;
+  private long stockCount;
+
+  @BeforeEach
+  void setUp() {
+    Storehouse storehouse = new Storehouse();
+    storehouse.setCode("TEST-QUERY-COUNT");
+    storehouse.setName("Almacen de prueba");
+    storehouse.setStorehouseType(storehouseTypeRepository.findAllByActiveIsTrue().get(0));
+    storehouse = storehouseRepository.saveAndFlush(storehouse);
+
+    stock = stockRepository.saveAndFlush(Stock.builder().storehouse(storehouse)
+        .product(productRepository.findAll().get(0)).amountInStock(10D).build());
+    stockCount = stockRepository.count();
+
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  void getAllRunsOneQuery() {
+    stockService.getAll();
+
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void getByPageAndFiltersRunsPageAndCountQueries() {
+    // Con una pagina llena el conteo no se puede omitir
+    PagePojo<StockProjection> page = stockService.getByPageAndFilters(0, 1, "id", "asc", null,
+        null, null, PageCountEnum.EXACT);
+
+    assertEquals(2, statistics.getPrepareStatementCount());
+    assertEquals(1, page.getContent().size());
+    assertEquals(stockCount, page.getTotalElements());
+  }
+
+  @Test
+  void getByPageAndFiltersWithFiltersRunsPageAndCountQueries() {
+    PagePojo<StockProjection> page = stockService.getByPageAndFilters(0, 1, "id", "asc",
+        stock.getProduct().getCode(), null, null, PageCountEnum.EXACT);
+
+    assertEquals(2, statistics.getPrepareStatementCount());
+    assertEquals(stock.getProduct().getCode(), page.getContent().get(0).getProductCode());
+  }
+
+  @Test
+  void getStockByStorehouseIdAndProductIdRunsOneQuery() {
+    StockProjection stockProjection = stockService.getStockByStorehouseIdAndProductId(
+        stock.getStorehouse().getId(), stock.getProduct().getId());
+
+    assertEquals(1, statistics.getPrepareStatementCount());
+    assertEquals(stock.getId(), stockProjection.getId());
+  }
+
+}